@@ -41,6 +41,7 @@ file=${2##*/}
 name=${file%.*}
 
 class=${name#Abstract}
+class=${class#Striped}
 
 # Now we rip off the types.
 rem=${class##[A-Z]+([a-z])}
@@ -262,6 +263,7 @@ fi)\
 "#define VALUE_SUPER_GENERIC <? super V>\n"\
 "#define VALUE_GENERIC_CAST (V)\n"\
 "#define VALUE_GENERIC_ARRAY_CAST (V[])\n"\
+"#define VALUE_GENERIC_BIG_ARRAY_CAST (V[][])\n"\
 "#define DEPRECATED_IF_VALUES_REFERENCE @Deprecated\n"\
 "#define DEPRECATED_IF_VALUES_PRIMITIVE\n"\
 "#define SUPPRESS_WARNINGS_VALUE_UNCHECKED @SuppressWarnings(\"unchecked\")\n"\
@@ -277,6 +279,7 @@ fi)\
 "#define VALUE_SUPER_GENERIC\n"\
 "#define VALUE_GENERIC_CAST\n"\
 "#define VALUE_GENERIC_ARRAY_CAST\n"\
+"#define VALUE_GENERIC_BIG_ARRAY_CAST\n"\
 "#define DEPRECATED_IF_VALUES_REFERENCE\n"\
 "#define DEPRECATED_IF_VALUES_PRIMITIVE @Deprecated\n"\
 "#define SUPPRESS_WARNINGS_VALUE_UNCHECKED\n"\
@@ -403,6 +406,7 @@ fi)\
 "#define VALUE_ITERATOR ${TYPE_CAP2[$v]}Iterator\n"\
 "#define VALUE_SPLITERATOR ${TYPE_CAP2[$v]}Spliterator\n"\
 "#define VALUE_LIST_ITERATOR ${TYPE_CAP2[$v]}ListIterator\n"\
+"#define VALUE_BUFFER ${TYPE_CAP[$v]}Buffer\n"\
 \
 \
 "/* Types and methods related to primitive-type support in the JDK */\n"\
@@ -533,6 +537,7 @@ $(if [[ "${CLASS[$k]}" != "" && "${CLASS[$v]}" != "" ]]; then\
 "#define INDIRECT_HEAPS ${TYPE_CAP2[$k]}IndirectHeaps\n"\
 "#define ARRAYS ${TYPE_CAP2[$k]}Arrays\n"\
 "#define BIG_ARRAYS ${TYPE_CAP2[$k]}BigArrays\n"\
+"#define VALUE_BIG_ARRAYS VALUE_PACKAGE.${TYPE_CAP2[$v]}BigArrays\n"\
 "#define ITERABLES ${TYPE_CAP2[$k]}Iterables\n"\
 "#define ITERATORS ${TYPE_CAP2[$k]}Iterators\n"\
 "#define WIDENED_ITERATORS ${TYPE_CAP[$wk]}Iterators\n"\
@@ -561,6 +566,13 @@ $(if [[ "${CLASS[$k]}" != "" && "${CLASS[$v]}" != "" ]]; then\
 "#define OPEN_DOUBLE_HASH_SET ${TYPE_CAP[$k]}${Linked}Open${Custom}DoubleHashSet\n"\
 "#define OPEN_HASH_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}${Linked}Open${Custom}HashMap\n"\
 "#define OPEN_HASH_BIG_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}${Linked}Open${Custom}HashBigMap\n"\
+"#define CONCURRENT_OPEN_HASH_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}ConcurrentOpenHashMap\n"\
+"#define SWISS_HASH_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}SwissHashMap\n"\
+"#define ROBIN_HOOD_HASH_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}RobinHoodHashMap\n"\
+"#define ROBIN_HOOD_HASH_SET ${TYPE_CAP[$k]}RobinHoodHashSet\n"\
+"#define OFF_HEAP_OPEN_HASH_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}OffHeapOpenHashMap\n"\
+"#define MAPPED_OPEN_HASH_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}MappedOpenHashMap\n"\
+"#define MINIMAL_PERFECT_HASH_FUNCTION ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}MinimalPerfectHashFunction\n"\
 "#define STRIPED_OPEN_HASH_MAP Striped${TYPE_CAP[$k]}2${TYPE_CAP[$v]}Open${Custom}HashMap\n"\
 "#define OPEN_DOUBLE_HASH_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}${Linked}Open${Custom}DoubleHashMap\n"\
 "#define ARRAY_SET ${TYPE_CAP[$k]}ArraySet\n"\
@@ -570,18 +582,29 @@ $(if [[ "${CLASS[$k]}" != "" && "${CLASS[$v]}" != "" ]]; then\
 "#define RB_TREE_SET ${TYPE_CAP[$k]}RBTreeSet\n"\
 "#define AVL_TREE_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}AVLTreeMap\n"\
 "#define RB_TREE_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}RBTreeMap\n"\
+"#define BTREE_MAP ${TYPE_CAP[$k]}2${TYPE_CAP[$v]}BTreeMap\n"\
 "#define ARRAY_LIST ${TYPE_CAP[$k]}ArrayList\n"\
 "#define IMMUTABLE_LIST ${TYPE_CAP[$k]}ImmutableList\n"\
 "#define BIG_ARRAY_BIG_LIST ${TYPE_CAP[$k]}BigArrayBigList\n"\
 "#define MAPPED_BIG_LIST ${TYPE_CAP[$k]}MappedBigList\n"\
+"#define EXTERNAL_SORTER ${TYPE_CAP[$k]}ExternalSorter\n"\
 "#define ARRAY_FRONT_CODED_LIST ${TYPE_CAP[$k]}ArrayFrontCodedList\n"\
 "#define ARRAY_FRONT_CODED_BIG_LIST ${TYPE_CAP[$k]}ArrayFrontCodedBigList\n"\
 "#define HEAP_PRIORITY_QUEUE ${TYPE_CAP2[$k]}HeapPriorityQueue\n"\
+"#define DARY_HEAP_PRIORITY_QUEUE ${TYPE_CAP2[$k]}DaryHeapPriorityQueue\n"\
+"#define RADIX_HEAP_PRIORITY_QUEUE ${TYPE_CAP2[$k]}RadixHeapPriorityQueue\n"\
+"#define ADDRESSABLE_PRIORITY_QUEUE ${TYPE_CAP2[$k]}AddressablePriorityQueue\n"\
+"#define ADDRESSABLE_HEAP_PRIORITY_QUEUE ${TYPE_CAP2[$k]}AddressableHeapPriorityQueue\n"\
+"#define PAIRING_HEAP_PRIORITY_QUEUE ${TYPE_CAP2[$k]}PairingHeapPriorityQueue\n"\
 "#define HEAP_SEMI_INDIRECT_PRIORITY_QUEUE ${TYPE_CAP2[$k]}HeapSemiIndirectPriorityQueue\n"\
 "#define HEAP_INDIRECT_PRIORITY_QUEUE ${TYPE_CAP2[$k]}HeapIndirectPriorityQueue\n"\
 "#define HEAP_SESQUI_INDIRECT_DOUBLE_PRIORITY_QUEUE ${TYPE_CAP2[$k]}HeapSesquiIndirectDoublePriorityQueue\n"\
 "#define HEAP_INDIRECT_DOUBLE_PRIORITY_QUEUE ${TYPE_CAP2[$k]}HeapIndirectDoublePriorityQueue\n"\
 "#define ARRAY_FIFO_QUEUE ${TYPE_CAP2[$k]}ArrayFIFOQueue\n"\
+"#define ARRAY_DEQUE ${TYPE_CAP2[$k]}ArrayDeque\n"\
+"#define SPSC_ARRAY_QUEUE ${TYPE_CAP2[$k]}SPSCArrayQueue\n"\
+"#define MPSC_ARRAY_QUEUE ${TYPE_CAP2[$k]}MPSCArrayQueue\n"\
+"#define MPMC_ARRAY_QUEUE ${TYPE_CAP2[$k]}MPMCArrayQueue\n"\
 "#define ARRAY_PRIORITY_QUEUE ${TYPE_CAP2[$k]}ArrayPriorityQueue\n"\
 "#define ARRAY_INDIRECT_PRIORITY_QUEUE ${TYPE_CAP2[$k]}ArrayIndirectPriorityQueue\n"\
 "#define ARRAY_INDIRECT_DOUBLE_PRIORITY_QUEUE ${TYPE_CAP2[$k]}ArrayIndirectDoublePriorityQueue\n"\
@@ -692,6 +715,7 @@ $(if [[ "${CLASS[$k]}" != "" && "${CLASS[$v]}" != "" ]]; then\
 "#define REMOVE_LAST_VALUE removeLast${TYPE_STD[$v]}\n"\
 "#define AS_VALUE_ITERATOR as${TYPE_CAP2[$v]}Iterator\n"\
 "#define AS_VALUE_SPLITERATOR as${TYPE_CAP2[$v]}Spliterator\n"\
+"#define AS_VALUE_BUFFER as${TYPE_STD[$v]}Buffer\n"\
 "#define PAIR_RIGHT right${TYPE_STD[$v]}\n"\
 "#define PAIR_SECOND second${TYPE_STD[$v]}\n"\
 "#define PAIR_VALUE value${TYPE_STD[$v]}\n"\
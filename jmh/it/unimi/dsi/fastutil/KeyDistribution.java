@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 Sebastiano Vigna
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package it.unimi.dsi.fastutil;
+
+import java.util.SplittableRandom;
+
+/** Key distributions shared by the benchmarks.
+ *
+ * <p>All distributions are deterministic given a seed, so that different runs (and different
+ * implementations within the same run) see exactly the same keys. Generated keys are not guaranteed
+ * to be distinct.
+ */
+
+public enum KeyDistribution {
+	/** Keys drawn uniformly at random. */
+	UNIFORM,
+	/** Consecutive keys starting from a random offset. */
+	SEQUENTIAL,
+	/** Short runs of consecutive keys starting at random offsets; this is the worst case for linear probing with a weak hash function. */
+	CLUSTERED,
+	/** Keys drawn uniformly at random from a set of size about the square root of the number of keys. */
+	FEW_DISTINCT;
+
+	/** The length of a run of consecutive keys in {@link #CLUSTERED}. */
+	private static final int RUN_LENGTH = 64;
+
+	/** Returns an array of integer keys following this distribution.
+	 *
+	 * @param n the number of keys.
+	 * @param seed a seed for the pseudorandom number generator.
+	 * @return an array of {@code n} keys.
+	 */
+	public int[] ints(final int n, final long seed) {
+		final SplittableRandom r = new SplittableRandom(seed);
+		final int[] a = new int[n];
+		switch(this) {
+		case UNIFORM:
+			for(int i = 0; i < n; i++) a[i] = r.nextInt();
+			break;
+		case SEQUENTIAL:
+			final int start = r.nextInt();
+			for(int i = 0; i < n; i++) a[i] = start + i;
+			break;
+		case CLUSTERED:
+			for(int i = 0; i < n;) {
+				final int base = r.nextInt();
+				for(int j = 0; j < RUN_LENGTH && i < n; j++) a[i++] = base + j;
+			}
+			break;
+		case FEW_DISTINCT:
+			final int distinct = Math.max(1, (int)Math.sqrt(n));
+			for(int i = 0; i < n; i++) a[i] = r.nextInt(distinct);
+			break;
+		}
+		return a;
+	}
+
+	/** Returns an array of long keys following this distribution.
+	 *
+	 * @param n the number of keys.
+	 * @param seed a seed for the pseudorandom number generator.
+	 * @return an array of {@code n} keys.
+	 */
+	public long[] longs(final int n, final long seed) {
+		final SplittableRandom r = new SplittableRandom(seed);
+		final long[] a = new long[n];
+		switch(this) {
+		case UNIFORM:
+			for(int i = 0; i < n; i++) a[i] = r.nextLong();
+			break;
+		case SEQUENTIAL:
+			final long start = r.nextLong();
+			for(int i = 0; i < n; i++) a[i] = start + i;
+			break;
+		case CLUSTERED:
+			for(int i = 0; i < n;) {
+				final long base = r.nextLong();
+				for(int j = 0; j < RUN_LENGTH && i < n; j++) a[i++] = base + j;
+			}
+			break;
+		case FEW_DISTINCT:
+			final int distinct = Math.max(1, (int)Math.sqrt(n));
+			for(int i = 0; i < n; i++) a[i] = r.nextInt(distinct);
+			break;
+		}
+		return a;
+	}
+
+	/** Returns an array of string keys following this distribution (the strings are the
+	 * decimal representations of {@link #ints(int, long)}).
+	 *
+	 * @param n the number of keys.
+	 * @param seed a seed for the pseudorandom number generator.
+	 * @return an array of {@code n} keys.
+	 */
+	public String[] strings(final int n, final long seed) {
+		final int[] k = ints(n, seed);
+		final String[] a = new String[n];
+		for(int i = 0; i < n; i++) a[i] = Integer.toString(k[i]);
+		return a;
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2026 Sebastiano Vigna
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package it.unimi.dsi.fastutil.ints;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import it.unimi.dsi.fastutil.KeyDistribution;
+
+/** Benchmarks for {@link Int2IntRobinHoodHashMap}.
+ *
+ * <p>Lookup benchmarks report the time per lookup; the other benchmarks report the time
+ * for a full pass over the keys.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Int2IntRobinHoodHashMapBenchmark {
+	public static final int OPS = 1 << 16;
+
+	@Param({ "1000", "100000", "10000000" })
+	public int size;
+
+	@Param({ "0.5", "0.75", "0.9" })
+	public float loadFactor;
+
+	@Param({ "UNIFORM", "SEQUENTIAL", "CLUSTERED" })
+	public KeyDistribution distribution;
+
+	/** The keys in the map. */
+	private int[] keys;
+	/** Keys that are in the map, in random order, {@link #OPS} of them. */
+	private int[] hits;
+	/** Keys that are (very likely) not in the map, {@link #OPS} of them. */
+	private int[] misses;
+	/** A map filled with {@link #keys}. */
+	private Int2IntRobinHoodHashMap map;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		keys = distribution.ints(size, 0);
+		map = new Int2IntRobinHoodHashMap(size, loadFactor);
+		for (final int k : keys) map.put(k, k);
+		final java.util.SplittableRandom r = new java.util.SplittableRandom(1);
+		hits = new int[OPS];
+		for (int i = 0; i < OPS; i++) hits[i] = keys[r.nextInt(size)];
+		misses = distribution.ints(OPS, 2);
+	}
+
+	@Benchmark
+	public Int2IntRobinHoodHashMap put() {
+		final Int2IntRobinHoodHashMap m = new Int2IntRobinHoodHashMap(Int2IntRobinHoodHashMap.DEFAULT_INITIAL_SIZE, loadFactor);
+		for (final int k : keys) m.put(k, k);
+		return m;
+	}
+
+	@Benchmark
+	public Int2IntRobinHoodHashMap addTo() {
+		final Int2IntRobinHoodHashMap m = new Int2IntRobinHoodHashMap(Int2IntRobinHoodHashMap.DEFAULT_INITIAL_SIZE, loadFactor);
+		for (final int k : keys) m.addTo(k, 1);
+		return m;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void getHit(final Blackhole bh) {
+		final Int2IntRobinHoodHashMap m = map;
+		for (final int k : hits) bh.consume(m.get(k));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void getMiss(final Blackhole bh) {
+		final Int2IntRobinHoodHashMap m = map;
+		for (final int k : misses) bh.consume(m.get(k));
+	}
+
+	@Benchmark
+	public long iterate() {
+		long s = 0;
+		for (final Int2IntMap.Entry e : map.int2IntEntrySet()) s += e.getIntValue();
+		return s;
+	}
+
+	@Benchmark
+	public Int2IntRobinHoodHashMap putRemove() {
+		final Int2IntRobinHoodHashMap m = new Int2IntRobinHoodHashMap(size, loadFactor);
+		for (final int k : keys) m.put(k, k);
+		for (final int k : keys) m.remove(k);
+		return m;
+	}
+}
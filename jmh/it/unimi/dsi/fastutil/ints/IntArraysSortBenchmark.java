@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2026 Sebastiano Vigna
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package it.unimi.dsi.fastutil.ints;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import it.unimi.dsi.fastutil.KeyDistribution;
+
+/** Benchmarks for the sorting methods of {@link IntArrays}.
+ *
+ * <p>Each invocation sorts a fresh copy of the same array; the copy is performed outside
+ * of the measured region.
+ */
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IntArraysSortBenchmark {
+
+	@Param({ "1000", "100000", "10000000" })
+	public int size;
+
+	@Param({ "UNIFORM", "SEQUENTIAL", "CLUSTERED", "FEW_DISTINCT" })
+	public KeyDistribution distribution;
+
+	/** The array to be sorted. */
+	private int[] source;
+	/** The array actually sorted by each invocation. */
+	private int[] a;
+
+	@Setup(Level.Trial)
+	public void setupTrial() {
+		source = distribution.ints(size, 0);
+		if (distribution == KeyDistribution.SEQUENTIAL) {
+			// Sequential keys would be already sorted: we reverse them
+			IntArrays.reverse(source);
+		}
+		a = new int[size];
+	}
+
+	@Setup(Level.Invocation)
+	public void setupInvocation() {
+		System.arraycopy(source, 0, a, 0, size);
+	}
+
+	@Benchmark
+	public int[] quickSort() {
+		IntArrays.quickSort(a);
+		return a;
+	}
+
+	@Benchmark
+	public int[] parallelQuickSort() {
+		IntArrays.parallelQuickSort(a);
+		return a;
+	}
+
+	@Benchmark
+	public int[] radixSort() {
+		IntArrays.radixSort(a);
+		return a;
+	}
+
+	@Benchmark
+	public int[] parallelRadixSort() {
+		IntArrays.parallelRadixSort(a);
+		return a;
+	}
+
+	@Benchmark
+	public int[] mergeSort() {
+		IntArrays.mergeSort(a);
+		return a;
+	}
+
+	@Benchmark
+	public int[] jdkSort() {
+		java.util.Arrays.sort(a);
+		return a;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2026 Sebastiano Vigna
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package it.unimi.dsi.fastutil.longs;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import it.unimi.dsi.fastutil.KeyDistribution;
+
+/** Benchmarks for {@link LongOpenHashBigSet}.
+ *
+ * <p>Lookup benchmarks report the time per lookup; the other benchmarks report the time
+ * for a full pass over the keys.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LongOpenHashBigSetBenchmark {
+	public static final int OPS = 1 << 16;
+
+	@Param({ "1000", "100000", "10000000" })
+	public int size;
+
+	@Param({ "0.5", "0.75", "0.9" })
+	public float loadFactor;
+
+	@Param({ "UNIFORM", "SEQUENTIAL", "CLUSTERED" })
+	public KeyDistribution distribution;
+
+	/** The keys in the set. */
+	private long[] keys;
+	/** Keys that are in the set, in random order, {@link #OPS} of them. */
+	private long[] hits;
+	/** Keys that are (very likely) not in the set, {@link #OPS} of them. */
+	private long[] misses;
+	/** A set filled with {@link #keys}. */
+	private LongOpenHashBigSet set;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		keys = distribution.longs(size, 0);
+		set = new LongOpenHashBigSet(size, loadFactor);
+		for (final long k : keys) set.add(k);
+		final java.util.SplittableRandom r = new java.util.SplittableRandom(1);
+		hits = new long[OPS];
+		for (int i = 0; i < OPS; i++) hits[i] = keys[r.nextInt(size)];
+		misses = distribution.longs(OPS, 2);
+	}
+
+	@Benchmark
+	public LongOpenHashBigSet add() {
+		final LongOpenHashBigSet s = new LongOpenHashBigSet(LongOpenHashBigSet.DEFAULT_INITIAL_SIZE, loadFactor);
+		for (final long k : keys) s.add(k);
+		return s;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void containsHit(final Blackhole bh) {
+		final LongOpenHashBigSet s = set;
+		for (final long k : hits) bh.consume(s.contains(k));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void containsMiss(final Blackhole bh) {
+		final LongOpenHashBigSet s = set;
+		for (final long k : misses) bh.consume(s.contains(k));
+	}
+
+	@Benchmark
+	public long iterate() {
+		long t = 0;
+		for (final LongIterator i = set.iterator(); i.hasNext();) t += i.nextLong();
+		return t;
+	}
+
+	@Benchmark
+	public LongOpenHashBigSet addRemove() {
+		final LongOpenHashBigSet s = new LongOpenHashBigSet(size, loadFactor);
+		for (final long k : keys) s.add(k);
+		for (final long k : keys) s.remove(k);
+		return s;
+	}
+}
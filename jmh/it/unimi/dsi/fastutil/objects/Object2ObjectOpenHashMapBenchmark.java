@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2026 Sebastiano Vigna
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package it.unimi.dsi.fastutil.objects;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import it.unimi.dsi.fastutil.KeyDistribution;
+
+/** Benchmarks for {@link Object2ObjectOpenHashMap} with string keys.
+ *
+ * <p>Lookup benchmarks report the time per lookup; the other benchmarks report the time
+ * for a full pass over the keys.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class Object2ObjectOpenHashMapBenchmark {
+	public static final int OPS = 1 << 16;
+
+	@Param({ "1000", "100000", "10000000" })
+	public int size;
+
+	@Param({ "0.5", "0.75", "0.9" })
+	public float loadFactor;
+
+	@Param({ "UNIFORM", "SEQUENTIAL", "CLUSTERED" })
+	public KeyDistribution distribution;
+
+	/** The keys in the map. */
+	private String[] keys;
+	/** Keys that are in the map, in random order, {@link #OPS} of them. */
+	private String[] hits;
+	/** Keys that are (very likely) not in the map, {@link #OPS} of them; they are distinct objects from those in the map. */
+	private String[] misses;
+	/** A map filled with {@link #keys}. */
+	private Object2ObjectOpenHashMap<String, String> map;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		keys = distribution.strings(size, 0);
+		map = new Object2ObjectOpenHashMap<>(size, loadFactor);
+		for (final String k : keys) map.put(k, k);
+		final java.util.SplittableRandom r = new java.util.SplittableRandom(1);
+		hits = new String[OPS];
+		// We copy the strings so that equality is not decided by identity
+		for (int i = 0; i < OPS; i++) hits[i] = new String(keys[r.nextInt(size)]);
+		misses = distribution.strings(OPS, 2);
+	}
+
+	@Benchmark
+	public Object2ObjectOpenHashMap<String, String> put() {
+		final Object2ObjectOpenHashMap<String, String> m = new Object2ObjectOpenHashMap<>(Object2ObjectOpenHashMap.DEFAULT_INITIAL_SIZE, loadFactor);
+		for (final String k : keys) m.put(k, k);
+		return m;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void getHit(final Blackhole bh) {
+		final Object2ObjectOpenHashMap<String, String> m = map;
+		for (final String k : hits) bh.consume(m.get(k));
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(OPS)
+	public void getMiss(final Blackhole bh) {
+		final Object2ObjectOpenHashMap<String, String> m = map;
+		for (final String k : misses) bh.consume(m.get(k));
+	}
+
+	@Benchmark
+	public void iterate(final Blackhole bh) {
+		for (final Object2ObjectMap.Entry<String, String> e : Object2ObjectMaps.fastIterable(map)) bh.consume(e.getValue());
+	}
+
+	@Benchmark
+	public Object2ObjectOpenHashMap<String, String> putRemove() {
+		final Object2ObjectOpenHashMap<String, String> m = new Object2ObjectOpenHashMap<>(size, loadFactor);
+		for (final String k : keys) m.put(k, k);
+		for (final String k : keys) m.remove(k);
+		return m;
+	}
+}
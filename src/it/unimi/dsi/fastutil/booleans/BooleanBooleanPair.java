@@ -0,0 +1,253 @@
+/*
+	* Copyright (C) 2020-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.booleans;
+/**  A type-specific {@link it.unimi.dsi.fastutil.Pair Pair}; provides some additional methods that use polymorphism to avoid (un)boxing. */
+public interface BooleanBooleanPair extends it.unimi.dsi.fastutil.Pair<Boolean, Boolean> {
+	/**
+	 * Returns the left element of this pair.
+	 *
+	 * @return the left element of this pair.
+	 */
+	public boolean leftBoolean();
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean left() {
+	 return Boolean.valueOf(leftBoolean());
+	}
+	/**
+	 * Sets the left element of this pair (optional operation).
+	 *
+	 * @param l a new value for the left element.
+	 *
+	 * @implSpec This implementation throws an {@link UnsupportedOperationException}.
+	 */
+	public default BooleanBooleanPair left(final boolean l) {
+	 throw new UnsupportedOperationException();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanBooleanPair left(final Boolean l) {
+	 return left((l).booleanValue());
+	}
+	/**
+	 * Returns the left element of this pair.
+	 *
+	 * @return the left element of this pair.
+	 *
+	 * @implSpec This implementation delegates to {@link #left()}.
+	 *
+	 */
+	public default boolean firstBoolean() {
+	 return leftBoolean();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean first() {
+	 return Boolean.valueOf(firstBoolean());
+	}
+	/**
+	 * Sets the left element of this pair (optional operation).
+	 *
+	 * @param l a new value for the left element.
+	 *
+	 * @implSpec This implementation delegates to {@link #left(Object)}.
+	 */
+	public default BooleanBooleanPair first(final boolean l) {
+	 return left(l);
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanBooleanPair first(final Boolean l) {
+	 return first((l).booleanValue());
+	}
+	/**
+	 * Returns the left element of this pair.
+	 *
+	 * @return the left element of this pair.
+	 *
+	 * @implSpec This implementation delegates to {@link #left()}.
+	 *
+	 */
+	public default boolean keyBoolean() {
+	 return firstBoolean();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean key() {
+	 return Boolean.valueOf(keyBoolean());
+	}
+	/**
+	 * Sets the left element of this pair (optional operation).
+	 *
+	 * @param l a new value for the left element.
+	 *
+	 * @implSpec This implementation delegates to {@link #left(Object)}.
+	 */
+	public default BooleanBooleanPair key(final boolean l) {
+	 return left(l);
+	}
+	@Override
+	@Deprecated
+	public default BooleanBooleanPair key(Boolean l) {
+	 return key((l).booleanValue());
+	}
+	/**
+	 * Returns the right element of this pair.
+	 *
+	 * @return the right element of this pair.
+	 */
+	public boolean rightBoolean();
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean right() {
+	 return Boolean.valueOf(rightBoolean());
+	}
+	/**
+	 * Sets the right element of this pair (optional operation).
+	 *
+	 * @param r a new value for the right element.
+	 *
+	 * @implSpec This implementation throws an {@link UnsupportedOperationException}.
+	 */
+	public default BooleanBooleanPair right(final boolean r) {
+	 throw new UnsupportedOperationException();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanBooleanPair right(final Boolean l) {
+	 return right((l).booleanValue());
+	}
+	/**
+	 * Returns the right element of this pair.
+	 *
+	 * @return the right element of this pair.
+	 *
+	 * @implSpec This implementation delegates to {@link #right()}.
+	 *
+	 */
+	public default boolean secondBoolean() {
+	 return rightBoolean();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean second() {
+	 return Boolean.valueOf(secondBoolean());
+	}
+	/**
+	 * Sets the right element of this pair (optional operation).
+	 *
+	 * @param r a new value for the right element.
+	 *
+	 * @implSpec This implementation delegates to {@link #right(Object)}.
+	 */
+	public default BooleanBooleanPair second(final boolean r) {
+	 return right(r);
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanBooleanPair second(final Boolean l) {
+	 return second((l).booleanValue());
+	}
+	/**
+	 * Returns the right element of this pair.
+	 *
+	 * @return the right element of this pair.
+	 *
+	 * @implSpec This implementation delegates to {@link #right()}.
+	 *
+	 */
+	public default boolean valueBoolean() {
+	 return rightBoolean();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean value() {
+	 return Boolean.valueOf(valueBoolean());
+	}
+	/**
+	 * Sets the right element of this pair (optional operation).
+	 *
+	 * @param r a new value for the right element.
+	 *
+	 * @implSpec This implementation delegates to {@link #right(Object)}.
+	 */
+	public default BooleanBooleanPair value(final boolean r) {
+	 return right(r);
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanBooleanPair value(final Boolean l) {
+	 return value((l).booleanValue());
+	}
+	/** Returns a new type-specific immutable {@link it.unimi.dsi.fastutil.Pair Pair} with given left and right value. 
+	 * @param left the left value.
+	 * @param right the right value.
+	 */
+	public static BooleanBooleanPair of(final boolean left, final boolean right) {
+	 return new BooleanBooleanImmutablePair (left, right);
+	}
+	/**
+	 * Returns a lexicographical comparator for pairs.
+	 *
+	 * <p>
+	 * The comparator returned by this method implements lexicographical order. It compares first
+	 * the left elements: if the result of the comparison is nonzero, it returns said result.
+	 * Otherwise, this comparator returns the result of the comparison of the right elements.
+	 *
+	 * @return a lexicographical comparator for pairs.
+	 */
+
+	public static java.util.Comparator<BooleanBooleanPair > lexComparator() {
+	 return (x, y) -> {
+	  final int t = Boolean.compare(x.leftBoolean(), y.leftBoolean());
+	  if (t != 0) return t;
+	  return Boolean.compare(x.rightBoolean(), y.rightBoolean());
+	 };
+	}
+}
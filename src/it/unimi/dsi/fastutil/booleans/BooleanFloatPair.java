@@ -0,0 +1,253 @@
+/*
+	* Copyright (C) 2020-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.booleans;
+/**  A type-specific {@link it.unimi.dsi.fastutil.Pair Pair}; provides some additional methods that use polymorphism to avoid (un)boxing. */
+public interface BooleanFloatPair extends it.unimi.dsi.fastutil.Pair<Boolean, Float> {
+	/**
+	 * Returns the left element of this pair.
+	 *
+	 * @return the left element of this pair.
+	 */
+	public boolean leftBoolean();
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean left() {
+	 return Boolean.valueOf(leftBoolean());
+	}
+	/**
+	 * Sets the left element of this pair (optional operation).
+	 *
+	 * @param l a new value for the left element.
+	 *
+	 * @implSpec This implementation throws an {@link UnsupportedOperationException}.
+	 */
+	public default BooleanFloatPair left(final boolean l) {
+	 throw new UnsupportedOperationException();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanFloatPair left(final Boolean l) {
+	 return left((l).booleanValue());
+	}
+	/**
+	 * Returns the left element of this pair.
+	 *
+	 * @return the left element of this pair.
+	 *
+	 * @implSpec This implementation delegates to {@link #left()}.
+	 *
+	 */
+	public default boolean firstBoolean() {
+	 return leftBoolean();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean first() {
+	 return Boolean.valueOf(firstBoolean());
+	}
+	/**
+	 * Sets the left element of this pair (optional operation).
+	 *
+	 * @param l a new value for the left element.
+	 *
+	 * @implSpec This implementation delegates to {@link #left(Object)}.
+	 */
+	public default BooleanFloatPair first(final boolean l) {
+	 return left(l);
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanFloatPair first(final Boolean l) {
+	 return first((l).booleanValue());
+	}
+	/**
+	 * Returns the left element of this pair.
+	 *
+	 * @return the left element of this pair.
+	 *
+	 * @implSpec This implementation delegates to {@link #left()}.
+	 *
+	 */
+	public default boolean keyBoolean() {
+	 return firstBoolean();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Boolean key() {
+	 return Boolean.valueOf(keyBoolean());
+	}
+	/**
+	 * Sets the left element of this pair (optional operation).
+	 *
+	 * @param l a new value for the left element.
+	 *
+	 * @implSpec This implementation delegates to {@link #left(Object)}.
+	 */
+	public default BooleanFloatPair key(final boolean l) {
+	 return left(l);
+	}
+	@Override
+	@Deprecated
+	public default BooleanFloatPair key(Boolean l) {
+	 return key((l).booleanValue());
+	}
+	/**
+	 * Returns the right element of this pair.
+	 *
+	 * @return the right element of this pair.
+	 */
+	public float rightFloat();
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Float right() {
+	 return Float.valueOf(rightFloat());
+	}
+	/**
+	 * Sets the right element of this pair (optional operation).
+	 *
+	 * @param r a new value for the right element.
+	 *
+	 * @implSpec This implementation throws an {@link UnsupportedOperationException}.
+	 */
+	public default BooleanFloatPair right(final float r) {
+	 throw new UnsupportedOperationException();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanFloatPair right(final Float l) {
+	 return right((l).floatValue());
+	}
+	/**
+	 * Returns the right element of this pair.
+	 *
+	 * @return the right element of this pair.
+	 *
+	 * @implSpec This implementation delegates to {@link #right()}.
+	 *
+	 */
+	public default float secondFloat() {
+	 return rightFloat();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Float second() {
+	 return Float.valueOf(secondFloat());
+	}
+	/**
+	 * Sets the right element of this pair (optional operation).
+	 *
+	 * @param r a new value for the right element.
+	 *
+	 * @implSpec This implementation delegates to {@link #right(Object)}.
+	 */
+	public default BooleanFloatPair second(final float r) {
+	 return right(r);
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanFloatPair second(final Float l) {
+	 return second((l).floatValue());
+	}
+	/**
+	 * Returns the right element of this pair.
+	 *
+	 * @return the right element of this pair.
+	 *
+	 * @implSpec This implementation delegates to {@link #right()}.
+	 *
+	 */
+	public default float valueFloat() {
+	 return rightFloat();
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default Float value() {
+	 return Float.valueOf(valueFloat());
+	}
+	/**
+	 * Sets the right element of this pair (optional operation).
+	 *
+	 * @param r a new value for the right element.
+	 *
+	 * @implSpec This implementation delegates to {@link #right(Object)}.
+	 */
+	public default BooleanFloatPair value(final float r) {
+	 return right(r);
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use the corresponding type-specific method instead.
+	 */
+	@Deprecated
+	@Override
+	public default BooleanFloatPair value(final Float l) {
+	 return value((l).floatValue());
+	}
+	/** Returns a new type-specific immutable {@link it.unimi.dsi.fastutil.Pair Pair} with given left and right value. 
+	 * @param left the left value.
+	 * @param right the right value.
+	 */
+	public static BooleanFloatPair of(final boolean left, final float right) {
+	 return new BooleanFloatImmutablePair (left, right);
+	}
+	/**
+	 * Returns a lexicographical comparator for pairs.
+	 *
+	 * <p>
+	 * The comparator returned by this method implements lexicographical order. It compares first
+	 * the left elements: if the result of the comparison is nonzero, it returns said result.
+	 * Otherwise, this comparator returns the result of the comparison of the right elements.
+	 *
+	 * @return a lexicographical comparator for pairs.
+	 */
+
+	public static java.util.Comparator<BooleanFloatPair > lexComparator() {
+	 return (x, y) -> {
+	  final int t = Boolean.compare(x.leftBoolean(), y.leftBoolean());
+	  if (t != 0) return t;
+	  return Float.compare(x.rightFloat(), y.rightFloat());
+	 };
+	}
+}
@@ -0,0 +1,1051 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSortedSet;
+import it.unimi.dsi.fastutil.objects.ObjectBidirectionalIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSortedSet;
+import it.unimi.dsi.fastutil.booleans.BooleanCollection;
+import it.unimi.dsi.fastutil.booleans.AbstractBooleanCollection;
+import it.unimi.dsi.fastutil.booleans.BooleanIterator;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.NoSuchElementException;
+/** A type-specific B<sup>+</sup>-tree map with a fast, small-footprint implementation.
+	*
+	* <p>Instances of this class store keys and values in primitive arrays in the leaves of a B<sup>+</sup>-tree,
+	* and the leaves are linked in both directions. Thus, there is no object per entry: for large maps,
+	* the memory footprint is a fraction of that of a {@link RB_TREE_MAP} or of an {@link AVL_TREE_MAP}, searches touch
+	* a logarithmic number of nodes of large fan-out, rather than a logarithmic number of entries, and iteration on a range
+	* of keys scans arrays sequentially.
+	*
+	* <p>Leaves contain at most {@value #LEAF_CAPACITY} entries, and inner nodes at most {@value #INNER_CAPACITY} children;
+	* all nodes but the root are at least half full. Entries inserted in increasing order fill the leaves completely.
+	* The constructors accepting parallel arrays of keys and values build the tree bottom-up, in linear time, if the keys are
+	* strictly increasing in the order of the map (e.g., if they have been sorted).
+	*
+	* <p>The iterators provided by the views of this class are type-specific {@linkplain
+	* it.unimi.dsi.fastutil.BidirectionalIterator bidirectional iterators}. The entries returned by the iterators
+	* on the entry set reflect the state of the map at the time of their creation, but
+	* {@link java.util.Map.Entry#setValue(Object) setValue()} will modify the map.
+	*
+	* @see RB_TREE_MAP
+	* @since 8.5.19
+	*/
+public class Byte2BooleanBTreeMap extends AbstractByte2BooleanSortedMap implements java.io.Serializable, Cloneable {
+	private static final long serialVersionUID = 0L;
+	/** The maximum number of entries in a leaf. */
+	public static final int LEAF_CAPACITY = 64;
+	/** The maximum number of children of an inner node. */
+	public static final int INNER_CAPACITY = 64;
+	/** A leaf. Its arrays contain one additional slot, which is used during insertions before splitting. */
+	private static final class Leaf {
+	 /** The keys, in increasing order. */
+	 final byte[] key = new byte[LEAF_CAPACITY + 1];
+	 /** The values associated with the keys. */
+	 final boolean[] value = new boolean[LEAF_CAPACITY + 1];
+	 /** The number of entries in this leaf. */
+	 int n;
+	 /** The previous and next leaf, or {@code null}. */
+	 Leaf prev, next;
+	}
+	/** An inner node. Its arrays contain one additional slot, which is used during insertions before splitting. */
+	private static final class Inner {
+	 /** The separators: keys in {@code child[i]} are smaller than {@code key[i]}, whereas keys in {@code child[i + 1]}
+		 * are greater than or equal to {@code key[i]}. */
+	 final byte[] key = new byte[INNER_CAPACITY];
+	 /** The children (either all inner nodes or all leaves). */
+	 final Object[] child = new Object[INNER_CAPACITY + 1];
+	 /** The number of separators (i.e., the number of children minus one). */
+	 int n;
+	}
+	/** The root of the tree (a {@link Leaf} if {@link #height} is zero, an {@link Inner} node otherwise). */
+	protected transient Object root;
+	/** The number of levels of inner nodes. */
+	protected transient int height;
+	/** The first leaf. */
+	private transient Leaf firstLeaf;
+	/** The last leaf. */
+	private transient Leaf lastLeaf;
+	/** Number of entries in this map. */
+	protected int count;
+	/** Cached set of entries. */
+	protected transient ObjectSortedSet<Byte2BooleanMap.Entry > entries;
+	/** Cached set of keys. */
+	protected transient ByteSortedSet keys;
+	/** Cached collection of values. */
+	protected transient BooleanCollection values;
+	/** The value of this variable remembers, after a {@code put()}
+	 * or a {@code remove()}, whether the <em>domain</em> of the map
+	 * has been modified. */
+	protected transient boolean modified;
+	/** This map's comparator, as provided in the constructor. */
+	protected Comparator<? super Byte> storedComparator;
+	/** This map's actual comparator; it may differ from {@link #storedComparator} because it is
+		always a type-specific comparator, so it could be derived from the former by wrapping. */
+	protected transient ByteComparator actualComparator;
+	/** The new node created by the last split, or {@code null}. */
+	private transient Object splitNode;
+	/** The separator between the node split and {@link #splitNode}. */
+	private transient byte splitKey;
+	/** Creates a new empty tree map. */
+	public Byte2BooleanBTreeMap() {
+	 clear();
+	}
+	/** Generates the comparator that will be actually used.
+	 *
+	 * <p>When a given {@link Comparator} is specified and stored in {@link
+	 * #storedComparator}, we must check whether it is type-specific.  If it is
+	 * so, we can used directly, and we store it in {@link #actualComparator}. Otherwise,
+	 * we adapt it using a helper static method.
+	 */
+	private void setActualComparator() {
+	 actualComparator = ByteComparators.asByteComparator(storedComparator);
+	}
+	/** Creates a new empty tree map with the given comparator.
+	 *
+	 * @param c a (possibly type-specific) comparator.
+	 */
+	public Byte2BooleanBTreeMap(final Comparator<? super Byte> c) {
+	 this();
+	 storedComparator = c;
+	 setActualComparator();
+	}
+	/** Creates a new tree map copying a given map.
+	 *
+	 * @param m a {@link Map} to be copied into the new tree map.
+	 */
+	public Byte2BooleanBTreeMap(final Map<? extends Byte, ? extends Boolean> m) {
+	 this();
+	 putAll(m);
+	}
+	/** Creates a new tree map copying a given sorted map (and its {@link Comparator}).
+	 *
+	 * @param m a {@link SortedMap} to be copied into the new tree map.
+	 */
+	public Byte2BooleanBTreeMap(final SortedMap<Byte,Boolean> m) {
+	 this(m.comparator());
+	 putAll(m);
+	}
+	/** Creates a new tree map copying a given map.
+	 *
+	 * @param m a type-specific map to be copied into the new tree map.
+	 */
+	public Byte2BooleanBTreeMap(final Byte2BooleanMap m) {
+	 this();
+	 putAll(m);
+	}
+	/** Creates a new tree map copying a given sorted map (and its {@link Comparator}).
+	 *
+	 * @param m a type-specific sorted map to be copied into the new tree map.
+	 */
+	public Byte2BooleanBTreeMap(final Byte2BooleanSortedMap m) {
+	 this(m.comparator());
+	 putAll(m);
+	}
+	/** Creates a new tree map using the elements of two parallel arrays and the given comparator.
+	 *
+	 * <p>If the keys are strictly increasing in the order specified by {@code c}, the tree is
+	 * built bottom-up in linear time, with full leaves.
+	 *
+	 * @param k the array of keys of the new tree map.
+	 * @param v the array of corresponding values in the new tree map.
+	 * @param c a (possibly type-specific) comparator.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Byte2BooleanBTreeMap(final byte[] k, final boolean v[], final Comparator<? super Byte> c) {
+	 this(c);
+	 if (k.length != v.length) throw new IllegalArgumentException("The key array and the value array have different lengths (" + k.length + " and " + v.length + ")");
+	 int i = 1;
+	 while (i < k.length && compare(k[i - 1], k[i]) < 0) i++;
+	 if (i >= k.length) load(k, v, k.length);
+	 else for(i = 0; i < k.length; i++) this.put(k[i], v[i]);
+	}
+	/** Creates a new tree map using the elements of two parallel arrays.
+	 *
+	 * <p>If the keys are strictly increasing, the tree is built bottom-up in linear time, with full leaves.
+	 *
+	 * @param k the array of keys of the new tree map.
+	 * @param v the array of corresponding values in the new tree map.
+	 * @throws IllegalArgumentException if {@code k} and {@code v} have different lengths.
+	 */
+	public Byte2BooleanBTreeMap(final byte[] k, final boolean v[]) {
+	 this(k, v, null);
+	}
+	/** Compares two keys in the right way.
+	 *
+	 * <p>This method uses the {@link #actualComparator} if it is non-{@code null}.
+	 * Otherwise, it resorts to primitive type comparisons.
+	 *
+	 * @param k1 the first key.
+	 * @param k2 the second key.
+	 * @return a number smaller than, equal to or greater than 0, as usual
+	 * (i.e., when k1 &lt; k2, k1 = k2 or k1 &gt; k2, respectively).
+	 */
+	final int compare(final byte k1, final byte k2) {
+	 return actualComparator == null ? ( Byte.compare((k1),(k2)) ) : actualComparator.compare(k1, k2);
+	}
+	/** Searches for a key in a sorted array fragment.
+	 *
+	 * @param key a sorted array.
+	 * @param n the number of elements of {@code key} to search.
+	 * @param k a key.
+	 * @param strict whether to look for greater keys, rather than greater or equal keys.
+	 * @return the index of the first element of {@code key} that is greater than or equal to {@code k} (greater than {@code k},
+	 * if {@code strict} is true), or {@code n} if there is no such element.
+	 */
+	private int search(final byte[] key, final int n, final byte k, final boolean strict) {
+	 int from = 0, to = n;
+	 if (actualComparator == null) {
+	  while (from < to) {
+	   final int mid = (from + to) >>> 1;
+	   final int cmp = ( Byte.compare((key[mid]),(k)) );
+	   if (cmp < 0 || strict && cmp == 0) from = mid + 1;
+	   else to = mid;
+	  }
+	 }
+	 else {
+	  while (from < to) {
+	   final int mid = (from + to) >>> 1;
+	   final int cmp = actualComparator.compare(key[mid], k);
+	   if (cmp < 0 || strict && cmp == 0) from = mid + 1;
+	   else to = mid;
+	  }
+	 }
+	 return from;
+	}
+	/** Returns the leaf that might contain a key.
+	 *
+	 * @param k a key.
+	 * @return the leaf that contains {@code k}, if {@code k} is in the map; otherwise, a leaf
+	 * in which {@code k} could be inserted.
+	 */
+	private Leaf leaf(final byte k) {
+	 Object node = root;
+	 for (int h = height; h-- != 0;) {
+	  final Inner inner = (Inner)node;
+	  node = inner.child[search(inner.key, inner.n, k, true)];
+	 }
+	 return (Leaf)node;
+	}
+
+	private static boolean value(final Leaf leaf, final int i) {
+	 return leaf.value[i];
+	}
+	/** Builds the tree bottom-up using a prefix of two parallel arrays with strictly increasing keys.
+	 *
+	 * @param k the keys.
+	 * @param v the values.
+	 * @param n the number of entries.
+	 */
+	private void load(final byte[] k, final boolean[] v, final int n) {
+	 if (n == 0) return;
+	 final int leaves = (n + LEAF_CAPACITY - 1) / LEAF_CAPACITY;
+	 // The nodes of the current level, and their smallest keys; the arrays are reused for upper levels
+	 final Object[] level = new Object[leaves];
+	 final byte[] first = new byte[leaves];
+	 Leaf prev = null;
+	 for (int i = 0, start = 0; i < leaves; i++) {
+	  // Sizes are distributed evenly, so that all leaves are at least half full
+	  final int end = (int)((long)n * (i + 1) / leaves);
+	  final Leaf leaf = new Leaf();
+	  leaf.n = end - start;
+	  System.arraycopy(k, start, leaf.key, 0, leaf.n);
+	  System.arraycopy(v, start, leaf.value, 0, leaf.n);
+	  if (prev == null) firstLeaf = leaf;
+	  else prev.next = leaf;
+	  leaf.prev = prev;
+	  prev = leaf;
+	  level[i] = leaf;
+	  first[i] = k[start];
+	  start = end;
+	 }
+	 lastLeaf = prev;
+	 height = 0;
+	 for (int m = leaves; m > 1; height++) {
+	  final int parents = (m + INNER_CAPACITY - 1) / INNER_CAPACITY;
+	  for (int i = 0, start = 0; i < parents; i++) {
+	   final int end = (int)((long)m * (i + 1) / parents);
+	   final Inner inner = new Inner();
+	   inner.n = end - start - 1;
+	   System.arraycopy(level, start, inner.child, 0, inner.n + 1);
+	   System.arraycopy(first, start + 1, inner.key, 0, inner.n);
+	   // Since start >= i, we never overwrite nodes of the current level that we still need
+	   level[i] = inner;
+	   first[i] = first[start];
+	   start = end;
+	  }
+	  m = parents;
+	 }
+	 root = level[0];
+	 count = n;
+	}
+	@Override
+	public boolean put(final byte k, final boolean v) {
+	 modified = false;
+	 final boolean oldValue = insert(root, height, k, v);
+	 if (splitNode != null) {
+	  final Inner inner = new Inner();
+	  inner.child[0] = root;
+	  inner.child[1] = splitNode;
+	  inner.key[0] = splitKey;
+	  inner.n = 1;
+	  root = inner;
+	  height++;
+	  splitNode = null;
+	 }
+	 return modified ? defRetValue : oldValue;
+	}
+	/** Inserts a key in a subtree, splitting nodes as necessary.
+	 *
+	 * <p>If the root of the subtree is split, the new node and its separator are stored in {@link #splitNode} and {@link #splitKey}.
+	 *
+	 * @param node the root of the subtree.
+	 * @param h the number of levels of inner nodes in the subtree.
+	 * @param k the key.
+	 * @param v the value.
+	 * @return the old value, if the key was already present.
+	 */
+	private boolean insert(final Object node, final int h, final byte k, final boolean v) {
+	 if (h == 0) {
+	  final Leaf leaf = (Leaf)node;
+	  final int i = search(leaf.key, leaf.n, k, false);
+	  if (i < leaf.n && compare(leaf.key[i], k) == 0) {
+	   final boolean oldValue = value(leaf, i);
+	   leaf.value[i] = v;
+	   return oldValue;
+	  }
+	  System.arraycopy(leaf.key, i, leaf.key, i + 1, leaf.n - i);
+	  System.arraycopy(leaf.value, i, leaf.value, i + 1, leaf.n - i);
+	  leaf.key[i] = k;
+	  leaf.value[i] = v;
+	  modified = true;
+	  count++;
+	  // When appending to the last leaf, we leave the full leaf untouched
+	  if (++leaf.n > LEAF_CAPACITY) split(leaf, i == LEAF_CAPACITY && leaf.next == null ? LEAF_CAPACITY : leaf.n / 2);
+	  return defRetValue;
+	 }
+	 final Inner inner = (Inner)node;
+	 final int i = search(inner.key, inner.n, k, true);
+	 final boolean oldValue = insert(inner.child[i], h - 1, k, v);
+	 if (splitNode != null) {
+	  System.arraycopy(inner.key, i, inner.key, i + 1, inner.n - i);
+	  System.arraycopy(inner.child, i + 1, inner.child, i + 2, inner.n - i);
+	  inner.key[i] = splitKey;
+	  inner.child[i + 1] = splitNode;
+	  splitNode = null;
+	  if (++inner.n == INNER_CAPACITY) split(inner);
+	 }
+	 return oldValue;
+	}
+	/** Splits an overfull leaf.
+	 *
+	 * @param a the leaf.
+	 * @param m the number of entries that will be left in {@code a}.
+	 */
+	private void split(final Leaf a, final int m) {
+	 final Leaf b = new Leaf();
+	 b.n = a.n - m;
+	 System.arraycopy(a.key, m, b.key, 0, b.n);
+	 System.arraycopy(a.value, m, b.value, 0, b.n);
+	 a.n = m;
+	 b.prev = a;
+	 b.next = a.next;
+	 if (a.next == null) lastLeaf = b;
+	 else a.next.prev = b;
+	 a.next = b;
+	 splitKey = b.key[0];
+	 splitNode = b;
+	}
+	/** Splits an overfull inner node in two halves, promoting the middle separator.
+	 *
+	 * @param a the inner node.
+	 */
+	private void split(final Inner a) {
+	 final int m = a.n / 2;
+	 final Inner b = new Inner();
+	 b.n = a.n - m - 1;
+	 System.arraycopy(a.key, m + 1, b.key, 0, b.n);
+	 System.arraycopy(a.child, m + 1, b.child, 0, b.n + 1);
+	 java.util.Arrays.fill(a.child, m + 1, a.n + 1, null);
+	 a.n = m;
+	 splitKey = a.key[m];
+	 splitNode = b;
+	}
+	@Override
+	public boolean remove(final byte k) {
+	 modified = false;
+	 final boolean oldValue = delete(root, height, k);
+	 if (! modified) return defRetValue;
+	 if (height != 0 && ((Inner)root).n == 0) {
+	  root = ((Inner)root).child[0];
+	  height--;
+	 }
+	 return oldValue;
+	}
+	/** Deletes a key from a subtree, rebalancing nodes as necessary.
+	 *
+	 * @param node the root of the subtree.
+	 * @param h the number of levels of inner nodes in the subtree.
+	 * @param k the key.
+	 * @return the old value, if the key was present.
+	 */
+	private boolean delete(final Object node, final int h, final byte k) {
+	 if (h == 0) {
+	  final Leaf leaf = (Leaf)node;
+	  final int i = search(leaf.key, leaf.n, k, false);
+	  if (i == leaf.n || compare(leaf.key[i], k) != 0) return defRetValue;
+	  final boolean oldValue = value(leaf, i);
+	  System.arraycopy(leaf.key, i + 1, leaf.key, i, leaf.n - i - 1);
+	  System.arraycopy(leaf.value, i + 1, leaf.value, i, leaf.n - i - 1);
+	  leaf.n--;
+	  modified = true;
+	  count--;
+	  return oldValue;
+	 }
+	 final Inner inner = (Inner)node;
+	 final int i = search(inner.key, inner.n, k, true);
+	 final boolean oldValue = delete(inner.child[i], h - 1, k);
+	 if (modified) {
+	  if (h == 1) {
+	   if (((Leaf)inner.child[i]).n < LEAF_CAPACITY / 2) rebalanceLeaf(inner, i);
+	  }
+	  else if (((Inner)inner.child[i]).n < INNER_CAPACITY / 2 - 1) rebalanceInner(inner, i);
+	 }
+	 return oldValue;
+	}
+	/** Removes a separator and the following child from an inner node.
+	 *
+	 * @param p an inner node.
+	 * @param i the index of the separator to remove.
+	 */
+	private static void remove(final Inner p, final int i) {
+	 System.arraycopy(p.key, i + 1, p.key, i, p.n - i - 1);
+	 System.arraycopy(p.child, i + 2, p.child, i + 1, p.n - i - 1);
+	 p.child[p.n--] = null;
+	}
+	/** Rebalances an underfull leaf by merging it with a sibling, or by moving an entry from a sibling.
+	 *
+	 * @param p the parent of the leaf.
+	 * @param i the index of the leaf in {@code p}.
+	 */
+	private void rebalanceLeaf(final Inner p, final int i) {
+	 if (i > 0) {
+	  final Leaf a = (Leaf)p.child[i - 1], b = (Leaf)p.child[i];
+	  if (a.n + b.n <= LEAF_CAPACITY) merge(p, i - 1);
+	  else {
+	   System.arraycopy(b.key, 0, b.key, 1, b.n);
+	   System.arraycopy(b.value, 0, b.value, 1, b.n);
+	   b.key[0] = a.key[--a.n];
+	   b.value[0] = a.value[a.n];
+	   b.n++;
+	   p.key[i - 1] = b.key[0];
+	  }
+	 }
+	 else {
+	  final Leaf a = (Leaf)p.child[0], b = (Leaf)p.child[1];
+	  if (a.n + b.n <= LEAF_CAPACITY) merge(p, 0);
+	  else {
+	   a.key[a.n] = b.key[0];
+	   a.value[a.n++] = b.value[0];
+	   System.arraycopy(b.key, 1, b.key, 0, --b.n);
+	   System.arraycopy(b.value, 1, b.value, 0, b.n);
+	   p.key[0] = b.key[0];
+	  }
+	 }
+	}
+	/** Merges two adjacent leaves.
+	 *
+	 * @param p the parent of the leaves.
+	 * @param i the index of the first leaf in {@code p}; the following leaf will be merged into it.
+	 */
+	private void merge(final Inner p, final int i) {
+	 final Leaf a = (Leaf)p.child[i], b = (Leaf)p.child[i + 1];
+	 System.arraycopy(b.key, 0, a.key, a.n, b.n);
+	 System.arraycopy(b.value, 0, a.value, a.n, b.n);
+	 a.n += b.n;
+	 a.next = b.next;
+	 if (b.next == null) lastLeaf = a;
+	 else b.next.prev = a;
+	 // Entries still referring to b will delegate to put()
+	 b.n = 0;
+	 remove(p, i);
+	}
+	/** Rebalances an underfull inner node by merging it with a sibling, or by rotating a child from a sibling.
+	 *
+	 * @param p the parent of the inner node.
+	 * @param i the index of the inner node in {@code p}.
+	 */
+	private static void rebalanceInner(final Inner p, final int i) {
+	 if (i > 0) {
+	  final Inner a = (Inner)p.child[i - 1], b = (Inner)p.child[i];
+	  if (a.n + b.n + 1 < INNER_CAPACITY) merge(p, i - 1, a, b);
+	  else {
+	   System.arraycopy(b.key, 0, b.key, 1, b.n);
+	   System.arraycopy(b.child, 0, b.child, 1, b.n + 1);
+	   b.key[0] = p.key[i - 1];
+	   b.child[0] = a.child[a.n];
+	   b.n++;
+	   a.child[a.n] = null;
+	   p.key[i - 1] = a.key[--a.n];
+	  }
+	 }
+	 else {
+	  final Inner a = (Inner)p.child[0], b = (Inner)p.child[1];
+	  if (a.n + b.n + 1 < INNER_CAPACITY) merge(p, 0, a, b);
+	  else {
+	   a.key[a.n] = p.key[0];
+	   a.child[++a.n] = b.child[0];
+	   p.key[0] = b.key[0];
+	   System.arraycopy(b.key, 1, b.key, 0, b.n - 1);
+	   System.arraycopy(b.child, 1, b.child, 0, b.n);
+	   b.child[b.n--] = null;
+	  }
+	 }
+	}
+	/** Merges two adjacent inner nodes, moving their separator into the merged node.
+	 *
+	 * @param p the parent of the inner nodes.
+	 * @param i the index of {@code a} in {@code p}.
+	 * @param a an inner node.
+	 * @param b the inner node following {@code a}, which will be merged into {@code a}.
+	 */
+	private static void merge(final Inner p, final int i, final Inner a, final Inner b) {
+	 a.key[a.n] = p.key[i];
+	 System.arraycopy(b.key, 0, a.key, a.n + 1, b.n);
+	 System.arraycopy(b.child, 0, a.child, a.n + 1, b.n + 1);
+	 a.n += b.n + 1;
+	 remove(p, i);
+	}
+	@Override
+	public boolean containsValue(final boolean v) {
+	 for (Leaf leaf = firstLeaf; leaf != null; leaf = leaf.next)
+	  for (int i = 0; i < leaf.n; i++) if (( (leaf.value[i]) == (v) )) return true;
+	 return false;
+	}
+	@Override
+	public void clear() {
+	 root = firstLeaf = lastLeaf = new Leaf();
+	 height = count = 0;
+	}
+	@Override
+	public boolean containsKey(final byte k) {
+	 final Leaf leaf = leaf(k);
+	 final int i = search(leaf.key, leaf.n, k, false);
+	 return i < leaf.n && compare(leaf.key[i], k) == 0;
+	}
+	@Override
+	public int size() {
+	 return count;
+	}
+	@Override
+	public boolean isEmpty() {
+	 return count == 0;
+	}
+	@Override
+	public boolean get(final byte k) {
+	 final Leaf leaf = leaf(k);
+	 final int i = search(leaf.key, leaf.n, k, false);
+	 return i < leaf.n && compare(leaf.key[i], k) == 0 ? value(leaf, i) : defRetValue;
+	}
+	@Override
+	public byte firstByteKey() {
+	 if (count == 0) throw new NoSuchElementException();
+	 return firstLeaf.key[0];
+	}
+	@Override
+	public byte lastByteKey() {
+	 if (count == 0) throw new NoSuchElementException();
+	 return lastLeaf.key[lastLeaf.n - 1];
+	}
+	@Override
+	public ByteComparator comparator() {
+	 return actualComparator;
+	}
+	/** An entry returned by an iterator.
+	 *
+	 * <p>{@link #setValue(VALUE_GENERIC_TYPE)} writes directly into the leaf containing the entry, if
+	 * the map has not been structurally modified in between; otherwise, it delegates to {@link BTREE_MAP#put(KEY_TYPE, VALUE_GENERIC_TYPE)}.
+	 */
+	private final class Entry extends AbstractByte2BooleanMap.BasicEntry {
+	 private final Leaf leaf;
+	 private final int pos;
+	 Entry(final Leaf leaf, final int pos) {
+	  super(leaf.key[pos], value(leaf, pos));
+	  this.leaf = leaf;
+	  this.pos = pos;
+	 }
+	 @Override
+	 public boolean setValue(final boolean value) {
+	  final boolean oldValue = this.value;
+	  this.value = value;
+	  if (pos < leaf.n && compare(leaf.key[pos], key) == 0) leaf.value[pos] = value;
+	  else put(key, value);
+	  return oldValue;
+	 }
+	}
+	/** An iterator on a range of keys.
+	 *
+	 * <p>This class keeps track of the position of the next entry (in a leaf), and can
+	 * iterate in both directions following the links between leaves.
+	 */
+	private class TreeIterator {
+	 /** The start of the range, unless {@link #bottom} is true. */
+	 final byte from;
+	 /** The end of the range, unless {@link #top} is true. */
+	 final byte to;
+	 /** If true, the range starts from -&infin;. */
+	 final boolean bottom;
+	 /** If true, the range goes to &infin;. */
+	 final boolean top;
+	 /** The leaf containing the next entry (or the position past the end of its entries). */
+	 Leaf leaf;
+	 /** The position of the next entry in {@link #leaf}. */
+	 int pos;
+	 /** The leaf containing the entry returned by the last call to {@link #nextPos()} or {@link #previousPos()},
+		 * or {@code null} if no such call was made or the entry has been removed. */
+	 Leaf curr;
+	 /** The position of the entry returned by the last call to {@link #nextPos()} or {@link #previousPos()}. */
+	 int currPos;
+	 /** Creates an iterator on a range positioned at the start of the range. */
+	 TreeIterator(final byte from, final boolean bottom, final byte to, final boolean top) {
+	  this.from = from;
+	  this.bottom = bottom;
+	  this.to = to;
+	  this.top = top;
+	  if (bottom) {
+	   leaf = firstLeaf;
+	   pos = 0;
+	  }
+	  else seek(from, false);
+	 }
+	 /** Creates an iterator on a range positioned after a given key.
+		 *
+		 * <p>The next element will be the smallest key of the range greater than {@code k}.
+		 */
+	 TreeIterator(final byte from, final boolean bottom, final byte to, final boolean top, final byte k) {
+	  this(from, bottom, to, top);
+	  if (! top && compare(k, to) >= 0) seek(to, false);
+	  else if (bottom || compare(k, from) >= 0) seek(k, true);
+	 }
+	 /** Moves this iterator to the end of its range. */
+	 final TreeIterator end() {
+	  if (top) {
+	   leaf = lastLeaf;
+	   pos = leaf.n;
+	  }
+	  else seek(to, false);
+	  return this;
+	 }
+	 private void seek(final byte k, final boolean strict) {
+	  leaf = leaf(k);
+	  pos = search(leaf.key, leaf.n, k, strict);
+	 }
+	 public boolean hasNext() {
+	  if (pos == leaf.n) {
+	   // Leaves other than the root are never empty
+	   if (leaf.next == null) return false;
+	   leaf = leaf.next;
+	   pos = 0;
+	  }
+	  return top || compare(leaf.key[pos], to) < 0;
+	 }
+	 public boolean hasPrevious() {
+	  if (pos == 0) {
+	   if (leaf.prev == null) return false;
+	   leaf = leaf.prev;
+	   pos = leaf.n;
+	  }
+	  return bottom || compare(leaf.key[pos - 1], from) >= 0;
+	 }
+	 final void nextPos() {
+	  if (! hasNext()) throw new NoSuchElementException();
+	  curr = leaf;
+	  currPos = pos++;
+	 }
+	 final void previousPos() {
+	  if (! hasPrevious()) throw new NoSuchElementException();
+	  curr = leaf;
+	  currPos = --pos;
+	 }
+	 public void remove() {
+	  if (curr == null) throw new IllegalStateException();
+	  final byte k = curr.key[currPos];
+	  curr = null;
+	  Byte2BooleanBTreeMap.this.remove(k);
+	  // The tree might have been restructured: we look again for the key following the removed one
+	  seek(k, true);
+	 }
+	}
+	private final class EntryIterator extends TreeIterator implements ObjectBidirectionalIterator<Byte2BooleanMap.Entry > {
+	 EntryIterator(final byte from, final boolean bottom, final byte to, final boolean top) {
+	  super(from, bottom, to, top);
+	 }
+	 EntryIterator(final byte from, final boolean bottom, final byte to, final boolean top, final byte k) {
+	  super(from, bottom, to, top, k);
+	 }
+	 @Override
+	 public Byte2BooleanMap.Entry next() {
+	  nextPos();
+	  return new Entry(curr, currPos);
+	 }
+	 @Override
+	 public Byte2BooleanMap.Entry previous() {
+	  previousPos();
+	  return new Entry(curr, currPos);
+	 }
+	}
+	private final class KeyIterator extends TreeIterator implements ByteBidirectionalIterator {
+	 KeyIterator(final byte from, final boolean bottom, final byte to, final boolean top) {
+	  super(from, bottom, to, top);
+	 }
+	 KeyIterator(final byte from, final boolean bottom, final byte to, final boolean top, final byte k) {
+	  super(from, bottom, to, top, k);
+	 }
+	 @Override
+	 public byte nextByte() {
+	  nextPos();
+	  return curr.key[currPos];
+	 }
+	 @Override
+	 public byte previousByte() {
+	  previousPos();
+	  return curr.key[currPos];
+	 }
+	}
+	private final class ValueIterator extends TreeIterator implements BooleanIterator {
+	 ValueIterator(final byte from, final boolean bottom, final byte to, final boolean top) {
+	  super(from, bottom, to, top);
+	 }
+	 @Override
+	 public boolean nextBoolean() {
+	  nextPos();
+	  return value(curr, currPos);
+	 }
+	}
+	/** Returns a comparator on entries based on the comparator of this map.
+	 *
+	 * @return a comparator on entries based on the comparator of this map.
+	 */
+	private Comparator<? super Byte2BooleanMap.Entry > entryComparator() {
+	 return actualComparator == null ?
+	   (Comparator<Byte2BooleanMap.Entry >) (x, y) -> ( Byte.compare((x.getByteKey()),(y.getByteKey())) ) :
+	   (Comparator<Byte2BooleanMap.Entry >) (x, y) -> actualComparator.compare(x.getByteKey(), y.getByteKey());
+	}
+	@Override
+	public ObjectSortedSet<Byte2BooleanMap.Entry > byte2BooleanEntrySet() {
+	 if (entries == null) entries = new Submap(((byte)0), true, ((byte)0), true).byte2BooleanEntrySet();
+	 return entries;
+	}
+	@Override
+	public ByteSortedSet keySet() {
+	 if (keys == null) keys = new Submap(((byte)0), true, ((byte)0), true).keySet();
+	 return keys;
+	}
+	@Override
+	public BooleanCollection values() {
+	 if (values == null) values = new Submap(((byte)0), true, ((byte)0), true).values();
+	 return values;
+	}
+	@Override
+	public Byte2BooleanSortedMap headMap(final byte to) { return new Submap(((byte)0), true, to, false); }
+	@Override
+	public Byte2BooleanSortedMap tailMap(final byte from) { return new Submap(from, false, ((byte)0), true); }
+	@Override
+	public Byte2BooleanSortedMap subMap(final byte from, final byte to) { return new Submap(from, false, to, false); }
+	/** A submap with given range.
+	 *
+	 * <p>This class represents a submap. One has to specify the left/right
+	 * limits (which can be set to -&infin; or &infin;). Since the submap is a
+	 * view on the map, at a given moment it could happen that the limits of
+	 * the range are not any longer in the main map. Thus, things such as
+	 * {@link java.util.SortedMap#firstKey()} or {@link java.util.Collection#size()} must be always computed
+	 * on-the-fly.
+	 *
+	 * <p>The views of the whole map are the views of an unbounded submap.
+	 */
+	private final class Submap extends AbstractByte2BooleanSortedMap implements java.io.Serializable {
+	 private static final long serialVersionUID = 0L;
+	 /** The start of the submap range, unless {@link #bottom} is true. */
+	 final byte from;
+	 /** The end of the submap range, unless {@link #top} is true. */
+	 final byte to;
+	 /** If true, the submap range starts from -&infin;. */
+	 final boolean bottom;
+	 /** If true, the submap range goes to &infin;. */
+	 final boolean top;
+	 /** Cached set of entries. */
+	 protected transient ObjectSortedSet<Byte2BooleanMap.Entry > entries;
+	 /** Cached set of keys. */
+	 protected transient ByteSortedSet keys;
+	 /** Cached collection of values. */
+	 protected transient BooleanCollection values;
+	 /** Creates a new submap with given key range.
+		 *
+		 * @param from the start of the submap range.
+		 * @param bottom if true, the first parameter is ignored and the range starts from -&infin;.
+		 * @param to the end of the submap range.
+		 * @param top if true, the third parameter is ignored and the range goes to &infin;.
+		 */
+	 public Submap(final byte from, final boolean bottom, final byte to, final boolean top) {
+	  if (! bottom && ! top && Byte2BooleanBTreeMap.this.compare(from, to) > 0) throw new IllegalArgumentException("Start key (" + from + ") is larger than end key (" + to + ")");
+	  this.from = from;
+	  this.bottom = bottom;
+	  this.to = to;
+	  this.top = top;
+	  this.defRetValue = Byte2BooleanBTreeMap.this.defRetValue;
+	 }
+	 /** Checks whether a key is in the submap range.
+		 * @param k a key.
+		 * @return true if is the key is in the submap range.
+		 */
+	 final boolean in(final byte k) {
+	  return (bottom || Byte2BooleanBTreeMap.this.compare(k, from) >= 0) &&
+	   (top || Byte2BooleanBTreeMap.this.compare(k, to) < 0);
+	 }
+	 @Override
+	 public void clear() {
+	  if (bottom && top) Byte2BooleanBTreeMap.this.clear();
+	  else {
+	   final TreeIterator i = new TreeIterator(from, bottom, to, top);
+	   while(i.hasNext()) {
+	    i.nextPos();
+	    i.remove();
+	   }
+	  }
+	 }
+	 @Override
+	 public ObjectSortedSet<Byte2BooleanMap.Entry > byte2BooleanEntrySet() {
+	  if (entries == null) entries = new AbstractObjectSortedSet<Byte2BooleanMap.Entry >() {
+	    final Comparator<? super Byte2BooleanMap.Entry > comparator = entryComparator();
+	    @Override
+	    public ObjectBidirectionalIterator<Byte2BooleanMap.Entry > iterator() {
+	     return new EntryIterator(from, bottom, to, top);
+	    }
+	    @Override
+	    public ObjectBidirectionalIterator<Byte2BooleanMap.Entry > iterator(final Byte2BooleanMap.Entry from) {
+	     return new EntryIterator(Submap.this.from, bottom, to, top, from.getByteKey());
+	    }
+	    @Override
+	    public Comparator<? super Byte2BooleanMap.Entry > comparator() { return comparator; }
+	    @Override
+	    public boolean contains(final Object o) {
+	     if (!(o instanceof Map.Entry)) return false;
+	     final Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+	     if (e.getKey() == null || ! (e.getKey() instanceof Byte)) return false;
+	     if (e.getValue() == null || ! (e.getValue() instanceof Boolean)) return false;
+	     final byte k = ((Byte)(e.getKey())).byteValue();
+	     return in(k) && Byte2BooleanBTreeMap.this.containsKey(k) && ( (Byte2BooleanBTreeMap.this.get(k)) == (((Boolean)(e.getValue())).booleanValue()) );
+	    }
+	    @Override
+	    public boolean remove(final Object o) {
+	     if (! contains(o)) return false;
+	     Byte2BooleanBTreeMap.this.remove(((Byte)(((Map.Entry<?,?>)o).getKey())).byteValue());
+	     return true;
+	    }
+	    @Override
+	    public int size() { return Submap.this.size(); }
+	    @Override
+	    public boolean isEmpty() { return Submap.this.isEmpty(); }
+	    @Override
+	    public void clear() { Submap.this.clear(); }
+	    @Override
+	    public Byte2BooleanMap.Entry first() {
+	     final EntryIterator i = new EntryIterator(from, bottom, to, top);
+	     if (! i.hasNext()) throw new NoSuchElementException();
+	     return i.next();
+	    }
+	    @Override
+	    public Byte2BooleanMap.Entry last() {
+	     final EntryIterator i = new EntryIterator(from, bottom, to, top);
+	     i.end();
+	     if (! i.hasPrevious()) throw new NoSuchElementException();
+	     return i.previous();
+	    }
+	    @Override
+	    public ObjectSortedSet<Byte2BooleanMap.Entry > subSet(Byte2BooleanMap.Entry from, Byte2BooleanMap.Entry to) { return subMap(from.getByteKey(), to.getByteKey()).byte2BooleanEntrySet(); }
+	    @Override
+	    public ObjectSortedSet<Byte2BooleanMap.Entry > headSet(Byte2BooleanMap.Entry to) { return headMap(to.getByteKey()).byte2BooleanEntrySet(); }
+	    @Override
+	    public ObjectSortedSet<Byte2BooleanMap.Entry > tailSet(Byte2BooleanMap.Entry from) { return tailMap(from.getByteKey()).byte2BooleanEntrySet(); }
+	   };
+	  return entries;
+	 }
+	 private class KeySet extends AbstractByte2BooleanSortedMap .KeySet {
+	  @Override
+	  public ByteBidirectionalIterator iterator() { return new KeyIterator(from, bottom, to, top); }
+	  @Override
+	  public ByteBidirectionalIterator iterator(final byte from) { return new KeyIterator(Submap.this.from, bottom, to, top, from); }
+	 }
+	 @Override
+	 public ByteSortedSet keySet() {
+	  if (keys == null) keys = new KeySet();
+	  return keys;
+	 }
+	 @Override
+	 public BooleanCollection values() {
+	  if (values == null) values = new AbstractBooleanCollection () {
+	    @Override
+	    public BooleanIterator iterator() { return new ValueIterator(from, bottom, to, top); }
+	    @Override
+	    public boolean contains(final boolean k) { return containsValue(k); }
+	    @Override
+	    public int size() { return Submap.this.size(); }
+	    @Override
+	    public void clear() { Submap.this.clear(); }
+	   };
+	  return values;
+	 }
+	 @Override
+	 public boolean containsKey(final byte k) {
+	  return in(k) && Byte2BooleanBTreeMap.this.containsKey(k);
+	 }
+	 @Override
+	 public boolean containsValue(final boolean v) {
+	  final TreeIterator i = new TreeIterator(from, bottom, to, top);
+	  while(i.hasNext()) {
+	   i.nextPos();
+	   if (( (i.curr.value[i.currPos]) == (v) )) return true;
+	  }
+	  return false;
+	 }
+	 @Override
+	 public boolean get(final byte k) {
+	  return in(k) && Byte2BooleanBTreeMap.this.containsKey(k) ? Byte2BooleanBTreeMap.this.get(k) : this.defRetValue;
+	 }
+	 @Override
+	 public boolean put(final byte k, final boolean v) {
+	  if (! in(k)) throw new IllegalArgumentException("Key (" + k + ") out of range [" + (bottom ? "-" : String.valueOf(from)) + ", " + (top ? "+" : String.valueOf(to)) + ")");
+	  final boolean oldValue = Byte2BooleanBTreeMap.this.put(k, v);
+	  return modified ? this.defRetValue : oldValue;
+	 }
+	 @Override
+	 public boolean remove(final byte k) {
+	  if (! in(k)) return this.defRetValue;
+	  final boolean oldValue = Byte2BooleanBTreeMap.this.remove(k);
+	  return modified ? oldValue : this.defRetValue;
+	 }
+	 @Override
+	 public int size() {
+	  if (bottom && top) return count;
+	  final TreeIterator i = new TreeIterator(from, bottom, to, top);
+	  int n = 0;
+	  // We count whole leaves when possible
+	  while(i.hasNext()) {
+	   if (top || compare(i.leaf.key[i.leaf.n - 1], to) < 0) {
+	    n += i.leaf.n - i.pos;
+	    i.pos = i.leaf.n;
+	   }
+	   else {
+	    i.nextPos();
+	    n++;
+	   }
+	  }
+	  return n;
+	 }
+	 @Override
+	 public boolean isEmpty() { return ! new TreeIterator(from, bottom, to, top).hasNext(); }
+	 @Override
+	 public ByteComparator comparator() { return actualComparator; }
+	 @Override
+	 public Byte2BooleanSortedMap headMap(final byte to) {
+	  if (top) return new Submap(from, bottom, to, false);
+	  return compare(to, this.to) < 0 ? new Submap(from, bottom, to, false) : this;
+	 }
+	 @Override
+	 public Byte2BooleanSortedMap tailMap(final byte from) {
+	  if (bottom) return new Submap(from, false, to, top);
+	  return compare(from, this.from) > 0 ? new Submap(from, false, to, top) : this;
+	 }
+	 @Override
+	 public Byte2BooleanSortedMap subMap(byte from, byte to) {
+	  if (top && bottom) return new Submap(from, false, to, false);
+	  if (! top) to = compare(to, this.to) < 0 ? to : this.to;
+	  if (! bottom) from = compare(from, this.from) > 0 ? from : this.from;
+	  if (! top && ! bottom && from == this.from && to == this.to) return this;
+	  return new Submap(from, false, to, false);
+	 }
+	 @Override
+	 public byte firstByteKey() {
+	  final TreeIterator i = new TreeIterator(from, bottom, to, top);
+	  i.nextPos();
+	  return i.curr.key[i.currPos];
+	 }
+	 @Override
+	 public byte lastByteKey() {
+	  final TreeIterator i = new TreeIterator(from, bottom, to, top).end();
+	  i.previousPos();
+	  return i.curr.key[i.currPos];
+	 }
+	}
+	/** Returns a deep copy of this tree map.
+	 *
+	 * <p>This method performs a deep copy of this tree map; the data stored in the
+	 * map, however, is not cloned. Note that this makes a difference only for object values.
+	 * The leaves of the copy are full.
+	 *
+	 * @return a deep copy of this tree map.
+	 */
+	@Override
+
+	public Byte2BooleanBTreeMap clone() {
+	 Byte2BooleanBTreeMap c;
+	 try {
+	  c = (Byte2BooleanBTreeMap )super.clone();
+	 }
+	 catch(CloneNotSupportedException cantHappen) {
+	  throw new InternalError();
+	 }
+	 c.keys = null;
+	 c.values = null;
+	 c.entries = null;
+	 c.clear();
+	 final byte[] k = new byte[count];
+	 final boolean[] v = new boolean[count];
+	 int j = 0;
+	 for (Leaf leaf = firstLeaf; leaf != null; j += leaf.n, leaf = leaf.next) {
+	  System.arraycopy(leaf.key, 0, k, j, leaf.n);
+	  System.arraycopy(leaf.value, 0, v, j, leaf.n);
+	 }
+	 c.load(k, v, count);
+	 return c;
+	}
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 s.defaultWriteObject();
+	 for (Leaf leaf = firstLeaf; leaf != null; leaf = leaf.next) {
+	  for (int i = 0; i < leaf.n; i++) {
+	   s.writeByte(leaf.key[i]);
+	   s.writeBoolean(leaf.value[i]);
+	  }
+	 }
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+	 s.defaultReadObject();
+	 /* The storedComparator is now correctly set, but we must restore
+		   on-the-fly the actualComparator. */
+	 setActualComparator();
+	 final int n = count;
+	 clear();
+	 final byte[] k = new byte[n];
+	 final boolean[] v = new boolean[n];
+	 for (int i = 0; i < n; i++) {
+	  k[i] = s.readByte();
+	  v[i] = s.readBoolean();
+	 }
+	 load(k, v, n);
+	}
+}
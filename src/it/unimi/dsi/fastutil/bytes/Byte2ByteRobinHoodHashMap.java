@@ -0,0 +1,802 @@
+/*
+	* Copyright (C) 2002-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.Hash;
+import static it.unimi.dsi.fastutil.HashCommon.arraySize;
+import static it.unimi.dsi.fastutil.HashCommon.maxFill;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+/** A type-specific hash map using <em>Robin Hood</em> linear probing.
+	*
+	* <p>Instances of this class use the same table layout as {@link OPEN_HASH_MAP}, but
+	* during insertions a key that is further from its home slot than the key it finds in the table
+	* takes its place, and the displaced key continues the probe. As a result, the variance of the
+	* probe lengths (the distance of each key from its home slot) is much smaller than with plain
+	* linear probing, and the expected maximum probe length grows very slowly with the load factor.
+	* Unsuccessful lookups stop as soon as they meet a key that is closer to its home slot than the
+	* searched key would be. Removals use <em>backward-shift deletion</em>: the following keys of the
+	* cluster are moved back by one slot, so no tombstones are ever left behind.
+	*
+	* <p>This class makes it possible to use load factors such as 0.9 with predictable
+	* performance even when keys are clustered, at the price of slightly slower insertions. You can
+	* inspect the effect on a specific instance using {@link #probeLengthHistogram()},
+	* {@link #maxProbeLength()} and {@link #averageProbeLength()}.
+	*
+	* <p>Instances of this class use a hash table to represent a map. The table is
+	* filled up to a specified <em>load factor</em>, and then doubled in size to
+	* accommodate new entries. If the table is emptied below <em>one fourth</em>
+	* of the load factor, it is halved in size; however, the table is never reduced to a
+	* size smaller than that at creation time: this approach makes it
+	* possible to create maps with a large capacity in which insertions and
+	* deletions do not cause immediately rehashing.
+	*
+	* <p>Iterators and views are not fail-fast, and entries are returned in no particular order.
+	*
+#if KEYS_REFERENCE
+	* @param <K> the type of keys.
+#endif
+#if VALUES_REFERENCE
+	* @param <V> the type of values.
+#endif
+	* @see Hash
+	* @see OPEN_HASH_MAP
+	*/
+public class Byte2ByteRobinHoodHashMap extends AbstractByte2ByteMap implements java.io.Serializable, Cloneable, Hash {
+	private static final long serialVersionUID = 0L;
+	private static final boolean ASSERTS = false;
+	/** The array of keys. */
+	protected transient byte[] key;
+	/** The array of values. */
+	protected transient byte[] value;
+	/** The mask for wrapping a position counter. */
+	protected transient int mask;
+	/** Whether this map contains the key zero. */
+	protected transient boolean containsNullKey;
+	/** The current table size. */
+	protected transient int n;
+	/** Threshold after which we rehash. It must be the table size times {@link #f}. */
+	protected transient int maxFill;
+	/** We never resize below this threshold, which is the construction-time {#n}. */
+	protected final transient int minN;
+	/** Number of entries in the set (including the key zero, if present). */
+	protected int size;
+	/** The acceptable load factor. */
+	protected final float f;
+	/** Cached set of entries. */
+	protected transient FastEntrySet entries;
+	/** Cached set of keys. */
+	protected transient ByteSet keys;
+	/** Cached collection of values. */
+	protected transient ByteCollection values;
+	/** Creates a new hash map.
+	 *
+	 * <p>The actual table size will be the least power of two greater than {@code expected}/{@code f}.
+	 *
+	 * @param expected the expected number of elements in the hash map.
+	 * @param f the load factor.
+	 */
+
+	public Byte2ByteRobinHoodHashMap(final int expected, final float f) {
+	 if (f <= 0 || f >= 1) throw new IllegalArgumentException("Load factor must be greater than 0 and smaller than 1");
+	 if (expected < 0) throw new IllegalArgumentException("The expected number of elements must be nonnegative");
+	 this.f = f;
+	 minN = n = arraySize(expected, f);
+	 mask = n - 1;
+	 maxFill = maxFill(n, f);
+	 key = new byte[n + 1];
+	 value = new byte[n + 1];
+	}
+	/** Creates a new hash map with {@link Hash#DEFAULT_LOAD_FACTOR} as load factor.
+	 *
+	 * @param expected the expected number of elements in the hash map.
+	 */
+	public Byte2ByteRobinHoodHashMap(final int expected) {
+	 this(expected, DEFAULT_LOAD_FACTOR);
+	}
+	/** Creates a new hash map with initial expected {@link Hash#DEFAULT_INITIAL_SIZE} entries
+	 * and {@link Hash#DEFAULT_LOAD_FACTOR} as load factor.
+	 */
+	public Byte2ByteRobinHoodHashMap() {
+	 this(DEFAULT_INITIAL_SIZE, DEFAULT_LOAD_FACTOR);
+	}
+	/** Creates a new hash map copying a given one.
+	 *
+	 * @param m a {@link Map} to be copied into the new hash map.
+	 * @param f the load factor.
+	 */
+	public Byte2ByteRobinHoodHashMap(final Map<? extends Byte, ? extends Byte> m, final float f) {
+	 this(m.size(), f);
+	 putAll(m);
+	}
+	/** Creates a new hash map with {@link Hash#DEFAULT_LOAD_FACTOR} as load factor copying a given one.
+	 *
+	 * @param m a {@link Map} to be copied into the new hash map.
+	 */
+	public Byte2ByteRobinHoodHashMap(final Map<? extends Byte, ? extends Byte> m) {
+	 this(m, DEFAULT_LOAD_FACTOR);
+	}
+	/** Returns the probe length of the key at a given position, that is, its distance from its home slot.
+	 *
+	 * @param pos a position containing a key.
+	 * @return the distance of the key at {@code pos} from its home slot.
+	 */
+	private int probeLength(final int pos) {
+	 return (pos - (( it.unimi.dsi.fastutil.HashCommon.mix( (key[pos]) ) ) & mask)) & mask;
+	}
+	/** Returns the position of a key, or where the search for it stopped.
+	 *
+	 * @param k a key.
+	 * @return the position of {@code k}, if present, or &minus;<var>p</var>&nbsp;&minus;&nbsp;1, where <var>p</var>
+	 * is the position of an empty slot, or of a key closer to its home slot than {@code k} would be
+	 * (for the null key, <var>p</var> is {@link #n}).
+	 */
+
+	private int find(final byte k) {
+	 if (( (k) == ((byte)0) )) return containsNullKey ? n : -(n + 1);
+	 final byte[] key = this.key;
+	 final int mask = this.mask;
+	 byte curr;
+	 int pos = ( it.unimi.dsi.fastutil.HashCommon.mix( (k) ) ) & mask;
+	 for(int d = 0;; d++) {
+	  if (( (curr = key[pos]) == ((byte)0) )) return -(pos + 1);
+	  if (( (k) == (curr) )) return pos;
+	  // A key closer to its home slot than k would be proves that k is not in the table
+	  if (((pos - (( it.unimi.dsi.fastutil.HashCommon.mix( (curr) ) ) & mask)) & mask) < d) return -(pos + 1);
+	  pos = (pos + 1) & mask;
+	 }
+	}
+	/** Inserts a key that is not in the map.
+	 *
+	 * @param pos the position where the search for {@code k} stopped (see {@link #find}).
+	 * @param k a key that is not in the map.
+	 * @param v its value.
+	 */
+	private void insert(int pos, byte k, byte v) {
+	 if (pos == n) containsNullKey = true;
+	 else {
+	  final byte[] key = this.key;
+	  final byte[] value = this.value;
+	  final int mask = this.mask;
+	  byte curr;
+	  int d = (pos - (( it.unimi.dsi.fastutil.HashCommon.mix( (k) ) ) & mask)) & mask;
+	  while(! ( (curr = key[pos]) == ((byte)0) )) {
+	   final int currD = (pos - (( it.unimi.dsi.fastutil.HashCommon.mix( (curr) ) ) & mask)) & mask;
+	   if (currD < d) {
+	    // The resident key is richer: it leaves its slot to k and continues the probe
+	    key[pos] = k;
+	    k = curr;
+	    final byte t = value[pos];
+	    value[pos] = v;
+	    v = t;
+	    d = currD;
+	   }
+	   pos = (pos + 1) & mask;
+	   d++;
+	  }
+	  key[pos] = k;
+	 }
+	 value[pos] = v;
+	 if (size++ >= maxFill) rehash(arraySize(size + 1, f));
+	 if (ASSERTS) checkTable();
+	}
+	/** Shifts back by one slot the keys following a given position, up to the first empty slot
+	 * or the first key in its home slot, and empties the resulting free slot.
+	 *
+	 * @param pos a starting position.
+	 */
+	protected final void shiftKeys(int pos) {
+	 final byte[] key = this.key;
+	 final byte[] value = this.value;
+	 final int mask = this.mask;
+	 byte curr;
+	 for(int next; ! ( (curr = key[next = (pos + 1) & mask]) == ((byte)0) ) && ((next - (( it.unimi.dsi.fastutil.HashCommon.mix( (curr) ) ) & mask)) & mask) != 0; pos = next) {
+	  key[pos] = curr;
+	  value[pos] = value[next];
+	 }
+	 key[pos] = ((byte)0);
+	}
+	private byte removeEntry(final int pos) {
+	 final byte oldValue = value[pos];
+	 size--;
+	 if (pos == n) {
+	  containsNullKey = false;
+	 }
+	 else shiftKeys(pos);
+	 if (n > minN && size < maxFill / 4 && n > DEFAULT_INITIAL_SIZE) rehash(n / 2);
+	 if (ASSERTS) checkTable();
+	 return oldValue;
+	}
+	@Override
+	public byte get(final byte k) {
+	 final int pos = find(k);
+	 return pos < 0 ? defRetValue : value[pos];
+	}
+	@Override
+	public boolean containsKey(final byte k) {
+	 return find(k) >= 0;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public byte getOrDefault(final byte k, final byte defaultValue) {
+	 final int pos = find(k);
+	 return pos < 0 ? defaultValue : value[pos];
+	}
+	@Override
+	public byte put(final byte k, final byte v) {
+	 final int pos = find(k);
+	 if (pos < 0) {
+	  insert(-pos - 1, k, v);
+	  return defRetValue;
+	 }
+	 final byte oldValue = value[pos];
+	 value[pos] = v;
+	 return oldValue;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public byte putIfAbsent(final byte k, final byte v) {
+	 final int pos = find(k);
+	 if (pos >= 0) return value[pos];
+	 insert(-pos - 1, k, v);
+	 return defRetValue;
+	}
+	/** Adds an increment to value currently associated with a key.
+	 *
+	 * <p>Note that this method respects the {@linkplain #defaultReturnValue() default return value} semantics: when
+	 * called with a key that does not currently appears in the map, the key
+	 * will be associated with the default return value plus
+	 * the given increment.
+	 *
+	 * @param k the key.
+	 * @param incr the increment.
+	 * @return the old value, or the {@linkplain #defaultReturnValue() default return value} if no value was present for the given key.
+	 */
+	public byte addTo(final byte k, final byte incr) {
+	 final int pos = find(k);
+	 if (pos < 0) {
+	  insert(-pos - 1, k, (byte)(defRetValue + incr));
+	  return defRetValue;
+	 }
+	 final byte oldValue = value[pos];
+	 value[pos] = (byte)(oldValue + incr);
+	 return oldValue;
+	}
+	@Override
+	public byte remove(final byte k) {
+	 final int pos = find(k);
+	 return pos < 0 ? defRetValue : removeEntry(pos);
+	}
+	/** {@inheritDoc} */
+	@Override
+	public boolean remove(final byte k, final byte v) {
+	 final int pos = find(k);
+	 if (pos < 0 || ! ( (v) == (value[pos]) )) return false;
+	 removeEntry(pos);
+	 return true;
+	}
+	@Override
+	public boolean containsValue(final byte v) {
+	 final byte value[] = this.value;
+	 final byte key[] = this.key;
+	 if (containsNullKey && ( (value[n]) == (v) )) return true;
+	 for(int i = n; i-- != 0;) if (! ( (key[i]) == ((byte)0) ) && ( (value[i]) == (v) )) return true;
+	 return false;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public void forEach(final it.unimi.dsi.fastutil.bytes.ByteByteBiConsumer consumer) {
+	 if (containsNullKey) consumer.accept(key[n], value[n]);
+	 for(int pos = n; pos-- != 0;) if (! ( (key[pos]) == ((byte)0) )) consumer.accept(key[pos], value[pos]);
+	}
+	/* Removes all elements from this map.
+	 *
+	 * <p>To increase object reuse, this method does not change the table size.
+	 * If you want to reduce the table size, you must use {@link #trim()}.
+	 *
+	 */
+	@Override
+	public void clear() {
+	 if (size == 0) return;
+	 size = 0;
+	 containsNullKey = false;
+	 Arrays.fill(key, ((byte)0));
+	}
+	@Override
+	public int size() {
+	 return size;
+	}
+	@Override
+	public boolean isEmpty() {
+	 return size == 0;
+	}
+	/** Returns the distribution of probe lengths in this map.
+	 *
+	 * <p>The probe length of a key is the distance between the slot it occupies and its home slot
+	 * (i.e., the number of keys skipped by a successful lookup). The null key is not counted.
+	 *
+	 * @return an array whose element of index <var>i</var> is the number of keys with probe length <var>i</var>; its
+	 * length is one plus the {@linkplain #maxProbeLength() maximum probe length}.
+	 */
+	public int[] probeLengthHistogram() {
+	 int[] count = new int[1];
+	 for(int pos = n; pos-- != 0;) {
+	  if (( (key[pos]) == ((byte)0) )) continue;
+	  final int d = probeLength(pos);
+	  if (d >= count.length) count = Arrays.copyOf(count, Math.max(d + 1, 2 * count.length));
+	  count[d]++;
+	 }
+	 int l = count.length;
+	 while(l > 1 && count[l - 1] == 0) l--;
+	 return Arrays.copyOf(count, l);
+	}
+	/** Returns the maximum probe length in this map.
+	 *
+	 * @return the maximum probe length (see {@link #probeLengthHistogram()}), or zero if the map is empty.
+	 */
+	public int maxProbeLength() {
+	 int max = 0;
+	 for(int pos = n; pos-- != 0;) if (! ( (key[pos]) == ((byte)0) )) max = Math.max(max, probeLength(pos));
+	 return max;
+	}
+	/** Returns the average probe length in this map.
+	 *
+	 * @return the average probe length (see {@link #probeLengthHistogram()}), or zero if the map contains no non-null key.
+	 */
+	public double averageProbeLength() {
+	 long sum = 0;
+	 for(int pos = n; pos-- != 0;) if (! ( (key[pos]) == ((byte)0) )) sum += probeLength(pos);
+	 final int keys = containsNullKey ? size - 1 : size;
+	 return keys == 0 ? 0 : (double)sum / keys;
+	}
+	/** The entry class for a hash map does not record key and value, but
+	 * rather the position in the hash table of the corresponding entry. This
+	 * is necessary so that calls to {@link java.util.Map.Entry#setValue(Object)} are reflected in
+	 * the map */
+	final class MapEntry implements Byte2ByteMap.Entry , Map.Entry<Byte, Byte> {
+	 // The table index this entry refers to, or -1 if this entry has been deleted.
+	 int index;
+	 MapEntry(final int index) {
+	  this.index = index;
+	 }
+	 MapEntry() {}
+	 @Override
+	 public byte getByteKey() {
+	  return key[index];
+	 }
+	 @Override
+	 public byte getByteValue() {
+	  return value[index];
+	 }
+	 @Override
+	 public byte setValue(final byte v) {
+	  final byte oldValue = value[index];
+	  value[index] = v;
+	  return oldValue;
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Byte getKey() {
+	  return Byte.valueOf(key[index]);
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Byte getValue() {
+	  return Byte.valueOf(value[index]);
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Byte setValue(final Byte v) {
+	  return Byte.valueOf(setValue((v).byteValue()));
+	 }
+	 @SuppressWarnings("unchecked")
+	 @Override
+	 public boolean equals(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  Map.Entry<Byte, Byte> e = (Map.Entry<Byte, Byte>)o;
+	  return ( (key[index]) == ((e.getKey()).byteValue()) ) && ( (value[index]) == ((e.getValue()).byteValue()) );
+	 }
+	 @Override
+	 public int hashCode() {
+	  return (key[index]) ^ (value[index]);
+	 }
+	 @Override
+	 public String toString() {
+	  return key[index] + "=>" + value[index];
+	 }
+	}
+	/** An iterator over a hash map. */
+	private abstract class MapIterator<ConsumerType> {
+	 /** The index of the last entry returned, if positive or zero; initially, {@link #n}. If negative, the last
+			entry returned was that of the key of index {@code - pos - 1} from the {@link #wrapped} list. */
+	 int pos = n;
+	 /** The index of the last entry that has been returned (more precisely, the value of {@link #pos} if {@link #pos} is positive,
+			or {@link Integer#MIN_VALUE} if {@link #pos} is negative). It is -1 if either
+			we did not return an entry yet, or the last returned entry has been removed. */
+	 int last = -1;
+	 /** A downward counter measuring how many entries must still be returned. */
+	 int c = size;
+	 /** A boolean telling us whether we should return the entry with the null key. */
+	 boolean mustReturnNullKey = Byte2ByteRobinHoodHashMap.this.containsNullKey;
+	 /** A lazily allocated list containing keys of entries that have wrapped around the table because of removals. */
+	 ByteArrayList wrapped;
+	 @SuppressWarnings("unused")
+	 abstract void acceptOnIndex(final ConsumerType action, final int index);
+	 public boolean hasNext() {
+	  return c != 0;
+	 }
+	 public int nextEntry() {
+	  if (! hasNext()) throw new NoSuchElementException();
+	  c--;
+	  if (mustReturnNullKey) {
+	   mustReturnNullKey = false;
+	   return last = n;
+	  }
+	  final byte key[] = Byte2ByteRobinHoodHashMap.this.key;
+	  for(;;) {
+	   if (--pos < 0) {
+	    // We are just enumerating elements from the wrapped list.
+	    last = Integer.MIN_VALUE;
+	    return find(wrapped.getByte(- pos - 1));
+	   }
+	   if (! ( (key[pos]) == ((byte)0) )) return last = pos;
+	  }
+	 }
+	 public void forEachRemaining(final ConsumerType action) {
+	  while (c != 0) acceptOnIndex(action, nextEntry());
+	 }
+	 /** Shifts back keys starting at the specified position, and empties the resulting free slot,
+		 * keeping track of keys that wrap around the table.
+		 *
+		 * @param pos a starting position.
+		 */
+	 private void shiftKeys(int pos) {
+	  final byte[] key = Byte2ByteRobinHoodHashMap.this.key;
+	  final byte[] value = Byte2ByteRobinHoodHashMap.this.value;
+	  byte curr;
+	  for(int next; ! ( (curr = key[next = (pos + 1) & mask]) == ((byte)0) ) && ((next - (( it.unimi.dsi.fastutil.HashCommon.mix( (curr) ) ) & mask)) & mask) != 0; pos = next) {
+	   if (next < pos) { // Wrapped entry.
+	    if (wrapped == null) wrapped = new ByteArrayList (2);
+	    wrapped.add(curr);
+	   }
+	   key[pos] = curr;
+	   value[pos] = value[next];
+	  }
+	  key[pos] = ((byte)0);
+	 }
+	 public void remove() {
+	  if (last == -1) throw new IllegalStateException();
+	  if (last == n) {
+	   containsNullKey = false;
+	  }
+	  else if (pos >= 0) shiftKeys(last);
+	  else {
+	   // We're removing wrapped entries.
+	   Byte2ByteRobinHoodHashMap.this.remove(wrapped.getByte(- pos - 1));
+	   last = -1; // Note that we must not decrement size
+	   return;
+	  }
+	  size--;
+	  last = -1; // You can no longer remove this entry.
+	  if (ASSERTS) checkTable();
+	 }
+	 public int skip(final int n) {
+	  int i = n;
+	  while(i-- != 0 && hasNext()) nextEntry();
+	  return n - i - 1;
+	 }
+	}
+	private final class EntryIterator extends MapIterator<Consumer<? super Byte2ByteMap.Entry >> implements ObjectIterator<Byte2ByteMap.Entry > {
+	 private MapEntry entry;
+	 @Override
+	 public MapEntry next() {
+	  return entry = new MapEntry(nextEntry());
+	 }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 @Override
+	 final void acceptOnIndex(final Consumer<? super Byte2ByteMap.Entry > action, final int index) {
+	  action.accept(entry = new MapEntry(index));
+	 }
+	 @Override
+	 public void remove() {
+	  super.remove();
+	  entry.index = -1; // You cannot use a deleted entry.
+	 }
+	}
+	private final class FastEntryIterator extends MapIterator<Consumer<? super Byte2ByteMap.Entry >> implements ObjectIterator<Byte2ByteMap.Entry > {
+	 private final MapEntry entry = new MapEntry();
+	 @Override
+	 public MapEntry next() {
+	  entry.index = nextEntry();
+	  return entry;
+	 }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 @Override
+	 final void acceptOnIndex(final Consumer<? super Byte2ByteMap.Entry > action, final int index) {
+	  entry.index = index;
+	  action.accept(entry);
+	 }
+	}
+	private final class MapEntrySet extends AbstractObjectSet<Byte2ByteMap.Entry > implements FastEntrySet {
+	 @Override
+	 public ObjectIterator<Byte2ByteMap.Entry > iterator() { return new EntryIterator(); }
+	 @Override
+	 public ObjectIterator<Byte2ByteMap.Entry > fastIterator() { return new FastEntryIterator(); }
+	 @Override
+	
+	 public boolean contains(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  final Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+	  if (e.getKey() == null || ! (e.getKey() instanceof Byte)) return false;
+	  if (e.getValue() == null || ! (e.getValue() instanceof Byte)) return false;
+	  final byte k = ((Byte)( e.getKey())).byteValue();
+	  final byte v = ((Byte)( e.getValue())).byteValue();
+	  final int pos = find(k);
+	  return pos >= 0 && ( (value[pos]) == (v) );
+	 }
+	 @Override
+	
+	 public boolean remove(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  final Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+	  if (e.getKey() == null || ! (e.getKey() instanceof Byte)) return false;
+	  if (e.getValue() == null || ! (e.getValue() instanceof Byte)) return false;
+	  return Byte2ByteRobinHoodHashMap.this.remove(((Byte)( e.getKey())).byteValue(), ((Byte)( e.getValue())).byteValue());
+	 }
+	 @Override
+	 public int size() {
+	  return size;
+	 }
+	 @Override
+	 public void clear() {
+	  Byte2ByteRobinHoodHashMap.this.clear();
+	 }
+	 /** {@inheritDoc} */
+	 @Override
+	 public void forEach(final Consumer<? super Byte2ByteMap.Entry > consumer) {
+	  if (containsNullKey) consumer.accept(new MapEntry(n));
+	  for(int pos = n; pos-- != 0;) if (! ( (key[pos]) == ((byte)0) )) consumer.accept(new MapEntry(pos));
+	 }
+	 /** {@inheritDoc} */
+	 @Override
+	 public void fastForEach(final Consumer<? super Byte2ByteMap.Entry > consumer) {
+	  final MapEntry entry = new MapEntry();
+	  if (containsNullKey) {
+	   entry.index = n;
+	   consumer.accept(entry);
+	  }
+	  for(int pos = n; pos-- != 0;)
+	   if (! ( (key[pos]) == ((byte)0) )) {
+	    entry.index = pos;
+	    consumer.accept(entry);
+	   }
+	 }
+	}
+	@Override
+	public FastEntrySet byte2ByteEntrySet() {
+	 if (entries == null) entries = new MapEntrySet();
+	 return entries;
+	}
+	/** An iterator on keys.
+	 *
+	 * <p>We simply override the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods
+	 * (and possibly their type-specific counterparts) so that they return keys
+	 * instead of entries.
+	 */
+	private final class KeyIterator extends MapIterator<ByteConsumer > implements ByteIterator {
+	 public KeyIterator() { super(); }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 // Despite the superclass declared with generics, the way Java inherits and generates bridge methods avoids the boxing/unboxing
+	 @Override
+	 final void acceptOnIndex(final ByteConsumer action, final int index) {
+	  action.accept(key[index]);
+	 }
+	 @Override
+	 public byte nextByte() { return key[nextEntry()]; }
+	}
+	private final class KeySet extends AbstractByteSet {
+	 @Override
+	 public ByteIterator iterator() { return new KeyIterator(); }
+	 /** {@inheritDoc} */
+	 @Override
+	 public void forEach(final ByteConsumer consumer) {
+	  final byte key[] = Byte2ByteRobinHoodHashMap.this.key;
+	  if (containsNullKey) consumer.accept(key[n]);
+	  for(int pos = n; pos-- != 0;) if (! ( (key[pos]) == ((byte)0) )) consumer.accept(key[pos]);
+	 }
+	 @Override
+	 public int size() { return size; }
+	 @Override
+	 public boolean contains(byte k) { return containsKey(k); }
+	 @Override
+	 public boolean remove(byte k) {
+	  final int pos = find(k);
+	  if (pos < 0) return false;
+	  removeEntry(pos);
+	  return true;
+	 }
+	 @Override
+	 public void clear() { Byte2ByteRobinHoodHashMap.this.clear();}
+	}
+	@Override
+	public ByteSet keySet() {
+	 if (keys == null) keys = new KeySet();
+	 return keys;
+	}
+	/** An iterator on values.
+	 *
+	 * <p>We simply override the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods
+	 * (and possibly their type-specific counterparts) so that they return values
+	 * instead of entries.
+	 */
+	private final class ValueIterator extends MapIterator<ByteConsumer > implements ByteIterator {
+	 public ValueIterator() { super(); }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 // Despite the superclass declared with generics, the way Java inherits and generates bridge methods avoids the boxing/unboxing
+	 @Override
+	 final void acceptOnIndex(final ByteConsumer action, final int index) {
+	  action.accept(value[index]);
+	 }
+	 @Override
+	 public byte nextByte() { return value[nextEntry()]; }
+	}
+	@Override
+	public ByteCollection values() {
+	 if (values == null) values = new AbstractByteCollection () {
+	   @Override
+	   public ByteIterator iterator() { return new ValueIterator(); }
+	   /** {@inheritDoc} */
+	   @Override
+	   public void forEach(final ByteConsumer consumer) {
+	    final byte key[] = Byte2ByteRobinHoodHashMap.this.key;
+	    final byte value[] = Byte2ByteRobinHoodHashMap.this.value;
+	    if (containsNullKey) consumer.accept(value[n]);
+	    for(int pos = n; pos-- != 0;) if (! ( (key[pos]) == ((byte)0) )) consumer.accept(value[pos]);
+	   }
+	   @Override
+	   public int size() { return size; }
+	   @Override
+	   public boolean contains(byte v) { return containsValue(v); }
+	   @Override
+	   public void clear() { Byte2ByteRobinHoodHashMap.this.clear(); }
+	  };
+	 return values;
+	}
+	/** Rehashes the map, making the table as small as possible.
+	 *
+	 * <p>This method rehashes the table to the smallest size satisfying the
+	 * load factor. It can be used when the map will not be changed anymore, so
+	 * to optimize access speed and size.
+	 *
+	 * @return true if there was enough memory to trim the map.
+	 */
+	public boolean trim() {
+	 final int l = arraySize(size, f);
+	 if (l >= n || size > maxFill(l, f)) return true;
+	 try {
+	  rehash(l);
+	 }
+	 catch(OutOfMemoryError cantDoIt) { return false; }
+	 return true;
+	}
+	/** Rehashes the map.
+	 *
+	 * <p>This method implements the basic rehashing strategy, and may be
+	 * overridden by subclasses implementing different rehashing strategies (e.g.,
+	 * disk-based rehashing). However, you should not override this method
+	 * unless you understand the internal workings of this class.
+	 *
+	 * @param newN the new size
+	 */
+
+	protected void rehash(final int newN) {
+	 final byte key[] = this.key;
+	 final byte value[] = this.value;
+	 final int mask = newN - 1; // Note that this is used by the hashing macro
+	 final byte newKey[] = new byte[newN + 1];
+	 final byte newValue[] = new byte[newN + 1];
+	 for(int i = n; i-- != 0;) {
+	  byte k = key[i];
+	  if (( (k) == ((byte)0) )) continue;
+	  byte v = value[i];
+	  int pos = ( it.unimi.dsi.fastutil.HashCommon.mix( (k) ) ) & mask;
+	  byte curr;
+	  for(int d = 0; ! ( (curr = newKey[pos]) == ((byte)0) ); pos = (pos + 1) & mask, d++) {
+	   final int currD = (pos - (( it.unimi.dsi.fastutil.HashCommon.mix( (curr) ) ) & mask)) & mask;
+	   if (currD < d) {
+	    newKey[pos] = k;
+	    k = curr;
+	    final byte t = newValue[pos];
+	    newValue[pos] = v;
+	    v = t;
+	    d = currD;
+	   }
+	  }
+	  newKey[pos] = k;
+	  newValue[pos] = v;
+	 }
+	 newValue[newN] = value[n];
+	 n = newN;
+	 this.mask = mask;
+	 maxFill = maxFill(n, f);
+	 this.key = newKey;
+	 this.value = newValue;
+	}
+	/** Returns a deep copy of this map.
+	 *
+	 * <p>This method performs a deep copy of this hash map; the data stored in the
+	 * map, however, is not cloned. Note that this makes a difference only for object keys.
+	 *
+	 *  @return a deep copy of this map.
+	 */
+	@Override
+
+	public Byte2ByteRobinHoodHashMap clone() {
+	 Byte2ByteRobinHoodHashMap c;
+	 try {
+	  c = (Byte2ByteRobinHoodHashMap )super.clone();
+	 }
+	 catch(CloneNotSupportedException cantHappen) {
+	  throw new InternalError();
+	 }
+	 c.keys = null;
+	 c.values = null;
+	 c.entries = null;
+	 c.key = key.clone();
+	 c.value = value.clone();
+	 return c;
+	}
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 s.defaultWriteObject();
+	 if (containsNullKey) {
+	  s.writeByte(key[n]);
+	  s.writeByte(value[n]);
+	 }
+	 for(int pos = n; pos-- != 0;)
+	  if (! ( (key[pos]) == ((byte)0) )) {
+	   s.writeByte(key[pos]);
+	   s.writeByte(value[pos]);
+	  }
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+	 s.defaultReadObject();
+	 final int size = this.size;
+	 this.size = 0;
+	 n = arraySize(size, f);
+	 maxFill = maxFill(n, f);
+	 mask = n - 1;
+	 containsNullKey = false;
+	 key = new byte[n + 1];
+	 value = new byte[n + 1];
+	 for(int i = size; i-- != 0;) {
+	  final byte k = s.readByte();
+	  final byte v = s.readByte();
+	  insert(-find(k) - 1, k, v);
+	 }
+	 if (ASSERTS) checkTable();
+	}
+	private void checkTable() {}
+}
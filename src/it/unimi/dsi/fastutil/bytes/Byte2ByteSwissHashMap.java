@@ -0,0 +1,740 @@
+/*
+	* Copyright (C) 2002-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.Hash;
+import static it.unimi.dsi.fastutil.HashCommon.arraySize;
+import static it.unimi.dsi.fastutil.HashCommon.maxFill;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+/** A type-specific hash map with a fast, small-footprint implementation based on <em>control bytes</em>, in the
+	* style of Swiss tables.
+	*
+	* <p>Besides the key and value arrays, instances of this class keep a metadata array containing
+	* a control byte for each slot: the control byte of an occupied slot contains seven bits of the hash
+	* of the key (the <em>tag</em>), whereas special values mark empty slots and slots left behind by
+	* removals. Slots are grouped in groups of eight, whose control bytes fit a {@code long}, and the
+	* probe sequence visits groups (rather than slots) quadratically. The tags of a whole group are
+	* compared with the tag of the key being searched at once, using word-level parallelism
+	* (<abbr>SWAR</abbr>), so keys are compared only when tags match, and a lookup for a missing key
+	* usually stops at the first group, having read a single {@code long} and no keys, even at high
+	* load factors. Removals do not move entries.
+	*
+	* <p>Instances of this class use a hash table to represent a map. The table is
+	* filled up to a specified <em>load factor</em>, and then doubled in size to
+	* accommodate new entries. If the table is emptied below <em>one fourth</em>
+	* of the load factor, it is halved in size; however, the table is never reduced to a
+	* size smaller than that at creation time: this approach makes it
+	* possible to create maps with a large capacity in which insertions and
+	* deletions do not cause immediately rehashing. Moreover, the number of slots left behind by
+	* removals is taken into account when deciding whether to rehash. Load factors up to 7/8
+	* are perfectly reasonable for this kind of table.
+	*
+	* <p>Iterators and views are not fail-fast, and entries are returned in no particular order.
+	*
+#if VALUES_REFERENCE
+	* @param <V> the type of values.
+#endif
+	* @see Hash
+	* @see OPEN_HASH_MAP
+	*/
+public class Byte2ByteSwissHashMap extends AbstractByte2ByteMap implements java.io.Serializable, Cloneable, Hash {
+	private static final long serialVersionUID = 0L;
+	private static final boolean ASSERTS = false;
+	/** The number of slots in a group. */
+	private static final int GROUP_SIZE = 8;
+	/** A word with the lowest bit of each control byte set. */
+	private static final long LSBS = 0x0101010101010101L;
+	/** A word with the highest bit of each control byte set. */
+	private static final long MSBS = 0x8080808080808080L;
+	/** The control byte of an empty slot. */
+	private static final long EMPTY = 0x80;
+	/** The control byte of a slot left behind by a removal. */
+	private static final long DELETED = 0xFE;
+	/** The array of control bytes, eight per word (the control byte of slot {@code i} is byte {@code i} % 8 of word {@code i} / 8). */
+	protected transient long[] ctrl;
+	/** The array of keys. */
+	protected transient byte[] key;
+	/** The array of values. */
+	protected transient byte[] value;
+	/** The mask for wrapping a group counter. */
+	protected transient int groupMask;
+	/** The current table size. */
+	protected transient int n;
+	/** Threshold after which we rehash. It must be the table size times {@link #f}. */
+	protected transient int maxFill;
+	/** We never resize below this threshold, which is the construction-time {#n}. */
+	protected final transient int minN;
+	/** Number of entries in the set. */
+	protected int size;
+	/** Number of slots left behind by removals. */
+	protected transient int deleted;
+	/** The acceptable load factor. */
+	protected final float f;
+	/** Cached set of entries. */
+	protected transient FastEntrySet entries;
+	/** Cached set of keys. */
+	protected transient ByteSet keys;
+	/** Cached collection of values. */
+	protected transient ByteCollection values;
+	/** Creates a new hash map.
+	 *
+	 * <p>The actual table size will be the least power of two greater than {@code expected}/{@code f},
+	 * and at least eight.
+	 *
+	 * @param expected the expected number of elements in the hash map.
+	 * @param f the load factor.
+	 */
+	public Byte2ByteSwissHashMap(final int expected, final float f) {
+	 if (f <= 0 || f >= 1) throw new IllegalArgumentException("Load factor must be greater than 0 and smaller than 1");
+	 if (expected < 0) throw new IllegalArgumentException("The expected number of elements must be nonnegative");
+	 this.f = f;
+	 minN = n = Math.max(GROUP_SIZE, arraySize(expected, f));
+	 allocate(n);
+	}
+	/** Creates a new hash map with {@link Hash#DEFAULT_LOAD_FACTOR} as load factor.
+	 *
+	 * @param expected the expected number of elements in the hash map.
+	 */
+	public Byte2ByteSwissHashMap(final int expected) {
+	 this(expected, DEFAULT_LOAD_FACTOR);
+	}
+	/** Creates a new hash map with initial expected {@link Hash#DEFAULT_INITIAL_SIZE} entries
+	 * and {@link Hash#DEFAULT_LOAD_FACTOR} as load factor.
+	 */
+	public Byte2ByteSwissHashMap() {
+	 this(DEFAULT_INITIAL_SIZE, DEFAULT_LOAD_FACTOR);
+	}
+	/** Creates a new hash map copying a given one.
+	 *
+	 * @param m a {@link Map} to be copied into the new hash map.
+	 * @param f the load factor.
+	 */
+	public Byte2ByteSwissHashMap(final Map<? extends Byte, ? extends Byte> m, final float f) {
+	 this(m.size(), f);
+	 putAll(m);
+	}
+	/** Creates a new hash map with {@link Hash#DEFAULT_LOAD_FACTOR} as load factor copying a given one.
+	 *
+	 * @param m a {@link Map} to be copied into the new hash map.
+	 */
+	public Byte2ByteSwissHashMap(final Map<? extends Byte, ? extends Byte> m) {
+	 this(m, DEFAULT_LOAD_FACTOR);
+	}
+	/** Sets up empty arrays for a table of given size.
+	 *
+	 * @param n the table size (a power of two not smaller than {@link #GROUP_SIZE}).
+	 */
+
+	private void allocate(final int n) {
+	 this.n = n;
+	 groupMask = n / GROUP_SIZE - 1;
+	 maxFill = maxFill(n, f);
+	 ctrl = new long[n / GROUP_SIZE];
+	 Arrays.fill(ctrl, MSBS);
+	 key = new byte[n];
+	 value = new byte[n];
+	 deleted = 0;
+	}
+	/** Returns a word whose high bits mark the control bytes in a group that are equal to a given tag.
+	 *
+	 * <p>Bytes following a matching byte might be marked spuriously, so matches must be confirmed by comparing keys.
+	 *
+	 * @param group a group of control bytes.
+	 * @param tags a word containing eight copies of a tag.
+	 * @return a word whose high bits mark matches.
+	 */
+	private static long match(final long group, final long tags) {
+	 final long x = group ^ tags;
+	 return (x - LSBS) & ~x & MSBS;
+	}
+	/** Returns a word whose high bits mark the empty slots in a group.
+	 *
+	 * <p>The highest bit is set in {@link #EMPTY} and {@link #DELETED}, but the second lowest is set only in the latter.
+	 *
+	 * @param group a group of control bytes.
+	 * @return a word whose high bits mark the empty slots in {@code group}.
+	 */
+	private static long matchEmpty(final long group) {
+	 return group & ~group << 6 & MSBS;
+	}
+	/** Returns the tag of a hash (its seven upper bits) replicated in all bytes of a word. */
+	private static long tags(final int h) {
+	 return LSBS * (h >>> 25);
+	}
+	/** Returns the position in the table of the first slot of a given word of matches. */
+	private static int first(final int group, final long matches) {
+	 return group * GROUP_SIZE + (Long.numberOfTrailingZeros(matches) >>> 3);
+	}
+	/** Sets the control byte of a slot.
+	 *
+	 * @param pos a slot.
+	 * @param c the new control byte.
+	 */
+	private void setCtrl(final int pos, final long c) {
+	 final int shift = (pos & GROUP_SIZE - 1) << 3;
+	 final int g = pos / GROUP_SIZE;
+	 ctrl[g] = ctrl[g] & ~(0xFFL << shift) | c << shift;
+	}
+	/** Returns the position of a key.
+	 *
+	 * @param k a key.
+	 * @return the position of {@code k} in the table, or &minus;1.
+	 */
+	private int find(final byte k) {
+	 final int h = ( it.unimi.dsi.fastutil.HashCommon.mix( (k) ) );
+	 final long tags = tags(h);
+	 final long[] ctrl = this.ctrl;
+	 final byte[] key = this.key;
+	 for(int g = h & groupMask, step = 0;; g = (g + ++step) & groupMask) {
+	  final long group = ctrl[g];
+	  for(long m = match(group, tags); m != 0; m &= m - 1) {
+	   final int pos = first(g, m);
+	   if (( (k) == (key[pos]) )) return pos;
+	  }
+	  // A group with an empty slot ends every probe sequence that reaches it
+	  if (matchEmpty(group) != 0) return -1;
+	 }
+	}
+	/** Returns the first empty or deleted slot in the probe sequence of a hash.
+	 *
+	 * @param h a hash.
+	 * @return the first empty or deleted slot in the probe sequence of {@code h}.
+	 */
+	private int findInsertionSlot(final int h) {
+	 final long[] ctrl = this.ctrl;
+	 for(int g = h & groupMask, step = 0;; g = (g + ++step) & groupMask) {
+	  final long m = ctrl[g] & MSBS;
+	  if (m != 0) return first(g, m);
+	 }
+	}
+	/** Inserts a key that is not in the map.
+	 *
+	 * @param k a key that is not in the map.
+	 * @param v its value.
+	 */
+	private void insert(final byte k, final byte v) {
+	 final int h = ( it.unimi.dsi.fastutil.HashCommon.mix( (k) ) );
+	 final int pos = findInsertionSlot(h);
+	 if ((ctrl[pos / GROUP_SIZE] >>> ((pos & GROUP_SIZE - 1) << 3) & 0xFF) == DELETED) deleted--;
+	 setCtrl(pos, h >>> 25);
+	 key[pos] = k;
+	 value[pos] = v;
+	 if (++size + deleted > maxFill) rehash(Math.max(GROUP_SIZE, Math.max(minN, arraySize(size + 1, f))));
+	 if (ASSERTS) checkTable();
+	}
+	/** Removes the entry at a given position without shrinking the table.
+	 *
+	 * @param pos the position of an entry.
+	 * @return the value of the removed entry.
+	 */
+	private byte clearSlot(final int pos) {
+	 // If the group contains an empty slot, no probe sequence ever went past it
+	 if (matchEmpty(ctrl[pos / GROUP_SIZE]) != 0) setCtrl(pos, EMPTY);
+	 else {
+	  setCtrl(pos, DELETED);
+	  deleted++;
+	 }
+	 final byte oldValue = value[pos];
+	 size--;
+	 return oldValue;
+	}
+	private byte removeEntry(final int pos) {
+	 final byte oldValue = clearSlot(pos);
+	 if (n > minN && size < maxFill / 4 && n > DEFAULT_INITIAL_SIZE) rehash(n / 2);
+	 if (ASSERTS) checkTable();
+	 return oldValue;
+	}
+	@Override
+	public byte get(final byte k) {
+	 final int pos = find(k);
+	 return pos < 0 ? defRetValue : value[pos];
+	}
+	@Override
+	public boolean containsKey(final byte k) {
+	 return find(k) >= 0;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public byte getOrDefault(final byte k, final byte defaultValue) {
+	 final int pos = find(k);
+	 return pos < 0 ? defaultValue : value[pos];
+	}
+	@Override
+	public byte put(final byte k, final byte v) {
+	 final int pos = find(k);
+	 if (pos < 0) {
+	  insert(k, v);
+	  return defRetValue;
+	 }
+	 final byte oldValue = value[pos];
+	 value[pos] = v;
+	 return oldValue;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public byte putIfAbsent(final byte k, final byte v) {
+	 final int pos = find(k);
+	 if (pos >= 0) return value[pos];
+	 insert(k, v);
+	 return defRetValue;
+	}
+	/** Adds an increment to value currently associated with a key.
+	 *
+	 * <p>Note that this method respects the {@linkplain #defaultReturnValue() default return value} semantics: when
+	 * called with a key that does not currently appears in the map, the key
+	 * will be associated with the default return value plus
+	 * the given increment.
+	 *
+	 * @param k the key.
+	 * @param incr the increment.
+	 * @return the old value, or the {@linkplain #defaultReturnValue() default return value} if no value was present for the given key.
+	 */
+	public byte addTo(final byte k, final byte incr) {
+	 final int pos = find(k);
+	 if (pos < 0) {
+	  insert(k, (byte)(defRetValue + incr));
+	  return defRetValue;
+	 }
+	 final byte oldValue = value[pos];
+	 value[pos] = (byte)(oldValue + incr);
+	 return oldValue;
+	}
+	@Override
+	public byte remove(final byte k) {
+	 final int pos = find(k);
+	 return pos < 0 ? defRetValue : removeEntry(pos);
+	}
+	/** {@inheritDoc} */
+	@Override
+	public boolean remove(final byte k, final byte v) {
+	 final int pos = find(k);
+	 if (pos < 0 || ! ( (v) == (value[pos]) )) return false;
+	 removeEntry(pos);
+	 return true;
+	}
+	@Override
+	public boolean containsValue(final byte v) {
+	 final long[] ctrl = this.ctrl;
+	 final byte[] value = this.value;
+	 for(int g = ctrl.length; g-- != 0;)
+	  for(long m = ~ctrl[g] & MSBS; m != 0; m &= m - 1)
+	   if (( (value[first(g, m)]) == (v) )) return true;
+	 return false;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public void forEach(final it.unimi.dsi.fastutil.bytes.ByteByteBiConsumer consumer) {
+	 final long[] ctrl = this.ctrl;
+	 for(int g = 0; g < ctrl.length; g++)
+	  for(long m = ~ctrl[g] & MSBS; m != 0; m &= m - 1) {
+	   final int pos = first(g, m);
+	   consumer.accept(key[pos], value[pos]);
+	  }
+	}
+	/* Removes all elements from this map.
+	 *
+	 * <p>To increase object reuse, this method does not change the table size.
+	 * If you want to reduce the table size, you must use {@link #trim()}.
+	 *
+	 */
+	@Override
+	public void clear() {
+	 if (size == 0 && deleted == 0) return;
+	 size = deleted = 0;
+	 Arrays.fill(ctrl, MSBS);
+	}
+	@Override
+	public int size() {
+	 return size;
+	}
+	@Override
+	public boolean isEmpty() {
+	 return size == 0;
+	}
+	/** The entry class for a hash map does not record key and value, but
+	 * rather the position in the hash table of the corresponding entry. This
+	 * is necessary so that calls to {@link java.util.Map.Entry#setValue(Object)} are reflected in
+	 * the map */
+	final class MapEntry implements Byte2ByteMap.Entry , Map.Entry<Byte, Byte> {
+	 // The table index this entry refers to, or -1 if this entry has been deleted.
+	 int index;
+	 MapEntry(final int index) {
+	  this.index = index;
+	 }
+	 MapEntry() {}
+	 @Override
+	 public byte getByteKey() {
+	  return key[index];
+	 }
+	 @Override
+	 public byte getByteValue() {
+	  return value[index];
+	 }
+	 @Override
+	 public byte setValue(final byte v) {
+	  final byte oldValue = value[index];
+	  value[index] = v;
+	  return oldValue;
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Byte getKey() {
+	  return Byte.valueOf(key[index]);
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Byte getValue() {
+	  return Byte.valueOf(value[index]);
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Byte setValue(final Byte v) {
+	  return Byte.valueOf(setValue((v).byteValue()));
+	 }
+	 @SuppressWarnings("unchecked")
+	 @Override
+	 public boolean equals(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  Map.Entry<Byte, Byte> e = (Map.Entry<Byte, Byte>)o;
+	  return ( (key[index]) == ((e.getKey()).byteValue()) ) && ( (value[index]) == ((e.getValue()).byteValue()) );
+	 }
+	 @Override
+	 public int hashCode() {
+	  return (key[index]) ^ (value[index]);
+	 }
+	 @Override
+	 public String toString() {
+	  return key[index] + "=>" + value[index];
+	 }
+	}
+	/** An iterator over a hash map. */
+	private abstract class MapIterator<ConsumerType> {
+	 /** The group we are enumerating. */
+	 int group = -1;
+	 /** The high bits of this word mark the occupied slots of {@link #group} that have not been returned yet. */
+	 long pending;
+	 /** The index of the last entry that has been returned, or -1 if
+			we did not return an entry yet, or the last returned entry has been removed. */
+	 int last = -1;
+	 /** A downward counter measuring how many entries must still be returned. */
+	 int c = size;
+	 @SuppressWarnings("unused")
+	 abstract void acceptOnIndex(final ConsumerType action, final int index);
+	 public boolean hasNext() {
+	  return c != 0;
+	 }
+	 public int nextEntry() {
+	  if (! hasNext()) throw new NoSuchElementException();
+	  c--;
+	  final long[] ctrl = Byte2ByteSwissHashMap.this.ctrl;
+	  while (pending == 0) pending = ~ctrl[++group] & MSBS;
+	  last = first(group, pending);
+	  pending &= pending - 1;
+	  return last;
+	 }
+	 public void forEachRemaining(final ConsumerType action) {
+	  while (c != 0) acceptOnIndex(action, nextEntry());
+	 }
+	 public void remove() {
+	  if (last == -1) throw new IllegalStateException();
+	  // Since entries do not move, we can remove the entry in place, provided that we do not shrink the table.
+	  clearSlot(last);
+	  last = -1; // You can no longer remove this entry.
+	  if (ASSERTS) checkTable();
+	 }
+	 public int skip(final int n) {
+	  int i = n;
+	  while(i-- != 0 && hasNext()) nextEntry();
+	  return n - i - 1;
+	 }
+	}
+	private final class EntryIterator extends MapIterator<Consumer<? super Byte2ByteMap.Entry >> implements ObjectIterator<Byte2ByteMap.Entry > {
+	 private MapEntry entry;
+	 @Override
+	 public MapEntry next() {
+	  return entry = new MapEntry(nextEntry());
+	 }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 @Override
+	 final void acceptOnIndex(final Consumer<? super Byte2ByteMap.Entry > action, final int index) {
+	  action.accept(entry = new MapEntry(index));
+	 }
+	 @Override
+	 public void remove() {
+	  super.remove();
+	  entry.index = -1; // You cannot use a deleted entry.
+	 }
+	}
+	private final class FastEntryIterator extends MapIterator<Consumer<? super Byte2ByteMap.Entry >> implements ObjectIterator<Byte2ByteMap.Entry > {
+	 private final MapEntry entry = new MapEntry();
+	 @Override
+	 public MapEntry next() {
+	  entry.index = nextEntry();
+	  return entry;
+	 }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 @Override
+	 final void acceptOnIndex(final Consumer<? super Byte2ByteMap.Entry > action, final int index) {
+	  entry.index = index;
+	  action.accept(entry);
+	 }
+	}
+	private final class MapEntrySet extends AbstractObjectSet<Byte2ByteMap.Entry > implements FastEntrySet {
+	 @Override
+	 public ObjectIterator<Byte2ByteMap.Entry > iterator() { return new EntryIterator(); }
+	 @Override
+	 public ObjectIterator<Byte2ByteMap.Entry > fastIterator() { return new FastEntryIterator(); }
+	 @Override
+	
+	 public boolean contains(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  final Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+	  if (e.getKey() == null || ! (e.getKey() instanceof Byte)) return false;
+	  if (e.getValue() == null || ! (e.getValue() instanceof Byte)) return false;
+	  final byte k = ((Byte)( e.getKey())).byteValue();
+	  final byte v = ((Byte)( e.getValue())).byteValue();
+	  final int pos = find(k);
+	  return pos >= 0 && ( (value[pos]) == (v) );
+	 }
+	 @Override
+	
+	 public boolean remove(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  final Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+	  if (e.getKey() == null || ! (e.getKey() instanceof Byte)) return false;
+	  if (e.getValue() == null || ! (e.getValue() instanceof Byte)) return false;
+	  return Byte2ByteSwissHashMap.this.remove(((Byte)( e.getKey())).byteValue(), ((Byte)( e.getValue())).byteValue());
+	 }
+	 @Override
+	 public int size() {
+	  return size;
+	 }
+	 @Override
+	 public void clear() {
+	  Byte2ByteSwissHashMap.this.clear();
+	 }
+	 /** {@inheritDoc} */
+	 @Override
+	 public void forEach(final Consumer<? super Byte2ByteMap.Entry > consumer) {
+	  final long[] ctrl = Byte2ByteSwissHashMap.this.ctrl;
+	  for(int g = 0; g < ctrl.length; g++)
+	   for(long m = ~ctrl[g] & MSBS; m != 0; m &= m - 1) consumer.accept(new MapEntry(first(g, m)));
+	 }
+	 /** {@inheritDoc} */
+	 @Override
+	 public void fastForEach(final Consumer<? super Byte2ByteMap.Entry > consumer) {
+	  final MapEntry entry = new MapEntry();
+	  final long[] ctrl = Byte2ByteSwissHashMap.this.ctrl;
+	  for(int g = 0; g < ctrl.length; g++)
+	   for(long m = ~ctrl[g] & MSBS; m != 0; m &= m - 1) {
+	    entry.index = first(g, m);
+	    consumer.accept(entry);
+	   }
+	 }
+	}
+	@Override
+	public FastEntrySet byte2ByteEntrySet() {
+	 if (entries == null) entries = new MapEntrySet();
+	 return entries;
+	}
+	/** An iterator on keys.
+	 *
+	 * <p>We simply override the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods
+	 * (and possibly their type-specific counterparts) so that they return keys
+	 * instead of entries.
+	 */
+	private final class KeyIterator extends MapIterator<ByteConsumer > implements ByteIterator {
+	 public KeyIterator() { super(); }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 // Despite the superclass declared with generics, the way Java inherits and generates bridge methods avoids the boxing/unboxing
+	 @Override
+	 final void acceptOnIndex(final ByteConsumer action, final int index) {
+	  action.accept(key[index]);
+	 }
+	 @Override
+	 public byte nextByte() { return key[nextEntry()]; }
+	}
+	private final class KeySet extends AbstractByteSet {
+	 @Override
+	 public ByteIterator iterator() { return new KeyIterator(); }
+	 /** {@inheritDoc} */
+	 @Override
+	 public void forEach(final ByteConsumer consumer) {
+	  final long[] ctrl = Byte2ByteSwissHashMap.this.ctrl;
+	  final byte key[] = Byte2ByteSwissHashMap.this.key;
+	  for(int g = 0; g < ctrl.length; g++)
+	   for(long m = ~ctrl[g] & MSBS; m != 0; m &= m - 1) consumer.accept(key[first(g, m)]);
+	 }
+	 @Override
+	 public int size() { return size; }
+	 @Override
+	 public boolean contains(byte k) { return containsKey(k); }
+	 @Override
+	 public boolean remove(byte k) {
+	  final int pos = find(k);
+	  if (pos < 0) return false;
+	  removeEntry(pos);
+	  return true;
+	 }
+	 @Override
+	 public void clear() { Byte2ByteSwissHashMap.this.clear();}
+	}
+	@Override
+	public ByteSet keySet() {
+	 if (keys == null) keys = new KeySet();
+	 return keys;
+	}
+	/** An iterator on values.
+	 *
+	 * <p>We simply override the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods
+	 * (and possibly their type-specific counterparts) so that they return values
+	 * instead of entries.
+	 */
+	private final class ValueIterator extends MapIterator<ByteConsumer > implements ByteIterator {
+	 public ValueIterator() { super(); }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 // Despite the superclass declared with generics, the way Java inherits and generates bridge methods avoids the boxing/unboxing
+	 @Override
+	 final void acceptOnIndex(final ByteConsumer action, final int index) {
+	  action.accept(value[index]);
+	 }
+	 @Override
+	 public byte nextByte() { return value[nextEntry()]; }
+	}
+	@Override
+	public ByteCollection values() {
+	 if (values == null) values = new AbstractByteCollection () {
+	   @Override
+	   public ByteIterator iterator() { return new ValueIterator(); }
+	   /** {@inheritDoc} */
+	   @Override
+	   public void forEach(final ByteConsumer consumer) {
+	    final long[] ctrl = Byte2ByteSwissHashMap.this.ctrl;
+	    final byte value[] = Byte2ByteSwissHashMap.this.value;
+	    for(int g = 0; g < ctrl.length; g++)
+	     for(long m = ~ctrl[g] & MSBS; m != 0; m &= m - 1) consumer.accept(value[first(g, m)]);
+	   }
+	   @Override
+	   public int size() { return size; }
+	   @Override
+	   public boolean contains(byte v) { return containsValue(v); }
+	   @Override
+	   public void clear() { Byte2ByteSwissHashMap.this.clear(); }
+	  };
+	 return values;
+	}
+	/** Rehashes the map, making the table as small as possible.
+	 *
+	 * <p>This method rehashes the table to the smallest size satisfying the
+	 * load factor. It can be used when the map will not be changed anymore, so
+	 * to optimize access speed and size. It also gets rid of slots left behind by removals.
+	 *
+	 * @return true if there was enough memory to trim the map.
+	 */
+	public boolean trim() {
+	 final int l = Math.max(GROUP_SIZE, arraySize(size, f));
+	 if (l >= n && deleted == 0) return true;
+	 try {
+	  rehash(l);
+	 }
+	 catch(OutOfMemoryError cantDoIt) { return false; }
+	 return true;
+	}
+	/** Rehashes the map.
+	 *
+	 * <p>This method implements the basic rehashing strategy, and may be
+	 * overridden by subclasses implementing different rehashing strategies (e.g.,
+	 * disk-based rehashing). However, you should not override this method
+	 * unless you understand the internal workings of this class.
+	 *
+	 * @param newN the new size
+	 */
+	protected void rehash(final int newN) {
+	 final long[] oldCtrl = ctrl;
+	 final byte[] oldKey = key;
+	 final byte[] oldValue = value;
+	 allocate(newN);
+	 for(int g = 0; g < oldCtrl.length; g++)
+	  for(long m = ~oldCtrl[g] & MSBS; m != 0; m &= m - 1) {
+	   final int oldPos = first(g, m);
+	   final byte k = oldKey[oldPos];
+	   final int h = ( it.unimi.dsi.fastutil.HashCommon.mix( (k) ) );
+	   final int pos = findInsertionSlot(h);
+	   setCtrl(pos, h >>> 25);
+	   key[pos] = k;
+	   value[pos] = oldValue[oldPos];
+	  }
+	}
+	/** Returns a deep copy of this map.
+	 *
+	 * <p>This method performs a deep copy of this hash map; the data stored in the
+	 * map, however, is not cloned.
+	 *
+	 *  @return a deep copy of this map.
+	 */
+	@Override
+
+	public Byte2ByteSwissHashMap clone() {
+	 Byte2ByteSwissHashMap c;
+	 try {
+	  c = (Byte2ByteSwissHashMap )super.clone();
+	 }
+	 catch(CloneNotSupportedException cantHappen) {
+	  throw new InternalError();
+	 }
+	 c.keys = null;
+	 c.values = null;
+	 c.entries = null;
+	 c.ctrl = ctrl.clone();
+	 c.key = key.clone();
+	 c.value = value.clone();
+	 return c;
+	}
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 s.defaultWriteObject();
+	 final long[] ctrl = this.ctrl;
+	 for(int g = 0; g < ctrl.length; g++)
+	  for(long m = ~ctrl[g] & MSBS; m != 0; m &= m - 1) {
+	   final int pos = first(g, m);
+	   s.writeByte(key[pos]);
+	   s.writeByte(value[pos]);
+	  }
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+	 s.defaultReadObject();
+	 final int size = this.size;
+	 this.size = 0;
+	 allocate(Math.max(GROUP_SIZE, arraySize(size, f)));
+	 for(int i = size; i-- != 0;) {
+	  final byte k = s.readByte();
+	  final byte v = s.readByte();
+	  insert(k, v);
+	 }
+	 if (ASSERTS) checkTable();
+	}
+	private void checkTable() {}
+}
@@ -0,0 +1,305 @@
+/*
+	* Copyright (C) 2002-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import static it.unimi.dsi.fastutil.HashCommon.murmurHash3;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.chars.CharIterator;
+/** An immutable type-specific function based on a minimal perfect hash function.
+	*
+	* <p>Instances of this class are built from a {@linkplain #MINIMAL_PERFECT_HASH_FUNCTION(MAP, int) map} or from
+	* a {@linkplain #MINIMAL_PERFECT_HASH_FUNCTION(KEY_ITERATOR, VALUE_ITERATOR, int) sequence of keys and values}
+	* that are read just once. Keys are not stored: rather, a <em>minimal perfect hash function</em>
+	* maps bijectively the keys to the positions of an array of values. The minimal perfect hash
+	* function uses the construction of Limasset, Rizk, Chikhi and Peterlongo (&ldquo;Fast and
+	* scalable minimal perfect hashing for massive key sets&rdquo;, <i>SEA 2017</i>): there is a
+	* sequence of levels, each made of a bit array containing a number of bits proportional to the
+	* number of keys that have not been placed yet; a key is placed in the first level in which its hash
+	* does not collide with that of another key, and its position is the number of bits set before its bit.
+	* The structure needs about {@value #GAMMA}&middot;<var>e</var><sup>1/{@value #GAMMA}</sup>&nbsp;&asymp;&nbsp;3.3 bits per key,
+	* plus a small overhead for ranking, whereas an {@link OPEN_HASH_MAP} needs
+	* two to three slots for keys and values per entry. The levels are built in parallel using the
+	* {@linkplain java.util.concurrent.ForkJoinPool#commonPool() common pool}.
+	*
+	* <p>Since keys are not stored, on keys that are not in the function
+	* the methods {@link #GET_VALUE(KEY_TYPE) GET_VALUE()} and {@link #containsKey(KEY_TYPE) containsKey()}
+	* return unpredictable results. Optionally, you can store a <em>fingerprint</em> of {@code b} bits
+	* for each key: in that case, on keys that are not in the function the result is correct
+	* (i.e., {@link #GET_VALUE(KEY_TYPE) GET_VALUE()} returns the {@linkplain #defaultReturnValue() default return value}
+	* and {@link #containsKey(KEY_TYPE) containsKey()} returns false) with probability
+	* 1&nbsp;&minus;&nbsp;2<sup>&minus;{@code b}</sup>.
+#if KEYS_REFERENCE
+	*
+	* <p>Keys are hashed using their {@link Object#hashCode() hashCode()}. Keys with the same hash code
+	* cannot be distinguished by a minimal perfect hash function, so they are stored, with their values,
+	* in a small {@linkplain OPEN_HASH_MAP map}: on these keys, all methods return exact results.
+	* Note that the fingerprint of a key is also derived from its hash code, so
+	* {@link #containsKey(Object) containsKey()} returns true on keys that are not in the function and
+	* have the same hash code of a key in the function.
+#endif
+	*
+	* <p>Instances of this class are immutable (albeit the {@linkplain #defaultReturnValue(VALUE_GENERIC_TYPE) default return value}
+	* can be set), and can be safely shared among threads.
+	*
+#if KEYS_REFERENCE
+	* @param <K> the type of keys.
+#endif
+#if VALUES_REFERENCE
+	* @param <V> the type of values.
+#endif
+	* @since 8.5.19
+	*/
+public class Byte2CharMinimalPerfectHashFunction extends AbstractByte2CharFunction {
+	private static final long serialVersionUID = 0L;
+	/** The ratio between the number of bits in a level and the number of keys that have not been placed yet. */
+	public static final int GAMMA = 2;
+	/** The maximum number of levels; keys that have not been placed in a level are stored in {@link #fallback}. */
+	private static final int MAX_LEVELS = 64;
+	/** The base-2 logarithm of the number of longs in a block for which we store a cumulative count. */
+	private static final int LOG2_BLOCK_WORDS = 3;
+	/** A constant used to derive different hash functions for different levels. */
+	private static final long LEVEL_SEED = 0x9E3779B97F4A7C15L;
+	/** A constant used to derive fingerprints. */
+	private static final long FINGERPRINT_SEED = 0x2545F4914F6CDD1DL;
+	/** The number of keys. */
+	private final int size;
+	/** The number of levels. */
+	private final int levels;
+	/** The starting bit of each level in {@link #bits}, plus a final element containing the overall number of bits. */
+	private final long[] offset;
+	/** The concatenation of the bit arrays of all levels. */
+	private final long[] bits;
+	/** The number of bits set in {@link #bits} before each block of 2<sup>{@value #LOG2_BLOCK_WORDS}</sup> longs. */
+	private final int[] count;
+	/** The values, indexed by the minimal perfect hash function. */
+	private final char[] value;
+	/** The number of bits of a fingerprint. */
+	private final int fingerprintBits;
+	/** The mask for a fingerprint. */
+	private final long fingerprintMask;
+	/** The fingerprints, of {@link #fingerprintBits} bits each, indexed by the minimal perfect hash function. */
+	private final long[] fingerprint;
+	/** The keys that have not been placed in a level, and their values. */
+	private final Byte2CharOpenHashMap fallback;
+	/** Creates a new minimal perfect hash function containing the entries of a given map.
+	 *
+	 * @param m a map.
+	 * @param fingerprintBits the number of bits of the fingerprint stored for each key (from 0 to 64);
+	 * a larger value implies a smaller probability of answering incorrectly on keys that are not in the function.
+	 */
+
+	public Byte2CharMinimalPerfectHashFunction(final Byte2CharMap m, final int fingerprintBits) {
+	 this(m.byte2CharEntrySet().iterator(), m.size(), fingerprintBits);
+	}
+	/** Creates a new minimal perfect hash function containing the entries returned by two parallel iterators.
+	 *
+	 * <p>The iterators are read just once. Keys must be distinct.
+	 *
+	 * @param keys an iterator returning the keys.
+	 * @param values an iterator returning the values associated with the keys returned by {@code keys}, in the same order.
+	 * @param fingerprintBits the number of bits of the fingerprint stored for each key (from 0 to 64);
+	 * a larger value implies a smaller probability of answering incorrectly on keys that are not in the function.
+	 * @throws IllegalArgumentException if the iterators return a different number of elements, or if there are duplicate keys.
+	 */
+
+	public Byte2CharMinimalPerfectHashFunction(final ByteIterator keys, final CharIterator values, final int fingerprintBits) {
+	 this(new ObjectIterator<Byte2CharMap.Entry >() {
+	  @Override
+	  public boolean hasNext() {
+	   if (keys.hasNext() != values.hasNext()) throw new IllegalArgumentException("The iterators return a different number of elements");
+	   return keys.hasNext();
+	  }
+	  @Override
+	  public Byte2CharMap.Entry next() {
+	   return new AbstractByte2CharMap.BasicEntry (keys.nextByte(), values.nextChar());
+	  }
+	 }, 16, fingerprintBits);
+	}
+	/** Creates a new minimal perfect hash function containing the entries returned by an iterator.
+	 *
+	 * @param entries an iterator on the entries.
+	 * @param expected the expected number of entries.
+	 * @param fingerprintBits the number of bits of the fingerprint stored for each key.
+	 */
+
+	private Byte2CharMinimalPerfectHashFunction(final ObjectIterator<? extends Byte2CharMap.Entry > entries, final int expected, final int fingerprintBits) {
+	 if (fingerprintBits < 0 || fingerprintBits > Long.SIZE) throw new IllegalArgumentException("Illegal number of fingerprint bits: " + fingerprintBits);
+	 this.fingerprintBits = fingerprintBits;
+	 fingerprintMask = fingerprintBits == Long.SIZE ? -1 : (1L << fingerprintBits) - 1;
+	 byte[] key = new byte[Math.max(expected, 16)];
+	 char[] value = new char[key.length];
+	 int n = 0;
+	 while(entries.hasNext()) {
+	  final Byte2CharMap.Entry e = entries.next();
+	  if (n == key.length) {
+	   if (n == it.unimi.dsi.fastutil.Arrays.MAX_ARRAY_SIZE) throw new IllegalArgumentException("Too many keys");
+	   final int length = (int)Math.min(it.unimi.dsi.fastutil.Arrays.MAX_ARRAY_SIZE, 2L * n);
+	   key = Arrays.copyOf(key, length);
+	   value = Arrays.copyOf(value, length);
+	  }
+	  key[n] = e.getByteKey();
+	  value[n++] = e.getCharValue();
+	 }
+	 size = n;
+	 final byte[] k = key;
+	 final long[] base = new long[n];
+	 IntStream.range(0, n).parallel().forEach(i -> base[i] = base(k[i]));
+	 // Build levels until all keys have been placed
+	 final long[][] levelBits = new long[MAX_LEVELS][];
+	 final long[] offset = new long[MAX_LEVELS + 1];
+	 int[] remaining = IntStream.range(0, n).toArray();
+	 int levels = 0;
+	 while(remaining.length != 0 && levels < MAX_LEVELS) {
+	  final int level = levels;
+	  final long length = Math.max(Long.SIZE, (long)GAMMA * remaining.length + Long.SIZE - 1 & -Long.SIZE);
+	  final AtomicLongArray seen = new AtomicLongArray((int)(length / Long.SIZE)), collision = new AtomicLongArray(seen.length());
+	  final int[] r = remaining;
+	  IntStream.range(0, r.length).parallel().forEach(i -> {
+	   final long p = position(base[r[i]], level, length);
+	   final long mask = 1L << p;
+	   if ((seen.getAndAccumulate((int)(p >>> 6), mask, (x, y) -> x | y) & mask) != 0) collision.getAndAccumulate((int)(p >>> 6), mask, (x, y) -> x | y);
+	  });
+	  final long[] b = new long[seen.length()];
+	  for(int w = b.length; w-- != 0;) b[w] = seen.get(w) & ~collision.get(w);
+	  remaining = IntStream.of(r).parallel().filter(i -> {
+	   final long p = position(base[i], level, length);
+	   return (b[(int)(p >>> 6)] & 1L << p) == 0;
+	  }).toArray();
+	  levelBits[levels] = b;
+	  offset[++levels] = offset[level] + length;
+	 }
+	 this.levels = levels;
+	 this.offset = Arrays.copyOf(offset, levels + 1);
+	 bits = new long[(int)(offset[levels] / Long.SIZE)];
+	 for(int l = 0; l < levels; l++) System.arraycopy(levelBits[l], 0, bits, (int)(offset[l] / Long.SIZE), levelBits[l].length);
+	 count = new int[(bits.length >>> LOG2_BLOCK_WORDS) + 1];
+	 for(int w = 0, c = 0; w < bits.length; w++) {
+	  if ((w & (1 << LOG2_BLOCK_WORDS) - 1) == 0) count[w >>> LOG2_BLOCK_WORDS] = c;
+	  c += Long.bitCount(bits[w]);
+	 }
+	 // Place values and fingerprints using the minimal perfect hash function
+	 final int placed = n - remaining.length;
+	 this.value = new char[placed];
+	 fingerprint = new long[(int)(((long)placed * fingerprintBits + Long.SIZE - 1) / Long.SIZE)];
+	 final int[] index = new int[n];
+	 IntStream.range(0, n).parallel().forEach(i -> index[i] = (int)index(base[i]));
+	 fallback = new Byte2CharOpenHashMap (remaining.length);
+	 for(int i = 0; i < n; i++) {
+	  if (index[i] >= 0) {
+	   this.value[index[i]] = value[i];
+	   if (fingerprintBits != 0) setFingerprint(index[i], fingerprint(base[i]));
+	  }
+	  else if (fallback.containsKey(key[i])) throw new IllegalArgumentException("Duplicate key: " + key[i]);
+	  else fallback.put(key[i], value[i]);
+	 }
+	 fallback.trim();
+	}
+	/** Returns the base hash of a key, from which all other hashes are derived.
+	 *
+	 * @param k a key.
+	 * @return the base hash of {@code k}.
+	 */
+	private static long base(final byte k) {
+	 return ( it.unimi.dsi.fastutil.HashCommon.mix( (long)( (k) ) ) );
+	}
+	/** Returns the position of a key in a level.
+	 *
+	 * @param base the base hash of a key.
+	 * @param level a level.
+	 * @param length the number of bits in {@code level}, at most 2<sup>32</sup>.
+	 * @return the position of the bit associated with the key in the bit array of {@code level}.
+	 */
+	private static long position(final long base, final int level, final long length) {
+	 return (murmurHash3(base + (level + 1) * LEVEL_SEED) >>> 32) * length >>> 32;
+	}
+	private long fingerprint(final long base) {
+	 return murmurHash3(base ^ FINGERPRINT_SEED) & fingerprintMask;
+	}
+	private long getFingerprint(final long index) {
+	 final long start = index * fingerprintBits;
+	 final int word = (int)(start >>> 6);
+	 final int bit = (int)(start & 63);
+	 long f = fingerprint[word] >>> bit;
+	 if (bit + fingerprintBits > Long.SIZE) f |= fingerprint[word + 1] << -bit;
+	 return f & fingerprintMask;
+	}
+	private void setFingerprint(final long index, final long f) {
+	 final long start = index * fingerprintBits;
+	 final int word = (int)(start >>> 6);
+	 final int bit = (int)(start & 63);
+	 fingerprint[word] |= f << bit;
+	 if (bit + fingerprintBits > Long.SIZE) fingerprint[word + 1] |= f >>> -bit;
+	}
+	/** Returns the number of bits set in {@link #bits} before a given position.
+	 *
+	 * @param p a bit position.
+	 * @return the number of bits set before position {@code p}.
+	 */
+	private long rank(final long p) {
+	 final int word = (int)(p >>> 6);
+	 long r = count[word >>> LOG2_BLOCK_WORDS];
+	 for(int w = word & -(1 << LOG2_BLOCK_WORDS); w < word; w++) r += Long.bitCount(bits[w]);
+	 return r + Long.bitCount(bits[word] & (1L << p) - 1);
+	}
+	/** Returns the value of the minimal perfect hash function on a key.
+	 *
+	 * @param base the base hash of a key.
+	 * @return the index of the key in {@link #value}, or &minus;1 if the key has not been placed in a level.
+	 */
+	private long index(final long base) {
+	 for(int level = 0; level < levels; level++) {
+	  final long p = offset[level] + position(base, level, offset[level + 1] - offset[level]);
+	  if ((bits[(int)(p >>> 6)] & 1L << p) != 0) return rank(p);
+	 }
+	 return -1;
+	}
+	@Override
+
+	public char get(final byte k) {
+	 final long base = base(k);
+	 final long index = index(base);
+	 if (index < 0) return fallback.getOrDefault( k, defRetValue);
+	 if (fingerprintBits != 0 && getFingerprint(index) != fingerprint(base)) return defRetValue;
+	 return value[(int)index];
+	}
+	/** {@inheritDoc}
+	 *
+	 * <p>If no fingerprints are stored, this method returns true on all keys in the function, and on most
+	 * keys that are not in the function.
+	 */
+	@Override
+	public boolean containsKey(final byte k) {
+	 final long base = base(k);
+	 final long index = index(base);
+	 if (index < 0) return fallback.containsKey(k);
+	 return fingerprintBits == 0 || getFingerprint(index) == fingerprint(base);
+	}
+	@Override
+	public int size() {
+	 return size;
+	}
+	/** Returns the number of bits used by the minimal perfect hash function.
+	 *
+	 * <p>The returned value does not include values, fingerprints and keys stored in the fallback map.
+	 *
+	 * @return the number of bits used by the minimal perfect hash function.
+	 */
+	public long numBits() {
+	 return (long)bits.length * Long.SIZE + (long)count.length * Integer.SIZE + (long)offset.length * Long.SIZE;
+	}
+}
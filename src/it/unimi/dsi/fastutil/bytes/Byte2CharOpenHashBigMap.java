@@ -0,0 +1,948 @@
+/*
+	* Copyright (C) 2002-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.BigArrays;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.Size64;
+import it.unimi.dsi.fastutil.longs.LongBigArrays;
+import static it.unimi.dsi.fastutil.HashCommon.bigArraySize;
+import static it.unimi.dsi.fastutil.HashCommon.maxFill;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.chars.CharCollection;
+import it.unimi.dsi.fastutil.chars.AbstractCharCollection;
+import it.unimi.dsi.fastutil.chars.CharIterator;
+import it.unimi.dsi.fastutil.chars.CharConsumer;
+/** A type-specific hash big map with with a fast, small-footprint implementation.
+	*
+	* <p>Instances of this class use a hash table to represent a big map: the
+	* number of elements in the map is limited only by the amount of core memory. The table is
+	* backed by {@linkplain it.unimi.dsi.fastutil.BigArrays big arrays} and is
+	* filled up to a specified <em>load factor</em>, and then doubled in size to
+	* accommodate new entries. If the table is emptied below <em>one fourth</em>
+	* of the load factor, it is halved in size; however, the table is never reduced to a
+	* size smaller than that at creation time: this approach makes it
+	* possible to create maps with a large capacity in which insertions and
+	* deletions do not cause immediately rehashing.
+	*
+	* <p>Differently from {@link OPEN_HASH_MAP}, enlarging the table is <em>incremental</em>: when the
+	* table fills up, a new table of twice the size is allocated, and the entries of the old
+	* table are moved to the new one a few at a time by each subsequent modification of the map. In the
+	* meanwhile, lookups search both tables. In this way, no single insertion has to move all entries of a
+	* map that might contain billions of them. Iteration, serialization, cloning, {@link #trim()} and shrinking
+	* complete the pending work first; you can also {@linkplain #completeRehash() complete it explicitly}.
+	*
+	* <p>The methods of the type-specific {@linkplain Size64 size-64} interface should be
+	* used in place of {@link #size()}.
+	*
+	* <p>Iterators and views are not fail-fast, and entries are returned in no particular order.
+	*
+#if KEYS_REFERENCE
+	* @param <K> the type of keys.
+#endif
+#if VALUES_REFERENCE
+	* @param <V> the type of values.
+#endif
+	* @see Hash
+	* @see it.unimi.dsi.fastutil.HashCommon
+	* @see OPEN_HASH_BIG_SET
+	*/
+public class Byte2CharOpenHashBigMap extends AbstractByte2CharMap implements java.io.Serializable, Cloneable, Hash, Size64 {
+	private static final long serialVersionUID = 0L;
+	private static final boolean ASSERTS = false;
+	/** The number of slots of the old table moved to the new one by each modification during an incremental rehash. */
+	private static final int REHASH_STEP = 64;
+	/** The big array of keys. */
+	protected transient byte[][] key;
+	/** The big array of values. */
+	protected transient char[][] value;
+	/** The mask for wrapping a position counter. */
+	protected transient long mask;
+	/** Whether this map contains the null key. */
+	protected transient boolean containsNullKey;
+	/** The value associated with the null key, if present. */
+	protected transient char nullValue;
+	/** The current table size (always a power of 2). */
+	protected transient long n;
+	/** Threshold after which we rehash. It must be the table size times {@link #f}. */
+	protected transient long maxFill;
+	/** We never resize below this threshold, which is the construction-time {#n}. */
+	protected final transient long minN;
+	/** The acceptable load factor. */
+	protected final float f;
+	/** Number of entries in the map (including the null key, if present). */
+	protected long size;
+	/** The big array of keys of the table being emptied by an incremental rehash, or {@code null}. */
+	protected transient byte[][] oldKey;
+	/** The big array of values of the table being emptied by an incremental rehash. */
+	protected transient char[][] oldValue;
+	/** The size of the table being emptied by an incremental rehash. */
+	protected transient long oldN;
+	/** A big bit vector marking the slots of the old table whose entries are no longer there;
+	 * their keys must be kept, as they might lie on the probe sequences of other keys. */
+	protected transient long[][] moved;
+	/** The next slot of the old table to be moved. */
+	protected transient long cursor;
+	/** Cached set of entries. */
+	protected transient FastEntrySet entries;
+	/** Cached set of keys. */
+	protected transient ByteSet keys;
+	/** Cached collection of values. */
+	protected transient CharCollection values;
+	/** Creates a new hash big map.
+	 *
+	 * <p>The actual table size will be the least power of two greater than {@code expected}/{@code f}.
+	 *
+	 * @param expected the expected number of elements in the map.
+	 * @param f the load factor.
+	 */
+	public Byte2CharOpenHashBigMap(final long expected, final float f) {
+	 if (f <= 0 || f >= 1) throw new IllegalArgumentException("Load factor must be greater than 0 and smaller than 1");
+	 if (expected < 0) throw new IllegalArgumentException("The expected number of elements must be nonnegative");
+	 this.f = f;
+	 minN = n = bigArraySize(expected, f);
+	 allocate(n);
+	}
+	/** Creates a new hash big map with {@link Hash#DEFAULT_LOAD_FACTOR} as load factor.
+	 *
+	 * @param expected the expected number of elements in the hash big map.
+	 */
+	public Byte2CharOpenHashBigMap(final long expected) {
+	 this(expected, DEFAULT_LOAD_FACTOR);
+	}
+	/** Creates a new hash big map with initial expected {@link Hash#DEFAULT_INITIAL_SIZE} entries
+	 * and {@link Hash#DEFAULT_LOAD_FACTOR} as load factor.
+	 */
+	public Byte2CharOpenHashBigMap() {
+	 this(DEFAULT_INITIAL_SIZE, DEFAULT_LOAD_FACTOR);
+	}
+	/** Creates a new hash big map copying a given one.
+	 *
+	 * @param m a {@link Map} to be copied into the new hash big map.
+	 * @param f the load factor.
+	 */
+	public Byte2CharOpenHashBigMap(final Map<? extends Byte, ? extends Character> m, final float f) {
+	 this(m.size(), f);
+	 putAll(m);
+	}
+	/** Creates a new hash big map with {@link Hash#DEFAULT_LOAD_FACTOR} as load factor copying a given one.
+	 *
+	 * @param m a {@link Map} to be copied into the new hash big map.
+	 */
+	public Byte2CharOpenHashBigMap(final Map<? extends Byte, ? extends Character> m) {
+	 this(m, DEFAULT_LOAD_FACTOR);
+	}
+	/** Allocates an empty table of given size and sets up the related fields.
+	 *
+	 * @param n the new table size.
+	 */
+
+	private void allocate(final long n) {
+	 this.n = n;
+	 mask = n - 1;
+	 maxFill = maxFill(n, f);
+	 key = ByteBigArrays.newBigArray(n);
+	 value = it.unimi.dsi.fastutil.chars.CharBigArrays.newBigArray(n);
+	}
+	/** Returns the position of a non-null key in a table.
+	 *
+	 * @param key the big array of keys of a table.
+	 * @param mask the mask of the table.
+	 * @param k a non-null key.
+	 * @return the position of {@code k} in the table, or &minus;<var>p</var>&nbsp;&minus;&nbsp;1, where <var>p</var>
+	 * is the position of the empty slot where the search stopped.
+	 */
+
+	private static long find(final byte[][] key, final long mask, final byte k) {
+	 final int segmentMask = key[0].length - 1;
+	 final int baseMask = key.length - 1;
+	 final long h = ( it.unimi.dsi.fastutil.HashCommon.mix( (long)( (k) ) ) );
+	 int base = (int)((h & mask) >>> BigArrays.SEGMENT_SHIFT), displ = (int)(h & segmentMask);
+	 byte curr;
+	 while(! ( (curr = key[base][displ]) == ((byte)0) )) {
+	  if (( (k) == (curr) )) return base * (long)BigArrays.SEGMENT_SIZE + displ;
+	  base = (base + ((displ = (displ + 1) & segmentMask) == 0 ? 1 : 0)) & baseMask;
+	 }
+	 return -(base * (long)BigArrays.SEGMENT_SIZE + displ) - 1;
+	}
+	/** Returns the position in the old table of a non-null key that has not been moved yet.
+	 *
+	 * @param k a non-null key.
+	 * @return the position of {@code k} in the old table, or &minus;1 if there is no old table, or {@code k} is not in the old table, or it has been moved.
+	 */
+	private long findOld(final byte k) {
+	 if (oldKey == null) return -1;
+	 final long pos = find(oldKey, oldN - 1, k);
+	 return pos < 0 || isMoved(pos) ? -1 : pos;
+	}
+	/** Returns whether the entry in a slot of the old table is no longer there.
+	 *
+	 * @param pos a slot of the old table.
+	 * @return true if the slot has already been scanned by {@link #rehashStep()}, or if its entry has been moved or removed.
+	 */
+	private boolean isMoved(final long pos) {
+	 return pos < cursor || (BigArrays.get(moved, pos >>> 6) & 1L << pos) != 0;
+	}
+	/** Marks as moved a slot of the old table.
+	 *
+	 * @param pos a slot of the old table.
+	 * @return the value in the slot.
+	 */
+	private char markMoved(final long pos) {
+	 BigArrays.set(moved, pos >>> 6, BigArrays.get(moved, pos >>> 6) | 1L << pos);
+	 final char v = BigArrays.get(oldValue, pos);
+	 return v;
+	}
+	/** Stores a key that is not in the map in a given empty slot of the current table.
+	 *
+	 * @param pos an empty slot.
+	 * @param k the key.
+	 * @param v the value.
+	 */
+	private void store(final long pos, final byte k, final char v) {
+	 BigArrays.set(key, pos, k);
+	 BigArrays.set(value, pos, v);
+	}
+	/** Inserts a new entry, moving part of the old table if an incremental rehash is in progress,
+	 * and possibly starting a new incremental rehash.
+	 *
+	 * @param pos the empty slot returned by {@link #find} for {@code k} in the current table.
+	 * @param k the key.
+	 * @param v the value.
+	 */
+	private void insert(final long pos, final byte k, final char v) {
+	 if (size >= maxFill) {
+	  // We grow before inserting, so that the old table always contains a free slot
+	  completeRehash();
+	  startRehash(2 * n);
+	  store(-find(key, mask, k) - 1, k, v);
+	 }
+	 else {
+	  store(pos, k, v);
+	  if (oldKey != null) rehashStep();
+	 }
+	 size++;
+	 if (ASSERTS) checkTable();
+	}
+	/** Starts an incremental rehash.
+	 *
+	 * @param newN the size of the new table.
+	 */
+	private void startRehash(final long newN) {
+	 oldKey = key;
+	 oldValue = value;
+	 oldN = n;
+	 cursor = 0;
+	 moved = LongBigArrays.newBigArray((oldN + Long.SIZE - 1) >>> 6);
+	 allocate(newN);
+	}
+	/** Moves a few slots of the old table to the current one. */
+	private void rehashStep() {
+	 final byte[][] oldKey = this.oldKey;
+	 final long to = Math.min(oldN, cursor + REHASH_STEP);
+	 for(long pos = cursor; pos < to; pos++) {
+	  final byte k = BigArrays.get(oldKey, pos);
+	  if (! ( (k) == ((byte)0) ) && ! isMoved(pos)) store(-find(key, mask, k) - 1, k, BigArrays.get(oldValue, pos));
+	 }
+	 if ((cursor = to) == oldN) dropOldTable();
+	}
+	/** Discards the table being emptied by an incremental rehash. */
+	private void dropOldTable() {
+	 oldKey = null;
+	 oldValue = null;
+	 moved = null;
+	}
+	/** Completes the pending incremental rehash, if any.
+	 *
+	 * <p>After a call to this method, all entries are in the current table, and lookups search a single table.
+	 */
+	public void completeRehash() {
+	 while(oldKey != null) rehashStep();
+	}
+	@Override
+	public char get(final byte k) {
+	 if (( (k) == ((byte)0) )) return containsNullKey ? nullValue : defRetValue;
+	 long pos = find(key, mask, k);
+	 if (pos >= 0) return BigArrays.get(value, pos);
+	 if (oldKey != null && (pos = findOld(k)) >= 0) return BigArrays.get(oldValue, pos);
+	 return defRetValue;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char getOrDefault(final byte k, final char defaultValue) {
+	 if (( (k) == ((byte)0) )) return containsNullKey ? nullValue : defaultValue;
+	 long pos = find(key, mask, k);
+	 if (pos >= 0) return BigArrays.get(value, pos);
+	 if (oldKey != null && (pos = findOld(k)) >= 0) return BigArrays.get(oldValue, pos);
+	 return defaultValue;
+	}
+	@Override
+	public boolean containsKey(final byte k) {
+	 if (( (k) == ((byte)0) )) return containsNullKey;
+	 return find(key, mask, k) >= 0 || oldKey != null && findOld(k) >= 0;
+	}
+	@Override
+	public char put(final byte k, final char v) {
+	 if (( (k) == ((byte)0) )) {
+	  final char oldValue = containsNullKey ? nullValue : defRetValue;
+	  if (! containsNullKey) size++;
+	  containsNullKey = true;
+	  nullValue = v;
+	  return oldValue;
+	 }
+	 final long pos = find(key, mask, k);
+	 if (pos >= 0) {
+	  final char oldValue = BigArrays.get(value, pos);
+	  BigArrays.set(value, pos, v);
+	  return oldValue;
+	 }
+	 final long oldPos = findOld(k);
+	 if (oldPos >= 0) {
+	  // We move the entry to the current table
+	  final char oldValue = markMoved(oldPos);
+	  size--;
+	  insert(-pos - 1, k, v);
+	  return oldValue;
+	 }
+	 insert(-pos - 1, k, v);
+	 return defRetValue;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char putIfAbsent(final byte k, final char v) {
+	 if (( (k) == ((byte)0) )) {
+	  if (containsNullKey) return nullValue;
+	  return put(k, v);
+	 }
+	 final long pos = find(key, mask, k);
+	 if (pos >= 0) return BigArrays.get(value, pos);
+	 final long oldPos = findOld(k);
+	 if (oldPos >= 0) return BigArrays.get(oldValue, oldPos);
+	 insert(-pos - 1, k, v);
+	 return defRetValue;
+	}
+	/** Adds an increment to value currently associated with a key.
+	 *
+	 * <p>Note that this method respects the {@linkplain #defaultReturnValue() default return value} semantics: when
+	 * called with a key that does not currently appears in the map, the key
+	 * will be associated with the default return value plus
+	 * the given increment.
+	 *
+	 * @param k the key.
+	 * @param incr the increment.
+	 * @return the old value, or the {@linkplain #defaultReturnValue() default return value} if no value was present for the given key.
+	 */
+	public char addTo(final byte k, final char incr) {
+	 final char oldValue;
+	 if (( (k) == ((byte)0) )) {
+	  oldValue = containsNullKey ? nullValue : defRetValue;
+	  if (! containsNullKey) size++;
+	  containsNullKey = true;
+	  nullValue = (char)(oldValue + incr);
+	  return oldValue;
+	 }
+	 final long pos = find(key, mask, k);
+	 if (pos >= 0) {
+	  oldValue = BigArrays.get(value, pos);
+	  BigArrays.set(value, pos, (char)(oldValue + incr));
+	  return oldValue;
+	 }
+	 final long oldPos = findOld(k);
+	 if (oldPos >= 0) {
+	  // We move the entry to the current table
+	  oldValue = markMoved(oldPos);
+	  size--;
+	 }
+	 else oldValue = defRetValue;
+	 insert(-pos - 1, k, (char)(oldValue + incr));
+	 return oldValue;
+	}
+	/** Shifts left entries with the specified hash code, starting at the specified position,
+	 * and empties the resulting free entry.
+	 *
+	 * @param pos a starting position.
+	 */
+	protected final void shiftKeys(long pos) {
+	 // Shift entries with the same hash.
+	 long last, slot;
+	 byte curr;
+	 final byte[][] key = this.key;
+	 final char[][] value = this.value;
+	 for(;;) {
+	  pos = ((last = pos) + 1) & mask;
+	  for(;;) {
+	   if (( (curr = BigArrays.get(key, pos)) == ((byte)0) )) {
+	    BigArrays.set(key, last, ((byte)0));
+	    return;
+	   }
+	   slot = ( it.unimi.dsi.fastutil.HashCommon.mix( (long)( (curr) ) ) ) & mask;
+	   if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+	   pos = (pos + 1) & mask;
+	  }
+	  BigArrays.set(key, last, curr);
+	  BigArrays.set(value, last, BigArrays.get(value, pos));
+	 }
+	}
+	/** Removes the entry at a given position of the current table (or the entry with the null key, if {@code pos} is {@link #n}).
+	 *
+	 * @param pos the position of an entry.
+	 * @return the value of the entry.
+	 */
+	private char removeEntry(final long pos) {
+	 final char oldValue;
+	 if (pos == n) {
+	  oldValue = nullValue;
+	  containsNullKey = false;
+	 }
+	 else {
+	  oldValue = BigArrays.get(value, pos);
+	  shiftKeys(pos);
+	 }
+	 size--;
+	 maybeShrink();
+	 if (ASSERTS) checkTable();
+	 return oldValue;
+	}
+	private void maybeShrink() {
+	 if (n > minN && size < maxFill / 4 && n > DEFAULT_INITIAL_SIZE) {
+	  completeRehash();
+	  rehash(n / 2);
+	 }
+	 else if (oldKey != null) rehashStep();
+	}
+	@Override
+	public char remove(final byte k) {
+	 if (( (k) == ((byte)0) )) return containsNullKey ? removeEntry(n) : defRetValue;
+	 final long pos = find(key, mask, k);
+	 if (pos >= 0) return removeEntry(pos);
+	 final long oldPos = findOld(k);
+	 return oldPos < 0 ? defRetValue : removeOldEntry(oldPos);
+	}
+	/** Removes the entry at a given position of the old table.
+	 *
+	 * @param pos the position of an entry of the old table that has not been moved yet.
+	 * @return the value of the entry.
+	 */
+	private char removeOldEntry(final long pos) {
+	 final char v = markMoved(pos);
+	 size--;
+	 maybeShrink();
+	 if (ASSERTS) checkTable();
+	 return v;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public boolean remove(final byte k, final char v) {
+	 if (( (k) == ((byte)0) )) {
+	  if (! containsNullKey || ! ( (v) == (nullValue) )) return false;
+	  removeEntry(n);
+	  return true;
+	 }
+	 final long pos = find(key, mask, k);
+	 if (pos >= 0) {
+	  if (! ( (v) == (BigArrays.get(value, pos)) )) return false;
+	  removeEntry(pos);
+	  return true;
+	 }
+	 final long oldPos = findOld(k);
+	 if (oldPos < 0 || ! ( (v) == (BigArrays.get(oldValue, oldPos)) )) return false;
+	 removeOldEntry(oldPos);
+	 return true;
+	}
+	@Override
+	public boolean containsValue(final char v) {
+	 if (containsNullKey && ( (nullValue) == (v) )) return true;
+	 for(long pos = n; pos-- != 0;) if (! ( (BigArrays.get(key, pos)) == ((byte)0) ) && ( (BigArrays.get(value, pos)) == (v) )) return true;
+	 if (oldKey != null)
+	  for(long pos = oldN; pos-- != cursor;) if (! ( (BigArrays.get(oldKey, pos)) == ((byte)0) ) && ! isMoved(pos) && ( (BigArrays.get(oldValue, pos)) == (v) )) return true;
+	 return false;
+	}
+	/** {@inheritDoc}
+	 *
+	 * <p>To increase object reuse, this method does not change the table size.
+	 * If you want to reduce the table size, you must use {@link #trim(long)}.
+	 */
+	@Override
+	public void clear() {
+	 dropOldTable();
+	 if (size == 0) return;
+	 size = 0;
+	 containsNullKey = false;
+	 BigArrays.fill(key, ((byte)0));
+	}
+	@Deprecated
+	@Override
+	public int size() {
+	 return (int)Math.min(Integer.MAX_VALUE, size);
+	}
+	@Override
+	public long size64() {
+	 return size;
+	}
+	@Override
+	public boolean isEmpty() {
+	 return size == 0;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public void forEach(final it.unimi.dsi.fastutil.bytes.ByteCharBiConsumer consumer) {
+	 completeRehash();
+	 if (containsNullKey) consumer.accept(((byte)0), nullValue);
+	 final byte[][] key = this.key;
+	 final char[][] value = this.value;
+	 for(int base = key.length; base-- != 0;) {
+	  final byte[] k = key[base];
+	  final char[] v = value[base];
+	  for(int displ = k.length; displ-- != 0;) if (! ( (k[displ]) == ((byte)0) )) consumer.accept(k[displ], v[displ]);
+	 }
+	}
+	/** The entry class for a hash big map does not record key and value, but
+	 * rather the position in the hash table of the corresponding entry. This
+	 * is necessary so that calls to {@link java.util.Map.Entry#setValue(Object)} are reflected in
+	 * the map */
+	final class MapEntry implements Byte2CharMap.Entry , Map.Entry<Byte, Character> {
+	 // The table index this entry refers to, or -1 if this entry has been deleted.
+	 long index;
+	 MapEntry(final long index) {
+	  this.index = index;
+	 }
+	 MapEntry() {}
+	 @Override
+	 public byte getByteKey() {
+	  return index == n ? ((byte)0) : BigArrays.get(key, index);
+	 }
+	 @Override
+	 public char getCharValue() {
+	  return index == n ? nullValue : BigArrays.get(value, index);
+	 }
+	 @Override
+	 public char setValue(final char v) {
+	  final char oldValue = getCharValue();
+	  if (index == n) nullValue = v;
+	  else BigArrays.set(value, index, v);
+	  return oldValue;
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Byte getKey() {
+	  return Byte.valueOf(getByteKey());
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Character getValue() {
+	  return Character.valueOf(getCharValue());
+	 }
+	 /** {@inheritDoc}
+		 * @deprecated Please use the corresponding type-specific method instead. */
+	 @Deprecated
+	 @Override
+	 public Character setValue(final Character v) {
+	  return Character.valueOf(setValue((v).charValue()));
+	 }
+	 @SuppressWarnings("unchecked")
+	 @Override
+	 public boolean equals(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  Map.Entry<Byte, Character> e = (Map.Entry<Byte, Character>)o;
+	  return ( (getByteKey()) == ((e.getKey()).byteValue()) ) && ( (getCharValue()) == ((e.getValue()).charValue()) );
+	 }
+	 @Override
+	 public int hashCode() {
+	  return (getByteKey()) ^ (getCharValue());
+	 }
+	 @Override
+	 public String toString() {
+	  return getByteKey() + "=>" + getCharValue();
+	 }
+	}
+	/** An iterator over a hash big map. */
+	private abstract class MapIterator<ConsumerType> {
+	 /** The index of the last entry returned, if positive or zero; initially, {@link #n}. If negative, the last
+			entry returned was that of the key of index {@code - pos - 1} from the {@link #wrapped} list. */
+	 long pos;
+	 /** The index of the last entry that has been returned (more precisely, the value of {@link #pos} if {@link #pos} is positive,
+			or {@link Long#MIN_VALUE} if {@link #pos} is negative). It is -1 if either
+			we did not return an entry yet, or the last returned entry has been removed. */
+	 long last = -1;
+	 /** A downward counter measuring how many entries must still be returned. */
+	 long c;
+	 /** A boolean telling us whether we should return the entry with the null key. */
+	 boolean mustReturnNullKey;
+	 /** A lazily allocated list containing keys of entries that have wrapped around the table because of removals. */
+	 ByteArrayList wrapped;
+	 MapIterator() {
+	  completeRehash();
+	  pos = n;
+	  c = size;
+	  mustReturnNullKey = containsNullKey;
+	 }
+	 @SuppressWarnings("unused")
+	 abstract void acceptOnIndex(final ConsumerType action, final long index);
+	 public boolean hasNext() {
+	  return c != 0;
+	 }
+	 public long nextEntry() {
+	  if (! hasNext()) throw new NoSuchElementException();
+	  c--;
+	  if (mustReturnNullKey) {
+	   mustReturnNullKey = false;
+	   return last = n;
+	  }
+	  final byte key[][] = Byte2CharOpenHashBigMap.this.key;
+	  for(;;) {
+	   if (--pos < 0) {
+	    // We are just enumerating elements from the wrapped list.
+	    last = Long.MIN_VALUE;
+	    return find(key, mask, wrapped.getByte((int)(- pos - 1)));
+	   }
+	   if (! ( (BigArrays.get(key, pos)) == ((byte)0) )) return last = pos;
+	  }
+	 }
+	 public void forEachRemaining(final ConsumerType action) {
+	  while (c != 0) acceptOnIndex(action, nextEntry());
+	 }
+	 /** Shifts left entries with the specified hash code, starting at the specified position,
+		 * and empties the resulting free entry.
+		 *
+		 * @param pos a starting position.
+		 */
+	 private void shiftKeys(long pos) {
+	  // Shift entries with the same hash.
+	  long last, slot;
+	  byte curr;
+	  final byte[][] key = Byte2CharOpenHashBigMap.this.key;
+	  final char[][] value = Byte2CharOpenHashBigMap.this.value;
+	  for(;;) {
+	   pos = ((last = pos) + 1) & mask;
+	   for(;;) {
+	    if (( (curr = BigArrays.get(key, pos)) == ((byte)0) )) {
+	     BigArrays.set(key, last, ((byte)0));
+	     return;
+	    }
+	    slot = ( it.unimi.dsi.fastutil.HashCommon.mix( (long)( (curr) ) ) ) & mask;
+	    if (last <= pos ? last >= slot || slot > pos : last >= slot && slot > pos) break;
+	    pos = (pos + 1) & mask;
+	   }
+	   if (pos < last) { // Wrapped entry.
+	    if (wrapped == null) wrapped = new ByteArrayList (2);
+	    wrapped.add(curr);
+	   }
+	   BigArrays.set(key, last, curr);
+	   BigArrays.set(value, last, BigArrays.get(value, pos));
+	  }
+	 }
+	 public void remove() {
+	  if (last == -1) throw new IllegalStateException();
+	  if (last == n) {
+	   containsNullKey = false;
+	  }
+	  else if (pos >= 0) shiftKeys(last);
+	  else {
+	   // We're removing wrapped entries.
+	   Byte2CharOpenHashBigMap.this.remove(wrapped.getByte((int)(- pos - 1)));
+	   last = -1; // Note that we must not decrement size
+	   return;
+	  }
+	  size--;
+	  last = -1; // You can no longer remove this entry.
+	  if (ASSERTS) checkTable();
+	 }
+	 public int skip(final int n) {
+	  int i = n;
+	  while(i-- != 0 && hasNext()) nextEntry();
+	  return n - i - 1;
+	 }
+	}
+	private final class EntryIterator extends MapIterator<Consumer<? super Byte2CharMap.Entry >> implements ObjectIterator<Byte2CharMap.Entry > {
+	 private MapEntry entry;
+	 @Override
+	 public MapEntry next() {
+	  return entry = new MapEntry(nextEntry());
+	 }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 @Override
+	 final void acceptOnIndex(final Consumer<? super Byte2CharMap.Entry > action, final long index) {
+	  action.accept(entry = new MapEntry(index));
+	 }
+	 @Override
+	 public void remove() {
+	  super.remove();
+	  entry.index = -1; // You cannot use a deleted entry.
+	 }
+	}
+	private final class FastEntryIterator extends MapIterator<Consumer<? super Byte2CharMap.Entry >> implements ObjectIterator<Byte2CharMap.Entry > {
+	 private final MapEntry entry = new MapEntry();
+	 @Override
+	 public MapEntry next() {
+	  entry.index = nextEntry();
+	  return entry;
+	 }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 @Override
+	 final void acceptOnIndex(final Consumer<? super Byte2CharMap.Entry > action, final long index) {
+	  entry.index = index;
+	  action.accept(entry);
+	 }
+	}
+	private final class MapEntrySet extends AbstractObjectSet<Byte2CharMap.Entry > implements FastEntrySet , Size64 {
+	 @Override
+	 public ObjectIterator<Byte2CharMap.Entry > iterator() { return new EntryIterator(); }
+	 @Override
+	 public ObjectIterator<Byte2CharMap.Entry > fastIterator() { return new FastEntryIterator(); }
+	 @Override
+	
+	 public boolean contains(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  final Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+	  if (e.getKey() == null || ! (e.getKey() instanceof Byte)) return false;
+	  if (e.getValue() == null || ! (e.getValue() instanceof Character)) return false;
+	  final byte k = ((Byte)( e.getKey())).byteValue();
+	  final char v = ((Character)( e.getValue())).charValue();
+	  return containsKey(k) && ( (get(k)) == (v) );
+	 }
+	 @Override
+	
+	 public boolean remove(final Object o) {
+	  if (!(o instanceof Map.Entry)) return false;
+	  final Map.Entry<?,?> e = (Map.Entry<?,?>)o;
+	  if (e.getKey() == null || ! (e.getKey() instanceof Byte)) return false;
+	  if (e.getValue() == null || ! (e.getValue() instanceof Character)) return false;
+	  return Byte2CharOpenHashBigMap.this.remove(((Byte)( e.getKey())).byteValue(), ((Character)( e.getValue())).charValue());
+	 }
+	 @Deprecated
+	 @Override
+	 public int size() {
+	  return Byte2CharOpenHashBigMap.this.size();
+	 }
+	 @Override
+	 public long size64() {
+	  return size;
+	 }
+	 @Override
+	 public void clear() {
+	  Byte2CharOpenHashBigMap.this.clear();
+	 }
+	}
+	@Override
+	public FastEntrySet byte2CharEntrySet() {
+	 if (entries == null) entries = new MapEntrySet();
+	 return entries;
+	}
+	/** An iterator on keys.
+	 *
+	 * <p>We simply override the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods
+	 * (and possibly their type-specific counterparts) so that they return keys
+	 * instead of entries.
+	 */
+	private final class KeyIterator extends MapIterator<ByteConsumer > implements ByteIterator {
+	 public KeyIterator() { super(); }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 // Despite the superclass declared with generics, the way Java inherits and generates bridge methods avoids the boxing/unboxing
+	 @Override
+	 final void acceptOnIndex(final ByteConsumer action, final long index) {
+	  action.accept(index == n ? ((byte)0) : BigArrays.get(key, index));
+	 }
+	 @Override
+	 public byte nextByte() {
+	  final long index = nextEntry();
+	  return index == n ? ((byte)0) : BigArrays.get(key, index);
+	 }
+	}
+	private final class KeySet extends AbstractByteSet implements Size64 {
+	 @Override
+	 public ByteIterator iterator() { return new KeyIterator(); }
+	 @Deprecated
+	 @Override
+	 public int size() { return Byte2CharOpenHashBigMap.this.size(); }
+	 @Override
+	 public long size64() { return size; }
+	 @Override
+	 public boolean contains(byte k) { return containsKey(k); }
+	 @Override
+	 public boolean remove(byte k) {
+	  if (! containsKey(k)) return false;
+	  remove(k);
+	  return true;
+	 }
+	 @Override
+	 public void clear() { Byte2CharOpenHashBigMap.this.clear();}
+	}
+	@Override
+	public ByteSet keySet() {
+	 if (keys == null) keys = new KeySet();
+	 return keys;
+	}
+	/** An iterator on values.
+	 *
+	 * <p>We simply override the {@link java.util.ListIterator#next()}/{@link java.util.ListIterator#previous()} methods
+	 * (and possibly their type-specific counterparts) so that they return values
+	 * instead of entries.
+	 */
+	private final class ValueIterator extends MapIterator<CharConsumer > implements CharIterator {
+	 public ValueIterator() { super(); }
+	 // forEachRemaining inherited from MapIterator superclass.
+	 // Despite the superclass declared with generics, the way Java inherits and generates bridge methods avoids the boxing/unboxing
+	 @Override
+	 final void acceptOnIndex(final CharConsumer action, final long index) {
+	  action.accept(index == n ? nullValue : BigArrays.get(value, index));
+	 }
+	 @Override
+	 public char nextChar() {
+	  final long index = nextEntry();
+	  return index == n ? nullValue : BigArrays.get(value, index);
+	 }
+	}
+	private final class ValueCollection extends AbstractCharCollection implements Size64 {
+	 @Override
+	 public CharIterator iterator() { return new ValueIterator(); }
+	 @Deprecated
+	 @Override
+	 public int size() { return Byte2CharOpenHashBigMap.this.size(); }
+	 @Override
+	 public long size64() { return size; }
+	 @Override
+	 public boolean contains(char v) { return containsValue(v); }
+	 @Override
+	 public void clear() { Byte2CharOpenHashBigMap.this.clear(); }
+	}
+	@Override
+	public CharCollection values() {
+	 if (values == null) values = new ValueCollection();
+	 return values;
+	}
+	/** Rehashes this map, making the table as small as possible.
+	 *
+	 * <p>This method rehashes the table to the smallest size satisfying the
+	 * load factor. It can be used when the map will not be changed anymore, so
+	 * to optimize access speed and size.
+	 *
+	 * <p>If the table size is already the minimum possible, this method
+	 * does nothing.
+	 *
+	 * @return true if there was enough memory to trim the map.
+	 * @see #trim(long)
+	 */
+	public boolean trim() {
+	 return trim(size);
+	}
+	/** Rehashes this map if the table is too large.
+	 *
+	 * <p>Let <var>N</var> be the smallest table size that can hold
+	 * <code>max(n,{@link #size64()})</code> entries, still satisfying the load factor. If the current
+	 * table size is smaller than or equal to <var>N</var>, this method does
+	 * nothing. Otherwise, it rehashes this map in a table of size
+	 * <var>N</var>.
+	 *
+	 * <p>This method is useful when reusing maps.  {@linkplain #clear() Clearing a
+	 * map} leaves the table size untouched. If you are reusing a map
+	 * many times, you can call this method with a typical
+	 * size to avoid keeping around a very large table just
+	 * because of a few large transient maps.
+	 *
+	 * @param n the threshold for the trimming.
+	 * @return true if there was enough memory to trim the map.
+	 * @see #trim()
+	 */
+	public boolean trim(final long n) {
+	 completeRehash();
+	 final long l = bigArraySize(n, f);
+	 if (l >= this.n || size > maxFill(l, f)) return true;
+	 try {
+	  rehash(l);
+	 }
+	 catch(OutOfMemoryError cantDoIt) { return false; }
+	 return true;
+	}
+	/** Rehashes the map in a single step.
+	 *
+	 * <p>This method must not be called while an incremental rehash is in progress.
+	 *
+	 * @param newN the new size
+	 */
+	protected void rehash(final long newN) {
+	 final byte[][] key = this.key;
+	 final char[][] value = this.value;
+	 final long n = this.n;
+	 allocate(newN);
+	 for(long pos = n; pos-- != 0;) {
+	  final byte k = BigArrays.get(key, pos);
+	  if (! ( (k) == ((byte)0) )) store(-find(this.key, mask, k) - 1, k, BigArrays.get(value, pos));
+	 }
+	}
+	/** Returns a deep copy of this map.
+	 *
+	 * <p>This method performs a deep copy of this hash big map; the data stored in the
+	 * map, however, is not cloned. Note that this makes a difference only for object keys.
+	 *
+	 *  @return a deep copy of this map.
+	 */
+	@Override
+
+	public Byte2CharOpenHashBigMap clone() {
+	 completeRehash();
+	 Byte2CharOpenHashBigMap c;
+	 try {
+	  c = (Byte2CharOpenHashBigMap )super.clone();
+	 }
+	 catch(CloneNotSupportedException cantHappen) {
+	  throw new InternalError();
+	 }
+	 c.keys = null;
+	 c.values = null;
+	 c.entries = null;
+	 c.key = BigArrays.copy(key);
+	 c.value = BigArrays.copy(value);
+	 return c;
+	}
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 completeRehash();
+	 s.defaultWriteObject();
+	 if (containsNullKey) {
+	  s.writeByte(((byte)0));
+	  s.writeChar(nullValue);
+	 }
+	 for(long pos = n; pos-- != 0;) {
+	  final byte k = BigArrays.get(key, pos);
+	  if (! ( (k) == ((byte)0) )) {
+	   s.writeByte(k);
+	   s.writeChar(BigArrays.get(value, pos));
+	  }
+	 }
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+	 s.defaultReadObject();
+	 allocate(bigArraySize(size, f));
+	 for(long i = size; i-- != 0;) {
+	  final byte k = s.readByte();
+	  final char v = s.readChar();
+	  if (( (k) == ((byte)0) )) {
+	   containsNullKey = true;
+	   nullValue = v;
+	  }
+	  else store(-find(key, mask, k) - 1, k, v);
+	 }
+	 if (ASSERTS) checkTable();
+	}
+	private void checkTable() {}
+}
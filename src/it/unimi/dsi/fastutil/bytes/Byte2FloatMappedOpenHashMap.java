@@ -0,0 +1,373 @@
+/*
+	* Copyright (C) 2002-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.Size64;
+import static it.unimi.dsi.fastutil.HashCommon.bigArraySize;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.NoSuchElementException;
+import it.unimi.dsi.fastutil.objects.AbstractObjectSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+import it.unimi.dsi.fastutil.floats.FloatCollection;
+import it.unimi.dsi.fastutil.floats.AbstractFloatCollection;
+import it.unimi.dsi.fastutil.floats.FloatIterator;
+/** A read-only type-specific hash map whose table is memory-mapped from a file.
+	*
+	* <p>The static method {@link #store(MAP, FileChannel, ByteOrder, float) store()} freezes
+	* a type-specific map (e.g., an {@link OPEN_HASH_MAP}) into a file containing
+	* the same hash table used by {@link OPEN_HASH_MAP}. The file can then be {@linkplain #map(FileChannel) mapped}
+	* in constant time, and lookups happen directly on the mapping, without any deserialization: thus,
+	* opening a map of any size is instantaneous, only the pages of the table that are actually accessed are loaded
+	* into memory, and the same pages are shared by all processes mapping the same file.
+	*
+	* <p>Java's {@linkplain FileChannel#map(MapMode, long, long) memory-mapping facilities}
+	* map at most {@link Integer#MAX_VALUE} bytes, so, as in {@link MAPPED_BIG_LIST}, the table is mapped using
+	* an array of buffers, each mapping a <em>chunk</em> of 2<sup>{@value #CHUNK_SHIFT}</sup> slots, and positions
+	* are {@code long}s. Thus, a map can contain more than 2<sup>31</sup> entries (see {@link #size64()}).
+	*
+	* <p>The file is written in a specified byte order, which is detected automatically when mapping the file:
+	* storing the map in {@linkplain ByteOrder#nativeOrder() native order} (the default) will enhance
+	* performance significantly. Mapping a file written for a map with different key or value types
+	* will throw an {@link IOException}.
+	*
+	* <p>Instances of this class are immutable (albeit the {@linkplain #defaultReturnValue(VALUE_TYPE) default return value}
+	* can be set), and they can be safely read by multiple threads. The views returned by {@link #ENTRYSET()},
+	* {@link #keySet()} and {@link #values()} are read-only, too.
+	*
+	* @see OPEN_HASH_MAP
+	* @see MAPPED_BIG_LIST
+	* @since 8.5.19
+	*/
+public class Byte2FloatMappedOpenHashMap extends AbstractByte2FloatMap implements Hash, Size64 {
+	private static final long serialVersionUID = 0L;
+	/** The magic number at the start of a file. */
+	private static final long MAGIC = 0x46554D4150484D31L;
+	/** A signature for the key and value types. */
+	private static final long TYPES = (long)Byte.class.getSimpleName().hashCode() << 32 | Float.class.getSimpleName().hashCode() & 0xFFFFFFFFL;
+	/** The length in bytes of the header of a file. */
+	private static final int HEADER_SIZE = 64;
+	/** The base-2 logarithm of the number of slots in a chunk. */
+	public static final int CHUNK_SHIFT = 27;
+	/** The number of slots in a chunk. */
+	private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+	/** The mask to retrieve a position in a chunk. */
+	private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+	/** The chunks of the array of keys. */
+	private final transient ByteBuffer[] key;
+	/** The chunks of the array of values; the value associated with the key zero, if present, is at position {@link #n}. */
+	private final transient FloatBuffer[] value;
+	/** The mask for wrapping a position counter. */
+	private final long mask;
+	/** Whether this map contains the key zero. */
+	private final boolean containsNullKey;
+	/** The table size. */
+	private final long n;
+	/** Number of entries in the map (including the key zero, if present). */
+	private final long size;
+	/** Creates a new mapped hash map.
+	 *
+	 * @param key the chunks of the array of keys.
+	 * @param value the chunks of the array of values.
+	 * @param n the table size.
+	 * @param size the number of entries.
+	 * @param containsNullKey whether the map contains the key zero.
+	 */
+	protected Byte2FloatMappedOpenHashMap(final ByteBuffer[] key, final FloatBuffer[] value, final long n, final long size, final boolean containsNullKey) {
+	 this.key = key;
+	 this.value = value;
+	 this.n = n;
+	 this.mask = n - 1;
+	 this.size = size;
+	 this.containsNullKey = containsNullKey;
+	}
+	/** Maps a region of a file channel in chunks.
+	 *
+	 * @param fileChannel a file channel.
+	 * @param mapMode the mapping mode.
+	 * @param offset the starting position of the region.
+	 * @param length the length of the region in slots.
+	 * @param bytes the number of bytes in a slot.
+	 * @return the chunks mapping the region.
+	 */
+	private static MappedByteBuffer[] map(final FileChannel fileChannel, final MapMode mapMode, final long offset, final long length, final int bytes) throws IOException {
+	 final MappedByteBuffer[] chunk = new MappedByteBuffer[(int)((length + CHUNK_SIZE - 1) >>> CHUNK_SHIFT)];
+	 for(int i = 0; i < chunk.length; i++) chunk[i] = fileChannel.map(mapMode, offset + ((long)i << CHUNK_SHIFT) * bytes, Math.min(CHUNK_SIZE, length - ((long)i << CHUNK_SHIFT)) * bytes);
+	 return chunk;
+	}
+	private static ByteBuffer[] keyBuffers(final ByteBuffer[] chunk, final ByteOrder byteOrder) {
+	 final ByteBuffer[] key = new ByteBuffer[chunk.length];
+	 for(int i = 0; i < chunk.length; i++) key[i] = chunk[i];
+	 return key;
+	}
+	private static FloatBuffer[] valueBuffers(final ByteBuffer[] chunk, final ByteOrder byteOrder) {
+	 final FloatBuffer[] value = new FloatBuffer[chunk.length];
+	 for(int i = 0; i < chunk.length; i++) value[i] = chunk[i].order(byteOrder).asFloatBuffer();
+	 return value;
+	}
+	/** Returns the offset of the array of values in a file.
+	 *
+	 * @param n the table size.
+	 * @return the offset of the array of values, which is aligned to a multiple of eight bytes.
+	 */
+	private static long valueOffset(final long n) {
+	 return HEADER_SIZE + ((n + 1) * Byte.BYTES + 7 & -8);
+	}
+	/** Stores a map in a file, using {@link Hash#DEFAULT_LOAD_FACTOR} as load factor and native byte order, so that it can be {@linkplain #map(FileChannel) mapped} later.
+	 *
+	 * @param m a map.
+	 * @param fileChannel a file channel open for reading and writing.
+	 * @see #store(MAP, FileChannel, ByteOrder, float)
+	 */
+	public static void store(final Byte2FloatMap m, final FileChannel fileChannel) throws IOException {
+	 store(m, fileChannel, ByteOrder.nativeOrder(), DEFAULT_LOAD_FACTOR);
+	}
+	/** Stores a map in a file, so that it can be {@linkplain #map(FileChannel) mapped} later.
+	 *
+	 * <p>The previous content of the file is discarded. The hash table is built directly in a
+	 * read-write mapping of the file, so this method does not need additional memory.
+	 *
+	 * @param m a map.
+	 * @param fileChannel a file channel open for reading and writing.
+	 * @param byteOrder the byte order of the file.
+	 * @param f the load factor of the stored hash table.
+	 */
+	public static void store(final Byte2FloatMap m, final FileChannel fileChannel, final ByteOrder byteOrder, final float f) throws IOException {
+	 if (f <= 0 || f >= 1) throw new IllegalArgumentException("Load factor must be greater than 0 and smaller than 1");
+	 final long size = m instanceof Size64 ? ((Size64)m).size64() : m.size();
+	 final long n = bigArraySize(size, f);
+	 final long mask = n - 1;
+	 final boolean containsNullKey = m.containsKey(((byte)0));
+	 fileChannel.truncate(0);
+	 final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(byteOrder);
+	 header.putLong(MAGIC).putLong(TYPES).putLong(size).putLong(n).putLong(containsNullKey ? 1 : 0);
+	 header.clear();
+	 while(header.hasRemaining()) fileChannel.write(header, header.position());
+	 final MappedByteBuffer[] keyChunk = map(fileChannel, MapMode.READ_WRITE, HEADER_SIZE, n + 1, Byte.BYTES);
+	 final MappedByteBuffer[] valueChunk = map(fileChannel, MapMode.READ_WRITE, valueOffset(n), n + 1, Float.BYTES);
+	 final ByteBuffer[] key = keyBuffers(keyChunk, byteOrder);
+	 final FloatBuffer[] value = valueBuffers(valueChunk, byteOrder);
+	 if (containsNullKey) value[(int)(n >>> CHUNK_SHIFT)].put((int)n & CHUNK_MASK, m.get(((byte)0)));
+	 m.forEach((final byte k, final float v) -> {
+	  if (( (k) == ((byte)0) )) return;
+	  long pos = ( it.unimi.dsi.fastutil.HashCommon.mix( (long)( (k) ) ) ) & mask;
+	  // There's always an unused entry.
+	  while(! ( (key[(int)(pos >>> CHUNK_SHIFT)].get((int)pos & CHUNK_MASK)) == ((byte)0) )) pos = (pos + 1) & mask;
+	  key[(int)(pos >>> CHUNK_SHIFT)].put((int)pos & CHUNK_MASK, k);
+	  value[(int)(pos >>> CHUNK_SHIFT)].put((int)pos & CHUNK_MASK, v);
+	 });
+	 for(final MappedByteBuffer b : keyChunk) b.force();
+	 for(final MappedByteBuffer b : valueChunk) b.force();
+	}
+	/** Maps a file written by {@link #store(MAP, FileChannel, ByteOrder, float) store()}.
+	 *
+	 * <p>This method takes constant time (more precisely, time proportional to the number of chunks),
+	 * as the table is not read.
+	 *
+	 * @param fileChannel a file channel.
+	 * @return a new read-only map over the contents of {@code fileChannel}.
+	 * @throws IOException if an I/O error occurs, or if the file was not written by this class.
+	 */
+	public static Byte2FloatMappedOpenHashMap map(final FileChannel fileChannel) throws IOException {
+	 final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+	 while(header.hasRemaining()) if (fileChannel.read(header, header.position()) == -1) throw new IOException("Truncated file");
+	 final long magic = header.getLong(0);
+	 final ByteOrder byteOrder;
+	 if (magic == MAGIC) byteOrder = ByteOrder.BIG_ENDIAN;
+	 else if (magic == Long.reverseBytes(MAGIC)) byteOrder = ByteOrder.LITTLE_ENDIAN;
+	 else throw new IOException("The file does not contain a mapped hash map");
+	 header.order(byteOrder);
+	 if (header.getLong(8) != TYPES) throw new IOException("The file contains a mapped hash map with different key or value types");
+	 final long size = header.getLong(16);
+	 final long n = header.getLong(24);
+	 final boolean containsNullKey = header.getLong(32) != 0;
+	 if (fileChannel.size() < valueOffset(n) + (n + 1) * Float.BYTES) throw new IOException("Truncated file");
+	 return new Byte2FloatMappedOpenHashMap(
+	   keyBuffers(map(fileChannel, MapMode.READ_ONLY, HEADER_SIZE, n + 1, Byte.BYTES), byteOrder),
+	   valueBuffers(map(fileChannel, MapMode.READ_ONLY, valueOffset(n), n + 1, Float.BYTES), byteOrder),
+	   n, size, containsNullKey);
+	}
+	private byte keyAt(final long pos) {
+	 return key[(int)(pos >>> CHUNK_SHIFT)].get((int)pos & CHUNK_MASK);
+	}
+	private float valueAt(final long pos) {
+	 return value[(int)(pos >>> CHUNK_SHIFT)].get((int)pos & CHUNK_MASK);
+	}
+	/** Returns the position of a nonzero key.
+	 *
+	 * @param k a nonzero key.
+	 * @return the position of {@code k}, or &minus;1.
+	 */
+	private long find(final byte k) {
+	 byte curr;
+	 long pos = ( it.unimi.dsi.fastutil.HashCommon.mix( (long)( (k) ) ) ) & mask;
+	 // There's always an unused entry.
+	 while(! ( (curr = keyAt(pos)) == ((byte)0) )) {
+	  if (( (k) == (curr) )) return pos;
+	  pos = (pos + 1) & mask;
+	 }
+	 return -1;
+	}
+	@Override
+	public float get(final byte k) {
+	 if (( (k) == ((byte)0) )) return containsNullKey ? valueAt(n) : defRetValue;
+	 final long pos = find(k);
+	 return pos < 0 ? defRetValue : valueAt(pos);
+	}
+	/** {@inheritDoc} */
+	@Override
+	public float getOrDefault(final byte k, final float defaultValue) {
+	 if (( (k) == ((byte)0) )) return containsNullKey ? valueAt(n) : defaultValue;
+	 final long pos = find(k);
+	 return pos < 0 ? defaultValue : valueAt(pos);
+	}
+	@Override
+	public boolean containsKey(final byte k) {
+	 if (( (k) == ((byte)0) )) return containsNullKey;
+	 return find(k) >= 0;
+	}
+	@Override
+	public boolean containsValue(final float v) {
+	 if (containsNullKey && ( Float.floatToRawIntBits(valueAt(n)) == Float.floatToRawIntBits(v) )) return true;
+	 for(long pos = n; pos-- != 0;) if (! ( (keyAt(pos)) == ((byte)0) ) && ( Float.floatToRawIntBits(valueAt(pos)) == Float.floatToRawIntBits(v) )) return true;
+	 return false;
+	}
+	/** {@inheritDoc} */
+	@Override
+	public void forEach(final it.unimi.dsi.fastutil.bytes.ByteFloatBiConsumer consumer) {
+	 if (containsNullKey) consumer.accept(((byte)0), valueAt(n));
+	 for(long pos = n; pos-- != 0;) {
+	  final byte k = keyAt(pos);
+	  if (! ( (k) == ((byte)0) )) consumer.accept(k, valueAt(pos));
+	 }
+	}
+	/** {@inheritDoc}
+	 * @deprecated Please use {@link #size64()} instead. */
+	@Deprecated
+	@Override
+	public int size() {
+	 return (int)Math.min(Integer.MAX_VALUE, size);
+	}
+	@Override
+	public long size64() {
+	 return size;
+	}
+	@Override
+	public boolean isEmpty() {
+	 return size == 0;
+	}
+	/** An iterator over the positions of a mapped map. */
+	private abstract class MapIterator {
+	 /** The position of the next entry to be returned, or {@link #n} for the key zero. */
+	 long pos = n;
+	 /** A downward counter measuring how many entries must still be returned. */
+	 long c = size;
+	 /** A boolean telling us whether we should return the entry with the null key. */
+	 boolean mustReturnNullKey = containsNullKey;
+	 public boolean hasNext() {
+	  return c != 0;
+	 }
+	 /** Returns the position of the next entry, or {@link #n} for the key zero. */
+	 long nextEntry() {
+	  if (! hasNext()) throw new NoSuchElementException();
+	  c--;
+	  if (mustReturnNullKey) {
+	   mustReturnNullKey = false;
+	   return n;
+	  }
+	  while(( (keyAt(--pos)) == ((byte)0) ));
+	  return pos;
+	 }
+	 byte keyOf(final long pos) {
+	  return pos == n ? ((byte)0) : keyAt(pos);
+	 }
+	}
+	private final class EntryIterator extends MapIterator implements ObjectIterator<Byte2FloatMap.Entry> {
+	 @Override
+	 public Byte2FloatMap.Entry next() {
+	  final long pos = nextEntry();
+	  return new AbstractByte2FloatMap.BasicEntry(keyOf(pos), valueAt(pos));
+	 }
+	}
+	/** {@inheritDoc}
+	 *
+	 * <p>The returned set is read-only, and its entries are immutable.
+	 */
+	@Override
+	public ObjectSet<Byte2FloatMap.Entry> byte2FloatEntrySet() {
+	 return new AbstractObjectSet<Byte2FloatMap.Entry>() {
+	  @Override
+	  public ObjectIterator<Byte2FloatMap.Entry> iterator() { return new EntryIterator(); }
+	  @Override
+	  public boolean contains(final Object o) {
+	   if (!(o instanceof java.util.Map.Entry)) return false;
+	   final java.util.Map.Entry<?,?> e = (java.util.Map.Entry<?,?>)o;
+	   if (! (e.getKey() instanceof Byte) || ! (e.getValue() instanceof Float)) return false;
+	   final byte k = ((Byte)e.getKey()).byteValue();
+	   return containsKey(k) && ( Float.floatToRawIntBits(get(k)) == Float.floatToRawIntBits(((Float)e.getValue()).floatValue()) );
+	  }
+	  @Override
+	  public int size() { return Byte2FloatMappedOpenHashMap.this.size(); }
+	 };
+	}
+	private final class KeyIterator extends MapIterator implements ByteIterator {
+	 @Override
+	 public byte nextByte() { return keyOf(nextEntry()); }
+	}
+	/** {@inheritDoc}
+	 *
+	 * <p>The returned set is read-only.
+	 */
+	@Override
+	public ByteSet keySet() {
+	 return new AbstractByteSet() {
+	  @Override
+	  public ByteIterator iterator() { return new KeyIterator(); }
+	  @Override
+	  public boolean contains(final byte k) { return containsKey(k); }
+	  @Override
+	  public int size() { return Byte2FloatMappedOpenHashMap.this.size(); }
+	 };
+	}
+	private final class ValueIterator extends MapIterator implements FloatIterator {
+	 @Override
+	 public float nextFloat() { return valueAt(nextEntry()); }
+	}
+	/** {@inheritDoc}
+	 *
+	 * <p>The returned collection is read-only.
+	 */
+	@Override
+	public FloatCollection values() {
+	 return new AbstractFloatCollection() {
+	  @Override
+	  public FloatIterator iterator() { return new ValueIterator(); }
+	  @Override
+	  public boolean contains(final float v) { return containsValue(v); }
+	  @Override
+	  public int size() { return Byte2FloatMappedOpenHashMap.this.size(); }
+	 };
+	}
+	private void writeObject(final java.io.ObjectOutputStream s) throws java.io.IOException {
+	 throw new java.io.NotSerializableException("Mapped hash maps cannot be serialized; use store() instead");
+	}
+}
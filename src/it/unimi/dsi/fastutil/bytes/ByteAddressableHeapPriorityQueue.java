@@ -0,0 +1,234 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+/** A type-specific addressable priority queue based on a heap.
+	*
+	* <p>Instances of this class store handles and priorities in parallel arrays organized as a 4-ary heap, and
+	* use an additional array indexed by handles to locate handles in the heap. No object is allocated for each handle:
+	* the memory used is about {@code 4 + }{@link KEY_CLASS#BYTES}{@code } bytes per enqueued handle, plus four bytes for each handle smaller than the
+	* largest handle ever enqueued. All operations changing the queue, including {@link #decreaseKey(int, KEY_TYPE)},
+	* {@link #increaseKey(int, KEY_TYPE)} and {@link #remove(int)}, take logarithmic time.
+	*
+	* <p>The heap is enlarged as needed, but it is never shrunk. Use the {@link #trim()} method to reduce its size, if necessary.
+	*
+	* @see PAIRING_HEAP_PRIORITY_QUEUE
+	* @since 8.5.19
+	*/
+public class ByteAddressableHeapPriorityQueue implements ByteAddressablePriorityQueue, java.io.Serializable {
+	private static final long serialVersionUID = 1L;
+	/** The base-2 logarithm of the arity of the heap. */
+	private static final int LOG_ARITY = 2;
+	/** The arity of the heap. */
+	private static final int ARITY = 1 << LOG_ARITY;
+	/** The handles, in heap order. */
+	protected transient int[] handle = IntArrays.EMPTY_ARRAY;
+	/** The priorities, in heap order (i.e., {@code priority[i]} is the priority of {@code handle[i]}). */
+	protected transient byte[] priority = ByteArrays.EMPTY_ARRAY;
+	/** The position in the heap of each handle, or -1 if the handle is not in the queue. */
+	protected transient int[] pos = IntArrays.EMPTY_ARRAY;
+	/** The number of handles in this queue. */
+	protected int size;
+	/** The type-specific comparator used in this queue. */
+	protected final ByteComparator c;
+	/** Creates a new empty queue with a given capacity and comparator.
+	 *
+	 * @param capacity the initial capacity of this queue; handles smaller than {@code capacity} can be enqueued without allocations.
+	 * @param c the comparator used in this queue, or {@code null} for the natural order.
+	 */
+	public ByteAddressableHeapPriorityQueue(final int capacity, final ByteComparator c) {
+	 if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+	 if (capacity > 0) {
+	  handle = new int[capacity];
+	  priority = new byte[capacity];
+	  pos = new int[capacity];
+	  Arrays.fill(pos, -1);
+	 }
+	 this.c = c;
+	}
+	/** Creates a new empty queue with a given capacity using the natural order.
+	 *
+	 * @param capacity the initial capacity of this queue; handles smaller than {@code capacity} can be enqueued without allocations.
+	 */
+	public ByteAddressableHeapPriorityQueue(final int capacity) {
+	 this(capacity, null);
+	}
+	/** Creates a new empty queue with a given comparator.
+	 *
+	 * @param c the comparator used in this queue, or {@code null} for the natural order.
+	 */
+	public ByteAddressableHeapPriorityQueue(final ByteComparator c) {
+	 this(0, c);
+	}
+	/** Creates a new empty queue using the natural order. */
+	public ByteAddressableHeapPriorityQueue() {
+	 this(0, null);
+	}
+	private boolean less(final byte a, final byte b) {
+	 return c == null ? ( (a) < (b) ) : c.compare(a, b) < 0;
+	}
+	private void upHeap(int i) {
+	 final int h = handle[i];
+	 final byte p = priority[i];
+	 while (i != 0) {
+	  final int parent = (i - 1) >>> LOG_ARITY;
+	  if (! less(p, priority[parent])) break;
+	  pos[handle[i] = handle[parent]] = i;
+	  priority[i] = priority[parent];
+	  i = parent;
+	 }
+	 pos[handle[i] = h] = i;
+	 priority[i] = p;
+	}
+	private void downHeap(int i) {
+	 final int h = handle[i];
+	 final byte p = priority[i];
+	 // An element has children if and only if it is not larger than this bound
+	 final int lastParent = (size - 2) >> LOG_ARITY;
+	 while (i <= lastParent) {
+	  int child = (i << LOG_ARITY) + 1;
+	  byte t = priority[child];
+	  for(int j = child + 1, last = Math.min(child + ARITY, size); j < last; j++) if (less(priority[j], t)) t = priority[child = j];
+	  if (! less(t, p)) break;
+	  pos[handle[i] = handle[child]] = i;
+	  priority[i] = t;
+	  i = child;
+	 }
+	 pos[handle[i] = h] = i;
+	 priority[i] = p;
+	}
+	/** Returns the position in the heap of a handle, throwing an exception if the handle is not in the queue. */
+	private int position(final int h) {
+	 if (! contains(h)) throw new NoSuchElementException("Handle " + h + " is not in the queue");
+	 return pos[h];
+	}
+	/** Removes the handle at a given position of the heap. */
+	private void removeAt(final int i) {
+	 pos[handle[i]] = -1;
+	 if (--size == i) return;
+	 pos[handle[i] = handle[size]] = i;
+	 priority[i] = priority[size];
+	 if (i != 0 && less(priority[i], priority[(i - 1) >>> LOG_ARITY])) upHeap(i);
+	 else downHeap(i);
+	}
+	@Override
+	public void enqueue(final int h, final byte p) {
+	 if (h < 0) throw new IllegalArgumentException("Handle (" + h + ") is negative");
+	 if (h >= pos.length) {
+	  final int length = pos.length;
+	  pos = IntArrays.grow(pos, h + 1);
+	  Arrays.fill(pos, length, pos.length, -1);
+	 }
+	 if (pos[h] != -1) throw new IllegalArgumentException("Handle " + h + " is already in the queue");
+	 if (size == handle.length) {
+	  handle = IntArrays.grow(handle, size + 1);
+	  priority = ByteArrays.grow(priority, size + 1);
+	 }
+	 handle[size] = h;
+	 priority[size] = p;
+	 upHeap(size++);
+	}
+	@Override
+	public int dequeue() {
+	 if (size == 0) throw new NoSuchElementException();
+	 final int result = handle[0];
+	 removeAt(0);
+	 return result;
+	}
+	@Override
+	public int first() {
+	 if (size == 0) throw new NoSuchElementException();
+	 return handle[0];
+	}
+	@Override
+	public byte firstPriority() {
+	 if (size == 0) throw new NoSuchElementException();
+	 return priority[0];
+	}
+	@Override
+	public boolean contains(final int h) {
+	 return h >= 0 && h < pos.length && pos[h] != -1;
+	}
+	@Override
+	public byte priority(final int h) {
+	 return priority[position(h)];
+	}
+	@Override
+	public void changePriority(final int h, final byte p) {
+	 final int i = position(h);
+	 final byte old = priority[i];
+	 priority[i] = p;
+	 if (less(p, old)) upHeap(i);
+	 else downHeap(i);
+	}
+	@Override
+	public void decreaseKey(final int h, final byte p) {
+	 final int i = position(h);
+	 if (less(priority[i], p)) throw new IllegalArgumentException("The new priority (" + p + ") is greater than the current one (" + priority[i] + ")");
+	 priority[i] = p;
+	 upHeap(i);
+	}
+	@Override
+	public void increaseKey(final int h, final byte p) {
+	 final int i = position(h);
+	 if (less(p, priority[i])) throw new IllegalArgumentException("The new priority (" + p + ") is smaller than the current one (" + priority[i] + ")");
+	 priority[i] = p;
+	 downHeap(i);
+	}
+	@Override
+	public boolean remove(final int h) {
+	 if (! contains(h)) return false;
+	 removeAt(pos[h]);
+	 return true;
+	}
+	@Override
+	public int size() { return size; }
+	@Override
+	public void clear() {
+	 for(int i = 0; i < size; i++) pos[handle[i]] = -1;
+	 size = 0;
+	}
+	/** Trims the underlying heap arrays so that they have exactly {@link #size()} elements. */
+	public void trim() {
+	 handle = IntArrays.trim(handle, size);
+	 priority = ByteArrays.trim(priority, size);
+	}
+	@Override
+	public ByteComparator comparator() { return c; }
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 s.defaultWriteObject();
+	 s.writeInt(handle.length);
+	 s.writeInt(pos.length);
+	 for(int i = 0; i < size; i++) {
+	  s.writeInt(handle[i]);
+	  s.writeByte(priority[i]);
+	 }
+	}
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+	 s.defaultReadObject();
+	 handle = new int[s.readInt()];
+	 priority = new byte[handle.length];
+	 pos = new int[s.readInt()];
+	 Arrays.fill(pos, -1);
+	 // The heap is written in heap order, so we just need to rebuild the positions of the handles
+	 for(int i = 0; i < size; i++) {
+	  pos[handle[i] = s.readInt()] = i;
+	  priority[i] = s.readByte();
+	 }
+	}
+}
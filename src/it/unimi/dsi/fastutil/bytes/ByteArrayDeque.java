@@ -0,0 +1,556 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+/** A type-specific array-based list supporting constant-time insertions and removals at both ends.
+	*
+	* <p>Instances of this class represent a list using a backing array in a circular way, like {@link ARRAY_FIFO_QUEUE}:
+	* thus, besides constant-time positional access, they support constant-time insertions and removals at both ends
+	* ({@link #enqueueFirst(KEY_TYPE)}, {@link #enqueue(KEY_TYPE)}, {@link #DEQUEUE()} and {@link #DEQUEUE_LAST()}), whereas insertions and
+	* removals at a given position move the elements on the shorter side only. The backing array is enlarged as needed
+	* (by increasing its current length by 50%), but it is <em>never</em> made smaller (even on a {@link #clear()}); use the
+	* {@linkplain #trim() trimming methods} to control the size of the backing array.
+	*
+	* <p>This class implements the bulk methods {@code removeElements()}, {@code addElements()}, {@code getElements()} and
+	* {@code setElements()}, and the bulk additions of type-specific lists, using
+	* {@link System#arraycopy(Object,int,Object,int,int) System.arraycopy()} on the (at most two) contiguous segments
+	* of the backing array involved.
+	*
+	* @see java.util.ArrayDeque
+	* @since 8.5.19
+	*/
+public class ByteArrayDeque extends AbstractByteList implements RandomAccess, Cloneable, java.io.Serializable {
+	private static final long serialVersionUID = 0L;
+	/** The initial default capacity of an array deque. */
+	public static final int DEFAULT_INITIAL_CAPACITY = 10;
+	/** The backing array. */
+	protected transient byte[] a;
+	/** The position in {@link #a} of the first element. It is always strictly smaller than the length of {@link #a}, unless the latter is zero. */
+	protected transient int start;
+	/** The current actual size of the list (never greater than the backing-array length). */
+	protected int size;
+	/** Creates a new array deque with given capacity.
+	 *
+	 * @param capacity the initial capacity of the array deque (may be 0).
+	 */
+	public ByteArrayDeque(final int capacity) {
+	 if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+	 a = capacity == 0 ? ByteArrays.EMPTY_ARRAY : new byte[capacity];
+	}
+	/** Creates a new array deque with {@link #DEFAULT_INITIAL_CAPACITY} capacity. */
+	public ByteArrayDeque() {
+	 a = ByteArrays.DEFAULT_EMPTY_ARRAY; // We delay allocation
+	}
+	/** Creates a new array deque and fills it with a given collection.
+	 *
+	 * @param c a collection that will be used to fill the array deque.
+	 */
+	public ByteArrayDeque(final Collection<? extends Byte> c) {
+	 this(c.size());
+	 addAll(0, c);
+	}
+	/** Creates a new array deque and fills it with a given type-specific collection.
+	 *
+	 * @param c a type-specific collection that will be used to fill the array deque.
+	 */
+	public ByteArrayDeque(final ByteCollection c) {
+	 this(c.size());
+	 addAll(0, c);
+	}
+	/** Creates a new array deque and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the array deque.
+	 * @param offset the first element to use.
+	 * @param length the number of elements to use.
+	 */
+	public ByteArrayDeque(final byte[] a, final int offset, final int length) {
+	 this(length);
+	 ByteArrays.ensureOffsetLength(a, offset, length);
+	 System.arraycopy(a, offset, this.a, 0, length);
+	 size = length;
+	}
+	/** Creates a new array deque and fills it with the elements of a given array.
+	 *
+	 * @param a an array whose elements will be used to fill the array deque.
+	 */
+	public ByteArrayDeque(final byte[] a) {
+	 this(a, 0, a.length);
+	}
+	/** Returns the position in the backing array of the element of given index.
+	 *
+	 * @param index an index, possibly negative or larger than or equal to the size, but in absolute value smaller than the length of the backing array.
+	 * @return the position in {@link #a} of the element of index {@code index}.
+	 */
+	private int pos(final int index) {
+	 final long p = (long)start + index;
+	 return (int)(p < 0 ? p + a.length : p >= a.length ? p - a.length : p);
+	}
+	/** Moves a sequence of elements to a different position, splitting it into contiguous segments of the backing array.
+	 *
+	 * <p>This method works correctly even when source and destination overlap, provided that they span at most the length of the backing array.
+	 *
+	 * @param from the index of the first element to move (possibly negative or larger than or equal to the size).
+	 * @param to the index of the first element of the destination (possibly negative or larger than or equal to the size).
+	 * @param length the number of elements to move.
+	 */
+	private void move(final int from, final int to, int length) {
+	 if (from < to) {
+	  // We move segments starting from the end
+	  while (length > 0) {
+	   final int s = pos(from + length - 1), d = pos(to + length - 1);
+	   final int l = Math.min(length, Math.min(s, d) + 1);
+	   System.arraycopy(a, s - l + 1, a, d - l + 1, l);
+	   length -= l;
+	  }
+	 }
+	 else {
+	  for (int i = 0; i < length;) {
+	   final int s = pos(from + i), d = pos(to + i);
+	   final int l = Math.min(length - i, a.length - Math.max(s, d));
+	   System.arraycopy(a, s, a, d, l);
+	   i += l;
+	  }
+	 }
+	}
+	/** Copies the elements of an array fragment into this list, overwriting its elements.
+	 *
+	 * @param index the index of the first element of this list to overwrite.
+	 * @param a an array.
+	 * @param offset the first element of {@code a} to copy.
+	 * @param length the number of elements to copy.
+	 */
+	private void write(final int index, final byte[] a, final int offset, final int length) {
+	 final int p = pos(index);
+	 final int l = Math.min(length, this.a.length - p);
+	 System.arraycopy(a, offset, this.a, p, l);
+	 System.arraycopy(a, offset + l, this.a, 0, length - l);
+	}
+	/** Opens a gap in this list, moving the elements on the shorter side.
+	 *
+	 * @param index the index of the first element of the gap.
+	 * @param length the length of the gap.
+	 */
+	private void open(final int index, final int length) {
+	 grow(size + length);
+	 if (index < size - index) {
+	  move(0, -length, index);
+	  start = pos(-length);
+	 }
+	 else move(index, index + length, size - index);
+	 size += length;
+	}
+	/** Closes a gap in this list, moving the elements on the shorter side.
+	 *
+	 * @param index the index of the first element to remove.
+	 * @param length the number of elements to remove.
+	 */
+	private void close(final int index, final int length) {
+	 if (index < size - index - length) {
+	  move(0, length, index);
+	  start = pos(length);
+	 }
+	 else move(index + length, index, size - index - length);
+	 size -= length;
+	 if (size == 0) start = 0;
+	}
+	/** Reallocates the backing array, moving the first element to position 0.
+	 *
+	 * @param capacity the new length of the backing array (at least {@link #size()}).
+	 */
+	private void reallocate(final int capacity) {
+	 final byte[] t = new byte[capacity];
+	 getElements(0, t, 0, size);
+	 a = t;
+	 start = 0;
+	}
+	/** Ensures that this array deque can contain the given number of entries without resizing.
+	 *
+	 * @param capacity the new minimum capacity for this array deque.
+	 */
+	public void ensureCapacity(final int capacity) {
+	 if (capacity <= a.length || (a == ByteArrays.DEFAULT_EMPTY_ARRAY && capacity <= DEFAULT_INITIAL_CAPACITY)) return;
+	 reallocate(capacity);
+	}
+	/** Grows this array deque, ensuring that it can contain the given number of entries without resizing,
+	 * and in case increasing the current capacity at least by a factor of 50%.
+	 *
+	 * @param capacity the new minimum capacity for this array deque.
+	 */
+	private void grow(int capacity) {
+	 if (capacity <= a.length) return;
+	 if (a != ByteArrays.DEFAULT_EMPTY_ARRAY)
+	  capacity = (int)Math.max(Math.min((long)a.length + (a.length >> 1), it.unimi.dsi.fastutil.Arrays.MAX_ARRAY_SIZE), capacity);
+	 else if (capacity < DEFAULT_INITIAL_CAPACITY) capacity = DEFAULT_INITIAL_CAPACITY;
+	 reallocate(capacity);
+	}
+	/** Adds an element at the start of this list.
+	 *
+	 * @param k the element to add.
+	 */
+	public void enqueueFirst(final byte k) {
+	 grow(size + 1);
+	 if (start-- == 0) start = a.length - 1;
+	 a[start] = k;
+	 size++;
+	}
+	/** Adds an element at the end of this list.
+	 *
+	 * <p>This method is equivalent to {@link #add(KEY_TYPE)}.
+	 *
+	 * @param k the element to add.
+	 */
+	public void enqueue(final byte k) {
+	 grow(size + 1);
+	 a[pos(size++)] = k;
+	}
+	/** Removes the first element of this list.
+	 *
+	 * @return the removed element.
+	 * @throws NoSuchElementException if this list is empty.
+	 */
+	public byte dequeueByte() {
+	 if (size == 0) throw new NoSuchElementException();
+	 final byte k = a[start];
+	 if (++start == a.length) start = 0;
+	 if (--size == 0) start = 0;
+	 return k;
+	}
+	/** Removes the last element of this list.
+	 *
+	 * @return the removed element.
+	 * @throws NoSuchElementException if this list is empty.
+	 */
+	public byte dequeueLastByte() {
+	 if (size == 0) throw new NoSuchElementException();
+	 final byte k = a[pos(--size)];
+	 if (size == 0) start = 0;
+	 return k;
+	}
+	/** Returns the first element of this list.
+	 *
+	 * @return the first element of this list.
+	 * @throws NoSuchElementException if this list is empty.
+	 */
+	public byte firstByte() {
+	 if (size == 0) throw new NoSuchElementException();
+	 return a[start];
+	}
+	/** Returns the last element of this list.
+	 *
+	 * @return the last element of this list.
+	 * @throws NoSuchElementException if this list is empty.
+	 */
+	public byte lastByte() {
+	 if (size == 0) throw new NoSuchElementException();
+	 return a[pos(size - 1)];
+	}
+	@Override
+	public void add(final int index, final byte k) {
+	 ensureIndex(index);
+	 if (index == size) enqueue(k);
+	 else if (index == 0) enqueueFirst(k);
+	 else {
+	  open(index, 1);
+	  a[pos(index)] = k;
+	 }
+	}
+	@Override
+	public boolean add(final byte k) {
+	 enqueue(k);
+	 return true;
+	}
+	@Override
+	public byte getByte(final int index) {
+	 ensureRestrictedIndex(index);
+	 return a[pos(index)];
+	}
+	@Override
+	public int indexOf(final byte k) {
+	 for(int i = 0; i < size; i++) if (( (k) == (a[pos(i)]) )) return i;
+	 return -1;
+	}
+	@Override
+	public int lastIndexOf(final byte k) {
+	 for(int i = size; i-- != 0;) if (( (k) == (a[pos(i)]) )) return i;
+	 return -1;
+	}
+	@Override
+	public byte removeByte(final int index) {
+	 ensureRestrictedIndex(index);
+	 if (index == 0) return dequeueByte();
+	 if (index == size - 1) return dequeueLastByte();
+	 final byte old = a[pos(index)];
+	 close(index, 1);
+	 return old;
+	}
+	@Override
+	public boolean rem(final byte k) {
+	 final int index = indexOf(k);
+	 if (index == -1) return false;
+	 removeByte(index);
+	 return true;
+	}
+	@Override
+	public byte set(final int index, final byte k) {
+	 ensureRestrictedIndex(index);
+	 final int p = pos(index);
+	 final byte old = a[p];
+	 a[p] = k;
+	 return old;
+	}
+	@Override
+	public void clear() {
+	 start = size = 0;
+	}
+	@Override
+	public int size() {
+	 return size;
+	}
+	@Override
+	public void size(final int size) {
+	 if (size < 0) throw new IllegalArgumentException("Size (" + size + ") is negative");
+	 if (size > this.size) {
+	  final int oldSize = this.size;
+	  open(oldSize, size - oldSize);
+	  final int p = pos(oldSize), l = Math.min(size - oldSize, a.length - p);
+	  Arrays.fill(a, p, p + l, ((byte)0));
+	  Arrays.fill(a, 0, size - oldSize - l, ((byte)0));
+	 }
+	 else close(size, this.size - size);
+	}
+	@Override
+	public boolean isEmpty() {
+	 return size == 0;
+	}
+	/** Trims this array deque so that the capacity is equal to the size.
+	 *
+	 * @see java.util.ArrayList#trimToSize()
+	 */
+	public void trim() {
+	 trim(0);
+	}
+	/** Trims the backing array if it is too large.
+	 *
+	 * If the current array length is smaller than or equal to
+	 * {@code n}, this method does nothing. Otherwise, it trims the
+	 * array length to the maximum between {@code n} and {@link #size()}.
+	 *
+	 * @param n the threshold for the trimming.
+	 */
+	public void trim(final int n) {
+	 if (n >= a.length || size == a.length) return;
+	 reallocate(Math.max(n, size));
+	}
+	@Override
+	public void getElements(final int from, final byte[] a, final int offset, final int length) {
+	 ensureIndex(from);
+	 ByteArrays.ensureOffsetLength(a, offset, length);
+	 if (from + length > size) throw new IndexOutOfBoundsException("End index (" + (from + length) + ") is greater than list size (" + size + ")");
+	 if (length == 0) return;
+	 final int p = pos(from);
+	 final int l = Math.min(length, this.a.length - p);
+	 System.arraycopy(this.a, p, a, offset, l);
+	 System.arraycopy(this.a, 0, a, offset + l, length - l);
+	}
+	@Override
+	public void removeElements(final int from, final int to) {
+	 it.unimi.dsi.fastutil.Arrays.ensureFromTo(size, from, to);
+	 if (from != to) close(from, to - from);
+	}
+	@Override
+	public void addElements(final int index, final byte[] a, final int offset, final int length) {
+	 ensureIndex(index);
+	 ByteArrays.ensureOffsetLength(a, offset, length);
+	 if (length == 0) return;
+	 open(index, length);
+	 write(index, a, offset, length);
+	}
+	@Override
+	public void setElements(final int index, final byte[] a, final int offset, final int length) {
+	 ensureIndex(index);
+	 ByteArrays.ensureOffsetLength(a, offset, length);
+	 if (index + length > size) throw new IndexOutOfBoundsException("End index (" + (index + length) + ") is greater than list size (" + size + ")");
+	 if (length != 0) write(index, a, offset, length);
+	}
+	@Override
+	public void forEach(final ByteConsumer action) {
+	 final byte[] a = this.a;
+	 final int l = Math.min(size, a.length - start);
+	 for (int i = start, end = start + l; i < end; i++) action.accept(a[i]);
+	 for (int i = 0, end = size - l; i < end; i++) action.accept(a[i]);
+	}
+	@Override
+	public boolean addAll(final int index, final Collection<? extends Byte> c) {
+	 if (c instanceof ByteCollection) return addAll(index, (ByteCollection)c);
+	 ensureIndex(index);
+	 final int n = c.size();
+	 if (n == 0) return false;
+	 open(index, n);
+	 final Iterator<? extends Byte> i = c.iterator();
+	 for (int j = 0; j < n; j++) a[pos(index + j)] = (i.next()).byteValue();
+	 return true;
+	}
+	@Override
+	public boolean addAll(final int index, final ByteCollection c) {
+	 if (c instanceof ByteList) return addAll(index, (ByteList)c);
+	 ensureIndex(index);
+	 final int n = c.size();
+	 if (n == 0) return false;
+	 open(index, n);
+	 final ByteIterator i = c.iterator();
+	 for (int j = 0; j < n; j++) a[pos(index + j)] = i.nextByte();
+	 return true;
+	}
+	@Override
+	public boolean addAll(final int index, final ByteList l) {
+	 ensureIndex(index);
+	 final int n = l.size();
+	 if (n == 0) return false;
+	 if (l == this) {
+	  addElements(index, toByteArray());
+	  return true;
+	 }
+	 open(index, n);
+	 // We copy directly into the (at most two) segments of the backing array
+	 final int p = pos(index);
+	 final int first = Math.min(n, a.length - p);
+	 l.getElements(0, a, p, first);
+	 l.getElements(first, a, 0, n - first);
+	 return true;
+	}
+	@Override
+	public boolean removeIf(final BytePredicate filter) {
+	 int j = 0;
+	 for(int i = 0; i < size; i++) {
+	  final byte k = a[pos(i)];
+	  if (! filter.test(k)) a[pos(j++)] = k;
+	 }
+	 final boolean modified = size != j;
+	 size = j;
+	 if (size == 0) start = 0;
+	 return modified;
+	}
+	@Override
+	public byte[] toArray(byte[] a) {
+	 if (a == null || a.length < size) a = new byte[size];
+	 getElements(0, a, 0, size);
+	 return a;
+	}
+	private final class Spliterator implements ByteSpliterator {
+	 // Until we split, we will track the size of the list.
+	 // Once we split, then we stop updating on structural modifications.
+	 // Aka, size is late-binding.
+	 boolean hasSplit = false;
+	 int pos, max;
+	 public Spliterator() {
+	  this(0, ByteArrayDeque.this.size, false);
+	 }
+	 private Spliterator(final int pos, final int max, final boolean hasSplit) {
+	  assert pos <= max : "pos " + pos + " must be <= max " + max;
+	  this.pos = pos;
+	  this.max = max;
+	  this.hasSplit = hasSplit;
+	 }
+	 private int getWorkingMax() {
+	  return hasSplit ? max : ByteArrayDeque.this.size;
+	 }
+	 @Override
+	 public int characteristics() { return ByteSpliterators.LIST_SPLITERATOR_CHARACTERISTICS; }
+	 @Override
+	 public long estimateSize() { return getWorkingMax() - pos; }
+	 @Override
+	 public boolean tryAdvance(final ByteConsumer action) {
+	  if (pos >= getWorkingMax()) return false;
+	  action.accept(a[pos(pos++)]);
+	  return true;
+	 }
+	 @Override
+	 public void forEachRemaining(final ByteConsumer action) {
+	  final int max = getWorkingMax();
+	  if (pos >= max) return;
+	  final byte[] a = ByteArrayDeque.this.a;
+	  // We scan the (at most two) segments of the backing array
+	  final int p = pos(pos), l = Math.min(max - pos, a.length - p);
+	  for (int i = p, end = p + l; i < end; i++) action.accept(a[i]);
+	  for (int i = 0, end = max - pos - l; i < end; i++) action.accept(a[i]);
+	  pos = max;
+	 }
+	 @Override
+	 public long skip(long n) {
+	  if (n < 0) throw new IllegalArgumentException("Argument must be nonnegative: " + n);
+	  final int max = getWorkingMax();
+	  if (pos >= max) return 0;
+	  final int remaining = max - pos;
+	  if (n < remaining) {
+	   pos = it.unimi.dsi.fastutil.SafeMath.safeLongToInt(pos + n);
+	   return n;
+	  }
+	  n = remaining;
+	  pos = max;
+	  return n;
+	 }
+	 @Override
+	 public ByteSpliterator trySplit() {
+	  final int max = getWorkingMax();
+	  final int retLen = (max - pos) >> 1;
+	  if (retLen <= 1) return null;
+	  // Update instance max with the last seen list size (if needed) before continuing
+	  this.max = max;
+	  final int oldPos = pos;
+	  pos += retLen;
+	  hasSplit = true;
+	  return new Spliterator(oldPos, pos, true);
+	 }
+	}
+	/** {@inheritDoc}
+	 *
+	 * <p>The returned spliterator is late-binding; it will track structural changes
+	 * after the current index, up until the first {@link java.util.Spliterator#trySplit() trySplit()},
+	 * at which point the maximum index will be fixed.
+	 * <br>Structural changes before the current index or after the first
+	 * {@link java.util.Spliterator#trySplit() trySplit()} will result in unspecified behavior.
+	 */
+	@Override
+	public ByteSpliterator spliterator() {
+	 return new Spliterator();
+	}
+	@Override
+	public ByteArrayDeque clone() {
+	 final ByteArrayDeque cloned;
+	 try {
+	  cloned = (ByteArrayDeque)super.clone();
+	 } catch (CloneNotSupportedException err) {
+	  // Can't happen
+	  throw new InternalError(err);
+	 }
+	 cloned.a = toByteArray();
+	 cloned.start = 0;
+	 return cloned;
+	}
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 s.defaultWriteObject();
+	 for(int i = 0; i < size; i++) s.writeByte(a[pos(i)]);
+	}
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+	 s.defaultReadObject();
+	 a = new byte[size];
+	 for(int i = 0; i < size; i++) a[i] = s.readByte();
+	}
+}
@@ -0,0 +1,3909 @@
+/*
+	* Copyright (C) 2002-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*
+	*
+	*
+	* For the sorting and binary search code:
+	*
+	* Copyright (C) 1999 CERN - European Organization for Nuclear Research.
+	*
+	*   Permission to use, copy, modify, distribute and sell this software and
+	*   its documentation for any purpose is hereby granted without fee,
+	*   provided that the above copyright notice appear in all copies and that
+	*   both that copyright notice and this permission notice appear in
+	*   supporting documentation. CERN makes no representations about the
+	*   suitability of this software for any purpose. It is provided "as is"
+	*   without expressed or implied warranty.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.Arrays;
+import it.unimi.dsi.fastutil.Hash;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+/** A class providing static methods and objects that do useful things with type-specific arrays.
+	*
+	* <p>In particular, the {@code forceCapacity()}, {@code ensureCapacity()}, {@code grow()},
+	* {@code trim()} and {@code setLength()} methods allow to handle
+	* arrays much like array lists. This can be very useful when efficiency (or
+	* syntactic simplicity) reasons make array lists unsuitable.
+	*
+	* <p>Note that {@link it.unimi.dsi.fastutil.io.BinIO} and {@link it.unimi.dsi.fastutil.io.TextIO}
+	* contain several methods make it possible to load and save arrays of primitive types as sequences
+	* of elements in {@link java.io.DataInput} format (i.e., not as objects) or as sequences of lines of text.
+	*
+	* <h2>Sorting</h2>
+	*
+	* <p>There are several sorting methods available. The main theme is that of letting you choose
+	* the sorting algorithm you prefer (i.e., trading stability of mergesort for no memory allocation in quicksort).
+	* 
+	* <h3>Parallel operations</h3>
+	* Some algorithms provide a parallel version that will by default use the
+	* {@linkplain ForkJoinPool#commonPool() common pool}, but this can be overridden by calling the
+	* function in a task already in the {@link ForkJoinPool} that the operation should run in. For example,
+	* something along the lines of "{@code poolToParallelSortIn.invoke(() -> parallelQuickSort(arrayToSort))}" 
+	* will run the parallel sort in {@code poolToParallelSortIn} instead of the default pool.
+	*
+	* Some algorithms also provide an explicit <em>indirect</em> sorting facility, which makes it possible
+	* to sort an array using the values in another array as comparator.
+	*
+	* <p>However, if you wish to let the implementation choose an algorithm for you, both
+	* {@link #stableSort} and {@link #unstableSort} methods are available, which dynamically
+	* chooses an algorithm based on unspecified criteria (but most likely stability, array size, and array element type).
+	*
+	* <p>All comparison-based algorithm have an implementation based on a type-specific comparator.
+	*
+	* <p>As a general rule, sequential radix sort is significantly faster than quicksort or mergesort, in particular
+	* on random-looking data. In
+	* the parallel case, up to a few cores parallel radix sort is still the fastest, but at some point quicksort
+	* exploits parallelism better.
+	*
+	* <p>If you are fine with not knowing exactly which algorithm will be run (in particular, not knowing exactly whether a support array will be allocated),
+	* the dual-pivot parallel sorts in {@link java.util.Arrays}
+	* are about 50% faster than the classical single-pivot implementation used here.
+	*
+	* <p>In any case, if sorting time is important I suggest that you benchmark your sorting load
+	* with your data distribution and on your architecture.
+	*
+	* @see java.util.Arrays
+	*/
+public final class ByteArrays {
+	private ByteArrays() {}
+	/** A static, final, empty array. */
+	public static final byte[] EMPTY_ARRAY = {};
+	/** A static, final, empty array to be used as default array in allocations. An
+	  * object distinct from {@link #EMPTY_ARRAY} makes it possible to have different
+	  * behaviors depending on whether the user required an empty allocation, or we are
+	  * just lazily delaying allocation.
+	  *
+	  * @see java.util.ArrayList
+	  */
+	public static final byte[] DEFAULT_EMPTY_ARRAY = {};
+	/** Forces an array to contain the given number of entries, preserving just a part of the array.
+	 *
+	 * @param array an array.
+	 * @param length the new minimum length for this array.
+	 * @param preserve the number of elements of the array that must be preserved in case a new allocation is necessary.
+	 * @return an array with {@code length} entries whose first {@code preserve}
+	 * entries are the same as those of {@code array}.
+	 */
+	public static byte[] forceCapacity(final byte[] array, final int length, final int preserve) {
+	 final byte t[] =
+	  new byte[length];
+	 System.arraycopy(array, 0, t, 0, preserve);
+	 return t;
+	}
+	/** Ensures that an array can contain the given number of entries.
+	 *
+	 * <p>If you cannot foresee whether this array will need again to be
+	 * enlarged, you should probably use {@code grow()} instead.
+	 *
+	 * @param array an array.
+	 * @param length the new minimum length for this array.
+	 * @return {@code array}, if it contains {@code length} entries or more; otherwise,
+	 * an array with {@code length} entries whose first {@code array.length}
+	 * entries are the same as those of {@code array}.
+	 */
+	public static byte[] ensureCapacity(final byte[] array, final int length) {
+	 return ensureCapacity(array, length, array.length);
+	}
+	/** Ensures that an array can contain the given number of entries, preserving just a part of the array.
+	 *
+	 * @param array an array.
+	 * @param length the new minimum length for this array.
+	 * @param preserve the number of elements of the array that must be preserved in case a new allocation is necessary.
+	 * @return {@code array}, if it can contain {@code length} entries or more; otherwise,
+	 * an array with {@code length} entries whose first {@code preserve}
+	 * entries are the same as those of {@code array}.
+	 */
+	public static byte[] ensureCapacity(final byte[] array, final int length, final int preserve) {
+	 return length > array.length ? forceCapacity(array, length, preserve) : array;
+	}
+	/** Grows the given array to the maximum between the given length and
+	 * the current length increased by 50%, provided that the given
+	 * length is larger than the current length.
+	 *
+	 * <p>If you want complete control on the array growth, you
+	 * should probably use {@code ensureCapacity()} instead.
+	 *
+	 * @param array an array.
+	 * @param length the new minimum length for this array.
+	 * @return {@code array}, if it can contain {@code length}
+	 * entries; otherwise, an array with
+	 * max({@code length},{@code array.length}/&phi;) entries whose first
+	 * {@code array.length} entries are the same as those of {@code array}.
+	 * */
+	public static byte[] grow(final byte[] array, final int length) {
+	 return grow(array, length, array.length);
+	}
+	/** Grows the given array to the maximum between the given length and
+	 * the current length increased by 50%, provided that the given
+	 * length is larger than the current length, preserving just a part of the array.
+	 *
+	 * <p>If you want complete control on the array growth, you
+	 * should probably use {@code ensureCapacity()} instead.
+	 *
+	 * @param array an array.
+	 * @param length the new minimum length for this array.
+	 * @param preserve the number of elements of the array that must be preserved in case a new allocation is necessary.
+	 * @return {@code array}, if it can contain {@code length}
+	 * entries; otherwise, an array with
+	 * max({@code length},{@code array.length}/&phi;) entries whose first
+	 * {@code preserve} entries are the same as those of {@code array}.
+	 * */
+	public static byte[] grow(final byte[] array, final int length, final int preserve) {
+	 if (length > array.length) {
+	  final int newLength = (int)Math.max(Math.min((long)array.length + (array.length >> 1), Arrays.MAX_ARRAY_SIZE), length);
+	  final byte t[] =
+	   new byte[newLength];
+	  System.arraycopy(array, 0, t, 0, preserve);
+	  return t;
+	 }
+	 return array;
+	}
+	/** Trims the given array to the given length.
+	 *
+	 * @param array an array.
+	 * @param length the new maximum length for the array.
+	 * @return {@code array}, if it contains {@code length}
+	 * entries or less; otherwise, an array with
+	 * {@code length} entries whose entries are the same as
+	 * the first {@code length} entries of {@code array}.
+	 *
+	 */
+	public static byte[] trim(final byte[] array, final int length) {
+	 if (length >= array.length) return array;
+	 final byte t[] =
+	  length == 0 ? EMPTY_ARRAY : new byte[length];
+	 System.arraycopy(array, 0, t, 0, length);
+	 return t;
+	}
+	/** Sets the length of the given array.
+	 *
+	 * @param array an array.
+	 * @param length the new length for the array.
+	 * @return {@code array}, if it contains exactly {@code length}
+	 * entries; otherwise, if it contains <em>more</em> than
+	 * {@code length} entries, an array with {@code length} entries
+	 * whose entries are the same as the first {@code length} entries of
+	 * {@code array}; otherwise, an array with {@code length} entries
+	 * whose first {@code array.length} entries are the same as those of
+	 * {@code array}.
+	 *
+	 */
+	public static byte[] setLength(final byte[] array, final int length) {
+	 if (length == array.length) return array;
+	 if (length < array.length) return trim(array, length);
+	 return ensureCapacity(array, length);
+	}
+	/** Returns a copy of a portion of an array.
+	 *
+	 * @param array an array.
+	 * @param offset the first element to copy.
+	 * @param length the number of elements to copy.
+	 * @return a new array containing {@code length} elements of {@code array} starting at {@code offset}.
+	 */
+	public static byte[] copy(final byte[] array, final int offset, final int length) {
+	 ensureOffsetLength(array, offset, length);
+	 final byte[] a =
+	  length == 0 ? EMPTY_ARRAY : new byte[length];
+	 System.arraycopy(array, offset, a, 0, length);
+	 return a;
+	}
+	/** Returns a copy of an array.
+	 *
+	 * @param array an array.
+	 * @return a copy of {@code array}.
+	 */
+	public static byte[] copy(final byte[] array) {
+	 return array.clone();
+	}
+	/** Fills the given array with the given value.
+	 *
+	 * @param array an array.
+	 * @param value the new value for all elements of the array.
+	 * @deprecated Please use the corresponding {@link java.util.Arrays} method.
+	 */
+	@Deprecated
+	public static void fill(final byte[] array, final byte value) {
+	 int i = array.length;
+	 while(i-- != 0) array[i] = value;
+	}
+	/** Fills a portion of the given array with the given value.
+	 *
+	 * @param array an array.
+	 * @param from the starting index of the portion to fill (inclusive).
+	 * @param to the end index of the portion to fill (exclusive).
+	 * @param value the new value for all elements of the specified portion of the array.
+	 * @deprecated Please use the corresponding {@link java.util.Arrays} method.
+	 */
+	@Deprecated
+	public static void fill(final byte[] array, final int from, int to, final byte value) {
+	 ensureFromTo(array, from, to);
+	 if (from == 0) while(to-- != 0) array[to] = value;
+	 else for(int i = from; i < to; i++) array[i] = value;
+	}
+	/** Returns true if the two arrays are elementwise equal.
+	 *
+	 * @param a1 an array.
+	 * @param a2 another array.
+	 * @return true if the two arrays are of the same length, and their elements are equal.
+	 * @deprecated Please use the corresponding {@link java.util.Arrays} method, which is intrinsified in recent JVMs.
+	 */
+	@Deprecated
+	public static boolean equals(final byte[] a1, final byte a2[]) {
+	 int i = a1.length;
+	 if (i != a2.length) return false;
+	 while(i-- != 0) if (! ( (a1[i]) == (a2[i]) )) return false;
+	 return true;
+	}
+	/** Ensures that a range given by its first (inclusive) and last (exclusive) elements fits an array.
+	 *
+	 * <p>This method may be used whenever an array range check is needed.
+	 *
+	 * <p>In Java 9 and up, this method should be considered deprecated in favor of the
+	 * {@link java.util.Objects#checkFromToIndex(int, int, int)} method, which may be intrinsified in recent JVMs.
+	 *
+	 * @param a an array.
+	 * @param from a start index (inclusive).
+	 * @param to an end index (exclusive).
+	 * @throws IllegalArgumentException if {@code from} is greater than {@code to}.
+	 * @throws ArrayIndexOutOfBoundsException if {@code from} or {@code to} are greater than the array length or negative.
+	 */
+	public static void ensureFromTo(final byte[] a, final int from, final int to) {
+	 Arrays.ensureFromTo(a.length, from, to);
+	}
+	/** Ensures that a range given by an offset and a length fits an array.
+	 *
+	 * <p>This method may be used whenever an array range check is needed.
+	 *
+	 * <p>In Java 9 and up, this method should be considered deprecated in favor of the
+	 * {@link java.util.Objects#checkFromIndexSize(int, int, int)} method, which may be intrinsified in recent JVMs.
+	 *
+	 * @param a an array.
+	 * @param offset a start index.
+	 * @param length a length (the number of elements in the range).
+	 * @throws IllegalArgumentException if {@code length} is negative.
+	 * @throws ArrayIndexOutOfBoundsException if {@code offset} is negative or {@code offset}+{@code length} is greater than the array length.
+	 */
+	public static void ensureOffsetLength(final byte[] a, final int offset, final int length) {
+	 Arrays.ensureOffsetLength(a.length, offset, length);
+	}
+	/** Ensures that two arrays are of the same length.
+	 *
+	 * @param a an array.
+	 * @param b another array.
+	 * @throws IllegalArgumentException if the two argument arrays are not of the same length.
+	 */
+	public static void ensureSameLength(final byte[] a, final byte[] b) {
+	 if (a.length != b.length) throw new IllegalArgumentException("Array size mismatch: " + a.length + " != " + b.length);
+	}
+	private static final int QUICKSORT_NO_REC = 16;
+	private static final int PARALLEL_QUICKSORT_NO_FORK = 8192;
+	private static final int QUICKSORT_MEDIAN_OF_9 = 128;
+	private static final int MERGESORT_NO_REC = 16;
+	private static ForkJoinPool getPool() {
+	 // Make sure to update Arrays.drv, BigArrays.drv, and src/it/unimi/dsi/fastutil/Arrays.java as well
+	 ForkJoinPool current = ForkJoinTask.getPool();
+	 return current == null ? ForkJoinPool.commonPool() : current;
+	}
+	/** Swaps two elements of an anrray.
+	 *
+	 * @param x an array.
+	 * @param a a position in {@code x}.
+	 * @param b another position in {@code x}.
+	 */
+	public static void swap(final byte x[], final int a, final int b) {
+	 final byte t = x[a];
+	 x[a] = x[b];
+	 x[b] = t;
+	}
+	/** Swaps two sequences of elements of an array.
+	 *
+	 * @param x an array.
+	 * @param a a position in {@code x}.
+	 * @param b another position in {@code x}.
+	 * @param n the number of elements to exchange starting at {@code a} and {@code b}.
+	 */
+	public static void swap(final byte[] x, int a, int b, final int n) {
+	 for(int i = 0; i < n; i++, a++, b++) swap(x, a, b);
+	}
+	private static int med3(final byte x[], final int a, final int b, final int c, ByteComparator comp) {
+	 final int ab = comp.compare(x[a], x[b]);
+	 final int ac = comp.compare(x[a], x[c]);
+	 final int bc = comp.compare(x[b], x[c]);
+	 return (ab < 0 ?
+	  (bc < 0 ? b : ac < 0 ? c : a) :
+	  (bc > 0 ? b : ac > 0 ? c : a));
+	}
+	private static void selectionSort(final byte[] a, final int from, final int to, final ByteComparator comp) {
+	 for(int i = from; i < to - 1; i++) {
+	  int m = i;
+	  for(int j = i + 1; j < to; j++) if (comp.compare(a[j], a[m]) < 0) m = j;
+	  if (m != i) {
+	   final byte u = a[i];
+	   a[i] = a[m];
+	   a[m] = u;
+	  }
+	 }
+	}
+	private static void insertionSort(final byte[] a, final int from, final int to, final ByteComparator comp) {
+	 for (int i = from; ++i < to;) {
+	  byte t = a[i];
+	  int j = i;
+	  for (byte u = a[j - 1]; comp.compare(t, u) < 0; u = a[--j - 1]) {
+	   a[j] = u;
+	   if (from == j - 1) {
+	    --j;
+	    break;
+	   }
+	  }
+	  a[j] = t;
+	 }
+	}
+	/** Sorts the specified range of elements according to the order induced by the specified
+	 * comparator using quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>Note that this implementation does not allocate any object, contrarily to the implementation
+	 * used to sort primitive types in {@link java.util.Arrays}, which switches to mergesort on large inputs.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 *
+	 */
+	public static void quickSort(final byte[] x, final int from, final int to, final ByteComparator comp) {
+	 final int len = to - from;
+	 // Selection sort on smallest arrays
+	 if (len < QUICKSORT_NO_REC) {
+	  selectionSort(x, from, to, comp);
+	  return;
+	 }
+	 // Choose a partition element, v
+	 int m = from + len / 2;
+	 int l = from;
+	 int n = to - 1;
+	 if (len > QUICKSORT_MEDIAN_OF_9) { // Big arrays, pseudomedian of 9
+	  int s = len / 8;
+	  l = med3(x, l, l + s, l + 2 * s, comp);
+	  m = med3(x, m - s, m, m + s, comp);
+	  n = med3(x, n - 2 * s, n - s, n, comp);
+	 }
+	 m = med3(x, l, m, n, comp); // Mid-size, med of 3
+	 final byte v = x[m];
+	 // Establish Invariant: v* (<v)* (>v)* v*
+	 int a = from, b = a, c = to - 1, d = c;
+	 while(true) {
+	  int comparison;
+	  while (b <= c && (comparison = comp.compare(x[b], v)) <= 0) {
+	   if (comparison == 0) swap(x, a++, b);
+	   b++;
+	  }
+	  while (c >= b && (comparison = comp.compare(x[c], v)) >=0) {
+	   if (comparison == 0) swap(x, c, d--);
+	   c--;
+	  }
+	  if (b > c) break;
+	  swap(x, b++, c--);
+	 }
+	 // Swap partition elements back to middle
+	 int s;
+	 s = Math.min(a - from, b - a);
+	 swap(x, from, b - s, s);
+	 s = Math.min(d - c, to - d - 1);
+	 swap(x, b, to - s, s);
+	 // Recursively sort non-partition-elements
+	 if ((s = b - a) > 1) quickSort(x, from, from + s, comp);
+	 if ((s = d - c) > 1) quickSort(x, to - s, to, comp);
+	}
+	/** Sorts an array according to the order induced by the specified
+	 * comparator using quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>Note that this implementation does not allocate any object, contrarily to the implementation
+	 * used to sort primitive types in {@link java.util.Arrays}, which switches to mergesort on large inputs.
+	 *
+	 * @param x the array to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 *
+	 */
+	public static void quickSort(final byte[] x, final ByteComparator comp) {
+	 quickSort(x, 0, x.length, comp);
+	}
+	protected static class ForkJoinQuickSortComp extends RecursiveAction {
+	 private static final long serialVersionUID = 1L;
+	 private final int from;
+	 private final int to;
+	 private final byte[] x;
+	 private final ByteComparator comp;
+	 public ForkJoinQuickSortComp(final byte[] x , final int from , final int to, final ByteComparator comp) {
+	  this.from = from;
+	  this.to = to;
+	  this.x = x;
+	  this.comp = comp;
+	 }
+	 @Override
+	 protected void compute() {
+	  final byte[] x = this.x;
+	  final int len = to - from;
+	  if (len < PARALLEL_QUICKSORT_NO_FORK) {
+	   quickSort(x, from, to, comp);
+	   return;
+	  }
+	  // Choose a partition element, v
+	  int m = from + len / 2;
+	  int l = from;
+	  int n = to - 1;
+	  int s = len / 8;
+	  l = med3(x, l, l + s, l + 2 * s, comp);
+	  m = med3(x, m - s, m, m + s, comp);
+	  n = med3(x, n - 2 * s, n - s, n, comp);
+	  m = med3(x, l, m, n, comp);
+	  final byte v = x[m];
+	  // Establish Invariant: v* (<v)* (>v)* v*
+	  int a = from, b = a, c = to - 1, d = c;
+	  while (true) {
+	   int comparison;
+	   while (b <= c && (comparison = comp.compare(x[b], v)) <= 0) {
+	    if (comparison == 0) swap(x, a++, b);
+	    b++;
+	   }
+	   while (c >= b && (comparison = comp.compare(x[c], v)) >= 0) {
+	    if (comparison == 0) swap(x, c, d--);
+	    c--;
+	   }
+	   if (b > c) break;
+	   swap(x, b++, c--);
+	  }
+	  // Swap partition elements back to middle
+	  int t;
+	  s = Math.min(a - from, b - a);
+	  swap(x, from, b - s, s);
+	  s = Math.min(d - c, to - d - 1);
+	  swap(x, b, to - s, s);
+	  // Recursively sort non-partition-elements
+	  s = b - a;
+	  t = d - c;
+	  if (s > 1 && t > 1) invokeAll(new ForkJoinQuickSortComp (x, from, from + s, comp), new ForkJoinQuickSortComp (x, to - t, to, comp));
+	  else if (s > 1) invokeAll(new ForkJoinQuickSortComp (x, from, from + s, comp));
+	  else invokeAll(new ForkJoinQuickSortComp (x, to - t, to, comp));
+	 }
+	}
+	/** Sorts the specified range of elements according to the order induced by the specified
+	 * comparator using a parallel quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 */
+	public static void parallelQuickSort(final byte[] x, final int from, final int to, final ByteComparator comp) {
+	 ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_QUICKSORT_NO_FORK || pool.getParallelism() == 1) quickSort(x, from, to, comp);
+	 else {
+	  pool.invoke(new ForkJoinQuickSortComp (x, from, to, comp));
+	 }
+	}
+	/** Sorts an array according to the order induced by the specified
+	 * comparator using a parallel quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * @param x the array to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 */
+	public static void parallelQuickSort(final byte[] x, final ByteComparator comp) {
+	 parallelQuickSort(x, 0, x.length, comp);
+	}
+
+	private static int med3(final byte x[], final int a, final int b, final int c) {
+	 final int ab = ( Byte.compare((x[a]),(x[b])) );
+	 final int ac = ( Byte.compare((x[a]),(x[c])) );
+	 final int bc = ( Byte.compare((x[b]),(x[c])) );
+	 return (ab < 0 ?
+	  (bc < 0 ? b : ac < 0 ? c : a) :
+	  (bc > 0 ? b : ac > 0 ? c : a));
+	}
+
+	private static void selectionSort(final byte[] a, final int from, final int to) {
+	 for(int i = from; i < to - 1; i++) {
+	  int m = i;
+	  for(int j = i + 1; j < to; j++) if (( (a[j]) < (a[m]) )) m = j;
+	  if (m != i) {
+	   final byte u = a[i];
+	   a[i] = a[m];
+	   a[m] = u;
+	  }
+	 }
+	}
+
+	private static void insertionSort(final byte[] a, final int from, final int to) {
+	 for (int i = from; ++i < to;) {
+	  byte t = a[i];
+	  int j = i;
+	  for (byte u = a[j - 1]; ( (t) < (u) ); u = a[--j - 1]) {
+	   a[j] = u;
+	   if (from == j - 1) {
+	    --j;
+	    break;
+	   }
+	  }
+	  a[j] = t;
+	 }
+	}
+	/** Sorts the specified range of elements according to the natural ascending order using quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>Note that this implementation does not allocate any object, contrarily to the implementation
+	 * used to sort primitive types in {@link java.util.Arrays}, which switches to mergesort on large inputs.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+
+	public static void quickSort(final byte[] x, final int from, final int to) {
+	 final int len = to - from;
+	 // Selection sort on smallest arrays
+	 if (len < QUICKSORT_NO_REC) {
+	  selectionSort(x, from, to);
+	  return;
+	 }
+	 // Choose a partition element, v
+	 int m = from + len / 2;
+	 int l = from;
+	 int n = to - 1;
+	 if (len > QUICKSORT_MEDIAN_OF_9) { // Big arrays, pseudomedian of 9
+	  int s = len / 8;
+	  l = med3(x, l, l + s, l + 2 * s);
+	  m = med3(x, m - s, m, m + s);
+	  n = med3(x, n - 2 * s, n - s, n);
+	 }
+	 m = med3(x, l, m, n); // Mid-size, med of 3
+	 final byte v = x[m];
+	 // Establish Invariant: v* (<v)* (>v)* v*
+	 int a = from, b = a, c = to - 1, d = c;
+	 while(true) {
+	  int comparison;
+	  while (b <= c && (comparison = ( Byte.compare((x[b]),(v)) )) <= 0) {
+	   if (comparison == 0) swap(x, a++, b);
+	   b++;
+	  }
+	  while (c >= b && (comparison = ( Byte.compare((x[c]),(v)) )) >=0) {
+	   if (comparison == 0) swap(x, c, d--);
+	   c--;
+	  }
+	  if (b > c) break;
+	  swap(x, b++, c--);
+	 }
+	 // Swap partition elements back to middle
+	 int s;
+	 s = Math.min(a - from, b - a);
+	 swap(x, from, b - s, s);
+	 s = Math.min(d - c, to - d - 1);
+	 swap(x, b, to - s, s);
+	 // Recursively sort non-partition-elements
+	 if ((s = b - a) > 1) quickSort(x, from, from + s);
+	 if ((s = d - c) > 1) quickSort(x, to - s, to);
+	}
+	/** Sorts an array according to the natural ascending order using quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>Note that this implementation does not allocate any object, contrarily to the implementation
+	 * used to sort primitive types in {@link java.util.Arrays}, which switches to mergesort on large inputs.
+	 *
+	 * @param x the array to be sorted.
+	 *
+	 */
+	public static void quickSort(final byte[] x) {
+	 quickSort(x, 0, x.length);
+	}
+	protected static class ForkJoinQuickSort extends RecursiveAction {
+	 private static final long serialVersionUID = 1L;
+	 private final int from;
+	 private final int to;
+	 private final byte[] x;
+	 public ForkJoinQuickSort(final byte[] x , final int from , final int to) {
+	  this.from = from;
+	  this.to = to;
+	  this.x = x;
+	 }
+	 @Override
+	
+	 protected void compute() {
+	  final byte[] x = this.x;
+	  final int len = to - from;
+	  if (len < PARALLEL_QUICKSORT_NO_FORK) {
+	   quickSort(x, from, to);
+	   return;
+	  }
+	  // Choose a partition element, v
+	  int m = from + len / 2;
+	  int l = from;
+	  int n = to - 1;
+	  int s = len / 8;
+	  l = med3(x, l, l + s, l + 2 * s);
+	  m = med3(x, m - s, m, m + s);
+	  n = med3(x, n - 2 * s, n - s, n);
+	  m = med3(x, l, m, n);
+	  final byte v = x[m];
+	  // Establish Invariant: v* (<v)* (>v)* v*
+	  int a = from, b = a, c = to - 1, d = c;
+	  while (true) {
+	   int comparison;
+	   while (b <= c && (comparison = ( Byte.compare((x[b]),(v)) )) <= 0) {
+	    if (comparison == 0) swap(x, a++, b);
+	    b++;
+	   }
+	   while (c >= b && (comparison = ( Byte.compare((x[c]),(v)) )) >= 0) {
+	    if (comparison == 0) swap(x, c, d--);
+	    c--;
+	   }
+	   if (b > c) break;
+	   swap(x, b++, c--);
+	  }
+	  // Swap partition elements back to middle
+	  int t;
+	  s = Math.min(a - from, b - a);
+	  swap(x, from, b - s, s);
+	  s = Math.min(d - c, to - d - 1);
+	  swap(x, b, to - s, s);
+	  // Recursively sort non-partition-elements
+	  s = b - a;
+	  t = d - c;
+	  if (s > 1 && t > 1) invokeAll(new ForkJoinQuickSort (x, from, from + s), new ForkJoinQuickSort (x, to - t, to));
+	  else if (s > 1) invokeAll(new ForkJoinQuickSort (x, from, from + s));
+	  else invokeAll(new ForkJoinQuickSort (x, to - t, to));
+	 }
+	}
+	/**  Sorts the specified range of elements according to the natural ascending order using a parallel quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void parallelQuickSort(final byte[] x, final int from, final int to) {
+	 ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_QUICKSORT_NO_FORK || pool.getParallelism() == 1) quickSort(x, from, to);
+	 else {
+	  pool.invoke(new ForkJoinQuickSort (x, from, to));
+	 }
+	}
+	/** Sorts an array according to the natural ascending order using a parallel quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * @param x the array to be sorted.
+	 *
+	 */
+	public static void parallelQuickSort(final byte[] x) {
+	 parallelQuickSort(x, 0, x.length);
+	}
+
+	private static int med3Indirect(final int perm[], final byte x[], final int a, final int b, final int c) {
+	 final byte aa = x[perm[a]];
+	 final byte bb = x[perm[b]];
+	 final byte cc = x[perm[c]];
+	 final int ab = ( Byte.compare((aa),(bb)) );
+	 final int ac = ( Byte.compare((aa),(cc)) );
+	 final int bc = ( Byte.compare((bb),(cc)) );
+	 return (ab < 0 ?
+	  (bc < 0 ? b : ac < 0 ? c : a) :
+	  (bc > 0 ? b : ac > 0 ? c : a));
+	}
+
+	private static void insertionSortIndirect(final int[] perm, final byte[] a, final int from, final int to) {
+	 for (int i = from; ++i < to;) {
+	  int t = perm[i];
+	  int j = i;
+	  for (int u = perm[j - 1]; ( (a[t]) < (a[u]) ); u = perm[--j - 1]) {
+	   perm[j] = u;
+	   if (from == j - 1) {
+	    --j;
+	    break;
+	   }
+	  }
+	  perm[j] = t;
+	 }
+	}
+	/** Sorts the specified range of elements according to the natural ascending order using indirect quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code x[perm[i]] &le; x[perm[i + 1]]}.
+	 *
+	 * <p>Note that this implementation does not allocate any object, contrarily to the implementation
+	 * used to sort primitive types in {@link java.util.Arrays}, which switches to mergesort on large inputs.
+	 *
+	 * @param perm a permutation array indexing {@code x}.
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+
+	public static void quickSortIndirect(final int[] perm, final byte[] x, final int from, final int to) {
+	 final int len = to - from;
+	 // Selection sort on smallest arrays
+	 if (len < QUICKSORT_NO_REC) {
+	  insertionSortIndirect(perm, x, from, to);
+	  return;
+	 }
+	 // Choose a partition element, v
+	 int m = from + len / 2;
+	 int l = from;
+	 int n = to - 1;
+	 if (len > QUICKSORT_MEDIAN_OF_9) { // Big arrays, pseudomedian of 9
+	  int s = len / 8;
+	  l = med3Indirect(perm, x, l, l + s, l + 2 * s);
+	  m = med3Indirect(perm, x, m - s, m, m + s);
+	  n = med3Indirect(perm, x, n - 2 * s, n - s, n);
+	 }
+	 m = med3Indirect(perm, x, l, m, n); // Mid-size, med of 3
+	 final byte v = x[perm[m]];
+	 // Establish Invariant: v* (<v)* (>v)* v*
+	 int a = from, b = a, c = to - 1, d = c;
+	 while(true) {
+	  int comparison;
+	  while (b <= c && (comparison = ( Byte.compare((x[perm[b]]),(v)) )) <= 0) {
+	   if (comparison == 0) IntArrays.swap(perm, a++, b);
+	   b++;
+	  }
+	  while (c >= b && (comparison = ( Byte.compare((x[perm[c]]),(v)) )) >=0) {
+	   if (comparison == 0) IntArrays.swap(perm, c, d--);
+	   c--;
+	  }
+	  if (b > c) break;
+	  IntArrays.swap(perm, b++, c--);
+	 }
+	 // Swap partition elements back to middle
+	 int s;
+	 s = Math.min(a - from, b - a);
+	 IntArrays.swap(perm, from, b - s, s);
+	 s = Math.min(d - c, to - d - 1);
+	 IntArrays.swap(perm, b, to - s, s);
+	 // Recursively sort non-partition-elements
+	 if ((s = b - a) > 1) quickSortIndirect(perm, x, from, from + s);
+	 if ((s = d - c) > 1) quickSortIndirect(perm, x, to - s, to);
+	}
+	/** Sorts an array according to the natural ascending order using indirect quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code x[perm[i]] &le; x[perm[i + 1]]}.
+	 *
+	 * <p>Note that this implementation does not allocate any object, contrarily to the implementation
+	 * used to sort primitive types in {@link java.util.Arrays}, which switches to mergesort on large inputs.
+	 *
+	 * @param perm a permutation array indexing {@code x}.
+	 * @param x the array to be sorted.
+	 */
+	public static void quickSortIndirect(final int perm[], final byte[] x) {
+	 quickSortIndirect(perm, x, 0, x.length);
+	}
+	protected static class ForkJoinQuickSortIndirect extends RecursiveAction {
+	 private static final long serialVersionUID = 1L;
+	 private final int from;
+	 private final int to;
+	 private final int[] perm;
+	 private final byte[] x;
+	 public ForkJoinQuickSortIndirect(final int perm[], final byte[] x , final int from , final int to) {
+	  this.from = from;
+	  this.to = to;
+	  this.x = x;
+	  this.perm = perm;
+	 }
+	 @Override
+	
+	 protected void compute() {
+	  final byte[] x = this.x;
+	  final int len = to - from;
+	  if (len < PARALLEL_QUICKSORT_NO_FORK) {
+	   quickSortIndirect(perm, x, from, to);
+	   return;
+	  }
+	  // Choose a partition element, v
+	  int m = from + len / 2;
+	  int l = from;
+	  int n = to - 1;
+	  int s = len / 8;
+	  l = med3Indirect(perm, x, l, l + s, l + 2 * s);
+	  m = med3Indirect(perm, x, m - s, m, m + s);
+	  n = med3Indirect(perm, x, n - 2 * s, n - s, n);
+	  m = med3Indirect(perm, x, l, m, n);
+	  final byte v = x[perm[m]];
+	  // Establish Invariant: v* (<v)* (>v)* v*
+	  int a = from, b = a, c = to - 1, d = c;
+	  while (true) {
+	   int comparison;
+	   while (b <= c && (comparison = ( Byte.compare((x[perm[b]]),(v)) )) <= 0) {
+	    if (comparison == 0) IntArrays.swap(perm, a++, b);
+	    b++;
+	   }
+	   while (c >= b && (comparison = ( Byte.compare((x[perm[c]]),(v)) )) >= 0) {
+	    if (comparison == 0) IntArrays.swap(perm, c, d--);
+	    c--;
+	   }
+	   if (b > c) break;
+	   IntArrays.swap(perm, b++, c--);
+	  }
+	  // Swap partition elements back to middle
+	  int t;
+	  s = Math.min(a - from, b - a);
+	  IntArrays.swap(perm, from, b - s, s);
+	  s = Math.min(d - c, to - d - 1);
+	  IntArrays.swap(perm, b, to - s, s);
+	  // Recursively sort non-partition-elements
+	  s = b - a;
+	  t = d - c;
+	  if (s > 1 && t > 1) invokeAll(new ForkJoinQuickSortIndirect (perm, x, from, from + s), new ForkJoinQuickSortIndirect (perm, x, to - t, to));
+	  else if (s > 1) invokeAll(new ForkJoinQuickSortIndirect (perm, x, from, from + s));
+	  else invokeAll(new ForkJoinQuickSortIndirect (perm, x, to - t, to));
+	 }
+	}
+	/**  Sorts the specified range of elements according to the natural ascending order using a parallel indirect quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code x[perm[i]] &le; x[perm[i + 1]]}.
+	 *
+	 * @param perm a permutation array indexing {@code x}.
+	 * @param x the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void parallelQuickSortIndirect(final int[] perm, final byte[] x, final int from, final int to) {
+	 ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_QUICKSORT_NO_FORK || pool.getParallelism() == 1) quickSortIndirect(perm, x, from, to);
+	 else {
+	  pool.invoke(new ForkJoinQuickSortIndirect (perm, x, from, to));
+	 }
+	}
+	/** Sorts an array according to the natural ascending order using a parallel indirect quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code x[perm[i]] &le; x[perm[i + 1]]}.
+	 *
+	 * @param perm a permutation array indexing {@code x}.
+	 * @param x the array to be sorted.
+	 *
+	 */
+	public static void parallelQuickSortIndirect(final int perm[], final byte[] x) {
+	 parallelQuickSortIndirect(perm, x, 0, x.length);
+	}
+	/** Stabilizes a permutation.
+	 *
+	 * <p>This method can be used to stabilize the permutation generated by an indirect sorting, assuming that
+	 * initially the permutation array was in ascending order (e.g., the identity, as usually happens). This method
+	 * scans the permutation, and for each non-singleton block of elements with the same associated values in {@code x},
+	 * permutes them in ascending order. The resulting permutation corresponds to a stable sort.
+	 *
+	 * <p>Usually combining an unstable indirect sort and this method is more efficient than using a stable sort,
+	 * as most stable sort algorithms require a support array.
+	 *
+	 * <p>More precisely, assuming that {@code x[perm[i]] &le; x[perm[i + 1]]}, after
+	 * stabilization we will also have that {@code x[perm[i]] = x[perm[i + 1]]} implies
+	 * {@code perm[i] &le; perm[i + 1]}.
+	 *
+	 * @param perm a permutation array indexing {@code x} so that it is sorted.
+	 * @param x the sorted array to be stabilized.
+	 * @param from the index of the first element (inclusive) to be stabilized.
+	 * @param to the index of the last element (exclusive) to be stabilized.
+	 */
+	public static void stabilize(final int perm[], final byte[] x, final int from, final int to) {
+	 int curr = from;
+	 for(int i = from + 1; i < to; i++) {
+	  if (x[perm[i]] != x[perm[curr]]) {
+	   if (i - curr > 1) IntArrays.parallelQuickSort(perm, curr, i);
+	   curr = i;
+	  }
+	 }
+	 if (to - curr > 1) IntArrays.parallelQuickSort(perm, curr, to);
+	}
+	/** Stabilizes a permutation.
+	 *
+	 * <p>This method can be used to stabilize the permutation generated by an indirect sorting, assuming that
+	 * initially the permutation array was in ascending order (e.g., the identity, as usually happens). This method
+	 * scans the permutation, and for each non-singleton block of elements with the same associated values in {@code x},
+	 * permutes them in ascending order. The resulting permutation corresponds to a stable sort.
+	 *
+	 * <p>Usually combining an unstable indirect sort and this method is more efficient than using a stable sort,
+	 * as most stable sort algorithms require a support array.
+	 *
+	 * <p>More precisely, assuming that {@code x[perm[i]] &le; x[perm[i + 1]]}, after
+	 * stabilization we will also have that {@code x[perm[i]] = x[perm[i + 1]]} implies
+	 * {@code perm[i] &le; perm[i + 1]}.
+	 *
+	 * @param perm a permutation array indexing {@code x} so that it is sorted.
+	 * @param x the sorted array to be stabilized.
+	 */
+	public static void stabilize(final int perm[], final byte[] x) {
+	 stabilize(perm, x, 0, perm.length);
+	}
+
+	private static int med3(final byte x[], final byte[] y, final int a, final int b, final int c) {
+	 int t;
+	 final int ab = (t = ( Byte.compare((x[a]),(x[b])) )) == 0 ? ( Byte.compare((y[a]),(y[b])) ) : t;
+	 final int ac = (t = ( Byte.compare((x[a]),(x[c])) )) == 0 ? ( Byte.compare((y[a]),(y[c])) ) : t;
+	 final int bc = (t = ( Byte.compare((x[b]),(x[c])) )) == 0 ? ( Byte.compare((y[b]),(y[c])) ) : t;
+	 return (ab < 0 ?
+	   (bc < 0 ? b : ac < 0 ? c : a) :
+	   (bc > 0 ? b : ac > 0 ? c : a));
+	}
+	private static void swap(final byte x[], final byte[] y, final int a, final int b) {
+	 final byte t = x[a];
+	 final byte u = y[a];
+	 x[a] = x[b];
+	 y[a] = y[b];
+	 x[b] = t;
+	 y[b] = u;
+	}
+	private static void swap(final byte[] x, final byte[] y, int a, int b, final int n) {
+	 for (int i = 0; i < n; i++, a++, b++) swap(x, y, a, b);
+	}
+
+	private static void selectionSort(final byte[] a, final byte[] b, final int from, final int to) {
+	 for(int i = from; i < to - 1; i++) {
+	  int m = i, u;
+	  for(int j = i + 1; j < to; j++)
+	   if ((u = ( Byte.compare((a[j]),(a[m])) )) < 0 || u == 0 && ( (b[j]) < (b[m]) )) m = j;
+	  if (m != i) {
+	   byte t = a[i];
+	   a[i] = a[m];
+	   a[m] = t;
+	   t = b[i];
+	   b[i] = b[m];
+	   b[m] = t;
+	  }
+	 }
+	}
+	/** Sorts the specified range of elements of two arrays according to the natural lexicographical
+	 *  ascending order using quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the arguments. Pairs of
+	 * elements in the same position in the two provided arrays will be considered a single key, and
+	 * permuted accordingly. In the end, either {@code x[i] &lt; x[i + 1]} or {@code x[i]
+	 * == x[i + 1]} and {@code y[i] &le; y[i + 1]}.
+	 *
+	 * @param x the first array to be sorted.
+	 * @param y the second array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+
+	public static void quickSort(final byte[] x, final byte[] y, final int from, final int to) {
+	 final int len = to - from;
+	 if (len < QUICKSORT_NO_REC) {
+	  selectionSort(x, y, from, to);
+	  return;
+	 }
+	 // Choose a partition element, v
+	 int m = from + len / 2;
+	 int l = from;
+	 int n = to - 1;
+	 if (len > QUICKSORT_MEDIAN_OF_9) { // Big arrays, pseudomedian of 9
+	  int s = len / 8;
+	  l = med3(x, y, l, l + s, l + 2 * s);
+	  m = med3(x, y, m - s, m, m + s);
+	  n = med3(x, y, n - 2 * s, n - s, n);
+	 }
+	 m = med3(x, y, l, m, n); // Mid-size, med of 3
+	 final byte v = x[m], w = y[m];
+	 // Establish Invariant: v* (<v)* (>v)* v*
+	 int a = from, b = a, c = to - 1, d = c;
+	 while (true) {
+	  int comparison, t;
+	  while (b <= c && (comparison = (t = ( Byte.compare((x[b]),(v)) )) == 0 ? ( Byte.compare((y[b]),(w)) ) : t) <= 0) {
+	   if (comparison == 0) swap(x, y, a++, b);
+	   b++;
+	  }
+	  while (c >= b && (comparison = (t = ( Byte.compare((x[c]),(v)) )) == 0 ? ( Byte.compare((y[c]),(w)) ) : t) >= 0) {
+	   if (comparison == 0) swap(x, y, c, d--);
+	   c--;
+	  }
+	  if (b > c) break;
+	  swap(x, y, b++, c--);
+	 }
+	 // Swap partition elements back to middle
+	 int s;
+	 s = Math.min(a - from, b - a);
+	 swap(x, y, from, b - s, s);
+	 s = Math.min(d - c, to - d - 1);
+	 swap(x, y, b, to - s, s);
+	 // Recursively sort non-partition-elements
+	 if ((s = b - a) > 1) quickSort(x, y, from, from + s);
+	 if ((s = d - c) > 1) quickSort(x, y, to - s, to);
+	}
+	/** Sorts two arrays according to the natural lexicographical ascending order using quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the arguments. Pairs of
+	 * elements in the same position in the two provided arrays will be considered a single key, and
+	 * permuted accordingly. In the end, either {@code x[i] &lt; x[i + 1]} or {@code x[i]
+	 * == x[i + 1]} and {@code y[i] &le; y[i + 1]}.
+	 *
+	 * @param x the first array to be sorted.
+	 * @param y the second array to be sorted.
+	 */
+	public static void quickSort(final byte[] x, final byte[] y) {
+	 ensureSameLength(x, y);
+	 quickSort(x, y, 0, x.length);
+	}
+	protected static class ForkJoinQuickSort2 extends RecursiveAction {
+	 private static final long serialVersionUID = 1L;
+	 private final int from;
+	 private final int to;
+	 private final byte[] x, y;
+	 public ForkJoinQuickSort2(final byte[] x, final byte[] y, final int from , final int to) {
+	  this.from = from;
+	  this.to = to;
+	  this.x = x;
+	  this.y = y;
+	 }
+	 @Override
+	
+	 protected void compute() {
+	  final byte[] x = this.x;
+	  final byte[] y = this.y;
+	  final int len = to - from;
+	  if (len < PARALLEL_QUICKSORT_NO_FORK) {
+	   quickSort(x, y, from, to);
+	   return;
+	  }
+	  // Choose a partition element, v
+	  int m = from + len / 2;
+	  int l = from;
+	  int n = to - 1;
+	  int s = len / 8;
+	  l = med3(x, y, l, l + s, l + 2 * s);
+	  m = med3(x, y, m - s, m, m + s);
+	  n = med3(x, y, n - 2 * s, n - s, n);
+	  m = med3(x, y, l, m, n);
+	  final byte v = x[m], w = y[m];
+	  // Establish Invariant: v* (<v)* (>v)* v*
+	  int a = from, b = a, c = to - 1, d = c;
+	  while (true) {
+	   int comparison, t;
+	   while (b <= c && (comparison = (t = ( Byte.compare((x[b]),(v)) )) == 0 ? ( Byte.compare((y[b]),(w)) ) : t) <= 0) {
+	    if (comparison == 0) swap(x, y, a++, b);
+	    b++;
+	   }
+	   while (c >= b && (comparison = (t = ( Byte.compare((x[c]),(v)) )) == 0 ? ( Byte.compare((y[c]),(w)) ) : t) >= 0) {
+	    if (comparison == 0) swap(x, y, c, d--);
+	    c--;
+	   }
+	   if (b > c) break;
+	   swap(x, y, b++, c--);
+	  }
+	  // Swap partition elements back to middle
+	  int t;
+	  s = Math.min(a - from, b - a);
+	  swap(x, y, from, b - s, s);
+	  s = Math.min(d - c, to - d - 1);
+	  swap(x, y, b, to - s, s);
+	  s = b - a;
+	  t = d - c;
+	  // Recursively sort non-partition-elements
+	  if (s > 1 && t > 1) invokeAll(new ForkJoinQuickSort2 (x, y, from, from + s), new ForkJoinQuickSort2 (x, y, to - t, to));
+	  else if (s > 1) invokeAll(new ForkJoinQuickSort2 (x, y, from, from + s));
+	  else invokeAll(new ForkJoinQuickSort2 (x, y, to - t, to));
+	 }
+	}
+	/** Sorts the specified range of elements of two arrays according to the natural lexicographical
+	 *  ascending order using a parallel quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the arguments. Pairs of
+	 * elements in the same position in the two provided arrays will be considered a single key, and
+	 * permuted accordingly. In the end, either {@code x[i] &lt; x[i + 1]} or {@code x[i]
+	 * == x[i + 1]} and {@code y[i] &le; y[i + 1]}.
+	 *
+	 * @param x the first array to be sorted.
+	 * @param y the second array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void parallelQuickSort(final byte[] x, final byte[] y, final int from, final int to) {
+	 ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_QUICKSORT_NO_FORK || pool.getParallelism() == 1) quickSort(x, y, from, to);
+	 else {
+	  pool.invoke(new ForkJoinQuickSort2 (x, y, from, to));
+	 }
+	}
+	/** Sorts two arrays according to the natural lexicographical
+	 *  ascending order using a parallel quicksort.
+	 *
+	 * <p>The sorting algorithm is a tuned quicksort adapted from Jon L. Bentley and M. Douglas
+	 * McIlroy, &ldquo;Engineering a Sort Function&rdquo;, <i>Software: Practice and Experience</i>, 23(11), pages
+	 * 1249&minus;1265, 1993.
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the arguments. Pairs of
+	 * elements in the same position in the two provided arrays will be considered a single key, and
+	 * permuted accordingly. In the end, either {@code x[i] &lt; x[i + 1]} or {@code x[i]
+	 * == x[i + 1]} and {@code y[i] &le; y[i + 1]}.
+	 *
+	 * @param x the first array to be sorted.
+	 * @param y the second array to be sorted.
+	 */
+	public static void parallelQuickSort(final byte[] x, final byte[] y) {
+	 ensureSameLength(x, y);
+	 parallelQuickSort(x, y, 0, x.length);
+	}
+	/** Sorts an array according to the natural ascending order,
+	 * potentially dynamically choosing an appropriate algorithm given the type and size of the array. The
+	 * sort will be stable unless it is provable that it would be impossible for there to be any difference
+	 * between a stable and unstable sort for the given type, in which case stability is meaningless and thus
+	 * unspecified.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @since 8.3.0
+	 */
+	public static void unstableSort(final byte a[], final int from, final int to) {
+	  // JDK's sort for bytes uses bucket sort; not even radix sort can beat that.
+	  java.util.Arrays.sort(a, from, to);
+	}
+	/** Sorts the specified range of elements according to the natural ascending order
+	 * potentially dynamically choosing an appropriate algorithm given the type and size of the array.
+	 * No assurance is made of the stability of the sort.
+	 *
+	 * @param a the array to be sorted.
+	 * @since 8.3.0
+	 */
+	public static void unstableSort(final byte a[]) {
+	 unstableSort(a, 0, a.length);
+	}
+	/** Sorts the specified range of elements according to the order induced by the specified comparator,
+	 * potentially dynamically choosing an appropriate algorithm given the type and size of the array.
+	 * No assurance is made of the stability of the sort.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @since 8.3.0
+	 */
+	public static void unstableSort(final byte a[], final int from, final int to, ByteComparator comp) {
+	 quickSort(a, from, to, comp);
+	}
+	/** Sorts an array according to the order induced by the specified comparator,
+	 * potentially dynamically choosing an appropriate algorithm given the type and size of the array.
+	 * No assurance is made of the stability of the sort.
+	 *
+	 * @param a the array to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @since 8.3.0
+	 */
+	public static void unstableSort(final byte a[], ByteComparator comp) {
+	 unstableSort(a, 0, a.length, comp);
+	}
+	/** Sorts the specified range of elements according to the natural ascending order using mergesort, using a given pre-filled support array.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Moreover, no support arrays will be allocated.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param supp a support array containing at least {@code to} elements, and whose entries are identical to those
+	 * of {@code a} in the specified range. It can be {@code null}, in which case {@code a} will be cloned.
+	 */
+
+	public static void mergeSort(final byte a[], final int from, final int to, byte supp[]) {
+	 int len = to - from;
+	 // Insertion sort on smallest arrays
+	 if (len < MERGESORT_NO_REC) {
+	  insertionSort(a, from, to);
+	  return;
+	 }
+	 if (supp == null) supp = java.util.Arrays.copyOf(a, to);
+	 // Recursively sort halves of a into supp
+	 final int mid = (from + to) >>> 1;
+	 mergeSort(supp, from, mid, a);
+	 mergeSort(supp, mid, to, a);
+	 // If list is already sorted, just copy from supp to a.  This is an
+	 // optimization that results in faster sorts for nearly ordered lists.
+	 if (( (supp[mid - 1]) <= (supp[mid]) )) {
+	  System.arraycopy(supp, from, a, from, len);
+	  return;
+	 }
+	 // Merge sorted halves (now in supp) into a
+	 for(int i = from, p = from, q = mid; i < to; i++) {
+	  if (q >= to || p < mid && ( (supp[p]) <= (supp[q]) )) a[i] = supp[p++];
+	  else a[i] = supp[q++];
+	 }
+	}
+	/** Sorts the specified range of elements according to the natural ascending order using mergesort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. An array as large as {@code a} will be allocated by this method.
+
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void mergeSort(final byte a[], final int from, final int to) {
+	 mergeSort(a, from, to, (byte[])null);
+	}
+	/**	Sorts an array according to the natural ascending order using mergesort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. An array as large as {@code a} will be allocated by this method.
+
+	 * @param a the array to be sorted.
+	 */
+	public static void mergeSort(final byte a[]) {
+	 mergeSort(a, 0, a.length);
+	}
+	/** Sorts the specified range of elements according to the order induced by the specified
+	 * comparator using mergesort, using a given pre-filled support array.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Moreover, no support arrays will be allocated.
+
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @param supp a support array containing at least {@code to} elements, and whose entries are identical to those
+	 * of {@code a} in the specified range. It can be {@code null}, in which case {@code a} will be cloned.
+	 */
+	public static void mergeSort(final byte a[], final int from, final int to, ByteComparator comp, byte supp[]) {
+	 int len = to - from;
+	 // Insertion sort on smallest arrays
+	 if (len < MERGESORT_NO_REC) {
+	  insertionSort(a, from, to, comp);
+	  return;
+	 }
+	 if (supp == null) supp = java.util.Arrays.copyOf(a, to);
+	 // Recursively sort halves of a into supp
+	 final int mid = (from + to) >>> 1;
+	 mergeSort(supp, from, mid, comp, a);
+	 mergeSort(supp, mid, to, comp, a);
+	 // If list is already sorted, just copy from supp to a.  This is an
+	 // optimization that results in faster sorts for nearly ordered lists.
+	 if (comp.compare(supp[mid - 1], supp[mid]) <= 0) {
+	  System.arraycopy(supp, from, a, from, len);
+	  return;
+	 }
+	 // Merge sorted halves (now in supp) into a
+	 for(int i = from, p = from, q = mid; i < to; i++) {
+	  if (q >= to || p < mid && comp.compare(supp[p], supp[q]) <= 0) a[i] = supp[p++];
+	  else a[i] = supp[q++];
+	 }
+	}
+	/** Sorts the specified range of elements according to the order induced by the specified
+	 * comparator using mergesort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. An array as large as {@code a} will be allocated by this method.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 */
+	public static void mergeSort(final byte a[], final int from, final int to, ByteComparator comp) {
+	 mergeSort(a, from, to, comp, (byte[])null);
+	}
+	/** Sorts an array according to the order induced by the specified
+	 * comparator using mergesort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort.  An array as large as {@code a} will be allocated by this method.
+
+	 * @param a the array to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 */
+	public static void mergeSort(final byte a[], ByteComparator comp) {
+	 mergeSort(a, 0, a.length, comp);
+	}
+	/** The minimum length of a run in {@link #powerSort(KEY_TYPE[], int, int)}; shorter natural runs are extended using insertion sort. */
+	private static final int POWERSORT_MIN_RUN = 24;
+	/** The maximum height of the run stack of {@link #powerSort(KEY_TYPE[], int, int)}; node powers are at most 32 for arrays of length less than 2<sup>31</sup>. */
+	private static final int POWERSORT_MAX_STACK = 34;
+	private static final int PARALLEL_POWERSORT_NO_FORK = 8192;
+	/** Computes the power of the node between two adjacent runs, following J.&nbsp;Ian Munro and Sebastian Wild.
+	 *
+	 * <p>The power is the depth of the node of the (virtual) nearly-optimal binary search tree whose
+	 * leaves are the runs, that is, one plus the length of the common prefix of the binary expansions
+	 * of the normalized midpoints of the two runs.
+	 *
+	 * @param from the index of the first element of the range being sorted.
+	 * @param to the index after the last element of the range being sorted.
+	 * @param begin1 the index of the first element of the first run.
+	 * @param begin2 the index of the first element of the second run (i.e., the end of the first run).
+	 * @param end2 the index after the last element of the second run.
+	 * @return the power of the node between the two runs.
+	 */
+	private static int nodePower(final int from, final int to, final int begin1, final int begin2, final int end2) {
+	 final long twoN = 2L * (to - from);
+	 long l = (long)begin1 + begin2 - 2L * from;
+	 long r = (long)begin2 + end2 - 2L * from;
+	 int power = 0;
+	 for(;;) {
+	  power++;
+	  if (l >= twoN) {
+	   l -= twoN;
+	   r -= twoN;
+	  }
+	  else if (r >= twoN) break;
+	  l <<= 1;
+	  r <<= 1;
+	 }
+	 return power;
+	}
+	/** Finds the end of the natural run starting at a given position, reversing it if it is strictly descending.
+	 *
+	 * @param a an array.
+	 * @param from the start of the run.
+	 * @param to the end of the range in which the run must be looked for; it must be larger than {@code from}.
+	 * @return the end of the natural run starting at {@code from}, which is now nondescending.
+	 */
+
+	private static int extendRun(final byte[] a, final int from, final int to) {
+	 int i = from + 1;
+	 if (i == to) return to;
+	 if (( (a[i]) < (a[from]) )) {
+	  // Reversing a strictly descending run preserves stability
+	  while(++i < to && ( (a[i]) < (a[i - 1]) ));
+	  reverse(a, from, i);
+	 }
+	 else while(++i < to && ! ( (a[i]) < (a[i - 1]) ));
+	 return i;
+	}
+	/** Finds the end of a run of length at least {@link #POWERSORT_MIN_RUN} (or ending at {@code to}) starting at a given position, sorting it if necessary. */
+	private static int nextRun(final byte[] a, final int from, final int to) {
+	 final int end = extendRun(a, from, to);
+	 if (end - from >= POWERSORT_MIN_RUN || end == to) return end;
+	 final int forcedEnd = Math.min(to, from + POWERSORT_MIN_RUN);
+	 insertionSort(a, from, forcedEnd);
+	 return forcedEnd;
+	}
+	/** Stably merges two adjacent nondescending runs, using a support array that is enlarged if necessary.
+	 *
+	 * <p>Elements of the first run that are not greater than the first element of the second run, and elements
+	 * of the second run that are not smaller than the last element of the first run, are already in place and
+	 * are not moved. The shortest of the remaining parts is copied into the support array.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element of the first run.
+	 * @param mid the index of the first element of the second run.
+	 * @param to the index after the last element of the second run.
+	 * @param buffer a support array.
+	 * @return {@code buffer}, or a larger replacement.
+	 */
+
+	private static byte[] mergeRuns(final byte[] a, int from, final int mid, int to, byte[] buffer) {
+	 if (! ( (a[mid]) < (a[mid - 1]) )) return buffer;
+	 // Skip the prefix of the first run not greater than a[mid]
+	 final byte first = a[mid];
+	 for(int lo = from, hi = mid - 1; lo < hi;) {
+	  final int m = (lo + hi) >>> 1;
+	  if (( (first) < (a[m]) )) hi = m;
+	  else lo = m + 1;
+	  from = lo;
+	 }
+	 // Skip the suffix of the second run not smaller than a[mid - 1]
+	 final byte last = a[mid - 1];
+	 for(int lo = mid + 1, hi = to; lo < hi;) {
+	  final int m = (lo + hi) >>> 1;
+	  if (( (a[m]) < (last) )) lo = m + 1;
+	  else hi = m;
+	  to = hi;
+	 }
+	 final int len1 = mid - from, len2 = to - mid;
+	 if (len1 <= len2) {
+	  buffer = ensureCapacity(buffer, len1, 0);
+	  System.arraycopy(a, from, buffer, 0, len1);
+	  int i = 0, j = mid, k = from;
+	  while(i < len1 && j < to) a[k++] = ( (a[j]) < (buffer[i]) ) ? a[j++] : buffer[i++];
+	  System.arraycopy(buffer, i, a, k, len1 - i);
+	 }
+	 else {
+	  buffer = ensureCapacity(buffer, len2, 0);
+	  System.arraycopy(a, mid, buffer, 0, len2);
+	  int i = mid - 1, j = len2 - 1, k = to - 1;
+	  while(i >= from && j >= 0) a[k--] = ( (buffer[j]) < (a[i]) ) ? a[i--] : buffer[j--];
+	  System.arraycopy(buffer, 0, a, from, j + 1);
+	 }
+	 return buffer;
+	}
+	/** Sorts the specified range of elements according to the natural ascending order using powersort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Powersort is an adaptive mergesort: it detects the natural (nondescending or strictly descending)
+	 * runs of the array and merges them following a nearly-optimal merge policy, so it runs in linear
+	 * time on sorted or reverse-sorted arrays, and in time proportional to <var>n</var>&nbsp;(1&nbsp;+&nbsp;<var>H</var>),
+	 * where <var>H</var> is the entropy of the distribution of run lengths, in general. The
+	 * algorithm is described by J.&nbsp;Ian Munro and Sebastian Wild in &ldquo;Nearly-Optimal Mergesorts: Fast, Practical
+	 * Sorting Methods That Optimally Adapt to Existing Runs&rdquo;, <i>26th Annual European Symposium on Algorithms (ESA 2018)</i>,
+	 * LIPIcs 112, pages 63:1&minus;63:16, 2018.
+	 *
+	 * <p>A support array at most half as large as the range will be allocated by this method, unless the range is already sorted.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @since 8.5.19
+	 */
+	public static void powerSort(final byte[] a, final int from, final int to) {
+	 if (to - from < 2) return;
+	 final int[] runStart = new int[POWERSORT_MAX_STACK];
+	 final int[] runPower = new int[POWERSORT_MAX_STACK];
+	 byte[] buffer = java.util.Arrays.copyOf(a, 0);
+	 int top = 0;
+	 int begin = from, end = nextRun(a, from, to);
+	 while(end < to) {
+	  final int nextEnd = nextRun(a, end, to);
+	  final int power = nodePower(from, to, begin, end, nextEnd);
+	  // Merge the runs on the stack whose powers are larger than that of the new node
+	  while(top > 0 && runPower[top - 1] > power) {
+	   buffer = mergeRuns(a, runStart[--top], begin, end, buffer);
+	   begin = runStart[top];
+	  }
+	  runStart[top] = begin;
+	  runPower[top++] = power;
+	  begin = end;
+	  end = nextEnd;
+	 }
+	 while(top > 0) {
+	  buffer = mergeRuns(a, runStart[--top], begin, to, buffer);
+	  begin = runStart[top];
+	 }
+	}
+	/** Sorts an array according to the natural ascending order using powersort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Please see {@link #powerSort(KEY_TYPE[], int, int)} for details.
+	 *
+	 * @param a the array to be sorted.
+	 * @since 8.5.19
+	 */
+	public static void powerSort(final byte[] a) {
+	 powerSort(a, 0, a.length);
+	}
+	/** Finds the end of the natural run starting at a given position using a comparator, reversing it if it is strictly descending. */
+	private static int extendRun(final byte[] a, final int from, final int to, final ByteComparator comp) {
+	 int i = from + 1;
+	 if (i == to) return to;
+	 if (comp.compare(a[i], a[from]) < 0) {
+	  while(++i < to && comp.compare(a[i], a[i - 1]) < 0);
+	  reverse(a, from, i);
+	 }
+	 else while(++i < to && comp.compare(a[i], a[i - 1]) >= 0);
+	 return i;
+	}
+	/** Finds the end of a run of length at least {@link #POWERSORT_MIN_RUN} (or ending at {@code to}) starting at a given position using a comparator, sorting it if necessary. */
+	private static int nextRun(final byte[] a, final int from, final int to, final ByteComparator comp) {
+	 final int end = extendRun(a, from, to, comp);
+	 if (end - from >= POWERSORT_MIN_RUN || end == to) return end;
+	 final int forcedEnd = Math.min(to, from + POWERSORT_MIN_RUN);
+	 insertionSort(a, from, forcedEnd, comp);
+	 return forcedEnd;
+	}
+	/** Stably merges two adjacent runs that are nondescending with respect to a comparator, using a support array that is enlarged if necessary.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element of the first run.
+	 * @param mid the index of the first element of the second run.
+	 * @param to the index after the last element of the second run.
+	 * @param comp the comparator to determine the order.
+	 * @param buffer a support array.
+	 * @return {@code buffer}, or a larger replacement.
+	 * @see #mergeRuns(KEY_TYPE[], int, int, int, KEY_TYPE[])
+	 */
+	private static byte[] mergeRuns(final byte[] a, int from, final int mid, int to, final ByteComparator comp, byte[] buffer) {
+	 if (comp.compare(a[mid], a[mid - 1]) >= 0) return buffer;
+	 final byte first = a[mid];
+	 for(int lo = from, hi = mid - 1; lo < hi;) {
+	  final int m = (lo + hi) >>> 1;
+	  if (comp.compare(first, a[m]) < 0) hi = m;
+	  else lo = m + 1;
+	  from = lo;
+	 }
+	 final byte last = a[mid - 1];
+	 for(int lo = mid + 1, hi = to; lo < hi;) {
+	  final int m = (lo + hi) >>> 1;
+	  if (comp.compare(a[m], last) < 0) lo = m + 1;
+	  else hi = m;
+	  to = hi;
+	 }
+	 final int len1 = mid - from, len2 = to - mid;
+	 if (len1 <= len2) {
+	  buffer = ensureCapacity(buffer, len1, 0);
+	  System.arraycopy(a, from, buffer, 0, len1);
+	  int i = 0, j = mid, k = from;
+	  while(i < len1 && j < to) a[k++] = comp.compare(a[j], buffer[i]) < 0 ? a[j++] : buffer[i++];
+	  System.arraycopy(buffer, i, a, k, len1 - i);
+	 }
+	 else {
+	  buffer = ensureCapacity(buffer, len2, 0);
+	  System.arraycopy(a, mid, buffer, 0, len2);
+	  int i = mid - 1, j = len2 - 1, k = to - 1;
+	  while(i >= from && j >= 0) a[k--] = comp.compare(buffer[j], a[i]) < 0 ? a[i--] : buffer[j--];
+	  System.arraycopy(buffer, 0, a, from, j + 1);
+	 }
+	 return buffer;
+	}
+	/** Sorts the specified range of elements according to the order induced by the specified
+	 * comparator using powersort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Please see {@link #powerSort(KEY_TYPE[], int, int)} for details.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @since 8.5.19
+	 */
+	public static void powerSort(final byte[] a, final int from, final int to, final ByteComparator comp) {
+	 if (to - from < 2) return;
+	 final int[] runStart = new int[POWERSORT_MAX_STACK];
+	 final int[] runPower = new int[POWERSORT_MAX_STACK];
+	 byte[] buffer = java.util.Arrays.copyOf(a, 0);
+	 int top = 0;
+	 int begin = from, end = nextRun(a, from, to, comp);
+	 while(end < to) {
+	  final int nextEnd = nextRun(a, end, to, comp);
+	  final int power = nodePower(from, to, begin, end, nextEnd);
+	  while(top > 0 && runPower[top - 1] > power) {
+	   buffer = mergeRuns(a, runStart[--top], begin, end, comp, buffer);
+	   begin = runStart[top];
+	  }
+	  runStart[top] = begin;
+	  runPower[top++] = power;
+	  begin = end;
+	  end = nextEnd;
+	 }
+	 while(top > 0) {
+	  buffer = mergeRuns(a, runStart[--top], begin, to, comp, buffer);
+	  begin = runStart[top];
+	 }
+	}
+	/** Sorts an array according to the order induced by the specified
+	 * comparator using powersort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Please see {@link #powerSort(KEY_TYPE[], int, int)} for details.
+	 *
+	 * @param a the array to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @since 8.5.19
+	 */
+	public static void powerSort(final byte[] a, final ByteComparator comp) {
+	 powerSort(a, 0, a.length, comp);
+	}
+	protected static class ForkJoinPowerSort extends RecursiveAction {
+	 private static final long serialVersionUID = 1L;
+	 private final int from;
+	 private final int to;
+	 private final byte[] x;
+	 private final ByteComparator comp;
+	 public ForkJoinPowerSort(final byte[] x, final int from, final int to, final ByteComparator comp) {
+	  this.from = from;
+	  this.to = to;
+	  this.x = x;
+	  this.comp = comp;
+	 }
+	 @Override
+	 protected void compute() {
+	  final byte[] x = this.x;
+	  if (to - from < PARALLEL_POWERSORT_NO_FORK) {
+	   if (comp == null) powerSort(x, from, to);
+	   else powerSort(x, from, to, comp);
+	   return;
+	  }
+	  final int mid = (from + to) >>> 1;
+	  invokeAll(new ForkJoinPowerSort (x, from, mid, comp), new ForkJoinPowerSort (x, mid, to, comp));
+	  final byte[] buffer = java.util.Arrays.copyOf(x, 0);
+	  if (comp == null) mergeRuns(x, from, mid, to, buffer);
+	  else mergeRuns(x, from, mid, to, comp, buffer);
+	 }
+	}
+	/** Sorts the specified range of elements according to the natural ascending order using a parallel powersort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. The range is recursively split in halves, which are sorted in parallel using {@linkplain #powerSort(KEY_TYPE[], int, int) powersort}
+	 * and then merged. Since merges of runs that are already in order take constant time, sorted or nearly-sorted
+	 * inputs are still sorted in linear time.
+	 *
+	 * <p>This implementation uses a {@link ForkJoinPool} executor service, see {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @since 8.5.19
+	 */
+	public static void parallelPowerSort(final byte[] a, final int from, final int to) {
+	 final ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_POWERSORT_NO_FORK || pool.getParallelism() == 1) powerSort(a, from, to);
+	 else pool.invoke(new ForkJoinPowerSort (a, from, to, null));
+	}
+	/** Sorts an array according to the natural ascending order using a parallel powersort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Please see {@link #parallelPowerSort(KEY_TYPE[], int, int)} for details.
+	 *
+	 * @param a the array to be sorted.
+	 * @since 8.5.19
+	 */
+	public static void parallelPowerSort(final byte[] a) {
+	 parallelPowerSort(a, 0, a.length);
+	}
+	/** Sorts the specified range of elements according to the order induced by the specified
+	 * comparator using a parallel powersort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Please see {@link #parallelPowerSort(KEY_TYPE[], int, int)} for details.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @since 8.5.19
+	 */
+	public static void parallelPowerSort(final byte[] a, final int from, final int to, final ByteComparator comp) {
+	 final ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_POWERSORT_NO_FORK || pool.getParallelism() == 1) powerSort(a, from, to, comp);
+	 else pool.invoke(new ForkJoinPowerSort (a, from, to, comp));
+	}
+	/** Sorts an array according to the order induced by the specified
+	 * comparator using a parallel powersort.
+	 *
+	 * <p>This sort is guaranteed to be <i>stable</i>: equal elements will not be reordered as a result
+	 * of the sort. Please see {@link #parallelPowerSort(KEY_TYPE[], int, int)} for details.
+	 *
+	 * @param a the array to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @since 8.5.19
+	 */
+	public static void parallelPowerSort(final byte[] a, final ByteComparator comp) {
+	 parallelPowerSort(a, 0, a.length, comp);
+	}
+	/** Sorts an array according to the natural ascending order,
+	 * potentially dynamically choosing an appropriate algorithm given the type and size of the array. The
+	 * sort will be stable unless it is provable that it would be impossible for there to be any difference
+	 * between a stable and unstable sort for the given type, in which case stability is meaningless and thus
+	 * unspecified.
+	 *
+	 * <p>An array as large as {@code a} may be allocated by this method.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @since 8.3.0
+	 */
+	public static void stableSort(final byte a[], final int from, final int to) {
+	 // For non-floating point primitive types, when comparing naturally,
+	 // it is impossible to tell the difference between a stable and not-stable sort.
+	 // So just use the probably faster unstable sort.
+	 unstableSort(a, from, to);
+	}
+	/** Sorts the specified range of elements according to the natural ascending order
+	 * potentially dynamically choosing an appropriate algorithm given the type and size of the array. The
+	 * sort will be stable unless it is provable that it would be impossible for there to be any difference
+	 * between a stable and unstable sort for the given type, in which case stability is meaningless and thus
+	 * unspecified.
+	 *
+	 * <p>An array as large as {@code a} may be allocated by this method.
+	 *
+	 * @param a the array to be sorted.
+	 * @since 8.3.0
+	 */
+	public static void stableSort(final byte a[]) {
+	 stableSort(a, 0, a.length);
+	}
+	/** Sorts the specified range of elements according to the order induced by the specified comparator,
+	 * potentially dynamically choosing an appropriate algorithm given the type and size of the array. The
+	 * sort will be stable unless it is provable that it would be impossible for there to be any difference
+	 * between a stable and unstable sort for the given type, in which case stability is meaningless and thus
+	 * unspecified.
+	 *
+	 * <p>An array as large as {@code a} may be allocated by this method.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @since 8.3.0
+	 */
+	public static void stableSort(final byte a[], final int from, final int to, ByteComparator comp) {
+	 powerSort(a, from, to, comp);
+	}
+	/** Sorts an array according to the order induced by the specified comparator,
+	 * potentially dynamically choosing an appropriate algorithm given the type and size of the array. The
+	 * sort will be stable unless it is provable that it would be impossible for there to be any difference
+	 * between a stable and unstable sort for the given type, in which case stability is meaningless and thus
+	 * unspecified.
+	 *
+	 * <p>An array as large as {@code a} may be allocated by this method.
+	 *
+	 * @param a the array to be sorted.
+	 * @param comp the comparator to determine the sorting order.
+	 * @since 8.3.0
+	 */
+	public static void stableSort(final byte a[], ByteComparator comp) {
+	 stableSort(a, 0, a.length, comp);
+	}
+	/** The length of a range below which selection methods use insertion sort. */
+	private static final int SELECT_NO_REC = 16;
+	/** The number of unbalanced partitions (i.e., leaving more than three quarters of the range) tolerated by
+	 * selection methods before switching to median-of-medians pivots. Since the total cost of the
+	 * tolerated partitions is at most linear, selection is linear in the worst case. */
+	private static final int SELECT_UNBALANCED = 4;
+	/** Checks that a selection index lies within a range.
+	 *
+	 * @param from the index of the first element (inclusive) of the range.
+	 * @param to the index of the last element (exclusive) of the range.
+	 * @param k the selection index.
+	 * @throws IllegalArgumentException if {@code k} is not in the range.
+	 */
+	private static void ensureSelectIndex(final int from, final int to, final int k) {
+	 if (k < from || k >= to) throw new IllegalArgumentException("Selection index (" + k + ") is not in the range [" + from + ".." + to + ")");
+	}
+	/** Moves the medians of groups of five elements to the start of a range, and returns the index of their median. */
+	private static int medianOfMedians(final byte[] a, final int from, final int to) {
+	 int m = from;
+	 for(int i = from; i < to; i += 5) {
+	  final int end = Math.min(i + 5, to);
+	  insertionSort(a, i, end);
+	  swap(a, m++, (i + end - 1) >>> 1);
+	 }
+	 final int median = (from + m) >>> 1;
+	 introSelect(a, from, m, median);
+	 return median;
+	}
+
+	private static void introSelect(final byte[] a, int from, int to, final int k) {
+	 int budget = SELECT_UNBALANCED;
+	 while(to - from > SELECT_NO_REC) {
+	  final int len = to - from;
+	  int m;
+	  if (budget > 0) {
+	   m = from + len / 2;
+	   int l = from;
+	   int n = to - 1;
+	   if (len > QUICKSORT_MEDIAN_OF_9) {
+	    final int s = len / 8;
+	    l = med3(a, l, l + s, l + 2 * s);
+	    m = med3(a, m - s, m, m + s);
+	    n = med3(a, n - 2 * s, n - s, n);
+	   }
+	   m = med3(a, l, m, n);
+	  }
+	  else m = medianOfMedians(a, from, to);
+	  // Three-way partition: (<v)* v* (>v)*
+	  final byte v = a[m];
+	  int lt = from, i = from, gt = to;
+	  while(i < gt) {
+	   if (( (a[i]) < (v) )) swap(a, lt++, i++);
+	   else if (( (v) < (a[i]) )) swap(a, i, --gt);
+	   else i++;
+	  }
+	  if (k < lt) to = lt;
+	  else if (k >= gt) from = gt;
+	  else return;
+	  if (to - from > len - len / 4) budget--;
+	 }
+	 insertionSort(a, from, to);
+	}
+	/** Rearranges the specified range of elements so that the element at a given position is the one that would be in that
+	 * position if the range were sorted according to the natural ascending order.
+	 *
+	 * <p>After a call to this method, all elements of the range before position {@code k} are smaller than or equal to {@code a[k]},
+	 * and all elements of the range after position {@code k} are greater than or equal to {@code a[k]}. In particular,
+	 * the {@code (k - from)}-th smallest element of the range (starting from zero) is returned.
+	 *
+	 * <p>The algorithm is an introselect: a quickselect with three-way partitioning around pseudomedians that switches to the
+	 * median-of-medians pivot of Manuel Blum, Robert W. Floyd, Vaughan Pratt, Ronald L. Rivest and Robert E. Tarjan
+	 * (&ldquo;Time bounds for selection&rdquo;, <i>J. Comput. System Sci.</i>, 7(4), pages 448&minus;461, 1973)
+	 * after a constant number of unbalanced partitions. Thus, it runs in linear time in the worst case.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) of the range.
+	 * @param to the index of the last element (exclusive) of the range.
+	 * @param k the position of the element to be selected; it must lie in the range.
+	 * @return {@code a[k]}, after the rearrangement.
+	 * @since 8.5.19
+	 */
+	public static byte select(final byte[] a, final int from, final int to, final int k) {
+	 ensureFromTo(a, from, to);
+	 ensureSelectIndex(from, to, k);
+	 introSelect(a, from, to, k);
+	 return a[k];
+	}
+	/** Rearranges an array so that the element at a given position is the one that would be in that
+	 * position if the array were sorted according to the natural ascending order.
+	 *
+	 * <p>Please see {@link #select(KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param a an array.
+	 * @param k the position of the element to be selected.
+	 * @return {@code a[k]}, after the rearrangement.
+	 * @since 8.5.19
+	 */
+	public static byte select(final byte[] a, final int k) {
+	 return select(a, 0, a.length, k);
+	}
+	private static int medianOfMedians(final byte[] a, final int from, final int to, final ByteComparator comp) {
+	 int m = from;
+	 for(int i = from; i < to; i += 5) {
+	  final int end = Math.min(i + 5, to);
+	  insertionSort(a, i, end, comp);
+	  swap(a, m++, (i + end - 1) >>> 1);
+	 }
+	 final int median = (from + m) >>> 1;
+	 introSelect(a, from, m, median, comp);
+	 return median;
+	}
+	private static void introSelect(final byte[] a, int from, int to, final int k, final ByteComparator comp) {
+	 int budget = SELECT_UNBALANCED;
+	 while(to - from > SELECT_NO_REC) {
+	  final int len = to - from;
+	  int m;
+	  if (budget > 0) {
+	   m = from + len / 2;
+	   int l = from;
+	   int n = to - 1;
+	   if (len > QUICKSORT_MEDIAN_OF_9) {
+	    final int s = len / 8;
+	    l = med3(a, l, l + s, l + 2 * s, comp);
+	    m = med3(a, m - s, m, m + s, comp);
+	    n = med3(a, n - 2 * s, n - s, n, comp);
+	   }
+	   m = med3(a, l, m, n, comp);
+	  }
+	  else m = medianOfMedians(a, from, to, comp);
+	  final byte v = a[m];
+	  int lt = from, i = from, gt = to;
+	  while(i < gt) {
+	   final int c = comp.compare(a[i], v);
+	   if (c < 0) swap(a, lt++, i++);
+	   else if (c > 0) swap(a, i, --gt);
+	   else i++;
+	  }
+	  if (k < lt) to = lt;
+	  else if (k >= gt) from = gt;
+	  else return;
+	  if (to - from > len - len / 4) budget--;
+	 }
+	 insertionSort(a, from, to, comp);
+	}
+	/** Rearranges the specified range of elements so that the element at a given position is the one that would be in that
+	 * position if the range were sorted according to the order induced by the specified comparator.
+	 *
+	 * <p>Please see {@link #select(KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) of the range.
+	 * @param to the index of the last element (exclusive) of the range.
+	 * @param k the position of the element to be selected; it must lie in the range.
+	 * @param comp the comparator to determine the order.
+	 * @return {@code a[k]}, after the rearrangement.
+	 * @since 8.5.19
+	 */
+	public static byte select(final byte[] a, final int from, final int to, final int k, final ByteComparator comp) {
+	 ensureFromTo(a, from, to);
+	 ensureSelectIndex(from, to, k);
+	 introSelect(a, from, to, k, comp);
+	 return a[k];
+	}
+	/** Rearranges an array so that the element at a given position is the one that would be in that
+	 * position if the array were sorted according to the order induced by the specified comparator.
+	 *
+	 * <p>Please see {@link #select(KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param a an array.
+	 * @param k the position of the element to be selected.
+	 * @param comp the comparator to determine the order.
+	 * @return {@code a[k]}, after the rearrangement.
+	 * @since 8.5.19
+	 */
+	public static byte select(final byte[] a, final int k, final ByteComparator comp) {
+	 return select(a, 0, a.length, k, comp);
+	}
+	/** Rearranges the specified range of elements so that its first {@code k} positions contain, in ascending order,
+	 * the {@code k} smallest elements of the range with respect to the natural ascending order.
+	 *
+	 * <p>The order of the remaining elements of the range is unspecified. This method
+	 * {@linkplain #select(KEY_TYPE[], int, int, int) selects} the {@code k} smallest elements in linear time, and then
+	 * sorts them using {@linkplain #quickSort(KEY_TYPE[], int, int) quicksort}.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) of the range.
+	 * @param to the index of the last element (exclusive) of the range.
+	 * @param k the number of elements to be sorted, between 0 and {@code to - from}.
+	 * @since 8.5.19
+	 */
+	public static void partialSort(final byte[] a, final int from, final int to, final int k) {
+	 ensureFromTo(a, from, to);
+	 if (k == 0) return;
+	 ensureSelectIndex(from, to, from + k - 1);
+	 introSelect(a, from, to, from + k - 1);
+	 quickSort(a, from, from + k - 1);
+	}
+	/** Rearranges an array so that its first {@code k} positions contain, in ascending order,
+	 * the {@code k} smallest elements of the array with respect to the natural ascending order.
+	 *
+	 * <p>Please see {@link #partialSort(KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param a an array.
+	 * @param k the number of elements to be sorted, between 0 and {@code a.length}.
+	 * @since 8.5.19
+	 */
+	public static void partialSort(final byte[] a, final int k) {
+	 partialSort(a, 0, a.length, k);
+	}
+	/** Rearranges the specified range of elements so that its first {@code k} positions contain, in ascending order,
+	 * the {@code k} smallest elements of the range with respect to the order induced by the specified comparator.
+	 *
+	 * <p>Please see {@link #partialSort(KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) of the range.
+	 * @param to the index of the last element (exclusive) of the range.
+	 * @param k the number of elements to be sorted, between 0 and {@code to - from}.
+	 * @param comp the comparator to determine the order.
+	 * @since 8.5.19
+	 */
+	public static void partialSort(final byte[] a, final int from, final int to, final int k, final ByteComparator comp) {
+	 ensureFromTo(a, from, to);
+	 if (k == 0) return;
+	 ensureSelectIndex(from, to, from + k - 1);
+	 introSelect(a, from, to, from + k - 1, comp);
+	 quickSort(a, from, from + k - 1, comp);
+	}
+	/** Rearranges an array so that its first {@code k} positions contain, in ascending order,
+	 * the {@code k} smallest elements of the array with respect to the order induced by the specified comparator.
+	 *
+	 * <p>Please see {@link #partialSort(KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param a an array.
+	 * @param k the number of elements to be sorted, between 0 and {@code a.length}.
+	 * @param comp the comparator to determine the order.
+	 * @since 8.5.19
+	 */
+	public static void partialSort(final byte[] a, final int k, final ByteComparator comp) {
+	 partialSort(a, 0, a.length, k, comp);
+	}
+	/** Restores the heap property of a heap of given size ordered by the given comparator, whose root might be out of place. */
+	private static void topKDownHeap(final byte[] heap, final int size, final ByteComparator comp) {
+	 final byte e = heap[0];
+	 int i = 0, child;
+	 while((child = (i << 1) + 1) < size) {
+	  final int right = child + 1;
+	  if (right < size && comp.compare(heap[right], heap[child]) < 0) child = right;
+	  if (comp.compare(e, heap[child]) <= 0) break;
+	  heap[i] = heap[child];
+	  i = child;
+	 }
+	 heap[i] = e;
+	}
+	/** Returns the {@code k} largest elements of the specified range with respect to the order induced by the specified comparator,
+	 * in descending order.
+	 *
+	 * <p>The range is not modified. This method scans the range once, keeping the largest elements seen so far in a heap
+	 * of size {@code k}: since most elements are discarded after a single comparison with the top of the heap, it runs
+	 * in linear time on most inputs, and in time <var>O</var>(<var>n</var>&nbsp;log&nbsp;<var>k</var>) in the worst case.
+	 * Use a {@linkplain KEY_COMPARATOR#reversed() reversed} comparator to obtain the {@code k} smallest elements.
+	 *
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) of the range.
+	 * @param to the index of the last element (exclusive) of the range.
+	 * @param k the number of elements to be returned; if larger than {@code to - from}, the whole range is returned.
+	 * @param comp the comparator to determine the order.
+	 * @return a new array containing the {@code min(k, to - from)} largest elements of the range, in descending order.
+	 * @since 8.5.19
+	 */
+	public static byte[] topK(final byte[] a, final int from, final int to, int k, final ByteComparator comp) {
+	 ensureFromTo(a, from, to);
+	 if (k < 0) throw new IllegalArgumentException("The number of elements (" + k + ") is negative");
+	 k = Math.min(k, to - from);
+	 // A heap containing the k largest elements seen so far, smallest on top
+	 final byte[] heap = java.util.Arrays.copyOfRange(a, from, from + k);
+	 if (k == 0) return heap;
+	 for(int i = (k >>> 1); i-- != 0;) {
+	  // Bottom-up heap construction
+	  final byte e = heap[i];
+	  int j = i, child;
+	  while((child = (j << 1) + 1) < k) {
+	   if (child + 1 < k && comp.compare(heap[child + 1], heap[child]) < 0) child++;
+	   if (comp.compare(e, heap[child]) <= 0) break;
+	   heap[j] = heap[child];
+	   j = child;
+	  }
+	  heap[j] = e;
+	 }
+	 for(int i = from + k; i < to; i++) {
+	  if (comp.compare(a[i], heap[0]) > 0) {
+	   heap[0] = a[i];
+	   topKDownHeap(heap, k, comp);
+	  }
+	 }
+	 // Heapsort: repeatedly moving the smallest element to the end yields descending order
+	 for(int size = k; size-- > 1;) {
+	  final byte t = heap[0];
+	  heap[0] = heap[size];
+	  heap[size] = t;
+	  topKDownHeap(heap, size, comp);
+	 }
+	 return heap;
+	}
+	/** Returns the {@code k} largest elements of an array with respect to the order induced by the specified comparator,
+	 * in descending order.
+	 *
+	 * <p>Please see {@link #topK(KEY_TYPE[], int, int, int, KEY_COMPARATOR)} for details.
+	 *
+	 * @param a an array.
+	 * @param k the number of elements to be returned; if larger than {@code a.length}, the whole array is returned.
+	 * @param comp the comparator to determine the order.
+	 * @return a new array containing the {@code min(k, a.length)} largest elements of {@code a}, in descending order.
+	 * @since 8.5.19
+	 */
+	public static byte[] topK(final byte[] a, final int k, final ByteComparator comp) {
+	 return topK(a, 0, a.length, k, comp);
+	}
+	/** Returns the {@code k} largest elements of an array with respect to the natural ascending order, in descending order.
+	 *
+	 * <p>Please see {@link #topK(KEY_TYPE[], int, int, int, KEY_COMPARATOR)} for details.
+	 *
+	 * @param a an array.
+	 * @param k the number of elements to be returned; if larger than {@code a.length}, the whole array is returned.
+	 * @return a new array containing the {@code min(k, a.length)} largest elements of {@code a}, in descending order.
+	 * @since 8.5.19
+	 */
+
+	public static byte[] topK(final byte[] a, final int k) {
+	 return topK(a, 0, a.length, k, (x, y) -> ( Byte.compare((x),(y)) ));
+	}
+	private static int medianOfMediansIndirect(final int[] perm, final byte[] a, final int from, final int to) {
+	 int m = from;
+	 for(int i = from; i < to; i += 5) {
+	  final int end = Math.min(i + 5, to);
+	  insertionSortIndirect(perm, a, i, end);
+	  IntArrays.swap(perm, m++, (i + end - 1) >>> 1);
+	 }
+	 final int median = (from + m) >>> 1;
+	 introSelectIndirect(perm, a, from, m, median);
+	 return median;
+	}
+
+	private static void introSelectIndirect(final int[] perm, final byte[] a, int from, int to, final int k) {
+	 int budget = SELECT_UNBALANCED;
+	 while(to - from > SELECT_NO_REC) {
+	  final int len = to - from;
+	  int m;
+	  if (budget > 0) {
+	   m = from + len / 2;
+	   int l = from;
+	   int n = to - 1;
+	   if (len > QUICKSORT_MEDIAN_OF_9) {
+	    final int s = len / 8;
+	    l = med3Indirect(perm, a, l, l + s, l + 2 * s);
+	    m = med3Indirect(perm, a, m - s, m, m + s);
+	    n = med3Indirect(perm, a, n - 2 * s, n - s, n);
+	   }
+	   m = med3Indirect(perm, a, l, m, n);
+	  }
+	  else m = medianOfMediansIndirect(perm, a, from, to);
+	  final byte v = a[perm[m]];
+	  int lt = from, i = from, gt = to;
+	  while(i < gt) {
+	   if (( (a[perm[i]]) < (v) )) IntArrays.swap(perm, lt++, i++);
+	   else if (( (v) < (a[perm[i]]) )) IntArrays.swap(perm, i, --gt);
+	   else i++;
+	  }
+	  if (k < lt) to = lt;
+	  else if (k >= gt) from = gt;
+	  else return;
+	  if (to - from > len - len / 4) budget--;
+	 }
+	 insertionSortIndirect(perm, a, from, to);
+	}
+	/** Rearranges the specified range of a permutation so that the element of an array indexed by the permutation at a given position
+	 * is the one that would be in that position if the range were indirectly sorted according to the natural ascending order.
+	 *
+	 * <p>This method implements an <em>indirect</em> selection: after a call, {@code a[perm[i]] &le; a[perm[k]]} for
+	 * all {@code from &le; i &lt; k}, and {@code a[perm[k]] &le; a[perm[i]]} for all {@code k &lt; i &lt; to}.
+	 * The array {@code a} is not modified. Please see {@link #select(KEY_TYPE[], int, int, int)} for details about the algorithm.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) of the range of {@code perm}.
+	 * @param to the index of the last element (exclusive) of the range of {@code perm}.
+	 * @param k the position of the element to be selected; it must lie in the range.
+	 * @return {@code perm[k]}, after the rearrangement.
+	 * @since 8.5.19
+	 */
+	public static int selectIndirect(final int[] perm, final byte[] a, final int from, final int to, final int k) {
+	 IntArrays.ensureFromTo(perm, from, to);
+	 ensureSelectIndex(from, to, k);
+	 introSelectIndirect(perm, a, from, to, k);
+	 return perm[k];
+	}
+	/** Rearranges a permutation so that the element of an array indexed by the permutation at a given position
+	 * is the one that would be in that position if the array were indirectly sorted according to the natural ascending order.
+	 *
+	 * <p>Please see {@link #selectIndirect(int[], KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a an array.
+	 * @param k the position of the element to be selected.
+	 * @return {@code perm[k]}, after the rearrangement.
+	 * @since 8.5.19
+	 */
+	public static int selectIndirect(final int[] perm, final byte[] a, final int k) {
+	 return selectIndirect(perm, a, 0, perm.length, k);
+	}
+	/** Rearranges the specified range of a permutation so that its first {@code k} positions index, in ascending order,
+	 * the {@code k} smallest elements of an array indexed by the range with respect to the natural ascending order.
+	 *
+	 * <p>This method implements an <em>indirect</em> partial sort: the array {@code a} is not modified.
+	 * Please see {@link #partialSort(KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a an array.
+	 * @param from the index of the first element (inclusive) of the range of {@code perm}.
+	 * @param to the index of the last element (exclusive) of the range of {@code perm}.
+	 * @param k the number of elements to be sorted, between 0 and {@code to - from}.
+	 * @since 8.5.19
+	 */
+	public static void partialSortIndirect(final int[] perm, final byte[] a, final int from, final int to, final int k) {
+	 IntArrays.ensureFromTo(perm, from, to);
+	 if (k == 0) return;
+	 ensureSelectIndex(from, to, from + k - 1);
+	 introSelectIndirect(perm, a, from, to, from + k - 1);
+	 quickSortIndirect(perm, a, from, from + k - 1);
+	}
+	/** Rearranges a permutation so that its first {@code k} positions index, in ascending order,
+	 * the {@code k} smallest elements of an array with respect to the natural ascending order.
+	 *
+	 * <p>Please see {@link #partialSortIndirect(int[], KEY_TYPE[], int, int, int)} for details.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a an array.
+	 * @param k the number of elements to be sorted, between 0 and {@code perm.length}.
+	 * @since 8.5.19
+	 */
+	public static void partialSortIndirect(final int[] perm, final byte[] a, final int k) {
+	 partialSortIndirect(perm, a, 0, perm.length, k);
+	}
+	private static final int PARALLEL_MERGE_NO_FORK = 8192;
+	/** Returns the overall length of an array of arrays, checking that it fits into an array. */
+	private static int totalLength(final byte[][] runs, final byte[] out) {
+	 long total = 0;
+	 for(final byte[] run : runs) total += run.length;
+	 if (total > out.length) throw new IllegalArgumentException("The output array has length " + out.length + ", but the runs contain " + total + " elements");
+	 return (int)total;
+	}
+	/** Merges into {@code out}, starting at {@code offset}, the ranges {@code [from[i]..to[i])} of the sorted arrays {@code runs[i]} using a loser tree. */
+	private static void merge(final byte[][] runs, final int[] from, final int[] to, final byte[] out, int offset) {
+	 final int k = runs.length;
+	 final int[] pos = from.clone();
+	 // tree[0] is the run with the smallest head; tree[1..k) contains the losers of the matches at the internal nodes
+	 final int[] tree = new int[Math.max(k, 1)];
+	 int remaining = 0;
+	 for(int i = 0; i < k; i++) remaining += to[i] - from[i];
+	 if (remaining == 0) return;
+	 tree[0] = buildLoserTree(runs, pos, to, tree, 1);
+	 while(remaining-- != 0) {
+	  int s = tree[0];
+	  out[offset++] = runs[s][pos[s]++];
+	  for(int t = (s + k) >>> 1; t != 0; t >>>= 1) {
+	   final int u = tree[t];
+	   if (loses(runs, pos, to, s, u)) {
+	    tree[t] = s;
+	    s = u;
+	   }
+	  }
+	  tree[0] = s;
+	 }
+	}
+	/** Returns true if the head of run {@code s} loses against the head of run {@code u}, that is, if
+	 * {@code s} is exhausted, or if its head is greater than that of {@code u}, or if the heads are equal and {@code s > u}. */
+	private static boolean loses(final byte[][] runs, final int[] pos, final int[] to, final int s, final int u) {
+	 if (pos[s] == to[s]) return true;
+	 if (pos[u] == to[u]) return false;
+	 final byte x = runs[s][pos[s]], y = runs[u][pos[u]];
+	 return ( (y) < (x) ) || ! ( (x) < (y) ) && s > u;
+	}
+	/** Builds recursively the subtree of a loser tree rooted at a given node, returning its winner. */
+	private static int buildLoserTree(final byte[][] runs, final int[] pos, final int[] to, final int[] tree, final int node) {
+	 final int k = runs.length;
+	 if (node >= k) return node - k;
+	 final int l = buildLoserTree(runs, pos, to, tree, 2 * node);
+	 final int r = buildLoserTree(runs, pos, to, tree, 2 * node + 1);
+	 if (loses(runs, pos, to, l, r)) {
+	  tree[node] = l;
+	  return r;
+	 }
+	 tree[node] = r;
+	 return l;
+	}
+	/** Merges sorted arrays.
+	 *
+	 * <p>The elements of the arrays in {@code runs}, each of which must be sorted in ascending order,
+	 * are stored in ascending order in {@code out}, starting from position 0. The merge is stable: equal elements
+	 * appear in the order of the arrays containing them.
+	 *
+	 * @implSpec This implementation uses a loser tree (a.k.a. tournament tree), which needs just one comparison per level
+	 * to replace the minimum, rather than the two comparisons per level of a binary heap.
+	 *
+	 * @param runs an array of sorted arrays.
+	 * @param out an array of length greater than or equal to the overall length of the arrays in {@code runs}.
+	 * @since 8.5.19
+	 */
+	public static void merge(final byte[][] runs, final byte[] out) {
+	 totalLength(runs, out);
+	 final int[] from = new int[runs.length];
+	 final int[] to = new int[runs.length];
+	 for(int i = runs.length; i-- != 0;) to[i] = runs[i].length;
+	 merge(runs, from, to, out, 0);
+	}
+	/** Merges sorted arrays into a new array.
+	 *
+	 * @implSpec This implementation uses {@link #merge(KEY_TYPE[][], KEY_TYPE[])}.
+	 *
+	 * @param runs an array of sorted arrays.
+	 * @return a new sorted array containing the elements of the arrays in {@code runs}.
+	 * @since 8.5.19
+	 */
+	public static byte[] merge(final byte[][] runs) {
+	 long total = 0;
+	 for(final byte[] run : runs) total += run.length;
+	 if (total > Integer.MAX_VALUE) throw new IllegalArgumentException("The runs contain " + total + " elements");
+	 final byte[] out = new byte[(int)total];
+	 merge(runs, out);
+	 return out;
+	}
+	/** Returns the number of elements of the sorted array {@code a} that are smaller than {@code key}. */
+	private static int rank(final byte[] a, final byte key) {
+	 int from = 0, to = a.length;
+	 while(from < to) {
+	  final int mid = (from + to) >>> 1;
+	  if (( (a[mid]) < (key) )) from = mid + 1;
+	  else to = mid;
+	 }
+	 return from;
+	}
+	protected static class ForkJoinMerge extends RecursiveAction {
+	 private static final long serialVersionUID = 1L;
+	 private final byte[][] runs;
+	 private final int[][] split;
+	 private final int[] offset;
+	 private final byte[] out;
+	 private final int from, to;
+	 public ForkJoinMerge(final byte[][] runs, final int[][] split, final int[] offset, final byte[] out, final int from, final int to) {
+	  this.runs = runs;
+	  this.split = split;
+	  this.offset = offset;
+	  this.out = out;
+	  this.from = from;
+	  this.to = to;
+	 }
+	 @Override
+	 protected void compute() {
+	  if (to - from == 1) merge(runs, split[from], split[to], out, offset[from]);
+	  else {
+	   final int mid = (from + to) >>> 1;
+	   invokeAll(new ForkJoinMerge(runs, split, offset, out, from, mid), new ForkJoinMerge(runs, split, offset, out, mid, to));
+	  }
+	 }
+	}
+	/** Merges sorted arrays in parallel.
+	 *
+	 * <p>The elements of the arrays in {@code runs}, each of which must be sorted in ascending order,
+	 * are stored in ascending order in {@code out}, starting from position 0. The merge is stable: equal elements
+	 * appear in the order of the arrays containing them.
+	 *
+	 * @implSpec This implementation chooses splitters among a sample of the elements of the runs, and
+	 * locates them in each run by binary search. The resulting slices of the runs are then merged
+	 * independently, in parallel, using {@link #merge(KEY_TYPE[][], KEY_TYPE[])}'s loser tree.
+	 * Since equal elements are never split across slices, inputs with very few distinct values
+	 * might be merged with reduced parallelism.
+	 *
+	 * @param runs an array of sorted arrays.
+	 * @param out an array of length greater than or equal to the overall length of the arrays in {@code runs}.
+	 * @since 8.5.19
+	 */
+	public static void parallelMerge(final byte[][] runs, final byte[] out) {
+	 final int total = totalLength(runs, out);
+	 final ForkJoinPool pool = getPool();
+	 final int k = runs.length;
+	 if (total < PARALLEL_MERGE_NO_FORK || pool.getParallelism() == 1) {
+	  merge(runs, out);
+	  return;
+	 }
+	 final int parts = Math.min(4 * pool.getParallelism(), total / (PARALLEL_MERGE_NO_FORK / 2));
+	 // Sample about 8 elements per part, evenly spaced in the concatenation of the runs
+	 final int step = Math.max(1, total / (8 * parts));
+	 byte[] sample = new byte[total / step + k];
+	 int samples = 0;
+	 for(final byte[] run : runs) for(int i = step / 2; i < run.length; i += step) sample[samples++] = run[i];
+	 sample = java.util.Arrays.copyOf(sample, samples);
+	 unstableSort(sample);
+	 final int[][] split = new int[parts + 1][];
+	 final int[] offset = new int[parts + 1];
+	 split[0] = new int[k];
+	 split[parts] = new int[k];
+	 for(int j = k; j-- != 0;) split[parts][j] = runs[j].length;
+	 offset[parts] = total;
+	 for(int i = 1; i < parts; i++) {
+	  final byte splitter = sample[(int)((long)i * samples / parts)];
+	  split[i] = new int[k];
+	  for(int j = k; j-- != 0;) offset[i] += split[i][j] = rank(runs[j], splitter);
+	 }
+	 pool.invoke(new ForkJoinMerge(runs, split, offset, out, 0, parts));
+	}
+	/**
+	 * Searches a range of the specified array for the specified value using
+	 * the binary search algorithm. The range must be sorted prior to making this call.
+	 * If it is not sorted, the results are undefined. If the range contains multiple elements with
+	 * the specified value, there is no guarantee which one will be found.
+	 *
+	 * @param a the array to be searched.
+	 * @param from  the index of the first element (inclusive) to be searched.
+	 * @param to  the index of the last element (exclusive) to be searched.
+	 * @param key the value to be searched for.
+	 * @return index of the search key, if it is contained in the array;
+	 *             otherwise, {@code (-(<i>insertion point</i>) - 1)}.  The <i>insertion
+	 *             point</i> is defined as the the point at which the value would
+	 *             be inserted into the array: the index of the first
+	 *             element greater than the key, or the length of the array, if all
+	 *             elements in the array are less than the specified key.  Note
+	 *             that this guarantees that the return value will be &ge; 0 if
+	 *             and only if the key is found.
+	 * @see java.util.Arrays
+	 */
+
+	public static int binarySearch(final byte[] a, int from, int to, final byte key) {
+	 byte midVal;
+	 to--;
+	 while (from <= to) {
+	  final int mid = (from + to) >>> 1;
+	  midVal = a[mid];
+	  if (midVal < key) from = mid + 1;
+	  else if (midVal > key) to = mid - 1;
+	  else return mid;
+	 }
+	 return -(from + 1);
+	}
+	/**
+	 * Searches an array for the specified value using
+	 * the binary search algorithm. The range must be sorted prior to making this call.
+	 * If it is not sorted, the results are undefined. If the range contains multiple elements with
+	 * the specified value, there is no guarantee which one will be found.
+	 *
+	 * @param a the array to be searched.
+	 * @param key the value to be searched for.
+	 * @return index of the search key, if it is contained in the array;
+	 *             otherwise, {@code (-(<i>insertion point</i>) - 1)}.  The <i>insertion
+	 *             point</i> is defined as the the point at which the value would
+	 *             be inserted into the array: the index of the first
+	 *             element greater than the key, or the length of the array, if all
+	 *             elements in the array are less than the specified key.  Note
+	 *             that this guarantees that the return value will be &ge; 0 if
+	 *             and only if the key is found.
+	 * @see java.util.Arrays
+	 */
+	public static int binarySearch(final byte[] a, final byte key) {
+	 return binarySearch(a, 0, a.length, key);
+	}
+	/**
+	 * Searches a range of the specified array for the specified value using
+	 * the binary search algorithm and a specified comparator. The range must be sorted following the comparator prior to making this call.
+	 * If it is not sorted, the results are undefined. If the range contains multiple elements with
+	 * the specified value, there is no guarantee which one will be found.
+	 *
+	 * @param a the array to be searched.
+	 * @param from  the index of the first element (inclusive) to be searched.
+	 * @param to  the index of the last element (exclusive) to be searched.
+	 * @param key the value to be searched for.
+	 * @param c a comparator.
+	 * @return index of the search key, if it is contained in the array;
+	 *             otherwise, {@code (-(<i>insertion point</i>) - 1)}.  The <i>insertion
+	 *             point</i> is defined as the the point at which the value would
+	 *             be inserted into the array: the index of the first
+	 *             element greater than the key, or the length of the array, if all
+	 *             elements in the array are less than the specified key.  Note
+	 *             that this guarantees that the return value will be &ge; 0 if
+	 *             and only if the key is found.
+	 * @see java.util.Arrays
+	 */
+	public static int binarySearch(final byte[] a, int from, int to, final byte key, final ByteComparator c) {
+	 byte midVal;
+	 to--;
+	 while (from <= to) {
+	  final int mid = (from + to) >>> 1;
+	  midVal = a[mid];
+	  final int cmp = c.compare(midVal, key);
+	  if (cmp < 0) from = mid + 1;
+	  else if (cmp > 0) to = mid - 1;
+	  else return mid; // key found
+	 }
+	 return -(from + 1);
+	}
+	/**
+	 * Searches an array for the specified value using
+	 * the binary search algorithm and a specified comparator. The range must be sorted following the comparator prior to making this call.
+	 * If it is not sorted, the results are undefined. If the range contains multiple elements with
+	 * the specified value, there is no guarantee which one will be found.
+	 *
+	 * @param a the array to be searched.
+	 * @param key the value to be searched for.
+	 * @param c a comparator.
+	 * @return index of the search key, if it is contained in the array;
+	 *             otherwise, {@code (-(<i>insertion point</i>) - 1)}.  The <i>insertion
+	 *             point</i> is defined as the the point at which the value would
+	 *             be inserted into the array: the index of the first
+	 *             element greater than the key, or the length of the array, if all
+	 *             elements in the array are less than the specified key.  Note
+	 *             that this guarantees that the return value will be &ge; 0 if
+	 *             and only if the key is found.
+	 * @see java.util.Arrays
+	 */
+	public static int binarySearch(final byte[] a, final byte key, final ByteComparator c) {
+	 return binarySearch(a, 0, a.length, key, c);
+	}
+	/** The size of a digit used during radix sort (must be a power of 2). */
+	private static final int DIGIT_BITS = 8;
+	/** The mask to extract a digit of {@link #DIGIT_BITS} bits. */
+	private static final int DIGIT_MASK = (1 << DIGIT_BITS) - 1;
+	/** The number of digits per element. */
+	private static final int DIGITS_PER_ELEMENT = Byte.SIZE / DIGIT_BITS;
+	private static final int RADIXSORT_NO_REC = 1024;
+	private static final int RADIXSORT_NO_REC_SMALL = 64;
+	private static final int PARALLEL_RADIXSORT_NO_FORK = 1024;
+	// The thresholds were determined on an Intel i7 8700K.
+	/** Threshold <em>hint</em> for using a radix sort vs a comparison based sort. */
+	static final int RADIX_SORT_MIN_THRESHOLD = 1000;
+	/** This method fixes negative numbers so that the combination exponent/significand is lexicographically sorted. */
+	/** Sorts the specified array using radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * @implSpec This implementation is significantly faster than quicksort
+	 * already at small sizes (say, more than 5000 elements), but it can only
+	 * sort in ascending order.
+	 *
+	 * @param a the array to be sorted.
+	 */
+	public static void radixSort(final byte[] a) {
+	 radixSort(a, 0, a.length);
+	}
+	/** Sorts the specified range of an array using radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * @implSpec This implementation is significantly faster than quicksort
+	 * already at small sizes (say, more than 5000 elements), but it can only
+	 * sort in ascending order.
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void radixSort(final byte[] a, final int from, final int to) {
+	 radixSort(a, from, to, 0);
+	}
+	/** Sorts the specified range of an array using radix sort, starting from a given digit level.
+	 *
+	 * <p>All elements in the range must have the same digits before {@code startLevel}. This
+	 * method is used by big-array sorts to finish buckets lying within a single segment.
+	 */
+	static void radixSort(final byte[] a, final int from, final int to, final int startLevel) {
+	 if (to - from < RADIXSORT_NO_REC) {
+	  quickSort(a, from, to);
+	  return;
+	 }
+	 final int maxLevel = DIGITS_PER_ELEMENT - 1;
+	 final int stackSize = ((1 << DIGIT_BITS) - 1) * (DIGITS_PER_ELEMENT - 1) + 1;
+	 int stackPos = 0;
+	 final int[] offsetStack = new int[stackSize];
+	 final int[] lengthStack = new int[stackSize];
+	 final int[] levelStack = new int[stackSize];
+	 offsetStack[stackPos] = from;
+	 lengthStack[stackPos] = to - from;
+	 levelStack[stackPos++] = startLevel;
+	 final int[] count = new int[1 << DIGIT_BITS];
+	 final int[] pos = new int[1 << DIGIT_BITS];
+	 while(stackPos > 0) {
+	  final int first = offsetStack[--stackPos];
+	  final int length = lengthStack[stackPos];
+	  final int level = levelStack[stackPos];
+	  final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	  final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	  // Count keys.
+	  for(int i = first + length; i-- != first;) count[((a[i]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	  // Compute cumulative distribution
+	  int lastUsed = -1;
+	  for (int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	   if (count[i] != 0) lastUsed = i;
+	   pos[i] = (p += count[i]);
+	  }
+	  final int end = first + length - count[lastUsed];
+	  // i moves through the start of each block
+	  for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	   byte t = a[i];
+	   c = ((t) >>> shift & DIGIT_MASK ^ signMask);
+	   if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	    while ((d = --pos[c]) > i) {
+	     final byte z = t;
+	     t = a[d];
+	     a[d] = z;
+	     c = ((t) >>> shift & DIGIT_MASK ^ signMask);
+	    }
+	    a[i] = t;
+	   }
+	   if (level < maxLevel && count[c] > 1) {
+	    if (count[c] < RADIXSORT_NO_REC) quickSort(a, i, i + count[c]);
+	    else {
+	     offsetStack[stackPos] = i;
+	     lengthStack[stackPos] = count[c];
+	     levelStack[stackPos++] = level + 1;
+	    }
+	   }
+	  }
+	 }
+	}
+	protected static final class Segment {
+	 protected final int offset, length, level;
+	 protected Segment(final int offset, final int length, final int level) {
+	  this.offset = offset;
+	  this.length = length;
+	  this.level = level;
+	 }
+	 @Override
+	 public String toString() { return "Segment [offset=" + offset + ", length=" + length + ", level=" + level + "]"; }
+	}
+	protected static final Segment POISON_PILL = new Segment(-1, -1, -1);
+	/** Sorts the specified range of an array using parallel radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void parallelRadixSort(final byte[] a, final int from, final int to) {
+	 ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_RADIXSORT_NO_FORK || pool.getParallelism() == 1) {
+	  quickSort(a, from, to);
+	  return;
+	 }
+	 final int maxLevel = DIGITS_PER_ELEMENT - 1;
+	 final LinkedBlockingQueue<Segment> queue = new LinkedBlockingQueue<>();
+	 queue.add(new Segment(from, to - from, 0));
+	 final AtomicInteger queueSize = new AtomicInteger(1);
+	 final int numberOfThreads = pool.getParallelism();
+	 final ExecutorCompletionService<Void> executorCompletionService = new ExecutorCompletionService<>(pool);
+	 for(int j = numberOfThreads; j-- != 0;) executorCompletionService.submit(() -> {
+	  final int[] count = new int[1 << DIGIT_BITS];
+	  final int[] pos = new int[1 << DIGIT_BITS];
+	  for(;;) {
+	   if (queueSize.get() == 0) for(int i = numberOfThreads; i-- != 0;) queue.add(POISON_PILL);
+	   final Segment segment = queue.take();
+	   if (segment == POISON_PILL) return null;
+	   final int first = segment.offset;
+	   final int length = segment.length;
+	   final int level = segment.level;
+	   final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	   final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	   // Count keys.
+	   for(int i = first + length; i-- != first;) count[((a[i]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	   // Compute cumulative distribution
+	   int lastUsed = -1;
+	   for(int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	    if (count[i] != 0) lastUsed = i;
+	    pos[i] = (p += count[i]);
+	   }
+	   final int end = first + length - count[lastUsed];
+	   // i moves through the start of each block
+	   for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	    byte t = a[i];
+	    c = ((t) >>> shift & DIGIT_MASK ^ signMask);
+	    if (i < end) {
+	     while((d = --pos[c]) > i) {
+	      final byte z = t;
+	      t = a[d];
+	      a[d] = z;
+	      c = ((t) >>> shift & DIGIT_MASK ^ signMask);
+	     }
+	     a[i] = t;
+	    }
+	    if (level < maxLevel && count[c] > 1) {
+	     if (count[c] < PARALLEL_RADIXSORT_NO_FORK) quickSort(a, i, i + count[c]);
+	     else {
+	      queueSize.incrementAndGet();
+	      queue.add(new Segment(i, count[c], level + 1));
+	     }
+	    }
+	   }
+	   queueSize.decrementAndGet();
+	  }
+	 });
+	 Throwable problem = null;
+	 for(int i = numberOfThreads; i-- != 0;)
+	  try {
+	   executorCompletionService.take().get();
+	  }
+	  catch(Exception e) {
+	   problem = e.getCause(); // We keep only the last one. They will be logged anyway.
+	  }
+	 if (problem != null) throw (problem instanceof RuntimeException) ? (RuntimeException)problem : new RuntimeException(problem);
+	}
+	/** Sorts the specified array using parallel radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * @param a the array to be sorted.
+	 */
+	public static void parallelRadixSort(final byte[] a) {
+	 parallelRadixSort(a, 0, a.length);
+	}
+	/** Sorts the specified array using indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code a[perm[i]] &le; a[perm[i + 1]]}.
+	 *
+	 * @implSpec This implementation will allocate, in the stable case, a support array as large as {@code perm} (note that the stable
+	 * version is slightly faster).
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param stable whether the sorting algorithm should be stable.
+	 */
+	public static void radixSortIndirect(final int[] perm, final byte[] a, final boolean stable) {
+	 radixSortIndirect(perm, a, 0, perm.length, stable);
+	}
+	/** Sorts the specified array using indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code a[perm[i]] &le; a[perm[i + 1]]}.
+	 *
+	 * @implSpec This implementation will allocate, in the stable case, a support array as large as {@code perm} (note that the stable
+	 * version is slightly faster).
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element of {@code perm} (inclusive) to be permuted.
+	 * @param to the index of the last element of {@code perm} (exclusive) to be permuted.
+	 * @param stable whether the sorting algorithm should be stable.
+	 */
+	public static void radixSortIndirect(final int[] perm, final byte[] a, final int from, final int to, final boolean stable) {
+	 if (to - from < RADIXSORT_NO_REC) {
+	  quickSortIndirect(perm, a, from, to);
+	  if (stable) stabilize(perm, a, from, to);
+	  return;
+	 }
+	 final int maxLevel = DIGITS_PER_ELEMENT - 1;
+	 final int stackSize = ((1 << DIGIT_BITS) - 1) * (DIGITS_PER_ELEMENT - 1) + 1;
+	 int stackPos = 0;
+	 final int[] offsetStack = new int[stackSize];
+	 final int[] lengthStack = new int[stackSize];
+	 final int[] levelStack = new int[stackSize];
+	 offsetStack[stackPos] = from;
+	 lengthStack[stackPos] = to - from;
+	 levelStack[stackPos++] = 0;
+	 final int[] count = new int[1 << DIGIT_BITS];
+	 final int[] pos = new int[1 << DIGIT_BITS];
+	 final int[] support = stable ? new int[perm.length] : null;
+	 while(stackPos > 0) {
+	  final int first = offsetStack[--stackPos];
+	  final int length = lengthStack[stackPos];
+	  final int level = levelStack[stackPos];
+	  final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	  final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	  // Count keys.
+	  for(int i = first + length; i-- != first;) count[((a[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	  // Compute cumulative distribution
+	  int lastUsed = -1;
+	  for (int i = 0, p = stable ? 0 : first; i < 1 << DIGIT_BITS; i++) {
+	   if (count[i] != 0) lastUsed = i;
+	   pos[i] = (p += count[i]);
+	  }
+	  if (stable) {
+	   for(int i = first + length; i-- != first;) support[--pos[((a[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]] = perm[i];
+	   System.arraycopy(support, 0, perm, first, length);
+	   for(int i = 0, p = first; i <= lastUsed; i++) {
+	    if (level < maxLevel && count[i] > 1) {
+	     if (count[i] < RADIXSORT_NO_REC) {
+	      quickSortIndirect(perm, a, p, p + count[i]);
+	      if (stable) stabilize(perm, a, p, p + count[i]);
+	     }
+	     else {
+	      offsetStack[stackPos] = p;
+	      lengthStack[stackPos] = count[i];
+	      levelStack[stackPos++] = level + 1;
+	     }
+	    }
+	    p += count[i];
+	   }
+	   java.util.Arrays.fill(count, 0);
+	  }
+	  else {
+	   final int end = first + length - count[lastUsed];
+	   // i moves through the start of each block
+	   for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	    int t = perm[i];
+	    c = ((a[t]) >>> shift & DIGIT_MASK ^ signMask);
+	    if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	     while((d = --pos[c]) > i) {
+	      final int z = t;
+	      t = perm[d];
+	      perm[d] = z;
+	      c = ((a[t]) >>> shift & DIGIT_MASK ^ signMask);
+	     }
+	     perm[i] = t;
+	    }
+	    if (level < maxLevel && count[c] > 1) {
+	     if (count[c] < RADIXSORT_NO_REC) {
+	      quickSortIndirect(perm, a, i, i + count[c]);
+	      if (stable) stabilize(perm, a, i, i + count[c]);
+	     }
+	     else {
+	      offsetStack[stackPos] = i;
+	      lengthStack[stackPos] = count[c];
+	      levelStack[stackPos++] = level + 1;
+	     }
+	    }
+	   }
+	  }
+	 }
+	}
+	/** Sorts the specified range of an array using parallel indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code a[perm[i]] &le; a[perm[i + 1]]}.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @param stable whether the sorting algorithm should be stable.
+	 */
+	public static void parallelRadixSortIndirect(final int perm[], final byte[] a, final int from, final int to, final boolean stable) {
+	 ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_RADIXSORT_NO_FORK || pool.getParallelism() == 1) {
+	  radixSortIndirect(perm, a, from, to, stable);
+	  return;
+	 }
+	 final int maxLevel = DIGITS_PER_ELEMENT - 1;
+	 final LinkedBlockingQueue<Segment> queue = new LinkedBlockingQueue<>();
+	 queue.add(new Segment(from, to - from, 0));
+	 final AtomicInteger queueSize = new AtomicInteger(1);
+	 final int numberOfThreads = pool.getParallelism();
+	 final ExecutorCompletionService<Void> executorCompletionService = new ExecutorCompletionService<>(pool);
+	 final int[] support = stable ? new int[perm.length] : null;
+	 for(int j = numberOfThreads; j-- != 0;) executorCompletionService.submit(() -> {
+	  final int[] count = new int[1 << DIGIT_BITS];
+	  final int[] pos = new int[1 << DIGIT_BITS];
+	  for(;;) {
+	   if (queueSize.get() == 0) for(int i = numberOfThreads; i-- != 0;) queue.add(POISON_PILL);
+	   final Segment segment = queue.take();
+	   if (segment == POISON_PILL) return null;
+	   final int first = segment.offset;
+	   final int length = segment.length;
+	   final int level = segment.level;
+	   final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	   final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	   // Count keys.
+	   for(int i = first + length; i-- != first;) count[((a[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	   // Compute cumulative distribution
+	   int lastUsed = -1;
+	   for (int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	    if (count[i] != 0) lastUsed = i;
+	    pos[i] = (p += count[i]);
+	   }
+	   if (stable) {
+	    for(int i = first + length; i-- != first;) support[--pos[((a[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]] = perm[i];
+	    System.arraycopy(support, first, perm, first, length);
+	    for(int i = 0, p = first; i <= lastUsed; i++) {
+	     if (level < maxLevel && count[i] > 1) {
+	      if (count[i] < PARALLEL_RADIXSORT_NO_FORK) radixSortIndirect(perm, a, p, p + count[i], stable);
+	      else {
+	       queueSize.incrementAndGet();
+	       queue.add(new Segment(p, count[i], level + 1));
+	      }
+	     }
+	     p += count[i];
+	    }
+	    java.util.Arrays.fill(count, 0);
+	   }
+	   else {
+	    final int end = first + length - count[lastUsed];
+	    // i moves through the start of each block
+	    for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	     int t = perm[i];
+	     c = ((a[t]) >>> shift & DIGIT_MASK ^ signMask);
+	     if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	      while((d = --pos[c]) > i) {
+	       final int z = t;
+	       t = perm[d];
+	       perm[d] = z;
+	       c = ((a[t]) >>> shift & DIGIT_MASK ^ signMask);
+	      }
+	      perm[i] = t;
+	     }
+	     if (level < maxLevel && count[c] > 1) {
+	      if (count[c] < PARALLEL_RADIXSORT_NO_FORK) radixSortIndirect(perm, a, i, i + count[c], stable);
+	      else {
+	       queueSize.incrementAndGet();
+	       queue.add(new Segment(i, count[c], level + 1));
+	      }
+	     }
+	    }
+	   }
+	   queueSize.decrementAndGet();
+	  }
+	 });
+	 Throwable problem = null;
+	 for(int i = numberOfThreads; i-- != 0;)
+	  try {
+	   executorCompletionService.take().get();
+	  }
+	  catch(Exception e) {
+	   problem = e.getCause(); // We keep only the last one. They will be logged anyway.
+	  }
+	 if (problem != null) throw (problem instanceof RuntimeException) ? (RuntimeException)problem : new RuntimeException(problem);
+	}
+	/** Sorts the specified array using parallel indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code a[perm[i]] &le; a[perm[i + 1]]}.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param stable whether the sorting algorithm should be stable.
+	 */
+	public static void parallelRadixSortIndirect(final int perm[], final byte[] a, final boolean stable) {
+	 parallelRadixSortIndirect(perm, a, 0, a.length, stable);
+	}
+	/** Sorts the specified pair of arrays lexicographically using radix sort.
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the arguments. Pairs of elements
+	 * in the same position in the two provided arrays will be considered a single key, and permuted
+	 * accordingly. In the end, either {@code a[i] &lt; a[i + 1]} or {@code a[i] == a[i + 1]} and {@code b[i] &le; b[i + 1]}.
+	 *
+	 * @param a the first array to be sorted.
+	 * @param b the second array to be sorted.
+	 */
+	public static void radixSort(final byte[] a, final byte[] b) {
+	 ensureSameLength(a, b);
+	 radixSort(a, b, 0, a.length);
+	}
+	/** Sorts the specified range of elements of two arrays using radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the arguments. Pairs of elements
+	 * in the same position in the two provided arrays will be considered a single key, and permuted
+	 * accordingly. In the end, either {@code a[i] &lt; a[i + 1]} or {@code a[i] == a[i + 1]} and {@code b[i] &le; b[i + 1]}.
+	 *
+	 * @param a the first array to be sorted.
+	 * @param b the second array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void radixSort(final byte[] a, final byte[] b, final int from, final int to) {
+	 if (to - from < RADIXSORT_NO_REC) {
+	  quickSort(a, b, from, to);
+	  return;
+	 }
+	 final int layers = 2;
+	 final int maxLevel = DIGITS_PER_ELEMENT * layers - 1;
+	 final int stackSize = ((1 << DIGIT_BITS) - 1) * (layers * DIGITS_PER_ELEMENT - 1) + 1;
+	 int stackPos = 0;
+	 final int[] offsetStack = new int[stackSize];
+	 final int[] lengthStack = new int[stackSize];
+	 final int[] levelStack = new int[stackSize];
+	 offsetStack[stackPos] = from;
+	 lengthStack[stackPos] = to - from;
+	 levelStack[stackPos++] = 0;
+	 final int[] count = new int[1 << DIGIT_BITS];
+	 final int[] pos = new int[1 << DIGIT_BITS];
+	 while(stackPos > 0) {
+	  final int first = offsetStack[--stackPos];
+	  final int length = lengthStack[stackPos];
+	  final int level = levelStack[stackPos];
+	  final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	  final byte[] k = level < DIGITS_PER_ELEMENT ? a : b; // This is the key array
+	  final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	  // Count keys.
+	  for(int i = first + length; i-- != first;) count[((k[i]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	  // Compute cumulative distribution
+	  int lastUsed = -1;
+	  for (int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	   if (count[i] != 0) lastUsed = i;
+	   pos[i] = (p += count[i]);
+	  }
+	  final int end = first + length - count[lastUsed];
+	  // i moves through the start of each block
+	  for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	   byte t = a[i];
+	   byte u = b[i];
+	   c = ((k[i]) >>> shift & DIGIT_MASK ^ signMask);
+	   if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	    while((d = --pos[c]) > i) {
+	     c = ((k[d]) >>> shift & DIGIT_MASK ^ signMask);
+	     byte z = t;
+	     t = a[d];
+	     a[d] = z;
+	     z = u;
+	     u = b[d];
+	     b[d] = z;
+	    }
+	    a[i] = t;
+	    b[i] = u;
+	   }
+	   if (level < maxLevel && count[c] > 1) {
+	    if (count[c] < RADIXSORT_NO_REC) quickSort(a, b, i, i + count[c]);
+	    else {
+	     offsetStack[stackPos] = i;
+	     lengthStack[stackPos] = count[c];
+	     levelStack[stackPos++] = level + 1;
+	    }
+	   }
+	  }
+	 }
+	}
+	/** Sorts the specified range of elements of two arrays using a parallel radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the arguments. Pairs of elements
+	 * in the same position in the two provided arrays will be considered a single key, and permuted
+	 * accordingly. In the end, either {@code a[i] &lt; a[i + 1]} or {@code a[i] == a[i + 1]} and {@code b[i] &le; b[i + 1]}.
+	 *
+	 * @param a the first array to be sorted.
+	 * @param b the second array to be sorted.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void parallelRadixSort(final byte[] a, final byte[] b, final int from, final int to) {
+	 ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_RADIXSORT_NO_FORK || pool.getParallelism() == 1) {
+	  quickSort(a, b, from, to);
+	  return;
+	 }
+	 final int layers = 2;
+	 if (a.length != b.length) throw new IllegalArgumentException("Array size mismatch.");
+	 final int maxLevel = DIGITS_PER_ELEMENT * layers - 1;
+	 final LinkedBlockingQueue<Segment> queue = new LinkedBlockingQueue<>();
+	 queue.add(new Segment(from, to - from, 0));
+	 final AtomicInteger queueSize = new AtomicInteger(1);
+	 final int numberOfThreads = pool.getParallelism();
+	 final ExecutorCompletionService<Void> executorCompletionService = new ExecutorCompletionService<>(pool);
+	 for (int j = numberOfThreads; j-- != 0;) executorCompletionService.submit(() -> {
+	   final int[] count = new int[1 << DIGIT_BITS];
+	   final int[] pos = new int[1 << DIGIT_BITS];
+	   for (;;) {
+	    if (queueSize.get() == 0) for (int i = numberOfThreads; i-- != 0;)
+	     queue.add(POISON_PILL);
+	    final Segment segment = queue.take();
+	    if (segment == POISON_PILL) return null;
+	    final int first = segment.offset;
+	    final int length = segment.length;
+	    final int level = segment.level;
+	    final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	    final byte[] k = level < DIGITS_PER_ELEMENT ? a : b; // This is the key array
+	    final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS;
+	    // Count keys.
+	    for (int i = first + length; i-- != first;)
+	     count[((k[i]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	    // Compute cumulative distribution
+	    int lastUsed = -1;
+	    for (int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	     if (count[i] != 0) lastUsed = i;
+	     pos[i] = (p += count[i]);
+	    }
+	    final int end = first + length - count[lastUsed];
+	    for (int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	     byte t = a[i];
+	     byte u = b[i];
+	     c = ((k[i]) >>> shift & DIGIT_MASK ^ signMask);
+	     if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	      while ((d = --pos[c]) > i) {
+	       c = ((k[d]) >>> shift & DIGIT_MASK ^ signMask);
+	       final byte z = t;
+	       final byte w = u;
+	       t = a[d];
+	       u = b[d];
+	       a[d] = z;
+	       b[d] = w;
+	      }
+	      a[i] = t;
+	      b[i] = u;
+	     }
+	     if (level < maxLevel && count[c] > 1) {
+	      if (count[c] < PARALLEL_RADIXSORT_NO_FORK) quickSort(a, b, i, i + count[c]);
+	      else {
+	       queueSize.incrementAndGet();
+	       queue.add(new Segment(i, count[c], level + 1));
+	      }
+	     }
+	    }
+	    queueSize.decrementAndGet();
+	   }
+	  });
+	 Throwable problem = null;
+	 for (int i = numberOfThreads; i-- != 0;)
+	  try {
+	   executorCompletionService.take().get();
+	  }
+	  catch (Exception e) {
+	   problem = e.getCause(); // We keep only the last one. They will be logged anyway.
+	  }
+	 if (problem != null) throw (problem instanceof RuntimeException) ? (RuntimeException)problem : new RuntimeException(problem);
+	}
+	/** Sorts two arrays using a parallel radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the arguments. Pairs of elements
+	 * in the same position in the two provided arrays will be considered a single key, and permuted
+	 * accordingly. In the end, either {@code a[i] &lt; a[i + 1]} or {@code a[i] == a[i + 1]} and {@code b[i] &le; b[i + 1]}.
+	 *
+	 * @param a the first array to be sorted.
+	 * @param b the second array to be sorted.
+	 */
+	public static void parallelRadixSort(final byte[] a, final byte[] b) {
+	 ensureSameLength(a, b);
+	 parallelRadixSort(a, b, 0, a.length);
+	}
+	private static void insertionSortIndirect(final int[] perm, final byte[] a, final byte[] b, final int from, final int to) {
+	 for (int i = from; ++i < to;) {
+	  int t = perm[i];
+	  int j = i;
+	  for (int u = perm[j - 1]; ( (a[t]) < (a[u]) ) || ( (a[t]) == (a[u]) ) && ( (b[t]) < (b[u]) ); u = perm[--j - 1]) {
+	   perm[j] = u;
+	   if (from == j - 1) {
+	    --j;
+	    break;
+	   }
+	  }
+	  perm[j] = t;
+	 }
+	}
+	/** Sorts the specified pair of arrays lexicographically using indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code a[perm[i]] &le; a[perm[i + 1]]} or {@code a[perm[i]] == a[perm[i + 1]]} and {@code b[perm[i]] &le; b[perm[i + 1]]}.
+	 *
+	 * @implSpec This implementation will allocate, in the stable case, a further support array as large as {@code perm} (note that the stable
+	 * version is slightly faster).
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param b the second array to be sorted.
+	 * @param stable whether the sorting algorithm should be stable.
+	 */
+	public static void radixSortIndirect(final int[] perm, final byte[] a, final byte[] b, final boolean stable) {
+	 ensureSameLength(a, b);
+	 radixSortIndirect(perm, a, b, 0, a.length, stable);
+	}
+	/** Sorts the specified pair of arrays lexicographically using indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * {@code a[perm[i]] &le; a[perm[i + 1]]} or {@code a[perm[i]] == a[perm[i + 1]]} and {@code b[perm[i]] &le; b[perm[i + 1]]}.
+	 *
+	 * @implSpec This implementation will allocate, in the stable case, a further support array as large as {@code perm} (note that the stable
+	 * version is slightly faster).
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a the array to be sorted.
+	 * @param b the second array to be sorted.
+	 * @param from the index of the first element of {@code perm} (inclusive) to be permuted.
+	 * @param to the index of the last element of {@code perm} (exclusive) to be permuted.
+	 * @param stable whether the sorting algorithm should be stable.
+	 */
+	public static void radixSortIndirect(final int[] perm, final byte[] a, final byte[] b, final int from, final int to, final boolean stable) {
+	 if (to - from < RADIXSORT_NO_REC_SMALL) {
+	  insertionSortIndirect(perm, a, b, from, to);
+	  return;
+	 }
+	 final int layers = 2;
+	 final int maxLevel = DIGITS_PER_ELEMENT * layers - 1;
+	 final int stackSize = ((1 << DIGIT_BITS) - 1) * (layers * DIGITS_PER_ELEMENT - 1) + 1;
+	 int stackPos = 0;
+	 final int[] offsetStack = new int[stackSize];
+	 final int[] lengthStack = new int[stackSize];
+	 final int[] levelStack = new int[stackSize];
+	 offsetStack[stackPos] = from;
+	 lengthStack[stackPos] = to - from;
+	 levelStack[stackPos++] = 0;
+	 final int[] count = new int[1 << DIGIT_BITS];
+	 final int[] pos = new int[1 << DIGIT_BITS];
+	 final int[] support = stable ? new int[perm.length] : null;
+	 while(stackPos > 0) {
+	  final int first = offsetStack[--stackPos];
+	  final int length = lengthStack[stackPos];
+	  final int level = levelStack[stackPos];
+	  final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	  final byte[] k = level < DIGITS_PER_ELEMENT ? a : b; // This is the key array
+	  final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	  // Count keys.
+	  for(int i = first + length; i-- != first;) count[((k[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	  // Compute cumulative distribution
+	  int lastUsed = -1;
+	  for (int i = 0, p = stable ? 0 : first; i < 1 << DIGIT_BITS; i++) {
+	   if (count[i] != 0) lastUsed = i;
+	   pos[i] = (p += count[i]);
+	  }
+	  if (stable) {
+	   for(int i = first + length; i-- != first;) support[--pos[((k[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]] = perm[i];
+	   System.arraycopy(support, 0, perm, first, length);
+	   for(int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	    if (level < maxLevel && count[i] > 1) {
+	     if (count[i] < RADIXSORT_NO_REC_SMALL) insertionSortIndirect(perm, a, b, p, p + count[i]);
+	     else {
+	      offsetStack[stackPos] = p;
+	      lengthStack[stackPos] = count[i];
+	      levelStack[stackPos++] = level + 1;
+	     }
+	    }
+	    p += count[i];
+	   }
+	   java.util.Arrays.fill(count, 0);
+	  }
+	  else {
+	   final int end = first + length - count[lastUsed];
+	   // i moves through the start of each block
+	   for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	    int t = perm[i];
+	    c = ((k[t]) >>> shift & DIGIT_MASK ^ signMask);
+	    if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	     while((d = --pos[c]) > i) {
+	      final int z = t;
+	      t = perm[d];
+	      perm[d] = z;
+	      c = ((k[t]) >>> shift & DIGIT_MASK ^ signMask);
+	     }
+	     perm[i] = t;
+	    }
+	    if (level < maxLevel && count[c] > 1) {
+	     if (count[c] < RADIXSORT_NO_REC_SMALL) insertionSortIndirect(perm, a, b, i, i + count[c]);
+	     else {
+	      offsetStack[stackPos] = i;
+	      lengthStack[stackPos] = count[c];
+	      levelStack[stackPos++] = level + 1;
+	     }
+	    }
+	   }
+	  }
+	 }
+	}
+	private static void selectionSort(final byte[][] a, final int from, final int to, final int level) {
+	 final int layers = a.length;
+	 final int firstLayer = level / DIGITS_PER_ELEMENT;
+	 for(int i = from; i < to - 1; i++) {
+	  int m = i;
+	  for(int j = i + 1; j < to; j++) {
+	   for(int p = firstLayer; p < layers; p++) {
+	    if (a[p][j] < a[p][m]) {
+	     m = j;
+	     break;
+	    }
+	    else if (a[p][j] > a[p][m]) break;
+	   }
+	  }
+	  if (m != i) {
+	   for(int p = layers; p-- != 0;) {
+	    final byte u = a[p][i];
+	    a[p][i] = a[p][m];
+	    a[p][m] = u;
+	   }
+	  }
+	 }
+	}
+	/** Sorts the specified array of arrays lexicographically using radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the provided arrays. Tuples of elements
+	 * in the same position will be considered a single key, and permuted
+	 * accordingly.
+	 *
+	 * @param a an array containing arrays of equal length to be sorted lexicographically in parallel.
+	 */
+	public static void radixSort(final byte[][] a) {
+	 radixSort(a, 0, a[0].length);
+	}
+	/** Sorts the specified array of arrays lexicographically using radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the provided arrays. Tuples of elements
+	 * in the same position will be considered a single key, and permuted
+	 * accordingly.
+	 *
+	 * @param a an array containing arrays of equal length to be sorted lexicographically in parallel.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 */
+	public static void radixSort(final byte[][] a, final int from, final int to) {
+	 ensureSameLength(a);
+	 radixSort(a, from, to, 0);
+	}
+	/** Checks that all arrays in an array of arrays have the same length.
+	 *
+	 * @param a an array of arrays.
+	 * @throws IllegalArgumentException if not all arrays have the same length.
+	 */
+	private static void ensureSameLength(final byte[][] a) {
+	 for(int p = a.length, l = a[0].length; p-- != 0;) if (a[p].length != l) throw new IllegalArgumentException("The array of index " + p + " has not the same length of the array of index 0.");
+	}
+	/** Sorts lexicographically the specified range of an array of arrays, starting from a given digit level. */
+	private static void radixSort(final byte[][] a, final int from, final int to, final int startLevel) {
+	 if (to - from < RADIXSORT_NO_REC_SMALL) {
+	  selectionSort(a, from, to, startLevel);
+	  return;
+	 }
+	 final int layers = a.length;
+	 final int maxLevel = DIGITS_PER_ELEMENT * layers - 1;
+	 final int stackSize = ((1 << DIGIT_BITS) - 1) * (layers * DIGITS_PER_ELEMENT - 1) + 1;
+	 int stackPos = 0;
+	 final int[] offsetStack = new int[stackSize];
+	 final int[] lengthStack = new int[stackSize];
+	 final int[] levelStack = new int[stackSize];
+	 offsetStack[stackPos] = from;
+	 lengthStack[stackPos] = to - from;
+	 levelStack[stackPos++] = startLevel;
+	 final int[] count = new int[1 << DIGIT_BITS];
+	 final int[] pos = new int[1 << DIGIT_BITS];
+	 final byte[] t = new byte[layers];
+	 while(stackPos > 0) {
+	  final int first = offsetStack[--stackPos];
+	  final int length = lengthStack[stackPos];
+	  final int level = levelStack[stackPos];
+	  final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	  final byte[] k = a[level / DIGITS_PER_ELEMENT]; // This is the key array
+	  final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	  // Count keys.
+	  for(int i = first + length; i-- != first;) count[((k[i]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	  // Compute cumulative distribution
+	  int lastUsed = -1;
+	  for (int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	   if (count[i] != 0) lastUsed = i;
+	   pos[i] = (p += count[i]);
+	  }
+	  final int end = first + length - count[lastUsed];
+	  // i moves through the start of each block
+	  for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	   for(int p = layers; p-- != 0;) t[p] = a[p][i];
+	   c = ((k[i]) >>> shift & DIGIT_MASK ^ signMask);
+	   if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	    while((d = --pos[c]) > i) {
+	     c = ((k[d]) >>> shift & DIGIT_MASK ^ signMask);
+	     for(int p = layers; p-- != 0;) {
+	      final byte u = t[p];
+	      t[p] = a[p][d];
+	      a[p][d] = u;
+	     }
+	    }
+	    for(int p = layers; p-- != 0;) a[p][i] = t[p];
+	   }
+	   if (level < maxLevel && count[c] > 1) {
+	    if (count[c] < RADIXSORT_NO_REC_SMALL) selectionSort(a, i, i + count[c], level + 1);
+	    else {
+	     offsetStack[stackPos] = i;
+	     lengthStack[stackPos] = count[c];
+	     levelStack[stackPos++] = level + 1;
+	    }
+	   }
+	  }
+	 }
+	}
+	/** Sorts lexicographically the specified range of an array of arrays using parallel radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the provided arrays. Tuples of elements
+	 * in the same position will be considered a single key, and permuted
+	 * accordingly.
+	 *
+	 * @param a an array containing arrays of equal length to be sorted lexicographically in parallel.
+	 * @param from the index of the first element (inclusive) to be sorted.
+	 * @param to the index of the last element (exclusive) to be sorted.
+	 * @since 8.5.19
+	 */
+	public static void parallelRadixSort(final byte[][] a, final int from, final int to) {
+	 ensureSameLength(a);
+	 final ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_RADIXSORT_NO_FORK || pool.getParallelism() == 1) {
+	  radixSort(a, from, to, 0);
+	  return;
+	 }
+	 final int layers = a.length;
+	 final int maxLevel = DIGITS_PER_ELEMENT * layers - 1;
+	 final LinkedBlockingQueue<Segment> queue = new LinkedBlockingQueue<>();
+	 queue.add(new Segment(from, to - from, 0));
+	 final AtomicInteger queueSize = new AtomicInteger(1);
+	 final int numberOfThreads = pool.getParallelism();
+	 final ExecutorCompletionService<Void> executorCompletionService = new ExecutorCompletionService<>(pool);
+	 for(int j = numberOfThreads; j-- != 0;) executorCompletionService.submit(() -> {
+	  final int[] count = new int[1 << DIGIT_BITS];
+	  final int[] pos = new int[1 << DIGIT_BITS];
+	  final byte[] t = new byte[layers];
+	  for(;;) {
+	   if (queueSize.get() == 0) for(int i = numberOfThreads; i-- != 0;) queue.add(POISON_PILL);
+	   final Segment segment = queue.take();
+	   if (segment == POISON_PILL) return null;
+	   final int first = segment.offset;
+	   final int length = segment.length;
+	   final int level = segment.level;
+	   final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	   final byte[] k = a[level / DIGITS_PER_ELEMENT]; // This is the key array
+	   final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	   // Count keys.
+	   for(int i = first + length; i-- != first;) count[((k[i]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	   // Compute cumulative distribution
+	   int lastUsed = -1;
+	   for (int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	    if (count[i] != 0) lastUsed = i;
+	    pos[i] = (p += count[i]);
+	   }
+	   final int end = first + length - count[lastUsed];
+	   // i moves through the start of each block
+	   for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	    for(int p = layers; p-- != 0;) t[p] = a[p][i];
+	    c = ((k[i]) >>> shift & DIGIT_MASK ^ signMask);
+	    if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	     while((d = --pos[c]) > i) {
+	      c = ((k[d]) >>> shift & DIGIT_MASK ^ signMask);
+	      for(int p = layers; p-- != 0;) {
+	       final byte u = t[p];
+	       t[p] = a[p][d];
+	       a[p][d] = u;
+	      }
+	     }
+	     for(int p = layers; p-- != 0;) a[p][i] = t[p];
+	    }
+	    if (level < maxLevel && count[c] > 1) {
+	     if (count[c] < PARALLEL_RADIXSORT_NO_FORK) radixSort(a, i, i + count[c], level + 1);
+	     else {
+	      queueSize.incrementAndGet();
+	      queue.add(new Segment(i, count[c], level + 1));
+	     }
+	    }
+	   }
+	   queueSize.decrementAndGet();
+	  }
+	 });
+	 Throwable problem = null;
+	 for(int i = numberOfThreads; i-- != 0;)
+	  try {
+	   executorCompletionService.take().get();
+	  }
+	  catch(Exception e) {
+	   problem = e.getCause(); // We keep only the last one. They will be logged anyway.
+	  }
+	 if (problem != null) throw (problem instanceof RuntimeException) ? (RuntimeException)problem : new RuntimeException(problem);
+	}
+	/** Sorts lexicographically the specified array of arrays using parallel radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implements a <em>lexicographical</em> sorting of the provided arrays. Tuples of elements
+	 * in the same position will be considered a single key, and permuted
+	 * accordingly.
+	 *
+	 * @param a an array containing arrays of equal length to be sorted lexicographically in parallel.
+	 * @since 8.5.19
+	 */
+	public static void parallelRadixSort(final byte[][] a) {
+	 parallelRadixSort(a, 0, a[0].length);
+	}
+	/** Returns true if the tuple of index {@code x} is lexicographically smaller than the tuple of index {@code y}, starting from a given layer. */
+	private static boolean lexLess(final byte[][] a, int p, final int x, final int y) {
+	 for(; p < a.length; p++) {
+	  if (( (a[p][x]) < (a[p][y]) )) return true;
+	  if (! ( (a[p][x]) == (a[p][y]) )) return false;
+	 }
+	 return false;
+	}
+	private static void insertionSortIndirect(final int[] perm, final byte[][] a, final int from, final int to, final int level) {
+	 final int firstLayer = level / DIGITS_PER_ELEMENT;
+	 for (int i = from; ++i < to;) {
+	  final int t = perm[i];
+	  int j = i;
+	  for (int u = perm[j - 1]; lexLess(a, firstLayer, t, u); u = perm[--j - 1]) {
+	   perm[j] = u;
+	   if (from == j - 1) {
+	    --j;
+	    break;
+	   }
+	  }
+	  perm[j] = t;
+	 }
+	}
+	/** Sorts the specified array of arrays lexicographically using indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * the tuples {@code a[0][perm[i]], a[1][perm[i]], &hellip;} are lexicographically nondecreasing.
+	 * Any number of further arrays (e.g., payload columns) can then be rearranged accordingly using
+	 * {@link #permute(KEY_TYPE[], int[], int, int)} and its analogues in the other type-specific classes.
+	 *
+	 * <p>Columns of different types can be sorted lexicographically by sorting {@code perm} with
+	 * the stable indirect sorts of the corresponding type-specific classes, starting from the <em>last</em> column.
+	 *
+	 * @implSpec This implementation will allocate, in the stable case, a support array as large as the range to be sorted.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a an array containing arrays of equal length to be sorted lexicographically.
+	 * @param from the index of the first element of {@code perm} (inclusive) to be permuted.
+	 * @param to the index of the last element of {@code perm} (exclusive) to be permuted.
+	 * @param stable whether the sorting algorithm should be stable.
+	 * @since 8.5.19
+	 */
+	public static void radixSortIndirect(final int[] perm, final byte[][] a, final int from, final int to, final boolean stable) {
+	 ensureSameLength(a);
+	 radixSortIndirect(perm, a, from, to, stable, 0);
+	}
+	/** Sorts the specified array of arrays lexicographically using indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * the tuples {@code a[0][perm[i]], a[1][perm[i]], &hellip;} are lexicographically nondecreasing.
+	 *
+	 * @implSpec This implementation uses {@link #radixSortIndirect(int[], KEY_TYPE[][], int, int, boolean)}.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a an array containing arrays of equal length to be sorted lexicographically.
+	 * @param stable whether the sorting algorithm should be stable.
+	 * @since 8.5.19
+	 */
+	public static void radixSortIndirect(final int[] perm, final byte[][] a, final boolean stable) {
+	 radixSortIndirect(perm, a, 0, perm.length, stable);
+	}
+	/** Sorts indirectly and lexicographically the specified range of an array of arrays, starting from a given digit level. */
+	private static void radixSortIndirect(final int[] perm, final byte[][] a, final int from, final int to, final boolean stable, final int startLevel) {
+	 if (to - from < RADIXSORT_NO_REC_SMALL) {
+	  insertionSortIndirect(perm, a, from, to, startLevel);
+	  return;
+	 }
+	 final int layers = a.length;
+	 final int maxLevel = DIGITS_PER_ELEMENT * layers - 1;
+	 final int stackSize = ((1 << DIGIT_BITS) - 1) * (layers * DIGITS_PER_ELEMENT - 1) + 1;
+	 int stackPos = 0;
+	 final int[] offsetStack = new int[stackSize];
+	 final int[] lengthStack = new int[stackSize];
+	 final int[] levelStack = new int[stackSize];
+	 offsetStack[stackPos] = from;
+	 lengthStack[stackPos] = to - from;
+	 levelStack[stackPos++] = startLevel;
+	 final int[] count = new int[1 << DIGIT_BITS];
+	 final int[] pos = new int[1 << DIGIT_BITS];
+	 final int[] support = stable ? new int[to - from] : null;
+	 while(stackPos > 0) {
+	  final int first = offsetStack[--stackPos];
+	  final int length = lengthStack[stackPos];
+	  final int level = levelStack[stackPos];
+	  final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	  final byte[] k = a[level / DIGITS_PER_ELEMENT]; // This is the key array
+	  final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	  // Count keys.
+	  for(int i = first + length; i-- != first;) count[((k[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	  // Compute cumulative distribution
+	  int lastUsed = -1;
+	  for (int i = 0, p = stable ? 0 : first; i < 1 << DIGIT_BITS; i++) {
+	   if (count[i] != 0) lastUsed = i;
+	   pos[i] = (p += count[i]);
+	  }
+	  if (stable) {
+	   for(int i = first + length; i-- != first;) support[--pos[((k[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]] = perm[i];
+	   System.arraycopy(support, 0, perm, first, length);
+	   for(int i = 0, p = first; i <= lastUsed; i++) {
+	    if (level < maxLevel && count[i] > 1) {
+	     if (count[i] < RADIXSORT_NO_REC_SMALL) insertionSortIndirect(perm, a, p, p + count[i], level + 1);
+	     else {
+	      offsetStack[stackPos] = p;
+	      lengthStack[stackPos] = count[i];
+	      levelStack[stackPos++] = level + 1;
+	     }
+	    }
+	    p += count[i];
+	   }
+	   java.util.Arrays.fill(count, 0);
+	  }
+	  else {
+	   final int end = first + length - count[lastUsed];
+	   // i moves through the start of each block
+	   for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	    int t = perm[i];
+	    c = ((k[t]) >>> shift & DIGIT_MASK ^ signMask);
+	    if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	     while((d = --pos[c]) > i) {
+	      final int z = t;
+	      t = perm[d];
+	      perm[d] = z;
+	      c = ((k[t]) >>> shift & DIGIT_MASK ^ signMask);
+	     }
+	     perm[i] = t;
+	    }
+	    if (level < maxLevel && count[c] > 1) {
+	     if (count[c] < RADIXSORT_NO_REC_SMALL) insertionSortIndirect(perm, a, i, i + count[c], level + 1);
+	     else {
+	      offsetStack[stackPos] = i;
+	      lengthStack[stackPos] = count[c];
+	      levelStack[stackPos++] = level + 1;
+	     }
+	    }
+	   }
+	  }
+	 }
+	}
+	/** Sorts the specified array of arrays lexicographically using parallel indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * the tuples {@code a[0][perm[i]], a[1][perm[i]], &hellip;} are lexicographically nondecreasing.
+	 * Any number of further arrays (e.g., payload columns) can then be rearranged accordingly using
+	 * {@link #permute(KEY_TYPE[], int[], int, int)} and its analogues in the other type-specific classes.
+	 *
+	 * @implSpec This implementation will allocate, in the stable case, a support array as large as {@code perm}.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a an array containing arrays of equal length to be sorted lexicographically.
+	 * @param from the index of the first element of {@code perm} (inclusive) to be permuted.
+	 * @param to the index of the last element of {@code perm} (exclusive) to be permuted.
+	 * @param stable whether the sorting algorithm should be stable.
+	 * @since 8.5.19
+	 */
+	public static void parallelRadixSortIndirect(final int[] perm, final byte[][] a, final int from, final int to, final boolean stable) {
+	 ensureSameLength(a);
+	 final ForkJoinPool pool = getPool();
+	 if (to - from < PARALLEL_RADIXSORT_NO_FORK || pool.getParallelism() == 1) {
+	  radixSortIndirect(perm, a, from, to, stable, 0);
+	  return;
+	 }
+	 final int layers = a.length;
+	 final int maxLevel = DIGITS_PER_ELEMENT * layers - 1;
+	 final LinkedBlockingQueue<Segment> queue = new LinkedBlockingQueue<>();
+	 queue.add(new Segment(from, to - from, 0));
+	 final AtomicInteger queueSize = new AtomicInteger(1);
+	 final int numberOfThreads = pool.getParallelism();
+	 final ExecutorCompletionService<Void> executorCompletionService = new ExecutorCompletionService<>(pool);
+	 final int[] support = stable ? new int[perm.length] : null;
+	 for(int j = numberOfThreads; j-- != 0;) executorCompletionService.submit(() -> {
+	  final int[] count = new int[1 << DIGIT_BITS];
+	  final int[] pos = new int[1 << DIGIT_BITS];
+	  for(;;) {
+	   if (queueSize.get() == 0) for(int i = numberOfThreads; i-- != 0;) queue.add(POISON_PILL);
+	   final Segment segment = queue.take();
+	   if (segment == POISON_PILL) return null;
+	   final int first = segment.offset;
+	   final int length = segment.length;
+	   final int level = segment.level;
+	   final int signMask = level % DIGITS_PER_ELEMENT == 0 ? 1 << DIGIT_BITS - 1 : 0;
+	   final byte[] k = a[level / DIGITS_PER_ELEMENT]; // This is the key array
+	   final int shift = (DIGITS_PER_ELEMENT - 1 - level % DIGITS_PER_ELEMENT) * DIGIT_BITS; // This is the shift that extract the right byte from a key
+	   // Count keys.
+	   for(int i = first + length; i-- != first;) count[((k[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]++;
+	   // Compute cumulative distribution
+	   int lastUsed = -1;
+	   for (int i = 0, p = first; i < 1 << DIGIT_BITS; i++) {
+	    if (count[i] != 0) lastUsed = i;
+	    pos[i] = (p += count[i]);
+	   }
+	   if (stable) {
+	    for(int i = first + length; i-- != first;) support[--pos[((k[perm[i]]) >>> shift & DIGIT_MASK ^ signMask)]] = perm[i];
+	    System.arraycopy(support, first, perm, first, length);
+	    for(int i = 0, p = first; i <= lastUsed; i++) {
+	     if (level < maxLevel && count[i] > 1) {
+	      if (count[i] < PARALLEL_RADIXSORT_NO_FORK) radixSortIndirect(perm, a, p, p + count[i], stable, level + 1);
+	      else {
+	       queueSize.incrementAndGet();
+	       queue.add(new Segment(p, count[i], level + 1));
+	      }
+	     }
+	     p += count[i];
+	    }
+	    java.util.Arrays.fill(count, 0);
+	   }
+	   else {
+	    final int end = first + length - count[lastUsed];
+	    // i moves through the start of each block
+	    for(int i = first, c = -1, d; i <= end; i += count[c], count[c] = 0) {
+	     int t = perm[i];
+	     c = ((k[t]) >>> shift & DIGIT_MASK ^ signMask);
+	     if (i < end) { // When all slots are OK, the last slot is necessarily OK.
+	      while((d = --pos[c]) > i) {
+	       final int z = t;
+	       t = perm[d];
+	       perm[d] = z;
+	       c = ((k[t]) >>> shift & DIGIT_MASK ^ signMask);
+	      }
+	      perm[i] = t;
+	     }
+	     if (level < maxLevel && count[c] > 1) {
+	      if (count[c] < PARALLEL_RADIXSORT_NO_FORK) radixSortIndirect(perm, a, i, i + count[c], stable, level + 1);
+	      else {
+	       queueSize.incrementAndGet();
+	       queue.add(new Segment(i, count[c], level + 1));
+	      }
+	     }
+	    }
+	   }
+	   queueSize.decrementAndGet();
+	  }
+	 });
+	 Throwable problem = null;
+	 for(int i = numberOfThreads; i-- != 0;)
+	  try {
+	   executorCompletionService.take().get();
+	  }
+	  catch(Exception e) {
+	   problem = e.getCause(); // We keep only the last one. They will be logged anyway.
+	  }
+	 if (problem != null) throw (problem instanceof RuntimeException) ? (RuntimeException)problem : new RuntimeException(problem);
+	}
+	/** Sorts the specified array of arrays lexicographically using parallel indirect radix sort.
+	 *
+	 * <p>The sorting algorithm is a tuned radix sort adapted from Peter M. McIlroy, Keith Bostic and M. Douglas
+	 * McIlroy, &ldquo;Engineering radix sort&rdquo;, <i>Computing Systems</i>, 6(1), pages 5&minus;27 (1993).
+	 *
+	 * <p>This method implement an <em>indirect</em> sort. The elements of {@code perm} (which must
+	 * be exactly the numbers in the interval {@code [0..perm.length)}) will be permuted so that
+	 * the tuples {@code a[0][perm[i]], a[1][perm[i]], &hellip;} are lexicographically nondecreasing.
+	 *
+	 * @implSpec This implementation uses {@link #parallelRadixSortIndirect(int[], KEY_TYPE[][], int, int, boolean)}.
+	 *
+	 * @param perm a permutation array indexing {@code a}.
+	 * @param a an array containing arrays of equal length to be sorted lexicographically.
+	 * @param stable whether the sorting algorithm should be stable.
+	 * @since 8.5.19
+	 */
+	public static void parallelRadixSortIndirect(final int[] perm, final byte[][] a, final boolean stable) {
+	 parallelRadixSortIndirect(perm, a, 0, perm.length, stable);
+	}
+	/** Shuffles the specified array fragment using the specified pseudorandom number generator.
+	 *
+	 * @param a the array to be shuffled.
+	 * @param from the index of the first element (inclusive) to be shuffled.
+	 * @param to the index of the last element (exclusive) to be shuffled.
+	 * @param random a pseudorandom number generator.
+	 * @return {@code a}.
+	 */
+	public static byte[] shuffle(final byte[] a, final int from, final int to, final Random random) {
+	 for(int i = to - from; i-- != 0;) {
+	  final int p = random.nextInt(i + 1);
+	  final byte t = a[from + i];
+	  a[from + i] = a[from + p];
+	  a[from + p] = t;
+	 }
+	 return a;
+	}
+	/** Shuffles the specified array using the specified pseudorandom number generator.
+	 *
+	 * @param a the array to be shuffled.
+	 * @param random a pseudorandom number generator.
+	 * @return {@code a}.
+	 */
+	public static byte[] shuffle(final byte[] a, final Random random) {
+	 for(int i = a.length; i-- != 0;) {
+	  final int p = random.nextInt(i + 1);
+	  final byte t = a[i];
+	  a[i] = a[p];
+	  a[p] = t;
+	 }
+	 return a;
+	}
+	/** Reverses the order of the elements in the specified array.
+	 *
+	 * @param a the array to be reversed.
+	 * @return {@code a}.
+	 */
+	public static byte[] reverse(final byte[] a) {
+	 final int length = a.length;
+	 for(int i = length / 2; i-- != 0;) {
+	  final byte t = a[length - i - 1];
+	  a[length - i - 1] = a[i];
+	  a[i] = t;
+	 }
+	 return a;
+	}
+	/** Reverses the order of the elements in the specified array fragment.
+	 *
+	 * @param a the array to be reversed.
+	 * @param from the index of the first element (inclusive) to be reversed.
+	 * @param to the index of the last element (exclusive) to be reversed.
+	 * @return {@code a}.
+	 */
+	public static byte[] reverse(final byte[] a, final int from, final int to) {
+	 final int length = to - from;
+	 for(int i = length / 2; i-- != 0;) {
+	  final byte t = a[from + length - i - 1];
+	  a[from + length - i - 1] = a[from + i];
+	  a[from + i] = t;
+	 }
+	 return a;
+	}
+	/** Permutes the specified array fragment following a permutation.
+	 *
+	 * <p>After this call, {@code a[i]} will contain the element that was in position {@code perm[i]} before the call,
+	 * for {@code from &le; i &lt; to}. This method is typically used to rearrange arrays parallel to
+	 * an array of keys following the permutation computed by an indirect sort.
+	 *
+	 * @param a the array to be permuted.
+	 * @param perm a permutation; its elements in the interval {@code [from..to)} must be exactly the numbers in the same interval.
+	 * @param from the index of the first element (inclusive) to be permuted.
+	 * @param to the index of the last element (exclusive) to be permuted.
+	 * @return {@code a}.
+	 * @since 8.5.19
+	 */
+	public static byte[] permute(final byte[] a, final int[] perm, final int from, final int to) {
+	 ensureFromTo(a, from, to);
+	 final byte[] t = java.util.Arrays.copyOfRange(a, from, to);
+	 for(int i = from; i < to; i++) a[i] = t[perm[i] - from];
+	 return a;
+	}
+	/** Permutes the specified array following a permutation.
+	 *
+	 * <p>After this call, {@code a[i]} will contain the element that was in position {@code perm[i]} before the call.
+	 * This method is typically used to rearrange arrays parallel to an array of keys following the permutation
+	 * computed by an indirect sort.
+	 *
+	 * @param a the array to be permuted.
+	 * @param perm a permutation of the numbers in the interval {@code [0..a.length)}.
+	 * @return {@code a}.
+	 * @since 8.5.19
+	 */
+	public static byte[] permute(final byte[] a, final int[] perm) {
+	 return permute(a, perm, 0, a.length);
+	}
+	/** A type-specific content-based hash strategy for arrays. */
+	private static final class ArrayHashStrategy implements Hash.Strategy<byte[]>, java.io.Serializable {
+	 private static final long serialVersionUID = -7046029254386353129L;
+	 @Override
+	 public int hashCode(final byte[] o) { return java.util.Arrays.hashCode(o); }
+	 @Override
+	 public boolean equals(final byte[] a, final byte[] b) { return java.util.Arrays.equals(a, b); }
+	}
+	/** A type-specific content-based hash strategy for arrays.
+	 *
+	 * <p>This hash strategy may be used in custom hash collections whenever keys are
+	 * arrays, and they must be considered equal by content. This strategy
+	 * will handle {@code null} correctly, and it is serializable.
+	 */
+	public static final Hash.Strategy<byte[]> HASH_STRATEGY = new ArrayHashStrategy();
+}
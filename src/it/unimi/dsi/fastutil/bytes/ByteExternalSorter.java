@@ -0,0 +1,313 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+import it.unimi.dsi.fastutil.io.BinIO;
+import it.unimi.dsi.fastutil.io.FastBufferedInputStream;
+import it.unimi.dsi.fastutil.io.FastBufferedOutputStream;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+/** An external-memory sorter for sequences of primitive elements that might not fit in core memory.
+	*
+	* <p>Elements are {@linkplain #add(KEY_TYPE) added} to an in-memory buffer of fixed size. When the buffer is
+	* full, it is sorted using {@link ARRAYS#parallelRadixSort(KEY_TYPE[], int, int)} and spilled to a temporary
+	* file (a <em>run</em>). After all elements have been added, the runs are merged with a k-way merge driven by
+	* a {@link HEAP_SEMI_INDIRECT_PRIORITY_QUEUE} on the heads of the runs; the sorted sequence can be
+	* {@linkplain #iterator() enumerated} or {@linkplain #store(File) stored} into a file. If all elements fit
+	* into the buffer, no temporary file is ever created.
+	*
+	* <p>Runs and output files use the same format of {@link BinIO#STORE_KEYS(KEY_TYPE[], File)} (i.e., the
+	* format of {@link java.io.DataOutput}), so they can be read back with {@link BinIO#AS_KEY_ITERATOR(File)}.
+	* At most {@link #MAX_FAN_IN} runs are merged at the same time: if there are more runs, they are merged
+	* in groups into longer runs before enumeration starts, so the number of open files (and the memory used by
+	* their buffers) remains bounded.
+	*
+	* <p>Temporary files are deleted when the sorter is {@linkplain #close() closed}. Instances of this class
+	* are not thread safe.
+	*
+	* @since 8.5.19
+	*/
+public class ByteExternalSorter implements Closeable {
+	/** The default size in elements of the in-memory buffer. */
+	public static final int DEFAULT_BUFFER_SIZE = 1 << 24;
+	/** The maximum number of runs merged at the same time. */
+	public static final int MAX_FAN_IN = 256;
+	/** The in-memory buffer. */
+	private byte[] buffer;
+	/** The number of elements in {@link #buffer}. */
+	private int n;
+	/** The directory for temporary files, or {@code null} for the default directory. */
+	private final File tempDir;
+	/** The runs spilled so far. */
+	private final ObjectArrayList<File> runs = new ObjectArrayList<>();
+	/** The length of the runs spilled so far, parallel to {@link #runs}. */
+	private final LongArrayList runLength = new LongArrayList();
+	/** The overall number of elements added so far. */
+	private long size;
+	/** The merge iterator returned by {@link #iterator()}, if any. */
+	private MergeIterator merge;
+	/** Whether {@link #iterator()} has been already called. */
+	private boolean consumed;
+	/** Creates a new external sorter.
+	 *
+	 * @param bufferSize the size in elements of the in-memory buffer.
+	 * @param tempDir the directory for temporary files, or {@code null} for the default temporary-file directory.
+	 */
+	public ByteExternalSorter(final int bufferSize, final File tempDir) {
+	 if (bufferSize <= 0) throw new IllegalArgumentException("The buffer size must be positive: " + bufferSize);
+	 this.buffer = new byte[bufferSize];
+	 this.tempDir = tempDir;
+	}
+	/** Creates a new external sorter using the default temporary-file directory.
+	 *
+	 * @param bufferSize the size in elements of the in-memory buffer.
+	 */
+	public ByteExternalSorter(final int bufferSize) {
+	 this(bufferSize, null);
+	}
+	/** Creates a new external sorter with a buffer of {@link #DEFAULT_BUFFER_SIZE} elements
+	 * using the default temporary-file directory. */
+	public ByteExternalSorter() {
+	 this(DEFAULT_BUFFER_SIZE);
+	}
+	private void ensureNotConsumed() {
+	 if (consumed) throw new IllegalStateException("The sorted sequence has been already enumerated");
+	}
+	/** Sorts the buffer and spills it to a new run. */
+	private void spill() throws IOException {
+	 if (n == 0) return;
+	 ByteArrays.parallelRadixSort(buffer, 0, n);
+	 final File run = File.createTempFile(ByteExternalSorter.class.getSimpleName() + "-", ".run", tempDir);
+	 runs.add(run);
+	 try (final DataOutputStream dos = new DataOutputStream(new FastBufferedOutputStream(new FileOutputStream(run)))) {
+	  BinIO.storeBytes(buffer, 0, n, (DataOutput)dos);
+	 }
+	 runLength.add(n);
+	 n = 0;
+	}
+	/** Merges the first {@link #MAX_FAN_IN} runs into a new run, which is appended to the list of runs. */
+	private void mergeRuns() throws IOException {
+	 final ObjectArrayList<File> group = new ObjectArrayList<>(runs.subList(0, MAX_FAN_IN));
+	 final LongArrayList groupLength = new LongArrayList(runLength.subList(0, MAX_FAN_IN));
+	 final File run = File.createTempFile(ByteExternalSorter.class.getSimpleName() + "-", ".run", tempDir);
+	 runs.add(run);
+	 long length = 0;
+	 try (final MergeIterator i = new MergeIterator(group, groupLength);
+	   final DataOutputStream dos = new DataOutputStream(new FastBufferedOutputStream(new FileOutputStream(run)))) {
+	  while(i.hasNext()) {
+	   dos.writeByte(i.nextByte());
+	   length++;
+	  }
+	 }
+	 runLength.add(length);
+	 runs.removeElements(0, MAX_FAN_IN);
+	 runLength.removeElements(0, MAX_FAN_IN);
+	 for(final File file : group) file.delete();
+	}
+	/** Adds an element.
+	 *
+	 * @param k an element.
+	 */
+	public void add(final byte k) throws IOException {
+	 ensureNotConsumed();
+	 if (n == buffer.length) spill();
+	 buffer[n++] = k;
+	 size++;
+	}
+	/** Adds all elements returned by an iterator.
+	 *
+	 * @param i an iterator.
+	 */
+	public void addAll(final ByteIterator i) throws IOException {
+	 while(i.hasNext()) add(i.nextByte());
+	}
+	/** Adds a fragment of an array.
+	 *
+	 * @param a an array.
+	 * @param offset the first element of {@code a} to add.
+	 * @param length the number of elements of {@code a} to add.
+	 */
+	public void addAll(final byte[] a, int offset, int length) throws IOException {
+	 ensureNotConsumed();
+	 ByteArrays.ensureOffsetLength(a, offset, length);
+	 while(length != 0) {
+	  if (n == buffer.length) spill();
+	  final int l = Math.min(length, buffer.length - n);
+	  System.arraycopy(a, offset, buffer, n, l);
+	  n += l;
+	  offset += l;
+	  length -= l;
+	  size += l;
+	 }
+	}
+	/** Returns the number of elements added so far.
+	 *
+	 * @return the number of elements added so far.
+	 */
+	public long size() {
+	 return size;
+	}
+	/** Returns the number of runs spilled to disk so far.
+	 *
+	 * @return the number of runs spilled to disk so far.
+	 */
+	public int runs() {
+	 return runs.size();
+	}
+	/** Returns an iterator enumerating in sorted order the elements added so far.
+	 *
+	 * <p>This method can be called just once, and no element can be added after it has been called.
+	 * The iterator reads the runs lazily; the underlying files are closed when the iterator is exhausted,
+	 * or when this sorter is {@linkplain #close() closed}.
+	 *
+	 * @return an iterator enumerating in sorted order the elements added so far.
+	 */
+	public ByteIterator iterator() throws IOException {
+	 ensureNotConsumed();
+	 consumed = true;
+	 if (runs.isEmpty()) {
+	  ByteArrays.parallelRadixSort(buffer, 0, n);
+	  return ByteIterators.wrap(buffer, 0, n);
+	 }
+	 spill();
+	 buffer = null;
+	 while(runs.size() > MAX_FAN_IN) mergeRuns();
+	 return merge = new MergeIterator(runs, runLength);
+	}
+	/** Stores in sorted order the elements added so far into a file, in the format of {@link BinIO#STORE_KEYS(KEY_TYPE[], File)}.
+	 *
+	 * <p>This method consumes the sorted sequence as {@link #iterator()}.
+	 *
+	 * @param file the output file.
+	 */
+	public void store(final File file) throws IOException {
+	 ensureNotConsumed();
+	 try (final DataOutputStream dos = new DataOutputStream(new FastBufferedOutputStream(new FileOutputStream(file)))) {
+	  if (runs.isEmpty()) {
+	   consumed = true;
+	   ByteArrays.parallelRadixSort(buffer, 0, n);
+	   BinIO.storeBytes(buffer, 0, n, (DataOutput)dos);
+	  }
+	  else for(final ByteIterator i = iterator(); i.hasNext();) dos.writeByte(i.nextByte());
+	 }
+	 close();
+	}
+	/** Closes this sorter, deleting all temporary files. */
+	@Override
+	public void close() throws IOException {
+	 if (merge != null) merge.close();
+	 for(final File run : runs) run.delete();
+	 runs.clear();
+	 runLength.clear();
+	 buffer = null;
+	 consumed = true;
+	}
+	/** Sorts a file in the format of {@link BinIO#STORE_KEYS(KEY_TYPE[], File)} using temporary files in a given directory.
+	 *
+	 * @param input the input file.
+	 * @param output the output file (it can be the same as {@code input}).
+	 * @param bufferSize the size in elements of the in-memory buffer.
+	 * @param tempDir the directory for temporary files, or {@code null} for the default temporary-file directory.
+	 */
+	public static void sort(final File input, final File output, final int bufferSize, final File tempDir) throws IOException {
+	 try (final ByteExternalSorter sorter = new ByteExternalSorter(bufferSize, tempDir)) {
+	  try (final DataInputStream dis = new DataInputStream(new FastBufferedInputStream(new FileInputStream(input)))) {
+	   sorter.addAll(BinIO.asByteIterator(dis));
+	  }
+	  sorter.store(output);
+	 }
+	}
+	/** Sorts a file in the format of {@link BinIO#STORE_KEYS(KEY_TYPE[], File)}.
+	 *
+	 * @param input the input file.
+	 * @param output the output file (it can be the same as {@code input}).
+	 * @param bufferSize the size in elements of the in-memory buffer.
+	 */
+	public static void sort(final File input, final File output, final int bufferSize) throws IOException {
+	 sort(input, output, bufferSize, null);
+	}
+	/** A k-way merge of a list of runs. */
+	private static final class MergeIterator implements ByteIterator, Closeable {
+	 /** The input streams of the runs. */
+	 private final DataInputStream[] in;
+	 /** The current head of each run. */
+	 private final byte[] head;
+	 /** The number of elements still to be read from each run. */
+	 private final long[] remaining;
+	 /** A queue of run indices ordered by {@link #head}. */
+	 private final ByteHeapSemiIndirectPriorityQueue queue;
+	 private MergeIterator(final ObjectArrayList<File> runs, final LongArrayList runLength) throws IOException {
+	  final int k = runs.size();
+	  in = new DataInputStream[k];
+	  head = new byte[k];
+	  remaining = runLength.toLongArray();
+	  queue = new ByteHeapSemiIndirectPriorityQueue(head, k);
+	  try {
+	   for(int i = 0; i < k; i++) {
+	    in[i] = new DataInputStream(new FastBufferedInputStream(new FileInputStream(runs.get(i))));
+	    head[i] = in[i].readByte();
+	    queue.enqueue(i);
+	   }
+	  }
+	  catch(final IOException e) {
+	   close();
+	   throw e;
+	  }
+	 }
+	 @Override
+	 public boolean hasNext() {
+	  return ! queue.isEmpty();
+	 }
+	 @Override
+	 public byte nextByte() {
+	  if (! hasNext()) throw new NoSuchElementException();
+	  final int i = queue.first();
+	  final byte result = head[i];
+	  try {
+	   if (--remaining[i] != 0) {
+	    head[i] = in[i].readByte();
+	    queue.changed();
+	   }
+	   else {
+	    queue.dequeue();
+	    in[i].close();
+	    in[i] = null;
+	   }
+	  }
+	  catch(final IOException e) {
+	   throw new UncheckedIOException(e);
+	  }
+	  return result;
+	 }
+	 @Override
+	 public void close() throws IOException {
+	  queue.clear();
+	  for(int i = 0; i < in.length; i++) if (in[i] != null) {
+	   in[i].close();
+	   in[i] = null;
+	  }
+	 }
+	}
+}
@@ -0,0 +1,194 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.HashCommon;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+/** A type-specific bounded lock-free multiple-producer/single-consumer FIFO queue.
+	*
+	* <p>Instances of this class represent a FIFO queue using a backing array in a circular way, like {@link ARRAY_FIFO_QUEUE},
+	* but they can be shared by any number of producer threads, which can only enqueue elements, and <em>one</em> consumer thread,
+	* which can only dequeue them. Use {@link SPSC_ARRAY_QUEUE} if there is just one producer, or {@link MPMC_ARRAY_QUEUE}
+	* if there are more consumers.
+	*
+	* <p>The capacity of the queue is fixed at construction time, and it is rounded up to a power of two. No object is allocated
+	* by any operation. The implementation follows Dmitry Vyukov's bounded queue: each slot of the backing array has a sequence number
+	* that tells producers whether the slot is free and consumers whether it contains an element, so producers
+	* claim slots by a compare-and-set operation on the producer index, and then publish the slot by updating its sequence number,
+	* whereas the consumer does not need any atomic read-modify-write operation.
+	* The producer and consumer indices are padded so that they live on different cache lines.
+	* The bulk methods {@link #enqueue(KEY_TYPE[], int, int)} and {@link #drainTo(KEY_TYPE[], int, int)} claim
+	* a sequence of consecutive slots with a single compare-and-set operation on the producer side, and with a single update of the consumer index on the consumer side.
+	*
+	* <p>The methods {@link #size()} and {@link #isEmpty()} return just a snapshot of the state of the queue; elements
+	* whose slot has been claimed, but that have not been written yet, are counted in {@link #size()}, but they cannot be dequeued.
+	*
+	* @since 8.5.19
+	*/
+public class ByteMPSCArrayQueue {
+	/** An atomic counter followed by enough padding to fill a cache line. */
+	@SuppressWarnings("unused")
+	private static final class PaddedCounter extends AtomicLong {
+	 private static final long serialVersionUID = 0L;
+	 long p1, p2, p3, p4, p5, p6, p7;
+	}
+	/** The backing array. */
+	protected final byte[] array;
+	/** The length of {@link #array} minus one. */
+	protected final int mask;
+	/** The sequence number of each slot of {@link #array}: if it is equal to the value of {@link #tail} that will write the
+	 * slot, the slot is free; if it is equal to the value of {@link #head} that will read the slot plus one, the slot
+	 * contains an element. */
+	private final AtomicLongArray sequence;
+	/** The number of elements ever dequeued. */
+	private final PaddedCounter head = new PaddedCounter();
+	/** The number of slots ever claimed by producers. */
+	private final PaddedCounter tail = new PaddedCounter();
+	/** Creates a new empty queue with given capacity.
+	 *
+	 * @param capacity the capacity of this queue, which will be rounded up to a power of two greater than one.
+	 */
+	public ByteMPSCArrayQueue(final int capacity) {
+	 if (capacity <= 0) throw new IllegalArgumentException("Capacity (" + capacity + ") is not positive");
+	 if (capacity > 1 << 30) throw new IllegalArgumentException("Capacity (" + capacity + ") exceeds " + (1 << 30));
+	 // A single slot would make full and free sequence numbers indistinguishable
+	 array = new byte[Math.max(2, HashCommon.nextPowerOfTwo(capacity))];
+	 mask = array.length - 1;
+	 sequence = new AtomicLongArray(array.length);
+	 for (int i = 0; i < array.length; i++) sequence.set(i, i);
+	}
+	/** Returns the capacity of this queue.
+	 *
+	 * @return the capacity of this queue.
+	 */
+	public int capacity() {
+	 return array.length;
+	}
+	/** Enqueues an element if there is space available.
+	 *
+	 * @param x the element to enqueue.
+	 * @return true if the element has been enqueued; false if this queue is full.
+	 */
+	public boolean offer(final byte x) {
+	 for(;;) {
+	  final long t = tail.get();
+	  final int pos = (int)t & mask;
+	  final long s = sequence.get(pos);
+	  if (s == t) {
+	   if (tail.compareAndSet(t, t + 1)) {
+	    array[pos] = x;
+	    sequence.lazySet(pos, t + 1);
+	    return true;
+	   }
+	  }
+	  else if (s < t) return false;
+	 }
+	}
+	/** Enqueues an element.
+	 *
+	 * @param x the element to enqueue.
+	 * @throws IllegalStateException if this queue is full.
+	 */
+	public void enqueue(final byte x) {
+	 if (! offer(x)) throw new IllegalStateException("The queue is full");
+	}
+	/** Enqueues as many elements as possible from a fragment of an array.
+	 *
+	 * <p>The enqueued elements are consecutive in the queue, that is, they are not interleaved with elements
+	 * enqueued by other producers.
+	 *
+	 * @param a an array.
+	 * @param offset the first element of {@code a} to enqueue.
+	 * @param length the maximum number of elements to enqueue.
+	 * @return the number of enqueued elements, that is, the first {@code length} elements starting at {@code offset},
+	 * up to the space available in this queue.
+	 */
+	public int enqueue(final byte[] a, final int offset, final int length) {
+	 ByteArrays.ensureOffsetLength(a, offset, length);
+	 final int max = Math.min(length, array.length);
+	 long t;
+	 int n;
+	 for(;;) {
+	  t = tail.get();
+	  n = 0;
+	  while (n < max && sequence.get((int)(t + n) & mask) == t + n) n++;
+	  if (n == 0) {
+	   if (max == 0 || sequence.get((int)t & mask) < t) return 0;
+	   continue; // Another producer claimed the slot
+	  }
+	  if (tail.compareAndSet(t, t + n)) break;
+	 }
+	 for (int i = 0; i < n; i++) array[(int)(t + i) & mask] = a[offset + i];
+	 for (int i = 0; i < n; i++) sequence.lazySet((int)(t + i) & mask, t + i + 1);
+	 return n;
+	}
+	/** Dequeues an element. This method must be called by the consumer only.
+	 *
+	 * @return the dequeued element.
+	 * @throws NoSuchElementException if this queue is empty.
+	 */
+	public byte dequeue() {
+	 final long h = head.get();
+	 final int pos = (int)h & mask;
+	 if (sequence.get(pos) != h + 1) throw new NoSuchElementException();
+	 final byte x = array[pos];
+	 sequence.lazySet(pos, h + array.length);
+	 head.lazySet(h + 1);
+	 return x;
+	}
+	/** Dequeues as many elements as possible into a fragment of an array. This method must be called by the consumer only.
+	 *
+	 * @param a an array.
+	 * @param offset the first position of {@code a} to fill.
+	 * @param length the maximum number of elements to dequeue.
+	 * @return the number of dequeued elements.
+	 */
+	public int drainTo(final byte[] a, final int offset, final int length) {
+	 ByteArrays.ensureOffsetLength(a, offset, length);
+	 final long h = head.get();
+	 int n = 0;
+	 for (int pos; n < length && sequence.get(pos = (int)(h + n) & mask) == h + n + 1; n++) {
+	  a[offset + n] = array[pos];
+	  sequence.lazySet(pos, h + n + array.length);
+	 }
+	 head.lazySet(h + n);
+	 return n;
+	}
+	/** Dequeues as many elements as possible into an array. This method must be called by the consumer only.
+	 *
+	 * @param a an array.
+	 * @return the number of dequeued elements, which have been stored starting from position 0 of {@code a}.
+	 */
+	public int drainTo(final byte[] a) {
+	 return drainTo(a, 0, a.length);
+	}
+	/** Returns the number of elements in this queue.
+	 *
+	 * @return the number of elements in this queue at some point during the execution of this method.
+	 */
+	public int size() {
+	 final long h = head.get();
+	 return (int)Math.max(0, Math.min(array.length, tail.get() - h));
+	}
+	/** Checks whether this queue is empty.
+	 *
+	 * @return true if no slot was claimed by a producer and not dequeued at some point during the execution of this method.
+	 */
+	public boolean isEmpty() {
+	 return head.get() == tail.get();
+	}
+}
@@ -0,0 +1,518 @@
+/*
+	* Copyright (C) 2002-2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.bytes;
+import it.unimi.dsi.fastutil.Hash;
+import java.util.concurrent.locks.StampedLock;
+import it.unimi.dsi.fastutil.objects.ObjectSet;
+/** A striped concurrent hash map with a type-specific interface.
+	*
+	* <p>The map is made by a number of <em>stripes</em> (instances of {@link OPEN_HASH_MAP}), each protected
+	* by a {@link StampedLock}. Keys are distributed among stripes using the upper bits of their hash, whereas
+	* each stripe uses the lower bits to locate keys in its table, so the two choices are independent.
+	* Each stripe is sized and rehashed independently, so a resize blocks only the threads accessing the same stripe.
+	*
+	* <p>Lookups ({@link #GET_VALUE(KEY_TYPE) GET_VALUE()}, {@link #containsKey(KEY_TYPE) containsKey()} and
+	* {@link #getOrDefault(KEY_TYPE, VALUE_TYPE) getOrDefault()}) first try an optimistic, lock-free read of the stripe; only if a
+	* writer modified the stripe in the meantime the lookup is repeated under a read lock. All
+	* type-specific modification methods, including {@link #putIfAbsent(KEY_GENERIC_TYPE, VALUE_GENERIC_TYPE) putIfAbsent()},
+	* {@link #COMPUTE(KEY_GENERIC_TYPE, java.util.function.BiFunction) COMPUTE()},
+#if VALUE_CLASS_Byte || VALUE_CLASS_Short || VALUE_CLASS_Character || VALUE_CLASS_Integer || VALUE_CLASS_Long || VALUE_CLASS_Float || VALUE_CLASS_Double
+	* {@link #merge(KEY_GENERIC_TYPE, VALUE_GENERIC_TYPE, java.util.function.BiFunction) merge()} and {@link #addTo(KEY_GENERIC_TYPE, VALUE_GENERIC_TYPE) addTo()},
+#else
+	* and {@link #merge(KEY_GENERIC_TYPE, VALUE_GENERIC_TYPE, java.util.function.BiFunction) merge()},
+#endif
+	* are atomic, as they are executed while holding the write lock of the stripe. Functions passed to
+	* the {@code compute}/{@code merge} family of methods must not access this map, as locks are not reentrant.
+	* Deprecated methods using boxed keys or values are implemented on top of the type-specific ones,
+	* and are not guaranteed to be atomic.
+	*
+	* <p>The collection views ({@link #ENTRYSET()}, {@link #keySet()} and {@link #values()}) are
+	* unmodifiable <em>snapshots</em> of the map: stripes are copied one at a time, each under its read lock,
+	* so the snapshot reflects, for each stripe, a consistent state, but not necessarily a state the whole
+	* map was in at any given time. The same holds for {@link #size()}, {@link #containsValue(VALUE_TYPE) containsValue()},
+	* {@link #clear()} and for the methods inherited from {@link ABSTRACT_MAP} that iterate on the entry set,
+	* such as {@link #equals(Object) equals()} and {@link #toString()}.
+	*
+	* <p>The concurrency level should be, ideally, as large as the number of threads that will ever access
+	* this map, as larger values reduce contention but require more space.
+	*
+#if KEYS_REFERENCE
+	* @param <K> the type of keys.
+#endif
+#if VALUES_REFERENCE
+	* @param <V> the type of values.
+#endif
+	* @see OPEN_HASH_MAP
+	*/
+public class StripedByte2CharOpenHashMap extends AbstractByte2CharMap implements java.io.Serializable, Cloneable {
+	private static final long serialVersionUID = 1L;
+	/** The stripes. Keys are distributed among them using the upper bits of their hash. */
+	private Byte2CharOpenHashMap [] map;
+	/** An array of locks parallel to {@link #map}, protecting each stripe. */
+	private StampedLock[] lock;
+	/** {@link #map map.length} &minus; 1, cached. */
+	private final int mask;
+	/** The shift that moves the upper bits of a hash used to choose a stripe to the lowest positions. */
+	private final int shift;
+	/** Creates a new striped hash map with concurrency level equal to {@link Runtime#availableProcessors()}. */
+	public StripedByte2CharOpenHashMap() {
+	 this(Runtime.getRuntime().availableProcessors());
+	}
+	/** Creates a new striped hash map.
+	 *
+	 * @param concurrencyLevel the number of stripes (it will be {@linkplain Integer#highestOneBit(int) forced to be a power of two}).
+	 */
+	public StripedByte2CharOpenHashMap(final int concurrencyLevel) {
+	 this(0, Hash.DEFAULT_LOAD_FACTOR, concurrencyLevel);
+	}
+	/** Creates a new striped hash map.
+	 *
+	 * @param expected the expected overall number of elements in the map.
+	 * @param f the load factor of each stripe.
+	 * @param concurrencyLevel the number of stripes (it will be {@linkplain Integer#highestOneBit(int) forced to be a power of two}).
+	 */
+
+	public StripedByte2CharOpenHashMap(final int expected, final float f, final int concurrencyLevel) {
+	 if (concurrencyLevel <= 0) throw new IllegalArgumentException("The concurrency level must be positive");
+	 if (expected < 0) throw new IllegalArgumentException("The expected number of elements must be nonnegative");
+	 final int stripes = Math.min(Integer.highestOneBit(concurrencyLevel), 1 << 30);
+	 map = new Byte2CharOpenHashMap[stripes];
+	 lock = new StampedLock[stripes];
+	 final int expectedPerStripe = (int)Math.min(Integer.MAX_VALUE, ((long)expected + stripes - 1) / stripes);
+	 for(int i = stripes; i-- != 0;) {
+	  map[i] = new Byte2CharOpenHashMap (expectedPerStripe, f);
+	  lock[i] = new StampedLock();
+	 }
+	 mask = stripes - 1;
+	 shift = Integer.SIZE - Integer.numberOfTrailingZeros(stripes);
+	}
+	/** Returns the stripe of a key.
+	 *
+	 * @param k a key.
+	 * @return the index of the stripe of {@code k}.
+	 */
+	private int stripe(final byte k) {
+	 // The shift is 32 (i.e., 0) when there is just one stripe, but in that case mask is zero
+	 return (( it.unimi.dsi.fastutil.HashCommon.mix( (k) ) ) >>> shift) & mask;
+	}
+	/** Looks for a key in the table of a stripe without locking.
+	 *
+	 * <p>This method might be called while another thread is modifying the stripe, so its result
+	 * must be validated before being used, and it might throw runtime exceptions. Probing is bounded
+	 * by the length of the table, as a concurrent modification might fill all slots temporarily
+	 * (from the point of view of this thread).
+	 *
+	 * @param key the key table of a stripe (the last entry is reserved to the null key).
+	 * @param containsNullKey whether the stripe contains the null key.
+	 * @param k a key.
+	 * @return the position of {@code k} in {@code key}; &minus;1 if {@code k} is not in the table; &minus;2
+	 * if the lookup was not conclusive.
+	 */
+
+	private static int find(final byte[] key, final boolean containsNullKey, final byte k) {
+	 final int n = key.length - 1;
+	 if (( (k) == ((byte)0) )) return containsNullKey ? n : -1;
+	 final int mask = n - 1;
+	 byte curr;
+	 int pos = ( it.unimi.dsi.fastutil.HashCommon.mix( (k) ) ) & mask;
+	 for(int i = n; i-- != 0;) {
+	  if (( (curr = key[pos]) == ((byte)0) )) return -1;
+	  if (( (k) == (curr) )) return pos;
+	  pos = (pos + 1) & mask;
+	 }
+	 return -2;
+	}
+	@Override
+	public char get(final byte k) {
+	 return getOrDefault(k, defRetValue);
+	}
+	@Override
+	public boolean containsKey(final byte k) {
+	 final int stripe = stripe(k);
+	 final Byte2CharOpenHashMap m = map[stripe];
+	 final StampedLock lock = this.lock[stripe];
+	 long stamp = lock.tryOptimisticRead();
+	 if (stamp != 0) {
+	  try {
+	   final int pos = find(m.key, m.containsNullKey, k);
+	   if (pos != -2 && lock.validate(stamp)) return pos >= 0;
+	  }
+	  catch(final RuntimeException e) {
+	   // Inconsistent state: we fall back to the read lock
+	  }
+	 }
+	 stamp = lock.readLock();
+	 try {
+	  return m.containsKey(k);
+	 }
+	 finally {
+	  lock.unlockRead(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char getOrDefault(final byte k, final char defaultValue) {
+	 final int stripe = stripe(k);
+	 final Byte2CharOpenHashMap m = map[stripe];
+	 final StampedLock lock = this.lock[stripe];
+	 long stamp = lock.tryOptimisticRead();
+	 if (stamp != 0) {
+	  try {
+	   // We must read the value array before the key array, as insert() writes value after key
+	   final char[] value = m.value;
+	   final int pos = find(m.key, m.containsNullKey, k);
+	   if (pos != -2) {
+	    final char v = pos >= 0 ? value[pos] : defaultValue;
+	    if (lock.validate(stamp)) return v;
+	   }
+	  }
+	  catch(final RuntimeException e) {
+	   // Inconsistent state: we fall back to the read lock
+	  }
+	 }
+	 stamp = lock.readLock();
+	 try {
+	  return m.getOrDefault(k, defaultValue);
+	 }
+	 finally {
+	  lock.unlockRead(stamp);
+	 }
+	}
+	@Override
+	public char put(final byte k, final char v) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].put(k, v);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** Atomically adds an increment to value currently associated with a key.
+	 *
+	 * @param k the key.
+	 * @param incr the increment.
+	 * @return the old value, or the {@linkplain #defaultReturnValue() default return value} if no value was present for the given key.
+	 * @see OPEN_HASH_MAP#addTo(KEY_GENERIC_TYPE, VALUE_GENERIC_TYPE)
+	 */
+	public char addTo(final byte k, final char incr) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].addTo(k, incr);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	@Override
+	public char remove(final byte k) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].remove(k);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char putIfAbsent(final byte k, final char v) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].putIfAbsent(k, v);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public boolean remove(final byte k, final char v) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].remove(k, v);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public boolean replace(final byte k, final char oldValue, final char v) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].replace(k, oldValue, v);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char replace(final byte k, final char v) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].replace(k, v);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char computeIfAbsent(final byte k, final java.util.function.IntUnaryOperator mappingFunction) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].computeIfAbsent(k, mappingFunction);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char computeIfAbsent(final byte key, final Byte2CharFunction mappingFunction) {
+	 final int stripe = stripe(key);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].computeIfAbsent(key, mappingFunction);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char computeIfAbsentNullable(final byte k, final java.util.function.IntFunction<? extends Character> mappingFunction) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].computeIfAbsentNullable(k, mappingFunction);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char computeIfPresent(final byte k, final java.util.function.BiFunction<? super Byte, ? super Character, ? extends Character> remappingFunction) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].computeIfPresent(k, remappingFunction);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char compute(final byte k, final java.util.function.BiFunction<? super Byte, ? super Character, ? extends Character> remappingFunction) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].compute(k, remappingFunction);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char mergeChar(final byte k, final char v, it.unimi.dsi.fastutil.chars.CharBinaryOperator remappingFunction) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].mergeChar(k, v, remappingFunction);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	/** {@inheritDoc} */
+	@Override
+	public char merge(final byte k, final char v, final java.util.function.BiFunction<? super Character, ? super Character, ? extends Character> remappingFunction) {
+	 final int stripe = stripe(k);
+	 final long stamp = lock[stripe].writeLock();
+	 try {
+	  return map[stripe].merge(k, v, remappingFunction);
+	 }
+	 finally {
+	  lock[stripe].unlockWrite(stamp);
+	 }
+	}
+	@Override
+	public boolean containsValue(final char v) {
+	 for(int stripe = map.length; stripe-- != 0;) {
+	  final long stamp = lock[stripe].readLock();
+	  try {
+	   if (map[stripe].containsValue(v)) return true;
+	  }
+	  finally {
+	   lock[stripe].unlockRead(stamp);
+	  }
+	 }
+	 return false;
+	}
+	@Override
+	public void defaultReturnValue(final char rv) {
+	 super.defaultReturnValue(rv);
+	 for(int stripe = map.length; stripe-- != 0;) {
+	  final long stamp = lock[stripe].writeLock();
+	  try {
+	   map[stripe].defaultReturnValue(rv);
+	  }
+	  finally {
+	   lock[stripe].unlockWrite(stamp);
+	  }
+	 }
+	}
+	/** Removes all mappings from this map, one stripe at a time. */
+	@Override
+	public void clear() {
+	 for(int stripe = map.length; stripe-- != 0;) {
+	  final long stamp = lock[stripe].writeLock();
+	  try {
+	   map[stripe].clear();
+	  }
+	  finally {
+	   lock[stripe].unlockWrite(stamp);
+	  }
+	 }
+	}
+	@Override
+	public int size() {
+	 long size = 0;
+	 for(int stripe = map.length; stripe-- != 0;) {
+	  final long stamp = lock[stripe].readLock();
+	  try {
+	   size += map[stripe].size();
+	  }
+	  finally {
+	   lock[stripe].unlockRead(stamp);
+	  }
+	 }
+	 return (int)Math.min(Integer.MAX_VALUE, size);
+	}
+	@Override
+	public boolean isEmpty() {
+	 for(int stripe = map.length; stripe-- != 0;) {
+	  final long stamp = lock[stripe].readLock();
+	  try {
+	   if (! map[stripe].isEmpty()) return false;
+	  }
+	  finally {
+	   lock[stripe].unlockRead(stamp);
+	  }
+	 }
+	 return true;
+	}
+	/** Returns a snapshot of this map.
+	 *
+	 * <p>Stripes are copied one at a time, each under its read lock.
+	 *
+	 * @return a new hash map containing a snapshot of the mappings of this map, with the same default return value.
+	 */
+	public Byte2CharOpenHashMap snapshot() {
+	 final Byte2CharOpenHashMap snapshot = new Byte2CharOpenHashMap (size());
+	 snapshot.defaultReturnValue(defRetValue);
+	 for(int stripe = map.length; stripe-- != 0;) {
+	  final long stamp = lock[stripe].readLock();
+	  try {
+	   snapshot.putAll(map[stripe]);
+	  }
+	  finally {
+	   lock[stripe].unlockRead(stamp);
+	  }
+	 }
+	 return snapshot;
+	}
+	/** Returns an unmodifiable snapshot of the entries of this map.
+	 *
+	 * @return an unmodifiable snapshot of the entries of this map.
+	 * @see #snapshot()
+	 */
+	@Override
+	public ObjectSet<Byte2CharMap.Entry > byte2CharEntrySet() {
+	 return Byte2CharMaps.unmodifiable(snapshot()).byte2CharEntrySet();
+	}
+	/** Returns an unmodifiable snapshot of the keys of this map.
+	 *
+	 * @return an unmodifiable snapshot of the keys of this map.
+	 * @see #snapshot()
+	 */
+	@Override
+	public ByteSet keySet() {
+	 return Byte2CharMaps.unmodifiable(snapshot()).keySet();
+	}
+	/** Returns an unmodifiable snapshot of the values of this map.
+	 *
+	 * @return an unmodifiable snapshot of the values of this map.
+	 * @see #snapshot()
+	 */
+	@Override
+	public it.unimi.dsi.fastutil.chars.CharCollection values() {
+	 return Byte2CharMaps.unmodifiable(snapshot()).values();
+	}
+	/** Returns a deep copy of this map.
+	 *
+	 * <p>Stripes are copied one at a time, each under its read lock.
+	 *
+	 * @return a deep copy of this map.
+	 */
+	@Override
+
+	public StripedByte2CharOpenHashMap clone() {
+	 StripedByte2CharOpenHashMap c;
+	 try {
+	  c = (StripedByte2CharOpenHashMap )super.clone();
+	 }
+	 catch(CloneNotSupportedException cantHappen) {
+	  throw new InternalError();
+	 }
+	 c.map = new Byte2CharOpenHashMap[map.length];
+	 c.lock = new StampedLock[map.length];
+	 for(int stripe = map.length; stripe-- != 0;) {
+	  c.lock[stripe] = new StampedLock();
+	  final long stamp = lock[stripe].readLock();
+	  try {
+	   c.map[stripe] = map[stripe].clone();
+	  }
+	  finally {
+	   lock[stripe].unlockRead(stamp);
+	  }
+	 }
+	 return c;
+	}
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 final long[] stamp = new long[map.length];
+	 for(int stripe = 0; stripe < map.length; stripe++) stamp[stripe] = lock[stripe].readLock();
+	 try {
+	  s.defaultWriteObject();
+	 }
+	 finally {
+	  for(int stripe = map.length; stripe-- != 0;) lock[stripe].unlockRead(stamp[stripe]);
+	 }
+	}
+}
@@ -0,0 +1,133 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.chars;
+/** A type-specific addressable priority queue with integer handles.
+	*
+	* <p>An addressable priority queue contains <em>handles</em>, that is, nonnegative integers, each associated with a type-specific
+	* <em>priority</em>. Differently from an {@linkplain it.unimi.dsi.fastutil.IndirectPriorityQueue indirect priority queue}, priorities
+	* are stored in the queue, and they can be changed using methods such as {@link #decreaseKey(int, KEY_TYPE)} and
+	* {@link #increaseKey(int, KEY_TYPE)}; moreover, a handle can be removed from the queue at any time.
+	* A typical use is Dijkstra's or Prim's algorithm, where handles are node identifiers.
+	*
+	* <p>Implementations use arrays indexed by handles, so handles should be reasonably dense (e.g., node identifiers
+	* of a graph): the memory used is proportional to the largest handle ever enqueued.
+	*
+	* @since 8.5.19
+	*/
+public interface CharAddressablePriorityQueue {
+	/** Enqueues a new handle with a given priority.
+	 *
+	 * @param handle the handle to be enqueued.
+	 * @param priority the priority of the handle.
+	 * @throws IllegalArgumentException if {@code handle} is negative or it is already in the queue.
+	 */
+	void enqueue(int handle, char priority);
+	/** Dequeues the handle with the smallest priority.
+	 *
+	 * @return the dequeued handle.
+	 * @throws java.util.NoSuchElementException if this queue is empty.
+	 */
+	int dequeue();
+	/** Returns the handle with the smallest priority.
+	 *
+	 * @return the handle with the smallest priority.
+	 * @throws java.util.NoSuchElementException if this queue is empty.
+	 */
+	int first();
+	/** Returns the smallest priority in this queue.
+	 *
+	 * @return the priority of {@link #first()}.
+	 * @throws java.util.NoSuchElementException if this queue is empty.
+	 */
+	char firstPriority();
+	/** Checks whether a handle is in this queue.
+	 *
+	 * @param handle a handle.
+	 * @return true if {@code handle} is in this queue.
+	 */
+	boolean contains(int handle);
+	/** Returns the priority of a handle in this queue.
+	 *
+	 * @param handle a handle.
+	 * @return the priority of {@code handle}.
+	 * @throws java.util.NoSuchElementException if {@code handle} is not in this queue.
+	 */
+	char priority(int handle);
+	/** Changes the priority of a handle in this queue.
+	 *
+	 * @param handle a handle.
+	 * @param priority the new priority of {@code handle}.
+	 * @throws java.util.NoSuchElementException if {@code handle} is not in this queue.
+	 */
+	void changePriority(int handle, char priority);
+	/** Decreases the priority of a handle in this queue.
+	 *
+	 * @implSpec This implementation checks the new priority and delegates to {@link #changePriority(int, KEY_TYPE)}.
+	 *
+	 * @param handle a handle.
+	 * @param priority the new priority of {@code handle}, which must not be greater than the current one.
+	 * @throws java.util.NoSuchElementException if {@code handle} is not in this queue.
+	 * @throws IllegalArgumentException if {@code priority} is greater than the current priority of {@code handle}.
+	 */
+	default void decreaseKey(final int handle, final char priority) {
+	 final CharComparator c = comparator();
+	 final char current = priority(handle);
+	 if (c == null ? ( (current) < (priority) ) : c.compare(current, priority) < 0) throw new IllegalArgumentException("The new priority (" + priority + ") is greater than the current one (" + current + ")");
+	 changePriority(handle, priority);
+	}
+	/** Increases the priority of a handle in this queue.
+	 *
+	 * @implSpec This implementation checks the new priority and delegates to {@link #changePriority(int, KEY_TYPE)}.
+	 *
+	 * @param handle a handle.
+	 * @param priority the new priority of {@code handle}, which must not be smaller than the current one.
+	 * @throws java.util.NoSuchElementException if {@code handle} is not in this queue.
+	 * @throws IllegalArgumentException if {@code priority} is smaller than the current priority of {@code handle}.
+	 */
+	default void increaseKey(final int handle, final char priority) {
+	 final CharComparator c = comparator();
+	 final char current = priority(handle);
+	 if (c == null ? ( (priority) < (current) ) : c.compare(priority, current) < 0) throw new IllegalArgumentException("The new priority (" + priority + ") is smaller than the current one (" + current + ")");
+	 changePriority(handle, priority);
+	}
+	/** Removes a handle from this queue.
+	 *
+	 * @param handle a handle.
+	 * @return true if {@code handle} was in this queue.
+	 */
+	boolean remove(int handle);
+	/** Returns the number of handles in this queue.
+	 *
+	 * @return the number of handles in this queue.
+	 */
+	int size();
+	/** Checks whether this queue is empty.
+	 *
+	 * @implSpec This implementation checks whether {@link #size()} is zero.
+	 *
+	 * @return true if this queue is empty.
+	 */
+	default boolean isEmpty() {
+	 return size() == 0;
+	}
+	/** Removes all handles from this queue. */
+	void clear();
+	/** Returns the comparator associated with this queue, or {@code null} if it uses the natural order of priorities.
+	 *
+	 * @return the comparator associated with this queue, or {@code null} for the natural order.
+	 */
+	CharComparator comparator();
+}
@@ -0,0 +1,158 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.chars;
+import java.util.NoSuchElementException;
+/** A type-specific <var>d</var>-ary-heap-based priority queue.
+	*
+	* <p>Instances of this class represent a priority queue using a <var>d</var>-ary heap, where <var>d</var> is
+	* a power of two (by default, {@value #DEFAULT_ARITY}). With respect to the binary heap of {@link HEAP_PRIORITY_QUEUE},
+	* the heap is shallower and the children of an element are contiguous, so on large queues dequeuing an element
+	* causes fewer cache misses, at the price of more comparisons per level. The default arity is 8 for primitive
+	* types, and 4 for objects, as comparing objects is more expensive.
+	*
+	* <p>The heap is enlarged as needed, but it is never shrunk. Use the {@link #trim()} method to reduce its size, if necessary.
+	*
+	* @see HEAPS#downHeap(KEY_TYPE[], int, int, int, KEY_COMPARATOR)
+	* @since 8.5.19
+	*/
+public class CharDaryHeapPriorityQueue implements CharPriorityQueue , java.io.Serializable {
+	private static final long serialVersionUID = 1L;
+	/** The default arity. */
+	public static final int DEFAULT_ARITY = 8;
+	/** The heap array. */
+
+	protected transient char[] heap = CharArrays.EMPTY_ARRAY;
+	/** The number of elements in this queue. */
+	protected int size;
+	/** The arity of the heap. */
+	protected final int arity;
+	/** The type-specific comparator used in this queue. */
+	protected CharComparator c;
+	/** Creates a new empty queue with a given capacity, arity and comparator.
+	 *
+	 * @param capacity the initial capacity of this queue.
+	 * @param arity the arity of the heap, a power of two larger than one.
+	 * @param c the comparator used in this queue, or {@code null} for the natural order.
+	 */
+
+	public CharDaryHeapPriorityQueue(final int capacity, final int arity, final CharComparator c) {
+	 if (arity < 2 || (arity & (arity - 1)) != 0) throw new IllegalArgumentException("The arity (" + arity + ") is not a power of two larger than one");
+	 if (capacity > 0) this.heap = new char[capacity];
+	 this.arity = arity;
+	 this.c = c;
+	}
+	/** Creates a new empty queue with a given capacity and arity using the natural order.
+	 *
+	 * @param capacity the initial capacity of this queue.
+	 * @param arity the arity of the heap, a power of two larger than one.
+	 */
+	public CharDaryHeapPriorityQueue(final int capacity, final int arity) {
+	 this(capacity, arity, null);
+	}
+	/** Creates a new empty queue with a given comparator and the default arity.
+	 *
+	 * @param c the comparator used in this queue, or {@code null} for the natural order.
+	 */
+	public CharDaryHeapPriorityQueue(final CharComparator c) {
+	 this(0, DEFAULT_ARITY, c);
+	}
+	/** Creates a new empty queue with the default arity using the natural order.
+	 */
+	public CharDaryHeapPriorityQueue() {
+	 this(0, DEFAULT_ARITY, null);
+	}
+	/** Wraps a given array in a queue using a given arity and comparator.
+	 *
+	 * <p>The queue returned by this method will be backed by the given array.
+	 * The first {@code size} element of the array will be rearranged so to form a heap (this is
+	 * more efficient than enqueing the elements of {@code a} one by one).
+	 *
+	 * @param a an array.
+	 * @param size the number of elements to be included in the queue.
+	 * @param arity the arity of the heap, a power of two larger than one.
+	 * @param c the comparator used in this queue, or {@code null} for the natural order.
+	 */
+	public CharDaryHeapPriorityQueue(final char[] a, final int size, final int arity, final CharComparator c) {
+	 this(0, arity, c);
+	 this.heap = a;
+	 this.size = size;
+	 CharHeaps.makeHeap(a, size, arity, c);
+	}
+	/** Wraps a given array in a queue using the default arity and a given comparator.
+	 *
+	 * <p>The queue returned by this method will be backed by the given array.
+	 * The elements of the array will be rearranged so to form a heap (this is
+	 * more efficient than enqueing the elements of {@code a} one by one).
+	 *
+	 * @param a an array.
+	 * @param c the comparator used in this queue, or {@code null} for the natural order.
+	 */
+	public CharDaryHeapPriorityQueue(final char[] a, final CharComparator c) {
+	 this(a, a.length, DEFAULT_ARITY, c);
+	}
+	@Override
+	public void enqueue(char x) {
+	 if (size == heap.length) heap = CharArrays.grow(heap, size + 1);
+	 heap[size++] = x;
+	 CharHeaps.upHeap(heap, size, size - 1, arity, c);
+	}
+	@Override
+	public char dequeueChar() {
+	 if (size == 0) throw new NoSuchElementException();
+	 final char result = heap[0];
+	 heap[0] = heap[--size];
+	 if (size != 0) CharHeaps.downHeap(heap, size, 0, arity, c);
+	 return result;
+	}
+	@Override
+	public char firstChar() {
+	 if (size == 0) throw new NoSuchElementException();
+	 return heap[0];
+	}
+	@Override
+	public void changed() {
+	 CharHeaps.downHeap(heap, size, 0, arity, c);
+	}
+	@Override
+	public int size() { return size; }
+	@Override
+	public void clear() {
+	 size = 0;
+	}
+	/** Returns the arity of the heap of this queue.
+	 *
+	 * @return the arity of the heap of this queue.
+	 */
+	public int arity() { return arity; }
+	/** Trims the underlying heap array so that it has exactly {@link #size()} elements. */
+	public void trim() {
+	 heap = CharArrays.trim(heap, size);
+	}
+	@Override
+	public CharComparator comparator() { return c; }
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 s.defaultWriteObject();
+	 s.writeInt(heap.length);
+	 final char[] heap = this.heap;
+	 for(int i = 0; i < size; i++) s.writeChar(heap[i]);
+	}
+
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+	 s.defaultReadObject();
+	 final char[] heap = this.heap = new char[s.readInt()];
+	 for(int i = 0; i < size; i++) heap[i] = s.readChar();
+	}
+}
@@ -0,0 +1,260 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.chars;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+/** A type-specific addressable priority queue based on a pairing heap.
+	*
+	* <p>A pairing heap is a self-adjusting heap-ordered multiway tree: enqueues and {@linkplain #decreaseKey(int, KEY_TYPE) priority decreases}
+	* take constant time (they just link a tree to the root), whereas dequeues and removals restructure the tree in amortized
+	* logarithmic time. It is thus preferable to a {@linkplain ADDRESSABLE_HEAP_PRIORITY_QUEUE heap} when priority decreases are
+	* much more frequent than dequeues, as in Dijkstra's or Prim's algorithm on dense graphs. See Michael L. Fredman, Robert Sedgewick,
+	* Daniel D. Sleator and Robert E. Tarjan, &ldquo;The pairing heap: A new form of self-adjusting heap&rdquo;,
+	* <i>Algorithmica</i>, 1, pages 111&minus;129, 1986.
+	*
+	* <p>The tree is stored in arrays indexed by handles (first child, next sibling, and previous sibling or parent),
+	* so no object is allocated for each handle: the memory used is about {@code 12 + }{@link KEY_CLASS#BYTES}{@code }
+	* bytes for each handle smaller than the largest handle ever enqueued.
+	*
+	* @see ADDRESSABLE_HEAP_PRIORITY_QUEUE
+	* @since 8.5.19
+	*/
+public class CharPairingHeapPriorityQueue implements CharAddressablePriorityQueue, java.io.Serializable {
+	private static final long serialVersionUID = 1L;
+	/** The null link. */
+	private static final int NIL = -1;
+	/** The value of {@link #prev} for handles not in the queue. */
+	private static final int ABSENT = -2;
+	/** The priority of each handle. */
+	protected transient char[] priority = CharArrays.EMPTY_ARRAY;
+	/** The first child of each handle, or {@link #NIL}. */
+	protected transient int[] child = IntArrays.EMPTY_ARRAY;
+	/** The next sibling of each handle, or {@link #NIL}. */
+	protected transient int[] sibling = IntArrays.EMPTY_ARRAY;
+	/** The previous sibling of each handle, or its parent if the handle is a first child, or {@link #NIL} for the root;
+	 * {@link #ABSENT} for handles not in the queue. */
+	protected transient int[] prev = IntArrays.EMPTY_ARRAY;
+	/** The root of the heap, or {@link #NIL}. */
+	protected transient int root = NIL;
+	/** The number of handles in this queue. */
+	protected int size;
+	/** The type-specific comparator used in this queue. */
+	protected final CharComparator c;
+	/** A support array for the pairing passes. */
+	private transient int[] pairs = IntArrays.EMPTY_ARRAY;
+	/** Creates a new empty queue with a given capacity and comparator.
+	 *
+	 * @param capacity the initial capacity of this queue; handles smaller than {@code capacity} can be enqueued without allocations.
+	 * @param c the comparator used in this queue, or {@code null} for the natural order.
+	 */
+	public CharPairingHeapPriorityQueue(final int capacity, final CharComparator c) {
+	 if (capacity < 0) throw new IllegalArgumentException("Initial capacity (" + capacity + ") is negative");
+	 if (capacity > 0) ensureHandle(capacity - 1);
+	 this.c = c;
+	}
+	/** Creates a new empty queue with a given capacity using the natural order.
+	 *
+	 * @param capacity the initial capacity of this queue; handles smaller than {@code capacity} can be enqueued without allocations.
+	 */
+	public CharPairingHeapPriorityQueue(final int capacity) {
+	 this(capacity, null);
+	}
+	/** Creates a new empty queue with a given comparator.
+	 *
+	 * @param c the comparator used in this queue, or {@code null} for the natural order.
+	 */
+	public CharPairingHeapPriorityQueue(final CharComparator c) {
+	 this(0, c);
+	}
+	/** Creates a new empty queue using the natural order. */
+	public CharPairingHeapPriorityQueue() {
+	 this(0, null);
+	}
+	private void ensureHandle(final int h) {
+	 if (h < prev.length) return;
+	 final int length = prev.length;
+	 prev = IntArrays.grow(prev, h + 1);
+	 Arrays.fill(prev, length, prev.length, ABSENT);
+	 child = Arrays.copyOf(child, prev.length);
+	 sibling = Arrays.copyOf(sibling, prev.length);
+	 priority = Arrays.copyOf(priority, prev.length);
+	}
+	private boolean less(final char a, final char b) {
+	 return c == null ? ( (a) < (b) ) : c.compare(a, b) < 0;
+	}
+	/** Links two trees, making the root with the larger priority the first child of the other one.
+	 *
+	 * @param a the root of a tree.
+	 * @param b the root of another tree.
+	 * @return the root of the linked tree, which has no siblings.
+	 */
+	private int link(int a, int b) {
+	 if (less(priority[b], priority[a])) {
+	  final int t = a;
+	  a = b;
+	  b = t;
+	 }
+	 final int first = child[a];
+	 sibling[b] = first;
+	 if (first != NIL) prev[first] = b;
+	 prev[b] = a;
+	 child[a] = b;
+	 sibling[a] = prev[a] = NIL;
+	 return a;
+	}
+	/** Detaches the tree rooted at a handle that is not the root from the heap. */
+	private void cut(final int h) {
+	 final int p = prev[h], s = sibling[h];
+	 if (child[p] == h) child[p] = s;
+	 else sibling[p] = s;
+	 if (s != NIL) prev[s] = p;
+	 sibling[h] = prev[h] = NIL;
+	}
+	/** Merges a list of siblings into a single tree using the standard two-pass strategy.
+	 *
+	 * @param first the first sibling, or {@link #NIL}.
+	 * @return the root of the resulting tree, or {@link #NIL}.
+	 */
+	private int combine(int first) {
+	 if (first == NIL) return NIL;
+	 int n = 0;
+	 // First pass: link pairs of siblings from left to right
+	 while (first != NIL) {
+	  final int second = sibling[first];
+	  if (n == pairs.length) pairs = IntArrays.grow(pairs, n + 1);
+	  if (second == NIL) {
+	   sibling[first] = prev[first] = NIL;
+	   pairs[n++] = first;
+	   break;
+	  }
+	  final int next = sibling[second];
+	  pairs[n++] = link(first, second);
+	  first = next;
+	 }
+	 // Second pass: link the resulting trees from right to left
+	 int r = pairs[--n];
+	 while (n != 0) r = link(pairs[--n], r);
+	 return r;
+	}
+	@Override
+	public void enqueue(final int h, final char p) {
+	 if (h < 0) throw new IllegalArgumentException("Handle (" + h + ") is negative");
+	 ensureHandle(h);
+	 if (prev[h] != ABSENT) throw new IllegalArgumentException("Handle " + h + " is already in the queue");
+	 priority[h] = p;
+	 child[h] = sibling[h] = prev[h] = NIL;
+	 root = root == NIL ? h : link(root, h);
+	 size++;
+	}
+	@Override
+	public int dequeue() {
+	 if (size == 0) throw new NoSuchElementException();
+	 final int result = root;
+	 root = combine(child[result]);
+	 prev[result] = ABSENT;
+	 size--;
+	 return result;
+	}
+	@Override
+	public int first() {
+	 if (size == 0) throw new NoSuchElementException();
+	 return root;
+	}
+	@Override
+	public char firstPriority() {
+	 if (size == 0) throw new NoSuchElementException();
+	 return priority[root];
+	}
+	@Override
+	public boolean contains(final int h) {
+	 return h >= 0 && h < prev.length && prev[h] != ABSENT;
+	}
+	@Override
+	public char priority(final int h) {
+	 if (! contains(h)) throw new NoSuchElementException("Handle " + h + " is not in the queue");
+	 return priority[h];
+	}
+	@Override
+	public void changePriority(final int h, final char p) {
+	 if (! less(priority(h), p)) {
+	  priority[h] = p;
+	  if (h != root) {
+	   cut(h);
+	   root = link(root, h);
+	  }
+	 }
+	 else {
+	  remove(h);
+	  enqueue(h, p);
+	 }
+	}
+	@Override
+	public void decreaseKey(final int h, final char p) {
+	 if (less(priority(h), p)) throw new IllegalArgumentException("The new priority (" + p + ") is greater than the current one (" + priority[h] + ")");
+	 changePriority(h, p);
+	}
+	@Override
+	public boolean remove(final int h) {
+	 if (! contains(h)) return false;
+	 if (h == root) dequeue();
+	 else {
+	  cut(h);
+	  final int subtree = combine(child[h]);
+	  if (subtree != NIL) root = link(root, subtree);
+	  prev[h] = ABSENT;
+	  size--;
+	 }
+	 return true;
+	}
+	@Override
+	public int size() { return size; }
+	/** {@inheritDoc}
+	 *
+	 * <p>This method takes time proportional to the largest handle ever enqueued.
+	 */
+	@Override
+	public void clear() {
+	 Arrays.fill(prev, ABSENT);
+	 root = NIL;
+	 size = 0;
+	}
+	@Override
+	public CharComparator comparator() { return c; }
+	private void writeObject(java.io.ObjectOutputStream s) throws java.io.IOException {
+	 s.defaultWriteObject();
+	 s.writeInt(prev.length);
+	 for(int h = 0; h < prev.length; h++) {
+	  if (prev[h] == ABSENT) continue;
+	  s.writeInt(h);
+	  s.writeChar(priority[h]);
+	 }
+	}
+	private void readObject(java.io.ObjectInputStream s) throws java.io.IOException, ClassNotFoundException {
+	 s.defaultReadObject();
+	 priority = CharArrays.EMPTY_ARRAY;
+	 child = sibling = prev = pairs = IntArrays.EMPTY_ARRAY;
+	 ensureHandle(s.readInt() - 1);
+	 // Enqueueing takes constant time, so we just rebuild the tree by enqueueing the handles
+	 root = NIL;
+	 final int n = size;
+	 size = 0;
+	 for(int i = n; i-- != 0;) {
+	  final int h = s.readInt();
+	  enqueue(h, s.readChar());
+	 }
+	}
+}
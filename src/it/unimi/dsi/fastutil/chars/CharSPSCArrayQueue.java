@@ -0,0 +1,167 @@
+/*
+	* Copyright (C) 2026 Sebastiano Vigna
+	*
+	* Licensed under the Apache License, Version 2.0 (the "License");
+	* you may not use this file except in compliance with the License.
+	* You may obtain a copy of the License at
+	*
+	*     http://www.apache.org/licenses/LICENSE-2.0
+	*
+	* Unless required by applicable law or agreed to in writing, software
+	* distributed under the License is distributed on an "AS IS" BASIS,
+	* WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+	* See the License for the specific language governing permissions and
+	* limitations under the License.
+	*/
+package it.unimi.dsi.fastutil.chars;
+import it.unimi.dsi.fastutil.HashCommon;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+/** A type-specific bounded lock-free single-producer/single-consumer FIFO queue.
+	*
+	* <p>Instances of this class represent a FIFO queue using a backing array in a circular way, like {@link ARRAY_FIFO_QUEUE},
+	* but they can be shared by <em>one</em> producer thread, which can only enqueue elements, and <em>one</em> consumer thread,
+	* which can only dequeue them. Use {@link MPSC_ARRAY_QUEUE} or {@link MPMC_ARRAY_QUEUE} if there are more producers or consumers.
+	*
+	* <p>The capacity of the queue is fixed at construction time, and it is rounded up to a power of two. No object is allocated
+	* by any operation. The producer and consumer indices are padded so that they live on different cache lines, and
+	* each thread caches the index of the other thread, which it reads only when the queue appears full (or empty).
+	* The bulk methods {@link #enqueue(KEY_TYPE[], int, int)} and {@link #drainTo(KEY_TYPE[], int, int)} move as many elements
+	* as possible with a single update of the indices.
+	*
+	* <p>The methods {@link #size()} and {@link #isEmpty()} can be called by any thread, but they return just a snapshot
+	* of the state of the queue.
+	*
+	* @since 8.5.19
+	*/
+public class CharSPSCArrayQueue {
+	/** An atomic counter followed by enough padding to fill a cache line, and by a field caching the counter of the other thread. */
+	@SuppressWarnings("unused")
+	private static final class PaddedCounter extends AtomicLong {
+	 private static final long serialVersionUID = 0L;
+	 /** A copy of the counter of the other thread; it is accessed only by the thread owning this counter. */
+	 long cache;
+	 long p1, p2, p3, p4, p5, p6;
+	}
+	/** The backing array. */
+	protected final char[] array;
+	/** The length of {@link #array} minus one. */
+	protected final int mask;
+	/** The number of elements ever dequeued (it is written only by the consumer). */
+	private final PaddedCounter head = new PaddedCounter();
+	/** The number of elements ever enqueued (it is written only by the producer). */
+	private final PaddedCounter tail = new PaddedCounter();
+	/** Creates a new empty queue with given capacity.
+	 *
+	 * @param capacity the capacity of this queue, which will be rounded up to a power of two.
+	 */
+	public CharSPSCArrayQueue(final int capacity) {
+	 if (capacity <= 0) throw new IllegalArgumentException("Capacity (" + capacity + ") is not positive");
+	 if (capacity > 1 << 30) throw new IllegalArgumentException("Capacity (" + capacity + ") exceeds " + (1 << 30));
+	 array = new char[HashCommon.nextPowerOfTwo(capacity)];
+	 mask = array.length - 1;
+	}
+	/** Returns the capacity of this queue.
+	 *
+	 * @return the capacity of this queue.
+	 */
+	public int capacity() {
+	 return array.length;
+	}
+	/** Enqueues an element if there is space available. This method must be called by the producer only.
+	 *
+	 * @param x the element to enqueue.
+	 * @return true if the element has been enqueued; false if this queue is full.
+	 */
+	public boolean offer(final char x) {
+	 final long t = tail.get();
+	 if (t - tail.cache == array.length && t - (tail.cache = head.get()) == array.length) return false;
+	 array[(int)t & mask] = x;
+	 tail.lazySet(t + 1);
+	 return true;
+	}
+	/** Enqueues an element. This method must be called by the producer only.
+	 *
+	 * @param x the element to enqueue.
+	 * @throws IllegalStateException if this queue is full.
+	 */
+	public void enqueue(final char x) {
+	 if (! offer(x)) throw new IllegalStateException("The queue is full");
+	}
+	/** Enqueues as many elements as possible from a fragment of an array. This method must be called by the producer only.
+	 *
+	 * @param a an array.
+	 * @param offset the first element of {@code a} to enqueue.
+	 * @param length the maximum number of elements to enqueue.
+	 * @return the number of enqueued elements, that is, the first {@code length} elements starting at {@code offset},
+	 * up to the space available in this queue.
+	 */
+	public int enqueue(final char[] a, final int offset, final int length) {
+	 CharArrays.ensureOffsetLength(a, offset, length);
+	 final long t = tail.get();
+	 if (array.length - (t - tail.cache) < length) tail.cache = head.get();
+	 final int n = (int)Math.min(length, array.length - (t - tail.cache));
+	 if (n == 0) return 0;
+	 final int pos = (int)t & mask;
+	 final int first = Math.min(n, array.length - pos);
+	 System.arraycopy(a, offset, array, pos, first);
+	 System.arraycopy(a, offset + first, array, 0, n - first);
+	 tail.lazySet(t + n);
+	 return n;
+	}
+	/** Dequeues an element. This method must be called by the consumer only.
+	 *
+	 * @return the dequeued element.
+	 * @throws NoSuchElementException if this queue is empty.
+	 */
+	public char dequeue() {
+	 final long h = head.get();
+	 if (h == head.cache && h == (head.cache = tail.get())) throw new NoSuchElementException();
+	 final char x = array[(int)h & mask];
+	 head.lazySet(h + 1);
+	 return x;
+	}
+	/** Dequeues as many elements as possible into a fragment of an array. This method must be called by the consumer only.
+	 *
+	 * @param a an array.
+	 * @param offset the first position of {@code a} to fill.
+	 * @param length the maximum number of elements to dequeue.
+	 * @return the number of dequeued elements.
+	 */
+	public int drainTo(final char[] a, final int offset, final int length) {
+	 CharArrays.ensureOffsetLength(a, offset, length);
+	 final long h = head.get();
+	 if (head.cache - h < length) head.cache = tail.get();
+	 final int n = (int)Math.min(length, head.cache - h);
+	 if (n == 0) return 0;
+	 final int pos = (int)h & mask;
+	 final int first = Math.min(n, array.length - pos);
+	 System.arraycopy(array, pos, a, offset, first);
+	 System.arraycopy(array, 0, a, offset + first, n - first);
+	 head.lazySet(h + n);
+	 return n;
+	}
+	/** Dequeues as many elements as possible into an array. This method must be called by the consumer only.
+	 *
+	 * @param a an array.
+	 * @return the number of dequeued elements, which have been stored starting from position 0 of {@code a}.
+	 */
+	public int drainTo(final char[] a) {
+	 return drainTo(a, 0, a.length);
+	}
+	/** Returns the number of elements in this queue.
+	 *
+	 * @return the number of elements in this queue at some point during the execution of this method.
+	 */
+	public int size() {
+	 final long h = head.get();
+	 return (int)Math.max(0, Math.min(array.length, tail.get() - h));
+	}
+	/** Checks whether this queue is empty.
+	 *
+	 * @return true if this queue was empty at some point during the execution of this method.
+	 */
+	public boolean isEmpty() {
+	 return head.get() == tail.get();
+	}
+}